@@ -0,0 +1,177 @@
+package com.kakaobase.snsapp.global.common.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 행을 한 트랜잭션에 저장할 때 IDENTITY 방식과 채번 테이블 + JDBC 배치 방식의 처리량을 비교합니다.
+ *
+ * <p>Hibernate가 각 전략에서 실제로 보내는 JDBC 호출을 그대로 재현합니다.</p>
+ * <ul>
+ *     <li>identityRowByRow - IDENTITY: 행마다 INSERT 후 생성 키를 받아야 하므로 배치가 꺼진다</li>
+ *     <li>pooledIdBatched - {@link IdSequences}: {@value IdSequences#ALLOCATION_SIZE}개 블록마다 채번 테이블을 한 번 갱신하고,
+ *     INSERT는 hibernate.jdbc.batch_size 단위 배치(rewriteBatchedStatements로 다중 행 INSERT)로 보낸다</li>
+ * </ul>
+ * <p>결과 단위는 초당 트랜잭션 수이므로, rows를 곱하면 초당 저장 행 수입니다.</p>
+ *
+ * <pre>
+ * BENCH_JDBC_URL=jdbc:mysql://localhost:3306/kakaobase_bench BENCH_JDBC_USER=root BENCH_JDBC_PASSWORD=secret \
+ *     ./gradlew jmh -PjmhIncludes=BulkInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = IdSequences.ALLOCATION_SIZE;
+    private static final String SEQUENCE_NAME = "bench_post_imgs";
+
+    /**
+     * 한 트랜잭션에 저장하는 행 수 (게시글 이미지 몇 장 ~ 봇 시딩 규모)
+     */
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private Connection connection;
+    private long nextId;
+    private long blockEnd;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = env("BENCH_JDBC_URL", "jdbc:mysql://localhost:3306/kakaobase_bench");
+        connection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true",
+                env("BENCH_JDBC_USER", "root"),
+                env("BENCH_JDBC_PASSWORD", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_post_imgs (" +
+                    "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                    "post_id BIGINT NOT NULL, " +
+                    "sort_index INT NOT NULL, " +
+                    "img_url VARCHAR(512) NOT NULL, " +
+                    "created_at DATETIME(6) NOT NULL, " +
+                    "updated_at DATETIME(6) NOT NULL, " +
+                    "INDEX idx_post_sort (post_id, sort_index))");
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_id_sequences (" +
+                    IdSequences.PK_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                    IdSequences.VALUE_COLUMN + " BIGINT)");
+            statement.execute("TRUNCATE TABLE bench_post_imgs");
+            statement.execute("DELETE FROM bench_id_sequences");
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bench_id_sequences VALUES (?, ?)")) {
+            // IDENTITY 벤치마크가 쓰는 AUTO_INCREMENT 영역과 겹치지 않게 충분히 큰 값에서 시작
+            statement.setString(1, SEQUENCE_NAME);
+            statement.setLong(2, 1_000_000_000L);
+            statement.executeUpdate();
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_post_imgs (post_id, sort_index, img_url, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bindImage(insert, 1, i, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledIdBatched() throws SQLException {
+        long lastId = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bench_post_imgs (id, post_id, sort_index, img_url, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                lastId = nextId();
+                insert.setLong(1, lastId);
+                bindImage(insert, 2, i, now);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private void bindImage(PreparedStatement insert, int firstIndex, int sortIndex, Timestamp now) throws SQLException {
+        insert.setLong(firstIndex, 1L);
+        insert.setInt(firstIndex + 1, sortIndex);
+        insert.setString(firstIndex + 2, "https://kakaobase-bucket.s3.ap-northeast-2.amazonaws.com/post_images/" + sortIndex + ".jpg");
+        insert.setTimestamp(firstIndex + 3, now);
+        insert.setTimestamp(firstIndex + 4, now);
+    }
+
+    /**
+     * Hibernate TableGenerator(pooled)처럼 블록이 소진될 때만 채번 테이블을 읽고 갱신합니다.
+     */
+    private long nextId() throws SQLException {
+        if (nextId == blockEnd) {
+            long hi;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT " + IdSequences.VALUE_COLUMN + " FROM bench_id_sequences WHERE " +
+                    IdSequences.PK_COLUMN + " = ? FOR UPDATE")) {
+                select.setString(1, SEQUENCE_NAME);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    hi = rs.getLong(1);
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE bench_id_sequences SET " + IdSequences.VALUE_COLUMN + " = ? WHERE " +
+                    IdSequences.PK_COLUMN + " = ?")) {
+                update.setLong(1, hi + BATCH_SIZE);
+                update.setString(2, SEQUENCE_NAME);
+                update.executeUpdate();
+            }
+            nextId = hi;
+            blockEnd = hi + BATCH_SIZE;
+        }
+        return nextId++;
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
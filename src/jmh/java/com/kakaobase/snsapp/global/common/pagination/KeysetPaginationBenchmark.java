@@ -0,0 +1,195 @@
+package com.kakaobase.snsapp.global.common.pagination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시판 목록을 OFFSET + COUNT(Page) 방식과 키셋(KeysetSlice) 방식으로 읽을 때 페이지 깊이별 지연 시간을 비교합니다.
+ *
+ * <p>posts와 같은 (board_type, deleted_at, created_at DESC, id DESC) 인덱스를 가진 bench_posts 테이블에
+ * 500만 건을 적재한 뒤 측정합니다. 테이블이 이미 채워져 있으면 적재를 건너뜁니다.
+ * SampleTime 모드이므로 결과의 p0.99 행에서 페이지 깊이별 p99를 확인할 수 있습니다.</p>
+ *
+ * <pre>
+ * BENCH_JDBC_URL=jdbc:mysql://localhost:3306/kakaobase_bench BENCH_JDBC_USER=root BENCH_JDBC_PASSWORD=secret \
+ *     ./gradlew jmh -PjmhIncludes=KeysetPaginationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeysetPaginationBenchmark {
+
+    private static final int ROW_COUNT = 5_000_000;
+    private static final int SEED_CHUNK = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String BOARD_TYPE = "PANGYO_1";
+
+    private static final String OFFSET_PAGE =
+            "SELECT * FROM bench_posts WHERE board_type = ? AND deleted_at IS NULL " +
+            "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String OFFSET_COUNT =
+            "SELECT COUNT(*) FROM bench_posts WHERE board_type = ? AND deleted_at IS NULL";
+    private static final String KEYSET_FIRST_PAGE =
+            "SELECT * FROM bench_posts WHERE board_type = ? AND deleted_at IS NULL " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String KEYSET_NEXT_PAGE =
+            "SELECT * FROM bench_posts WHERE board_type = ? AND deleted_at IS NULL " +
+            "AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    /**
+     * 조회할 페이지 번호 (1이면 첫 페이지, 100000이면 앞의 약 200만 건을 건너뛴 위치)
+     */
+    @Param({"1", "100", "10000", "100000"})
+    private int pageDepth;
+
+    private Connection connection;
+    private int offset;
+    private KeysetCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("BENCH_JDBC_URL", "jdbc:mysql://localhost:3306/kakaobase_bench"),
+                env("BENCH_JDBC_USER", "root"),
+                env("BENCH_JDBC_PASSWORD", ""));
+        seedIfEmpty();
+
+        offset = (pageDepth - 1) * PAGE_SIZE;
+        cursor = offset == 0 ? KeysetCursor.FIRST : cursorAt(offset - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Page 반환 메서드와 같은 비용: OFFSET 만큼 인덱스를 건너뛰고, 전체 건수를 다시 센다.
+     */
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement page = connection.prepareStatement(OFFSET_PAGE)) {
+            page.setString(1, BOARD_TYPE);
+            page.setInt(2, PAGE_SIZE);
+            page.setInt(3, offset);
+            consume(page, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(OFFSET_COUNT)) {
+            count.setString(1, BOARD_TYPE);
+            consume(count, blackhole);
+        }
+    }
+
+    /**
+     * KeysetSlice 방식: 커서 위치부터 limit + 1건만 읽는다.
+     */
+    @Benchmark
+    public void keysetPage(Blackhole blackhole) throws SQLException {
+        if (cursor.createdAt() == null) {
+            try (PreparedStatement page = connection.prepareStatement(KEYSET_FIRST_PAGE)) {
+                page.setString(1, BOARD_TYPE);
+                page.setInt(2, KeysetSlice.probeSize(PAGE_SIZE));
+                consume(page, blackhole);
+            }
+            return;
+        }
+        try (PreparedStatement page = connection.prepareStatement(KEYSET_NEXT_PAGE)) {
+            Timestamp createdAt = Timestamp.valueOf(cursor.createdAt());
+            page.setString(1, BOARD_TYPE);
+            page.setTimestamp(2, createdAt);
+            page.setTimestamp(3, createdAt);
+            page.setLong(4, cursor.id());
+            page.setInt(5, KeysetSlice.probeSize(PAGE_SIZE));
+            consume(page, blackhole);
+        }
+    }
+
+    private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+            }
+        }
+    }
+
+    private KeysetCursor cursorAt(int rowOffset) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT created_at, id FROM bench_posts WHERE board_type = ? AND deleted_at IS NULL " +
+                "ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?")) {
+            statement.setString(1, BOARD_TYPE);
+            statement.setInt(2, rowOffset);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("bench_posts에 " + rowOffset + "번째 행이 없습니다.");
+                }
+                // 인코딩/디코딩을 거쳐 실제 요청과 같은 커서로 조회한다
+                return KeysetCursor.decode(new KeysetCursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)).encode());
+            }
+        }
+    }
+
+    private void seedIfEmpty() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_posts (" +
+                    "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+                    "board_type VARCHAR(20) NOT NULL, " +
+                    "content VARCHAR(255) NOT NULL, " +
+                    "created_at DATETIME(6) NOT NULL, " +
+                    "deleted_at DATETIME(6) NULL, " +
+                    "INDEX idx_board_deleted_created (board_type, deleted_at, created_at DESC, id DESC))");
+
+            long existing;
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM bench_posts")) {
+                rs.next();
+                existing = rs.getLong(1);
+            }
+            if (existing >= ROW_COUNT) {
+                return;
+            }
+            statement.execute("TRUNCATE TABLE bench_posts");
+            statement.execute("SET SESSION cte_max_recursion_depth = " + SEED_CHUNK);
+        }
+
+        // 두 행씩 같은 작성 시각을 갖게 하여 (created_at, id) 동률 처리까지 측정에 포함한다
+        String seed = "INSERT INTO bench_posts (board_type, content, created_at) " +
+                "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < ? - 1) " +
+                "SELECT ?, CONCAT('benchmark post ', ? + n), TIMESTAMPADD(SECOND, (? + n) DIV 2, '2024-01-01') FROM seq";
+        try (PreparedStatement statement = connection.prepareStatement(seed)) {
+            for (int start = 0; start < ROW_COUNT; start += SEED_CHUNK) {
+                statement.setInt(1, SEED_CHUNK);
+                statement.setString(2, BOARD_TYPE);
+                statement.setInt(3, start);
+                statement.setInt(4, start);
+                statement.executeUpdate();
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE bench_posts");
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
@@ -0,0 +1,56 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 URL 검증 + 객체 키 추출 비용을 측정합니다 (게시글 작성/삭제 시 이미지마다 호출).
+ * 기존 방식(호출마다 버킷 도메인을 조립해 contains, String.format으로 접두사를 만든 뒤 substring)과
+ * 접두사를 미리 만들어 두고 구조로 검증하는 {@link S3ObjectUrls}를 같은 URL로 비교합니다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=S3ObjectUrlsBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class S3ObjectUrlsBenchmark {
+
+    private static final String BUCKET = "kakaobase";
+    private static final String REGION = "ap-northeast-2";
+
+    @Param({
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/0b5f6c1e-8a3e-4c55-9a63-2f1c6b7d9e10.jpg",
+            "https://cdn.example.com/post_image/0b5f6c1e-8a3e-4c55-9a63-2f1c6b7d9e10.jpg"
+    })
+    private String url;
+
+    private S3ObjectUrls objectUrls;
+
+    @Setup
+    public void setUp() {
+        objectUrls = new S3ObjectUrls(BUCKET, REGION);
+    }
+
+    @Benchmark
+    public String legacyContainsAndFormat() {
+        String bucketDomain = BUCKET + ".s3." + REGION + ".amazonaws.com";
+        if (!url.contains(bucketDomain)) {
+            return null;
+        }
+        String baseUrl = String.format("https://%s.s3.%s.amazonaws.com/", BUCKET, REGION);
+        return url.substring(baseUrl.length());
+    }
+
+    @Benchmark
+    public String s3ObjectUrls() {
+        return objectUrls.toObjectKey(url);
+    }
+}
@@ -0,0 +1,95 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlRequestDto;
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlResponseDto;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 다중 이미지 게시글 하나에 필요한 Presigned URL을 만드는 서버 측 비용을 측정합니다.
+ *
+ * <ul>
+ *     <li>singlePerFile - 기존처럼 파일마다 generatePresignedUrl을 호출 (클라이언트는 files번 왕복)</li>
+ *     <li>batch - generatePresignedUrls 한 번 (클라이언트는 1번 왕복)</li>
+ * </ul>
+ * <p>서명은 네트워크 없이 로컬에서 계산되므로 정적 자격 증명으로 만든 S3Presigner를 사용합니다.
+ * 두 방식의 서버 비용이 비슷하다면 일괄 발급의 이득은 요청 왕복 수 감소입니다.
+ * 정리 후보 INSERT는 DB 왕복이라 측정에서 제외합니다 (일괄 발급은 요청당 1번, 파일별 발급은 파일마다 1번).</p>
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=S3PresignBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class S3PresignBenchmark {
+
+    @Param({"1", "4", "10"})
+    private int files;
+
+    private S3Presigner s3Presigner;
+    private S3Service s3Service;
+    private List<PresignedUrlRequestDto> requests;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("AKIABENCHMARK", "benchmark-secret")))
+                .build();
+        s3Service = new S3Service(null, s3Presigner, new NoOpGarbageQueue(), "kakaobase", "ap-northeast-2", 300, 10_485_760L);
+        requests = IntStream.range(0, files)
+                .mapToObj(i -> new PresignedUrlRequestDto("photo" + i + ".jpg", 2_000_000L, "image/jpeg", "post_image"))
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public List<PresignedUrlResponseDto> singlePerFile() {
+        List<PresignedUrlResponseDto> responses = new ArrayList<>(files);
+        for (PresignedUrlRequestDto request : requests) {
+            responses.add(s3Service.generatePresignedUrl(
+                    request.getFileName(), request.getFileSize(), request.getMimeType(), request.getType()));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<PresignedUrlResponseDto> batch() {
+        return s3Service.generatePresignedUrls(requests);
+    }
+
+    private static final class NoOpGarbageQueue extends S3GarbageQueue {
+
+        NoOpGarbageQueue() {
+            super(null, Duration.ZERO, Duration.ZERO);
+        }
+
+        @Override
+        public void enqueue(Collection<String> objectKeys, S3GcReason reason) {
+        }
+    }
+}
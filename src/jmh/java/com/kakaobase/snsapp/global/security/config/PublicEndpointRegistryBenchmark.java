@@ -0,0 +1,64 @@
+package com.kakaobase.snsapp.global.security.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter의 경로 판별 비용을 측정합니다.
+ * 기존 AntPathMatcher 순회 방식과 PublicEndpointRegistry를 같은 요청 경로로 비교합니다.
+ *
+ * <pre>./gradlew jmh -PjmhIncludes=PublicEndpointRegistryBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicEndpointRegistryBenchmark {
+
+    private static final List<String> LEGACY_EXCLUDED_PATHS = List.of(
+            "/auth/tokens",
+            "/auth/tokens/refresh",
+            "/users/email/verification-requests",
+            "/users/email/verification",
+            "/swagger-ui/**",
+            "/v3/api-docs/**"
+    );
+
+    @Param({"/posts/pangyo_1/123", "/auth/tokens", "/swagger-ui/index.html", "/users"})
+    private String path;
+
+    @Param({"GET", "POST"})
+    private String method;
+
+    private AntPathMatcher antPathMatcher;
+    private PublicEndpointRegistry registry;
+
+    @Setup
+    public void setUp() {
+        antPathMatcher = new AntPathMatcher();
+        registry = new PublicEndpointRegistry();
+    }
+
+    @Benchmark
+    public boolean legacyAntPathMatcher() {
+        if (antPathMatcher.match("/users", path) && method.equals("POST")) {
+            return true;
+        }
+        return LEGACY_EXCLUDED_PATHS.stream()
+                .anyMatch(pattern -> antPathMatcher.match(pattern, path));
+    }
+
+    @Benchmark
+    public boolean publicEndpointRegistry() {
+        return registry.matches(method, path);
+    }
+}
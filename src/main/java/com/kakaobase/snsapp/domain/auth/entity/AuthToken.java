@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.auth.entity;
 
 import com.kakaobase.snsapp.global.common.entity.BaseUpdateTimeEntity;
+import com.kakaobase.snsapp.global.common.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicInsert;
@@ -21,7 +22,10 @@ import java.time.LocalDateTime;
 public class AuthToken extends BaseUpdateTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "auth_tokens_id")
+    @TableGenerator(name = "auth_tokens_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "auth_tokens", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     /**
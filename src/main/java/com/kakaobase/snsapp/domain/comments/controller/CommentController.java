@@ -3,9 +3,12 @@ package com.kakaobase.snsapp.domain.comments.controller;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.service.BotRecommentService;
 import com.kakaobase.snsapp.domain.comments.service.CommentService;
 import com.kakaobase.snsapp.domain.comments.service.CommentLikeService;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import com.kakaobase.snsapp.global.security.authorization.AccessRule;
+import com.kakaobase.snsapp.global.security.authorization.CheckAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,10 +18,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 
@@ -29,13 +33,14 @@ public class CommentController {
 
     private final CommentService commentService;
     private final CommentLikeService commentLikeService;
+    private final BotRecommentService botRecommentService;
 
 
     /**
      * 댓글 작성 API
      */
     @PostMapping("/posts/{postId}/comments")
-    @PreAuthorize("isAuthenticated() &&  @accessChecker.canAccessOnComments(#postId, authentication.principal)")
+    @CheckAccess(AccessRule.POST_BOARD)
     @Operation(
             summary = "댓글 작성",
             description = "게시글에 댓글을 작성합니다. parentId가 없으면 일반 댓글, 있으면 대댓글로 등록됩니다."
@@ -63,7 +68,7 @@ public class CommentController {
      * 댓글 상세 조회 API
      */
     @GetMapping("/comments/{commentId}")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "댓글 상세 조회",
             description = "특정 댓글의 상세 정보를 조회합니다."
@@ -87,7 +92,7 @@ public class CommentController {
      * 댓글 삭제 API
      */
     @DeleteMapping("/comments/{commentId}")
-    @PreAuthorize("@accessChecker.isCommentOwner(#commentId, authentication.principal)")
+    @CheckAccess(AccessRule.COMMENT_OWNER)
     @Operation(
             summary = "댓글 삭제",
             description = "댓글을 삭제합니다. 자신이 작성한 댓글만 삭제할 수 있습니다."
@@ -110,7 +115,7 @@ public class CommentController {
      * 게시글의 댓글 목록 조회 API
      */
     @GetMapping("/posts/{postId}/comments")
-    @PreAuthorize("isAuthenticated() && @accessChecker.canAccessOnComments(#postId, authentication.principal)")
+    @CheckAccess(AccessRule.POST_BOARD)
     @Operation(
             summary = "게시글의 댓글 목록 조회",
             description = "게시글에 작성된 댓글 목록을 조회합니다. 페이지네이션을 지원합니다."
@@ -137,7 +142,7 @@ public class CommentController {
      * 댓글의 대댓글 목록 조회 API
      */
     @GetMapping("/comments/{commentId}/recomments")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "댓글의 대댓글 목록 조회",
             description = "특정 댓글에 작성된 대댓글 목록을 조회합니다. 페이지네이션을 지원합니다."
@@ -165,17 +170,16 @@ public class CommentController {
      * 댓글 좋아요 추가 API
      */
     @PostMapping("/comments/{commentId}/likes")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "댓글 좋아요 추가",
-            description = "댓글에 좋아요를 추가합니다. 이미 좋아요를 누른 경우 에러가 발생합니다."
+            description = "댓글에 좋아요를 추가합니다. 이미 좋아요를 누른 경우 변경 없이 현재 상태를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "좋아요 추가 성공",
                     content = @Content(schema = @Schema(implementation = CommentResponseDto.CommentLikeResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "이미 좋아요한 댓글입니다")
+            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
     })
     public ResponseEntity<CustomResponse<CommentResponseDto.CommentLikeResponse>> addCommentLike(
             @PathVariable Long commentId,
@@ -190,17 +194,16 @@ public class CommentController {
      * 댓글 좋아요 취소 API
      */
     @DeleteMapping("/comments/{commentId}/likes")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "댓글 좋아요 취소",
-            description = "댓글의 좋아요를 취소합니다. 좋아요하지 않은 경우 에러가 발생합니다."
+            description = "댓글의 좋아요를 취소합니다. 좋아요하지 않은 경우 변경 없이 현재 상태를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "좋아요 취소 성공",
                     content = @Content(schema = @Schema(implementation = CommentResponseDto.CommentLikeResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "좋아요하지 않은 댓글입니다")
+            @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
     })
     public ResponseEntity<CustomResponse<CommentResponseDto.CommentLikeResponse>> removeCommentLike(
             @PathVariable Long commentId,
@@ -215,17 +218,16 @@ public class CommentController {
      * 대댓글 좋아요 추가 API
      */
     @PostMapping("/recomments/{recommentId}/likes")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "대댓글 좋아요 추가",
-            description = "대댓글에 좋아요를 추가합니다. 이미 좋아요를 누른 경우 에러가 발생합니다."
+            description = "대댓글에 좋아요를 추가합니다. 이미 좋아요를 누른 경우 변경 없이 현재 상태를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "좋아요 추가 성공",
                     content = @Content(schema = @Schema(implementation = CommentResponseDto.RecommentLikeResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "404", description = "대댓글을 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "이미 좋아요한 대댓글입니다")
+            @ApiResponse(responseCode = "404", description = "대댓글을 찾을 수 없음")
     })
     public ResponseEntity<CustomResponse<CommentResponseDto.RecommentLikeResponse>> addRecommentLike(
             @PathVariable Long recommentId,
@@ -240,17 +242,16 @@ public class CommentController {
      * 대댓글 좋아요 취소 API
      */
     @DeleteMapping("/recomments/{recommentId}/likes")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     @Operation(
             summary = "대댓글 좋아요 취소",
-            description = "대댓글의 좋아요를 취소합니다. 좋아요하지 않은 경우 에러가 발생합니다."
+            description = "대댓글의 좋아요를 취소합니다. 좋아요하지 않은 경우 변경 없이 현재 상태를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "좋아요 취소 성공",
                     content = @Content(schema = @Schema(implementation = CommentResponseDto.RecommentLikeResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
-            @ApiResponse(responseCode = "404", description = "대댓글을 찾을 수 없음"),
-            @ApiResponse(responseCode = "409", description = "좋아요하지 않은 대댓글입니다")
+            @ApiResponse(responseCode = "404", description = "대댓글을 찾을 수 없음")
     })
     public ResponseEntity<CustomResponse<CommentResponseDto.RecommentLikeResponse>> removeRecommentLike(
             @PathVariable Long recommentId,
@@ -266,7 +267,7 @@ public class CommentController {
      * 대댓글 삭제 API
      */
     @DeleteMapping("/recomments/{recommentId}")
-    @PreAuthorize("@accessChecker.isRecommentOwner(#recommentId, authentication.principal)")
+    @CheckAccess(AccessRule.RECOMMENT_OWNER)
     @Operation(
             summary = "대댓글 삭제",
             description = "대댓글을 삭제합니다. 자신이 작성한 대댓글만 삭제할 수 있습니다."
@@ -285,4 +286,28 @@ public class CommentController {
         commentService.deleteRecomment(memberId, recommentId);
         return ResponseEntity.ok(CustomResponse.success("대댓글이 삭제되었습니다.", null));
     }
-}
\ No newline at end of file
+
+    /**
+     * 봇 대댓글 스트리밍 구독 API
+     */
+    @GetMapping(value = "/comments/{commentId}/bot-recomment/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @CheckAccess(AccessRule.COMMENT_OWNER)
+    @Operation(
+            summary = "봇 대댓글 스트리밍 구독",
+            description = "봇 게시글에 단 댓글에 대한 봇 대댓글을 SSE로 받습니다. " +
+                    "생성 중에는 partial, 저장되면 completed, 실패하면 failed 이벤트를 전송합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "404", description = "댓글 없음 또는 봇 게시글의 댓글이 아님")
+    })
+    public ResponseEntity<SseEmitter> subscribeBotRecomment(
+            @Parameter(description = "댓글 ID") @PathVariable Long commentId
+    ) {
+        SseEmitter emitter = botRecommentService.subscribeBotRecomment(commentId);
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
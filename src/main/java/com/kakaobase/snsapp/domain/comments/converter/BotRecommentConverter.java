@@ -2,7 +2,7 @@ package com.kakaobase.snsapp.domain.comments.converter;
 
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
-import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentBotContext;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 
@@ -18,19 +18,19 @@ import java.util.stream.Collectors;
 public class BotRecommentConverter {
 
     /**
-     * AI 서버 요청 DTO 생성 (RecommentInfo 사용)
+     * AI 서버 요청 DTO 생성
      *
      * @param post 게시글 엔티티
      * @param postAuthorInfo 게시글 작성자 봇 정보
      * @param comment 댓글 엔티티
-     * @param recomments 기존 대댓글 목록 (RecommentInfo)
+     * @param recomments 기존 대댓글 컨텍스트 (오래된순)
      * @return AI 서버 요청 DTO
      */
     public static BotRecommentRequestDto.CreateRecommentRequest toCreateRecommentRequest(
             Post post,
             BotRecommentRequestDto.UserInfo postAuthorInfo,
             Comment comment,
-            List<CommentResponseDto.RecommentInfo> recomments) {
+            List<RecommentBotContext> recomments) {
 
         String boardType = post.getBoardType().name();
 
@@ -51,7 +51,7 @@ public class BotRecommentConverter {
                 ),
                 formatDateTime(comment.getCreatedAt()),
                 comment.getContent(),
-                toRecommentListFromDto(recomments)
+                toBotRecomments(recomments)
         );
 
         return new BotRecommentRequestDto.CreateRecommentRequest(
@@ -62,13 +62,12 @@ public class BotRecommentConverter {
     }
 
     /**
-     * RecommentInfo DTO 리스트를 BotRecomment DTO 리스트로 변환
+     * 대댓글 컨텍스트를 BotRecomment DTO 리스트로 변환
      *
-     * @param recomments 대댓글 정보 리스트
+     * @param recomments 대댓글 컨텍스트 리스트
      * @return BotRecomment DTO 리스트
      */
-    private static List<BotRecommentRequestDto.BotRecomment> toRecommentListFromDto(
-            List<CommentResponseDto.RecommentInfo> recomments) {
+    private static List<BotRecommentRequestDto.BotRecomment> toBotRecomments(List<RecommentBotContext> recomments) {
 
         if (recomments == null || recomments.isEmpty()) {
             return List.of();
@@ -77,10 +76,10 @@ public class BotRecommentConverter {
         return recomments.stream()
                 .map(recomment -> new BotRecommentRequestDto.BotRecomment(
                         new BotRecommentRequestDto.UserInfo(
-                                recomment.user().nickname(),
-                                "PANGYO_2"  // TODO: RecommentInfo에 className 추가 필요
+                                recomment.nickname(),
+                                recomment.className().name()
                         ),
-                        recomment.created_at().format(DateTimeFormatter.ISO_INSTANT),
+                        formatDateTime(recomment.createdAt()),
                         recomment.content()
                 ))
                 .collect(Collectors.toList());
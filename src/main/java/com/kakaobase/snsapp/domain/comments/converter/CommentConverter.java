@@ -118,13 +118,29 @@ public class CommentConverter {
             Boolean isLiked
             // 팔로우 기능은 V2에서 구현 예정
             // Set<Long> followedMemberIds,
+    ) {
+        return toCommentInfo(comment, comment.getMember(), isMine, isLiked);
+    }
+
+    /**
+     * 미리 일괄 조회한 작성자 정보로 댓글 상세 정보 DTO를 생성합니다.
+     *
+     * @param comment 댓글 엔티티
+     * @param author 댓글 작성자
+     * @param isMine 본인 댓글 여부
+     * @param isLiked 좋아요 여부
+     * @return 댓글 상세 정보 DTO
+     */
+    public CommentResponseDto.CommentInfo toCommentInfo(
+            Comment comment,
+            Member author,
+            Boolean isMine,
+            Boolean isLiked
     ) {
         CommentResponseDto.UserInfo userInfo = createUserInfo(
-                comment.getMember().getId(),
-                comment.getMember().getNickname(),
-                comment.getMember().getProfileImgUrl()
-                // 팔로우 기능은 V2에서 구현 예정
-                // followedMemberIds != null && followedMemberIds.contains(comment.getMember().getId())
+                author.getId(),
+                author.getNickname(),
+                author.getProfileImgUrl()
         );
 
         return new CommentResponseDto.CommentInfo(
@@ -182,6 +182,23 @@ public class BotRecommentRequestDto {
             String content
     ) {}
 
+    /**
+     * AI 서버 스트리밍 대댓글 응답 조각 DTO
+     *
+     * <p>NDJSON의 한 줄 또는 SSE 이벤트의 data 하나에 해당합니다.</p>
+     *
+     * @param delta 이번 조각에서 이어 붙일 텍스트
+     * @param done 마지막 조각 여부
+     */
+    @Schema(description = "AI 서버 스트리밍 대댓글 응답 조각")
+    public record AiRecommentChunk(
+            @Schema(description = "이어 붙일 텍스트", example = "ㅎㅎ 맞아요!")
+            String delta,
+
+            @Schema(description = "마지막 조각 여부", example = "false")
+            boolean done
+    ) {}
+
     /**
      * AI 서버 에러 응답 DTO
      *
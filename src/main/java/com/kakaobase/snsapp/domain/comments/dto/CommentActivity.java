@@ -0,0 +1,31 @@
+package com.kakaobase.snsapp.domain.comments.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 활동 피드의 댓글 프로젝션
+ *
+ * <p>작성자나 게시글 엔티티를 로딩하지 않고 외래 키 컬럼과 필요한 값만 조회합니다.</p>
+ *
+ * @param id 댓글 ID
+ * @param postId 게시글 ID
+ * @param content 댓글 내용
+ * @param likeCount 좋아요 수
+ * @param recommentCount 대댓글 수
+ * @param createdAt 작성 시각
+ */
+public record CommentActivity(
+        Long id,
+        @JsonProperty("post_id")
+        Long postId,
+        String content,
+        @JsonProperty("like_count")
+        int likeCount,
+        @JsonProperty("recomment_count")
+        int recommentCount,
+        @JsonProperty("created_at")
+        LocalDateTime createdAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.comments.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -185,4 +186,18 @@ public class CommentResponseDto {
             String message
     ) {}
 
-}
\ No newline at end of file
+    /**
+     * 봇 대댓글 스트리밍 응답 DTO
+     *
+     * <p>작성 중에는 지금까지 생성된 내용만, 저장이 끝나면 대댓글 ID와 최종 내용을 담습니다.</p>
+     */
+    @Schema(description = "봇 대댓글 스트리밍 응답")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record BotRecommentStreamResponse(
+            @Schema(description = "저장된 대댓글 ID (작성 완료 시에만 포함)", example = "789", nullable = true)
+            Long id,
+
+            @Schema(description = "지금까지 생성된 대댓글 내용", example = "ㅎㅎ 맞아요! 저는 입은 없지만...")
+            String content
+    ) {}
+}
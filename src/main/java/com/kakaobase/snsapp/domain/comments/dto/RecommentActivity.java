@@ -0,0 +1,28 @@
+package com.kakaobase.snsapp.domain.comments.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 활동 피드의 대댓글 프로젝션
+ *
+ * <p>작성자나 댓글 엔티티를 로딩하지 않고 외래 키 컬럼과 필요한 값만 조회합니다.</p>
+ *
+ * @param id 대댓글 ID
+ * @param commentId 부모 댓글 ID
+ * @param content 대댓글 내용
+ * @param likeCount 좋아요 수
+ * @param createdAt 작성 시각
+ */
+public record RecommentActivity(
+        Long id,
+        @JsonProperty("comment_id")
+        Long commentId,
+        String content,
+        @JsonProperty("like_count")
+        int likeCount,
+        @JsonProperty("created_at")
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,23 @@
+package com.kakaobase.snsapp.domain.comments.dto;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 봇 대댓글 생성 시 AI 서버에 전달할 기존 대댓글 프로젝션
+ *
+ * <p>작성자 엔티티나 좋아요 여부 없이 AI 요청에 필요한 컬럼만 조회합니다.</p>
+ *
+ * @param nickname 작성자 닉네임
+ * @param className 작성자 기수
+ * @param content 대댓글 내용
+ * @param createdAt 작성 시각
+ */
+public record RecommentBotContext(
+        String nickname,
+        Member.ClassName className,
+        String content,
+        LocalDateTime createdAt
+) {
+}
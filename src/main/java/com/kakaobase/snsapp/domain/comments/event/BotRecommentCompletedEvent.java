@@ -0,0 +1,13 @@
+package com.kakaobase.snsapp.domain.comments.event;
+
+/**
+ * 봇 대댓글 저장 완료 이벤트
+ *
+ * <p>대댓글이 저장된 트랜잭션이 커밋된 뒤 스트리밍 구독자에게 최종 내용을 전달하는 데 사용됩니다.</p>
+ *
+ * @param commentId 부모 댓글 ID
+ * @param recommentId 저장된 대댓글 ID
+ * @param content 대댓글 내용
+ */
+public record BotRecommentCompletedEvent(Long commentId, Long recommentId, String content) {
+}
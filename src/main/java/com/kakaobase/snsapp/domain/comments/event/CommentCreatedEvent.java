@@ -1,5 +1,7 @@
 package com.kakaobase.snsapp.domain.comments.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
@@ -9,10 +11,11 @@ import java.time.LocalDateTime;
 /**
  * 댓글 생성 시 발행되는 이벤트
  *
- * <p>댓글이 생성되었을 때 발행되며, 봇 대댓글 생성 등의 후속 처리에 사용됩니다.</p>
+ * <p>댓글이 생성되었을 때 발행되며, 봇 대댓글 생성 등의 후속 처리에 사용됩니다.
+ * 댓글과 같은 트랜잭션에서 아웃박스에 JSON으로 기록된 뒤 CommentEventListener로 전달됩니다.</p>
  */
 @Getter
-@AllArgsConstructor
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
 public class CommentCreatedEvent {
 
     /**
@@ -50,6 +53,7 @@ public class CommentCreatedEvent {
      *
      * @return 봇 게시글 여부 (true: 봇 게시글, false: 일반 게시글)
      */
+    @JsonIgnore
     public boolean isCommentOnBotPost() {
         return postAuthorId != null && postAuthorId.equals(BotConstants.BOT_MEMBER_ID);
     }
@@ -59,6 +63,7 @@ public class CommentCreatedEvent {
      *
      * @return 봇 댓글 여부 (true: 봇이 작성, false: 일반 사용자 작성)
      */
+    @JsonIgnore
     public boolean isCommentByBot() {
         return commentAuthorId != null && commentAuthorId.equals(BotConstants.BOT_MEMBER_ID);
     }
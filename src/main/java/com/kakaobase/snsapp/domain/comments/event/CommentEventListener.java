@@ -1,65 +1,70 @@
 package com.kakaobase.snsapp.domain.comments.event;
 
 import com.kakaobase.snsapp.domain.comments.service.BotRecommentService;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * 댓글 이벤트 리스너
  *
- * <p>댓글 관련 이벤트를 처리하여 봇 대댓글 생성 등의 후속 작업을 수행합니다.</p>
+ * <p>댓글 관련 이벤트를 처리하여 봇 대댓글 생성 등의 후속 작업을 수행합니다.
+ * 이벤트는 아웃박스를 통해 댓글 커밋 이후에 전달되며, 처리 중 예외가 발생하면 아웃박스가 재시도합니다.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class CommentEventListener {
+public class CommentEventListener implements OutboxEventHandler<CommentCreatedEvent> {
 
     private final BotRecommentService botRecommentService;
 
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.COMMENT_CREATED;
+    }
+
+    @Override
+    public Class<CommentCreatedEvent> getPayloadType() {
+        return CommentCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(CommentCreatedEvent event) {
+        handleCommentCreated(event);
+    }
+
     /**
      * 댓글 생성 이벤트 처리
      *
-     * <p>봇이 작성한 게시글에 일반 사용자가 댓글을 달았을 때 AI 대댓글을 생성합니다.</p>
+     * <p>봇이 작성한 게시글에 일반 사용자가 댓글을 달았을 때 AI 대댓글을 생성합니다.
+     * 같은 이벤트가 다시 전달되어도 봇 대댓글이 이미 있으면 생성하지 않습니다.</p>
      *
      * @param event 댓글 생성 이벤트
      */
-    @EventListener
-    @Async("taskExecutor")  // AsyncConfig에서 정의한 빈 이름 명시
     public void handleCommentCreated(CommentCreatedEvent event) {
         log.debug("댓글 생성 이벤트 수신: {}", event);
 
-        try {
-            // 1. 봇 게시글에 달린 댓글인지 확인
-            if (!event.isCommentOnBotPost()) {
-                log.debug("봇 게시글이 아니므로 대댓글 생성 스킵 - postAuthorId: {}", event.getPostAuthorId());
-                return;
-            }
-
-            // 2. 봇이 작성한 댓글 제외 (무한 루프 방지)
-            if (event.isCommentByBot()) {
-                log.debug("봇이 작성한 댓글이므로 대댓글 생성 스킵 - commentAuthorId: {}", event.getCommentAuthorId());
-                return;
-            }
-
-            log.info("봇 대댓글 생성 시작 - commentId: {}, postId: {}",
-                    event.getCommentId(), event.getPostId());
+        // 1. 봇 게시글에 달린 댓글인지 확인
+        if (!event.isCommentOnBotPost()) {
+            log.debug("봇 게시글이 아니므로 대댓글 생성 스킵 - postAuthorId: {}", event.getPostAuthorId());
+            return;
+        }
 
-            // 3. 봇 대댓글 생성 서비스 호출
-            botRecommentService.createBotRecomment(event);
+        // 2. 봇이 작성한 댓글 제외 (무한 루프 방지)
+        if (event.isCommentByBot()) {
+            log.debug("봇이 작성한 댓글이므로 대댓글 생성 스킵 - commentAuthorId: {}", event.getCommentAuthorId());
+            return;
+        }
 
-            log.info("봇 대댓글 생성 이벤트 처리 완료 - commentId: {}", event.getCommentId());
+        log.info("봇 대댓글 생성 시작 - commentId: {}, postId: {}",
+                event.getCommentId(), event.getPostId());
 
-        } catch (Exception e) {
-            // 에러가 발생해도 메인 플로우에 영향 없도록 처리
-            log.error("봇 대댓글 생성 실패 - commentId: {}, error: {}",
-                    event.getCommentId(), e.getMessage(), e);
+        // 3. 봇 대댓글 생성 서비스 호출 (실패 시 예외를 전파하여 아웃박스가 재시도)
+        botRecommentService.createBotRecomment(event);
 
-            // 모니터링을 위해 추가적인 처리 필요시 여기에 구현
-            // 예: 메트릭 수집, 알림 발송 등
-        }
+        log.info("봇 대댓글 생성 이벤트 처리 완료 - commentId: {}", event.getCommentId());
     }
 
     /**
@@ -1,15 +1,13 @@
 package com.kakaobase.snsapp.domain.comments.repository;
 
 import com.kakaobase.snsapp.domain.comments.entity.CommentLike;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 댓글 좋아요 엔티티에 대한 데이터 액세스 객체
@@ -19,15 +17,6 @@ import java.util.Optional;
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLike.CommentLikeId> {
 
-    /**
-     * 특정 회원이 특정 댓글에 좋아요를 눌렀는지 확인합니다.
-     *
-     * @param memberId 회원 ID
-     * @param commentId 댓글 ID
-     * @return 좋아요 정보 (Optional)
-     */
-    Optional<CommentLike> findByMemberIdAndCommentId(Long memberId, Long commentId);
-
     /**
      * 특정 회원이 특정 댓글에 좋아요를 눌렀는지 여부를 확인합니다.
      *
@@ -37,15 +26,6 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
      */
     boolean existsByMemberIdAndCommentId(Long memberId, Long commentId);
 
-    /**
-     * 특정 회원이 좋아요를 누른 댓글 ID 목록을 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @return 좋아요를 누른 댓글 ID 목록
-     */
-    @Query("SELECT cl.commentId FROM CommentLike cl WHERE cl.memberId = :memberId")
-    List<Long> findCommentIdsByMemberId(@Param("memberId") Long memberId);
-
     /**
      * 특정 회원이 주어진 댓글 목록 중 좋아요를 누른 댓글 ID 목록을 조회합니다.
      * 댓글 목록 조회 시 좋아요 여부를 확인하는 데 사용됩니다.
@@ -67,15 +47,6 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
      */
     long countByCommentId(Long commentId);
 
-    /**
-     * 특정 회원이 좋아요를 누른 댓글 목록을 페이지네이션하여 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @param pageable 페이지네이션 정보
-     * @return 좋아요를 누른 댓글 ID 목록 (페이지네이션 적용)
-     */
-    Page<CommentLike> findByMemberId(Long memberId, Pageable pageable);
-
     /**
      * 특정 댓글의 모든 좋아요를 삭제합니다.
      * 댓글 삭제 시 관련 좋아요도 함께 삭제하는 데 사용됩니다.
@@ -92,4 +63,31 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Commen
      * @param memberId 회원 ID
      */
     void deleteByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 삭제되지 않은 댓글에 한해 좋아요를 추가합니다.
+     * 이미 좋아요한 경우 INSERT IGNORE로 기본 키 중복을 무시하므로 예외 없이 0건이 반환됩니다.
+     * IGNORE는 외래 키 위반(회원이 없는 경우)도 경고로 바꾸므로, 0건이면 좋아요가 실제로 있는지 확인해야 합니다.
+     *
+     * @param memberId 회원 ID
+     * @param commentId 댓글 ID
+     * @return 추가된 행 수 (이미 좋아요했거나 댓글이 없거나 삭제된 경우 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (member_id, comment_id) " +
+            "SELECT :memberId, t.id FROM comments t " +
+            "WHERE t.id = :commentId AND t.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfTargetActive(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
+
+    /**
+     * 좋아요를 취소합니다.
+     *
+     * @param memberId 회원 ID
+     * @param commentId 댓글 ID
+     * @return 삭제된 행 수 (좋아요하지 않은 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLike l WHERE l.memberId = :memberId AND l.commentId = :commentId")
+    int deleteIfPresent(@Param("memberId") Long memberId, @Param("commentId") Long commentId);
+}
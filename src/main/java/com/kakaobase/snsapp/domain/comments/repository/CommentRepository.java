@@ -1,12 +1,17 @@
 // CommentRepository.java
 package com.kakaobase.snsapp.domain.comments.repository;
 
+import com.kakaobase.snsapp.domain.comments.dto.CommentActivity;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +30,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<Comment> findByIdAndDeletedAtIsNull(@Param("id") Long id);
 
+    /**
+     * 댓글이 달린 게시글의 작성자 ID를 조회합니다.
+     *
+     * @param id 댓글 ID
+     * @return 게시글 작성자 ID, 삭제되었거나 없는 댓글이면 빈 값
+     */
+    @Query("SELECT c.post.memberId FROM Comment c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Long> findPostAuthorIdById(@Param("id") Long id);
+
     /**
      * 특정 댓글을 ID와 회원 ID로 조회합니다.
      * 댓글의 소유자 확인에 사용됩니다.
@@ -67,4 +81,50 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.deletedAt IS NULL")
     long countByPostIdAndDeletedAtIsNull(@Param("postId") Long postId);
 
-}
\ No newline at end of file
+    /**
+     * 댓글 좋아요 수를 증가시킵니다.
+     *
+     * @param commentId 댓글 ID
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    void increaseLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 댓글 좋아요 수를 감소시킵니다.
+     *
+     * @param commentId 댓글 ID
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN c.likeCount > 0 THEN c.likeCount - 1 ELSE 0 END WHERE c.id = :commentId")
+    void decreaseLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 특정 회원이 작성한 댓글을 최신순으로 커서 기반 페이징하여 조회합니다.
+     *
+     * <p>(작성 시각 내림차순, ID 오름차순) 키셋을 사용하여 idx_member_created_not_deleted 인덱스 순서대로 읽다가
+     * limit에서 멈추므로 OFFSET과 COUNT 쿼리가 없습니다. 게시판 접근 권한을 확인하기 위해 게시글만 조인하고 작성자는 조인하지 않습니다.</p>
+     *
+     * @param memberId 회원 ID
+     * @param boardTypes 조회할 게시판 목록 (조회하는 사용자가 접근할 수 있는 게시판만 전달)
+     * @param cursorCreatedAt 마지막으로 조회한 댓글의 작성 시각 (첫 페이지에서는 null)
+     * @param cursorId 마지막으로 조회한 댓글 ID (첫 페이지에서는 null)
+     * @param limit 조회할 댓글 수
+     * @return 회원이 작성한 댓글 목록
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.comments.dto.CommentActivity(" +
+            "c.id, c.post.id, c.content, c.likeCount, c.recommentCount, c.createdAt) " +
+            "FROM Comment c " +
+            "WHERE c.member.id = :memberId " +
+            "AND c.post.boardType IN :boardTypes " +
+            "AND c.deletedAt IS NULL " +
+            "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+            "OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id ASC")
+    List<CommentActivity> findActivityByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("boardTypes") List<Post.BoardType> boardTypes,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+}
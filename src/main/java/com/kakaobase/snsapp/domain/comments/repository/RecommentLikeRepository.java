@@ -1,15 +1,13 @@
 package com.kakaobase.snsapp.domain.comments.repository;
 
 import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 대댓글 좋아요 엔티티에 대한 데이터 액세스 객체
@@ -19,15 +17,6 @@ import java.util.Optional;
 @Repository
 public interface RecommentLikeRepository extends JpaRepository<RecommentLike, RecommentLike.RecommentLikeId> {
 
-    /**
-     * 특정 회원이 특정 대댓글에 좋아요를 눌렀는지 확인합니다.
-     *
-     * @param memberId 회원 ID
-     * @param recommentId 대댓글 ID
-     * @return 좋아요 정보 (Optional)
-     */
-    Optional<RecommentLike> findByMemberIdAndRecommentId(Long memberId, Long recommentId);
-
     /**
      * 특정 회원이 특정 대댓글에 좋아요를 눌렀는지 여부를 확인합니다.
      *
@@ -37,15 +26,6 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
      */
     boolean existsByMemberIdAndRecommentId(Long memberId, Long recommentId);
 
-    /**
-     * 특정 회원이 좋아요를 누른 대댓글 ID 목록을 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @return 좋아요를 누른 대댓글 ID 목록
-     */
-    @Query("SELECT rl.recommentId FROM RecommentLike rl WHERE rl.memberId = :memberId")
-    List<Long> findRecommentIdsByMemberId(@Param("memberId") Long memberId);
-
     /**
      * 특정 회원이 주어진 대댓글 목록 중 좋아요를 누른 대댓글 ID 목록을 조회합니다.
      * 대댓글 목록 조회 시 좋아요 여부를 확인하는 데 사용됩니다.
@@ -67,15 +47,6 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
      */
     long countByRecommentId(Long recommentId);
 
-    /**
-     * 특정 회원이 좋아요를 누른 대댓글 목록을 페이지네이션하여 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @param pageable 페이지네이션 정보
-     * @return 좋아요를 누른 대댓글 ID 목록 (페이지네이션 적용)
-     */
-    Page<RecommentLike> findByMemberId(Long memberId, Pageable pageable);
-
     /**
      * 특정 대댓글의 모든 좋아요를 삭제합니다.
      * 대댓글 삭제 시 관련 좋아요도 함께 삭제하는 데 사용됩니다.
@@ -102,4 +73,31 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
      * @param memberId 회원 ID
      */
     void deleteByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 삭제되지 않은 대댓글에 한해 좋아요를 추가합니다.
+     * 이미 좋아요한 경우 INSERT IGNORE로 기본 키 중복을 무시하므로 예외 없이 0건이 반환됩니다.
+     * IGNORE는 외래 키 위반(회원이 없는 경우)도 경고로 바꾸므로, 0건이면 좋아요가 실제로 있는지 확인해야 합니다.
+     *
+     * @param memberId 회원 ID
+     * @param recommentId 대댓글 ID
+     * @return 추가된 행 수 (이미 좋아요했거나 대댓글이 없거나 삭제된 경우 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO recomment_likes (member_id, recomment_id) " +
+            "SELECT :memberId, t.id FROM recomments t " +
+            "WHERE t.id = :recommentId AND t.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfTargetActive(@Param("memberId") Long memberId, @Param("recommentId") Long recommentId);
+
+    /**
+     * 좋아요를 취소합니다.
+     *
+     * @param memberId 회원 ID
+     * @param recommentId 대댓글 ID
+     * @return 삭제된 행 수 (좋아요하지 않은 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM RecommentLike l WHERE l.memberId = :memberId AND l.recommentId = :recommentId")
+    int deleteIfPresent(@Param("memberId") Long memberId, @Param("recommentId") Long recommentId);
+}
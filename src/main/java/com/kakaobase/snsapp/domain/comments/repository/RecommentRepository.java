@@ -1,13 +1,19 @@
 // RecommentRepository.java
 package com.kakaobase.snsapp.domain.comments.repository;
 
+import com.kakaobase.snsapp.domain.comments.dto.RecommentActivity;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentBotContext;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,6 +84,31 @@ public interface RecommentRepository extends JpaRepository<Recomment, Long> {
             @Param("cursor") Long cursor,
             @Param("limit") int limit);
 
+    /**
+     * 봇 대댓글 생성에 필요한 최근 대댓글 정보를 최신순으로 조회합니다.
+     * 작성자 닉네임/기수와 내용, 작성 시각만 프로젝션하며 좋아요 정보는 조회하지 않습니다.
+     *
+     * @param commentId 댓글 ID
+     * @param limit 조회할 최대 대댓글 수
+     * @return 최신순 대댓글 정보 목록
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.comments.dto.RecommentBotContext(m.nickname, m.className, r.content, r.createdAt) " +
+            "FROM Recomment r JOIN r.member m " +
+            "WHERE r.comment.id = :commentId AND r.deletedAt IS NULL " +
+            "ORDER BY r.id DESC")
+    List<RecommentBotContext> findBotContextByCommentId(@Param("commentId") Long commentId, Limit limit);
+
+    /**
+     * 특정 회원이 특정 댓글에 대댓글을 작성했는지 확인합니다. (삭제된 것 포함)
+     * 봇 대댓글 중복 생성을 막기 위해 사용됩니다.
+     *
+     * @param commentId 댓글 ID
+     * @param memberId 회원 ID
+     * @return 작성 여부
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Recomment r WHERE r.comment.id = :commentId AND r.member.id = :memberId")
+    boolean existsByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
     /**
      * 특정 댓글의 대댓글 수를 조회합니다.
      * 삭제되지 않은 대댓글만 계산합니다.
@@ -118,4 +149,51 @@ public interface RecommentRepository extends JpaRepository<Recomment, Long> {
     boolean existsRecommentLike(
             @Param("recommentId") Long recommentId,
             @Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 대댓글 좋아요 수를 증가시킵니다.
+     *
+     * @param recommentId 대댓글 ID
+     */
+    @Modifying
+    @Query("UPDATE Recomment r SET r.likeCount = r.likeCount + 1 WHERE r.id = :recommentId")
+    void increaseLikeCount(@Param("recommentId") Long recommentId);
+
+    /**
+     * 대댓글 좋아요 수를 감소시킵니다.
+     *
+     * @param recommentId 대댓글 ID
+     */
+    @Modifying
+    @Query("UPDATE Recomment r SET r.likeCount = CASE WHEN r.likeCount > 0 THEN r.likeCount - 1 ELSE 0 END WHERE r.id = :recommentId")
+    void decreaseLikeCount(@Param("recommentId") Long recommentId);
+
+    /**
+     * 특정 회원이 작성한 대댓글을 최신순으로 커서 기반 페이징하여 조회합니다.
+     *
+     * <p>(작성 시각 내림차순, ID 오름차순) 키셋을 사용하여 idx_member_created_not_deleted 인덱스 순서대로 읽다가
+     * limit에서 멈추므로 OFFSET과 COUNT 쿼리가 없습니다. 게시판 접근 권한을 확인하기 위해 댓글과 게시글만 조인하고 작성자는 조인하지 않습니다.</p>
+     *
+     * @param memberId 회원 ID
+     * @param boardTypes 조회할 게시판 목록 (조회하는 사용자가 접근할 수 있는 게시판만 전달)
+     * @param cursorCreatedAt 마지막으로 조회한 대댓글의 작성 시각 (첫 페이지에서는 null)
+     * @param cursorId 마지막으로 조회한 대댓글 ID (첫 페이지에서는 null)
+     * @param limit 조회할 대댓글 수
+     * @return 회원이 작성한 대댓글 목록
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.comments.dto.RecommentActivity(" +
+            "r.id, r.comment.id, r.content, r.likeCount, r.createdAt) " +
+            "FROM Recomment r " +
+            "WHERE r.member.id = :memberId " +
+            "AND r.comment.post.boardType IN :boardTypes " +
+            "AND r.deletedAt IS NULL " +
+            "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+            "OR (r.createdAt = :cursorCreatedAt AND r.id > :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id ASC")
+    List<RecommentActivity> findActivityByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("boardTypes") List<Post.BoardType> boardTypes,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+}
@@ -4,28 +4,39 @@ import com.kakaobase.snsapp.domain.comments.converter.BotRecommentConverter;
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentBotContext;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
-import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.event.BotRecommentCompletedEvent;
 import com.kakaobase.snsapp.domain.comments.event.CommentCreatedEvent;
 import com.kakaobase.snsapp.domain.comments.exception.CommentErrorCode;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -41,14 +52,21 @@ public class BotRecommentService {
 
     private final CommentService commentService;
     private final MemberService memberService;
+    private final CommentRepository commentRepository;
+    private final RecommentRepository recommentRepository;
     private final WebClient webClient;
-
-    // 대댓글 조회 시 사용할 최대 limit 값
-    private static final int MAX_RECOMMENT_LIMIT = 100;
+    private final BotRecommentStreamRegistry botRecommentStreamRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
+    @Value("${ai.bot.recomment.context-size:20}")
+    private int contextSize;
+
+    @Value("${ai.bot.recomment.context-char-budget:4000}")
+    private int contextCharBudget;
+
     @Value("${ai.server.timeout:30}")
     private int timeoutSeconds;
 
@@ -58,15 +76,27 @@ public class BotRecommentService {
     @Value("${ai.server.retry.delay:1}")
     private long retryDelaySeconds;
 
+    @Value("${ai.bot.recomment.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
     /**
      * 봇 대댓글 생성
      *
+     * <p>아웃박스 재전달로 같은 댓글에 대해 여러 번 호출될 수 있으므로,
+     * 봇 대댓글이 이미 있으면 AI 서버를 호출하지 않고 종료합니다.</p>
+     *
      * @param event 댓글 생성 이벤트
      */
+    @Timed(value = "ai.bot.recomment", description = "AI 봇 대댓글 생성 소요 시간")
     @Transactional
     public void createBotRecomment(CommentCreatedEvent event) {
         log.info("봇 대댓글 생성 시작 - commentId: {}", event.getCommentId());
 
+        if (recommentRepository.existsByCommentIdAndMemberId(event.getCommentId(), BotConstants.BOT_MEMBER_ID)) {
+            log.info("이미 봇 대댓글이 작성된 댓글이므로 스킵 - commentId: {}", event.getCommentId());
+            return;
+        }
+
         try {
             // 1. 댓글 정보 조회
             Comment comment = commentService.findById(event.getCommentId());
@@ -75,28 +105,22 @@ public class BotRecommentService {
             // 2. 게시글 작성자 정보 조회
             BotRecommentRequestDto.UserInfo postAuthorInfo = memberService.getMemberBotInfo(post.getMemberId());
 
-            // 3. 대댓글 목록 조회 (큰 limit 사용)
-            CommentRequestDto.RecommentPageRequest pageRequest =
-                    new CommentRequestDto.RecommentPageRequest(MAX_RECOMMENT_LIMIT, null);
-
-            CommentResponseDto.RecommentListResponse recommentResponse =
-                    commentService.getRecommentsByCommentId(
-                            BotConstants.BOT_MEMBER_ID,
-                            comment.getId(),
-                            pageRequest
-                    );
+            // 3. 최근 대댓글 컨텍스트 조회 (개수/글자 수 예산 내에서 필요한 컬럼만)
+            List<RecommentBotContext> recommentContext = loadRecommentContext(comment.getId());
 
-            // 4. AI 요청 DTO 생성 (RecommentInfo 직접 사용)
+            // 4. AI 요청 DTO 생성
             BotRecommentRequestDto.CreateRecommentRequest aiRequest =
                     BotRecommentConverter.toCreateRecommentRequest(
                             post,
                             postAuthorInfo,
                             comment,
-                            recommentResponse.recomments()  // RecommentInfo 리스트 전달
+                            recommentContext
                     );
 
-            // 5. AI 서버 호출
-            BotRecommentRequestDto.AiRecommentResponse aiResponse = callAiServerForRecommend(aiRequest);
+            // 5. AI 서버 호출 (스트리밍 시 생성 중인 내용을 구독자에게 전달)
+            BotRecommentRequestDto.AiRecommentResponse aiResponse = streamingEnabled
+                    ? streamAiServerForRecommend(aiRequest, comment.getId())
+                    : callAiServerForRecommend(aiRequest);
 
             log.debug("AI 응답 수신: {}", BotRecommentConverter.toLogString(aiResponse));
 
@@ -104,39 +128,82 @@ public class BotRecommentService {
             validateAiResponse(aiResponse);
 
             // 7. 대댓글 저장 (CommentService의 createComment 활용)
-            Comment savedRecomment = saveRecomment(post.getId(), comment.getId(), aiResponse);
+            CommentResponseDto.CreateCommentResponse savedRecomment = saveRecomment(post.getId(), comment.getId(), aiResponse);
+            eventPublisher.publishEvent(new BotRecommentCompletedEvent(
+                    comment.getId(), savedRecomment.id(), savedRecomment.content()));
 
-            log.info("봇 대댓글 생성 완료 - commentId: {}, content: {}...",
+            log.info("봇 대댓글 생성 완료 - commentId: {}, recommentId: {}, content: {}...",
                     comment.getId(),
-                    savedRecomment.getContent().substring(0, Math.min(20, savedRecomment.getContent().length())));
+                    savedRecomment.id(),
+                    savedRecomment.content().substring(0, Math.min(20, savedRecomment.content().length())));
 
         } catch (CommentException e) {
             log.error("댓글 관련 오류 발생 - commentId: {}, error: {}",
                     event.getCommentId(), e.getMessage());
+            botRecommentStreamRegistry.fail(event.getCommentId());
             throw e;
         } catch (WebClientResponseException e) {
             log.error("AI 서버 통신 오류 - commentId: {}, status: {}, body: {}",
                     event.getCommentId(), e.getStatusCode(), e.getResponseBodyAsString());
+            botRecommentStreamRegistry.fail(event.getCommentId());
             throw new CommentException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "AI 서버 통신 오류");
         } catch (Exception e) {
             log.error("봇 대댓글 생성 중 예상치 못한 오류 발생 - commentId: {}", event.getCommentId(), e);
+            botRecommentStreamRegistry.fail(event.getCommentId());
             throw new CommentException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "봇 대댓글 생성 실패");
         }
     }
 
     /**
-     * 댓글의 대댓글 목록 조회
+     * 봇 대댓글 생성 과정을 구독합니다.
+     *
+     * <p>AI 서버 스트리밍이 켜져 있으면 생성 중인 내용을, 아니면 저장된 최종 내용만 SSE로 받습니다.
+     * 구독 이후의 완료 여부 확인이 커밋된 최신 값을 읽도록 트랜잭션 없이 실행합니다.</p>
+     *
+     * @param commentId 봇 게시글에 단 댓글 ID
+     * @return SSE emitter
+     * @throws CommentException 댓글이 없거나 봇 게시글의 댓글이 아닌 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeBotRecomment(Long commentId) {
+        Long postAuthorId = commentRepository.findPostAuthorIdById(commentId)
+                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId", "댓글을 찾을 수 없습니다."));
+        if (!BotConstants.BOT_MEMBER_ID.equals(postAuthorId)) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId", "봇 게시글에 달린 댓글이 아닙니다.");
+        }
+
+        return botRecommentStreamRegistry.subscribe(commentId,
+                () -> recommentRepository.existsByCommentIdAndMemberId(commentId, BotConstants.BOT_MEMBER_ID));
+    }
+
+    /**
+     * AI 요청에 포함할 최근 대댓글 컨텍스트를 조회합니다.
+     *
+     * <p>최근 {@code contextSize}개를 최신순으로 가져온 뒤, 내용 글자 수 합이 {@code contextCharBudget}을
+     * 넘지 않는 범위에서 최신 대댓글부터 채우고 작성 순서(오래된순)로 돌려줍니다.</p>
      *
      * @param commentId 댓글 ID
-     * @return 대댓글 목록
+     * @return 오래된순 대댓글 컨텍스트
      */
-    private List<Recomment> getRecommentsByCommentId(Long commentId) {
-        // CommentService의 getRecommentsByCommentId 메서드를 활용
-        // 하지만 해당 메서드는 페이징을 사용하므로 리포지토리 직접 호출이 더 효율적
-        // CommentService에 전체 대댓글 조회 메서드가 없으므로 새로 만들어야 할 수도 있음
+    private List<RecommentBotContext> loadRecommentContext(Long commentId) {
+        List<RecommentBotContext> latestFirst =
+                recommentRepository.findBotContextByCommentId(commentId, Limit.of(contextSize));
+
+        List<RecommentBotContext> selected = new ArrayList<>();
+        int usedChars = 0;
+        for (RecommentBotContext recomment : latestFirst) {
+            int length = recomment.content().length();
+            if (usedChars + length > contextCharBudget) {
+                break;
+            }
+            usedChars += length;
+            selected.add(recomment);
+        }
 
-        // 임시로 빈 리스트 반환 (실제 구현 시 수정 필요)
-        return List.of();
+        Collections.reverse(selected);
+        log.debug("대댓글 컨텍스트 - commentId: {}, 조회: {}, 사용: {}, 글자 수: {}",
+                commentId, latestFirst.size(), selected.size(), usedChars);
+        return selected;
     }
 
     /**
@@ -155,18 +222,7 @@ public class BotRecommentService {
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(request)
                 .retrieve()
-                .onStatus(
-                        status -> status.is4xxClientError(),
-                        response -> response.bodyToMono(BotRecommentRequestDto.ErrorResponse.class)
-                                .flatMap(errorResponse -> {
-                                    String errorMessage = BotRecommentConverter.getErrorMessage(errorResponse);
-                                    log.error("AI 서버 클라이언트 오류: {}", errorMessage);
-                                    return Mono.error(new CommentException(
-                                            GeneralErrorCode.INTERNAL_SERVER_ERROR,
-                                            errorMessage
-                                    ));
-                                })
-                )
+                .onStatus(status -> status.is4xxClientError(), this::toClientError)
                 .bodyToMono(BotRecommentRequestDto.AiRecommentResponse.class)
                 .timeout(Duration.ofSeconds(timeoutSeconds))
                 .retryWhen(Retry.backoff(retryAttempts, Duration.ofSeconds(retryDelaySeconds))
@@ -180,6 +236,85 @@ public class BotRecommentService {
                 .block();
     }
 
+    /**
+     * AI 서버 스트리밍 호출
+     *
+     * <p>NDJSON 또는 SSE로 전달되는 응답 조각을 이어 붙이며, 조각이 도착할 때마다 지금까지의 내용을
+     * 구독 중인 클라이언트에게 보냅니다. 저장은 스트림이 끝난 뒤 완성된 내용으로 한 번만 합니다.
+     * 타임아웃은 조각 사이의 최대 대기 시간이며, 이미 조각을 받은 뒤에는 내용이 중복되지 않도록 재시도하지 않습니다.</p>
+     *
+     * @param request AI 요청 DTO
+     * @param commentId 댓글 ID (구독 키)
+     * @return 완성된 내용을 담은 AI 응답 DTO
+     */
+    private BotRecommentRequestDto.AiRecommentResponse streamAiServerForRecommend(
+            BotRecommentRequestDto.CreateRecommentRequest request, Long commentId) {
+
+        String url = aiServerUrl + "/recomments/bot/stream";
+        StringBuilder content = new StringBuilder();
+
+        webClient.post()
+                .uri(url)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(), this::toClientError)
+                .bodyToFlux(BotRecommentRequestDto.AiRecommentChunk.class)
+                .takeUntil(BotRecommentRequestDto.AiRecommentChunk::done)
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .doOnNext(chunk -> {
+                    if (chunk.delta() == null || chunk.delta().isEmpty()) {
+                        return;
+                    }
+                    content.append(chunk.delta());
+                    if (content.length() > 2000) {
+                        // 저장할 수 없는 길이이므로 나머지 스트림을 받지 않고 중단
+                        throw new CommentException(CommentErrorCode.CONTENT_LENGTH_EXCEEDED);
+                    }
+                    if (botRecommentStreamRegistry.hasSubscribers(commentId)) {
+                        botRecommentStreamRegistry.publishPartial(commentId, content.toString());
+                    }
+                })
+                .retryWhen(Retry.backoff(retryAttempts, Duration.ofSeconds(retryDelaySeconds))
+                        .filter(throwable -> content.isEmpty() &&
+                                throwable instanceof WebClientResponseException &&
+                                ((WebClientResponseException) throwable).getStatusCode().is5xxServerError())
+                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
+                            log.error("AI 서버 재시도 횟수 초과");
+                            return new CommentException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "AI 서버 응답 없음");
+                        })
+                )
+                .blockLast();
+
+        return new BotRecommentRequestDto.AiRecommentResponse(null,
+                new BotRecommentRequestDto.AiResponseData(
+                        request.boardType(),
+                        request.post().id(),
+                        commentId,
+                        null,
+                        content.toString()
+                ));
+    }
+
+    /**
+     * AI 서버 4xx 응답을 CommentException으로 변환합니다.
+     *
+     * @param response AI 서버 응답
+     * @return CommentException을 담은 Mono
+     */
+    private Mono<Throwable> toClientError(ClientResponse response) {
+        return response.bodyToMono(BotRecommentRequestDto.ErrorResponse.class)
+                .flatMap(errorResponse -> {
+                    String errorMessage = BotRecommentConverter.getErrorMessage(errorResponse);
+                    log.error("AI 서버 클라이언트 오류: {}", errorMessage);
+                    return Mono.error(new CommentException(
+                            GeneralErrorCode.INTERNAL_SERVER_ERROR,
+                            errorMessage
+                    ));
+                });
+    }
+
     /**
      * AI 응답 검증
      *
@@ -206,11 +341,11 @@ public class BotRecommentService {
      * @param postId 게시글 ID
      * @param commentId 댓글 ID
      * @param response AI 응답
-     * @return 저장된 댓글(실제로는 대댓글) 엔티티
+     * @return 저장된 대댓글 응답 (대댓글 ID와 저장된 내용 포함)
      */
     @Transactional
-    protected Comment saveRecomment(Long postId, Long commentId,
-                                    BotRecommentRequestDto.AiRecommentResponse response) {
+    protected CommentResponseDto.CreateCommentResponse saveRecomment(Long postId, Long commentId,
+                                                                     BotRecommentRequestDto.AiRecommentResponse response) {
 
         // AI 응답을 대댓글 생성 요청 DTO로 변환
         CommentRequestDto.CreateCommentRequest recommentRequest =
@@ -218,11 +353,7 @@ public class BotRecommentService {
 
         // CommentService의 createComment 메서드를 사용하여 대댓글 생성
         // parent_id가 있으므로 자동으로 대댓글로 처리됨
-        CommentResponseDto.CreateCommentResponse recommentResponse =
-                commentService.createComment(BotConstants.BOT_MEMBER_ID, postId, recommentRequest);
-
-        // 생성된 대댓글 반환을 위해 조회
-        // CreateCommentResponse에는 id가 있지만 content 전체를 위해 다시 조회
-        return commentService.findById(recommentResponse.id());
+        // 응답에 대댓글 ID와 저장된 내용이 모두 있으므로 다시 조회하지 않음
+        return commentService.createComment(BotConstants.BOT_MEMBER_ID, postId, recommentRequest);
     }
 }
\ No newline at end of file
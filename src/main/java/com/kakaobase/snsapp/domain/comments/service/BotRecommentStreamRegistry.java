@@ -0,0 +1,166 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.event.BotRecommentCompletedEvent;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 봇 대댓글 스트리밍 구독 레지스트리
+ *
+ * <p>댓글 작성자는 SSE로 구독하여 AI 서버가 생성 중인 봇 대댓글을 조각이 도착할 때마다 받아봅니다.</p>
+ * <ul>
+ *     <li>{@code partial}: 지금까지 생성된 내용</li>
+ *     <li>{@code completed}: 저장된 대댓글 ID와 최종 내용 (트랜잭션 커밋 이후 전송)</li>
+ *     <li>{@code failed}: 생성 실패</li>
+ * </ul>
+ * <p>구독은 이 인스턴스의 메모리에만 존재하므로, 다른 인스턴스에서 생성된 대댓글은 타임아웃 후
+ * 대댓글 목록 조회로 확인합니다.</p>
+ */
+@Slf4j
+@Component
+public class BotRecommentStreamRegistry implements MeterBinder {
+
+    static final String PARTIAL_EVENT = "partial";
+    static final String COMPLETED_EVENT = "completed";
+    static final String FAILED_EVENT = "failed";
+
+    private final Map<Long, Set<SseEmitter>> subscriptions = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public BotRecommentStreamRegistry(@Value("${ai.bot.recomment.streaming.sse-timeout:60s}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bot.recomment.stream.subscribers", this, BotRecommentStreamRegistry::getSubscriberCount)
+                .description("봇 대댓글 스트리밍 구독 수")
+                .register(registry);
+    }
+
+    /**
+     * 댓글에 대한 봇 대댓글 생성을 구독합니다.
+     *
+     * <p>구독을 먼저 등록한 뒤 완료 여부를 확인하므로, 그 사이에 저장된 대댓글도 놓치지 않습니다.
+     * 이미 봇 대댓글이 있으면 내용 없이 {@code completed}를 보내고 연결을 종료합니다.</p>
+     *
+     * @param commentId 댓글 ID
+     * @param alreadyCompleted 봇 대댓글이 이미 저장되었는지 확인
+     * @return SSE emitter
+     */
+    public SseEmitter subscribe(Long commentId, BooleanSupplier alreadyCompleted) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscriptions.computeIfAbsent(commentId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(commentId, emitter));
+        emitter.onTimeout(() -> {
+            remove(commentId, emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(commentId, emitter));
+
+        if (alreadyCompleted.getAsBoolean()) {
+            remove(commentId, emitter);
+            sendAndComplete(commentId, emitter, SseEmitter.event().name(COMPLETED_EVENT).data(""));
+        }
+        return emitter;
+    }
+
+    /**
+     * 구독자가 있는지 확인합니다. 구독자가 없으면 조각마다 문자열을 만들 필요가 없습니다.
+     */
+    public boolean hasSubscribers(Long commentId) {
+        return subscriptions.containsKey(commentId);
+    }
+
+    /**
+     * 지금까지 생성된 내용을 구독자에게 보냅니다. 전송에 실패한 구독은 정리합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param content 지금까지 생성된 대댓글 내용
+     */
+    public void publishPartial(Long commentId, String content) {
+        Set<SseEmitter> targets = subscriptions.get(commentId);
+        if (targets == null) {
+            return;
+        }
+
+        CommentResponseDto.BotRecommentStreamResponse payload =
+                new CommentResponseDto.BotRecommentStreamResponse(null, content);
+        for (SseEmitter emitter : targets) {
+            try {
+                emitter.send(SseEmitter.event().name(PARTIAL_EVENT).data(payload));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("봇 대댓글 SSE 전송 실패 - commentId: {}, error: {}", commentId, e.getMessage());
+                remove(commentId, emitter);
+            }
+        }
+    }
+
+    /**
+     * 대댓글 저장이 커밋된 뒤 최종 내용을 보내고 구독을 종료합니다.
+     */
+    @TransactionalEventListener
+    public void handleBotRecommentCompleted(BotRecommentCompletedEvent event) {
+        Set<SseEmitter> targets = subscriptions.remove(event.commentId());
+        if (targets == null) {
+            return;
+        }
+
+        CommentResponseDto.BotRecommentStreamResponse payload =
+                new CommentResponseDto.BotRecommentStreamResponse(event.recommentId(), event.content());
+        targets.forEach(emitter ->
+                sendAndComplete(event.commentId(), emitter, SseEmitter.event().name(COMPLETED_EVENT).data(payload)));
+    }
+
+    /**
+     * 생성 실패를 알리고 구독을 종료합니다.
+     *
+     * @param commentId 댓글 ID
+     */
+    public void fail(Long commentId) {
+        Set<SseEmitter> targets = subscriptions.remove(commentId);
+        if (targets == null) {
+            return;
+        }
+
+        targets.forEach(emitter -> sendAndComplete(commentId, emitter, SseEmitter.event()
+                .name(FAILED_EVENT)
+                .data(GeneralErrorCode.INTERNAL_SERVER_ERROR.getErrorResponse())));
+    }
+
+    int getSubscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void sendAndComplete(Long commentId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("봇 대댓글 SSE 전송 실패 - commentId: {}, error: {}", commentId, e.getMessage());
+        }
+    }
+
+    private void remove(Long commentId, SseEmitter emitter) {
+        subscriptions.computeIfPresent(commentId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
@@ -1,19 +1,16 @@
 package com.kakaobase.snsapp.domain.comments.service;
 
 import com.kakaobase.snsapp.domain.comments.converter.CommentConverter;
-import com.kakaobase.snsapp.domain.comments.converter.LikeConverter;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
-import com.kakaobase.snsapp.domain.comments.entity.CommentLike;
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
-import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
-import com.kakaobase.snsapp.domain.comments.exception.CommentErrorCode;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 댓글 및 대댓글 좋아요 관련 비즈니스 로직을 처리하는 서비스
@@ -36,133 +32,119 @@ public class CommentLikeService {
     private final RecommentRepository recommentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final RecommentLikeRepository recommentLikeRepository;
-    private final LikeConverter likeConverter;
 
     /**
-     * 댓글에 좋아요를 추가합니다.
+     * 댓글에 좋아요를 추가합니다. 이미 좋아요한 댓글이면 아무것도 바꾸지 않습니다.
      *
      * @param commentId 댓글 ID
      * @param memberId 회원 ID
      * @return 좋아요 응답 DTO
-     * @throws CommentException 댓글이 없거나 이미 좋아요한 경우
+     * @throws CommentException 댓글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "comment", "action", "add"})
     @Transactional
     public CommentResponseDto.CommentLikeResponse addCommentLike(Long memberId, Long commentId) {
-        // 댓글 존재 여부 확인
+        // 삭제되지 않은 댓글에 한해 좋아요를 추가하고, 실제로 추가된 경우에만 좋아요 수 증가
+        boolean changed = commentLikeRepository.insertIfTargetActive(memberId, commentId) == 1;
+        if (changed) {
+            commentRepository.increaseLikeCount(commentId);
+        }
+
+        // 갱신된 좋아요 수를 조회하면서 댓글 존재 여부 확인
         Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
-
-        // 이미 좋아요한 경우 확인
-        if (commentLikeRepository.existsByMemberIdAndCommentId(memberId, commentId)) {
-            throw new CommentException(CommentErrorCode.ALREADY_LIKED);
+        // IGNORE는 외래 키 위반도 0건으로 바꾸므로, 좋아요가 실제로 있는 경우만 이미 좋아요한 것으로 처리
+        if (!changed && !commentLikeRepository.existsByMemberIdAndCommentId(memberId, commentId)) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "memberId");
         }
 
-        // 좋아요 엔티티 생성 및 저장
-        CommentLike commentLike = likeConverter.toCommentLikeEntity(memberId, commentId);
-        commentLikeRepository.save(commentLike);
-
-        // 댓글 좋아요 수 증가
-        comment.increaseLikeCount();
-        commentRepository.save(comment);
-
         log.info("댓글 좋아요 추가 완료: 댓글 ID={}, 회원 ID={}", commentId, memberId);
 
         return new CommentResponseDto.CommentLikeResponse(true, comment.getLikeCount());
     }
 
     /**
-     * 댓글 좋아요를 취소합니다.
+     * 댓글 좋아요를 취소합니다. 좋아요하지 않은 댓글이면 아무것도 바꾸지 않습니다.
      *
      * @param commentId 댓글 ID
      * @param memberId 회원 ID
      * @return 좋아요 응답 DTO
-     * @throws CommentException 댓글이 없거나 좋아요하지 않은 경우
+     * @throws CommentException 댓글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "comment", "action", "remove"})
     @Transactional
     public CommentResponseDto.CommentLikeResponse removeCommentLike(Long memberId, Long commentId) {
-        // 댓글 존재 여부 확인
+        // 실제로 삭제된 경우에만 좋아요 수 감소
+        boolean changed = commentLikeRepository.deleteIfPresent(memberId, commentId) == 1;
+        if (changed) {
+            commentRepository.decreaseLikeCount(commentId);
+        }
+
+        // 갱신된 좋아요 수를 조회하면서 댓글 존재 여부 확인
         Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
 
-        // 좋아요 존재 여부 확인
-        CommentLike commentLike = commentLikeRepository.findByMemberIdAndCommentId(memberId, commentId)
-                .orElseThrow(() -> new CommentException(CommentErrorCode.ALREADY_UNLIKED));
-
-        // 좋아요 삭제
-        commentLikeRepository.delete(commentLike);
-
-        // 댓글 좋아요 수 감소
-        comment.decreaseLikeCount();
-        commentRepository.save(comment);
-
         log.info("댓글 좋아요 취소 완료: 댓글 ID={}, 회원 ID={}", commentId, memberId);
 
         return new CommentResponseDto.CommentLikeResponse(false, comment.getLikeCount());
     }
 
     /**
-     * 대댓글에 좋아요를 추가합니다.
+     * 대댓글에 좋아요를 추가합니다. 이미 좋아요한 대댓글이면 아무것도 바꾸지 않습니다.
      *
      * @param recommentId 대댓글 ID
      * @param memberId 회원 ID
      * @return 좋아요 응답 DTO
-     * @throws CommentException 대댓글이 없거나 이미 좋아요한 경우
+     * @throws CommentException 대댓글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "recomment", "action", "add"})
     @Transactional
     public CommentResponseDto.RecommentLikeResponse addRecommentLike(Long memberId, Long recommentId) {
-        // 대댓글 존재 여부 확인
+        // 삭제되지 않은 대댓글에 한해 좋아요를 추가하고, 실제로 추가된 경우에만 좋아요 수 증가
+        boolean changed = recommentLikeRepository.insertIfTargetActive(memberId, recommentId) == 1;
+        if (changed) {
+            recommentRepository.increaseLikeCount(recommentId);
+        }
+
+        // 갱신된 좋아요 수를 조회하면서 대댓글 존재 여부 확인
         Recomment recomment = recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
-
-        // 이미 좋아요한 경우 확인
-        if (recommentLikeRepository.existsByMemberIdAndRecommentId(memberId, recommentId)) {
-            throw new CommentException(CommentErrorCode.ALREADY_LIKED);
+        // IGNORE는 외래 키 위반도 0건으로 바꾸므로, 좋아요가 실제로 있는 경우만 이미 좋아요한 것으로 처리
+        if (!changed && !recommentLikeRepository.existsByMemberIdAndRecommentId(memberId, recommentId)) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "memberId");
         }
 
-        // 좋아요 엔티티 생성 및 저장
-        RecommentLike recommentLike = likeConverter.toRecommentLikeEntity(memberId, recommentId);
-        recommentLikeRepository.save(recommentLike);
-
-        // 대댓글 좋아요 수 증가
-        recomment.increaseLikeCount();
-        recommentRepository.save(recomment);
-
         log.info("대댓글 좋아요 추가 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
 
         return new CommentResponseDto.RecommentLikeResponse(true, recomment.getLikeCount());
     }
 
     /**
-     * 대댓글 좋아요를 취소합니다.
+     * 대댓글 좋아요를 취소합니다. 좋아요하지 않은 대댓글이면 아무것도 바꾸지 않습니다.
      *
      * @param recommentId 대댓글 ID
      * @param memberId 회원 ID
      * @return 좋아요 응답 DTO
-     * @throws CommentException 대댓글이 없거나 좋아요하지 않은 경우
+     * @throws CommentException 대댓글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "recomment", "action", "remove"})
     @Transactional
     public CommentResponseDto.RecommentLikeResponse removeRecommentLike(Long memberId, Long recommentId) {
-        // 대댓글 존재 여부 확인
+        // 실제로 삭제된 경우에만 좋아요 수 감소
+        boolean changed = recommentLikeRepository.deleteIfPresent(memberId, recommentId) == 1;
+        if (changed) {
+            recommentRepository.decreaseLikeCount(recommentId);
+        }
+
+        // 갱신된 좋아요 수를 조회하면서 대댓글 존재 여부 확인
         Recomment recomment = recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
 
-        // 좋아요 존재 여부 확인
-        RecommentLike recommentLike = recommentLikeRepository.findByMemberIdAndRecommentId(memberId, recommentId)
-                .orElseThrow(() -> new CommentException(CommentErrorCode.ALREADY_UNLIKED));
-
-        // 좋아요 삭제
-        recommentLikeRepository.delete(recommentLike);
-
-        // 대댓글 좋아요 수 감소
-        recomment.decreaseLikeCount();
-        recommentRepository.save(recomment);
-
         log.info("대댓글 좋아요 취소 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
 
         return new CommentResponseDto.RecommentLikeResponse(false, recomment.getLikeCount());
     }
 
-
     /**
      * 회원이 특정 댓글 목록 중 좋아요한 댓글 ID 목록을 조회합니다.
      *
@@ -15,10 +15,12 @@ import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.service.PostService;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventPublisher;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +42,7 @@ public class CommentService {
     private final CommentConverter commentConverter;
     private final PostService postService;
     private final CommentLikeService commentLikeService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     private static final int DEFAULT_PAGE_SIZE = 12;
     private final CommentLikeRepository commentLikeRepository;
@@ -103,7 +105,7 @@ public class CommentService {
         log.info("댓글 생성 완료: 댓글 ID={}, 작성자 ID={}, 게시글 ID={}",
                 savedComment.getId(), memberId, postId);
 
-        // 댓글 생성 이벤트 발행 (대댓글이 아닌 경우에만)
+        // 댓글 생성 이벤트 기록 (대댓글이 아닌 경우에만, 커밋 이후 아웃박스 디스패처가 전달)
         CommentCreatedEvent event = new CommentCreatedEvent(
                 savedComment.getId(),
                 postId,
@@ -112,9 +114,9 @@ public class CommentService {
                 savedComment.getContent(),
                 savedComment.getCreatedAt()
         );
-        eventPublisher.publishEvent(event);
+        outboxEventPublisher.publish(OutboxEventType.COMMENT_CREATED, savedComment.getId(), event);
 
-        log.debug("댓글 생성 이벤트 발행: {}", event);
+        log.debug("댓글 생성 이벤트 기록: {}", event);
 
         return commentConverter.toCreateCommentResponse(savedComment);
     }
@@ -204,6 +206,7 @@ public class CommentService {
      * @param pageRequest 페이지 요청 정보
      * @return 댓글 목록 응답 DTO
      */
+    @Timed(value = "comments.list", description = "댓글 목록 조회 소요 시간")
     public CommentResponseDto.CommentListResponse getCommentsByPostId(Long memberId, Long postId, CommentRequestDto.CommentPageRequest pageRequest) {
         // 게시글 존재 확인
         Post post = postService.findById(postId);
@@ -231,9 +234,28 @@ public class CommentService {
         // 다음 커서 설정
         Long nextCursor = hasNext ? pageComments.get(pageComments.size() - 1).getId() : null;
 
-        // 개별 댓글 정보를 가져와서 CommentInfo 리스트 생성
+        // 좋아요 여부를 한 번에 조회
+        List<Long> commentIds = pageComments.stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        Set<Long> likedCommentIds = new HashSet<>(commentLikeService.getLikedCommentIdsByMember(memberId, commentIds));
+
+        // 작성자를 한 번에 조회 (댓글마다 지연 로딩 쿼리가 나가지 않도록)
+        List<Long> authorIds = pageComments.stream()
+                .map(comment -> comment.getMember().getId())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Member> authorsById = memberRepository.findAllByIdIn(authorIds).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+
+        // CommentInfo 리스트 생성
         List<CommentResponseDto.CommentInfo> commentInfoList = pageComments.stream()
-                .map(comment -> getCommentInfo(memberId, comment.getId()))
+                .map(comment -> commentConverter.toCommentInfo(
+                        comment,
+                        authorsById.getOrDefault(comment.getMember().getId(), comment.getMember()),
+                        comment.getMember().getId().equals(memberId),
+                        likedCommentIds.contains(comment.getId())
+                ))
                 .collect(Collectors.toList());
 
         // CommentListResponse 생성하여 반환
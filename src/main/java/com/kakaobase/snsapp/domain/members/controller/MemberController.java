@@ -1,8 +1,13 @@
 package com.kakaobase.snsapp.domain.members.controller;
 
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.dto.CommentActivity;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentActivity;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.service.MemberActivityService;
 import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.domain.posts.dto.PostActivity;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -29,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
+    private final MemberActivityService memberActivityService;
 
     @Operation(summary = "회원가입", description = "새로운 회원을 등록합니다")
     @ApiResponses(value = {
@@ -101,6 +108,62 @@ public class MemberController {
         return CustomResponse.success("프로필 이미지가 성공적으로 변경되었습니다.", newImageUrl);
     }
 
+    @Operation(summary = "회원 작성 게시글 조회", description = "회원이 작성한 게시글 중 조회하는 사용자가 접근할 수 있는 게시판의 게시글을 최신순으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 limit, cursor 또는 post_type"),
+            @ApiResponse(responseCode = "401", description = "로그인 되지 않음"),
+            @ApiResponse(responseCode = "403", description = "접근할 수 없는 게시판")
+    })
+    @GetMapping("/{userId}/posts")
+    public CustomResponse<MemberResponseDto.ActivityPage<PostActivity>> getUserPosts(
+            @Parameter(description = "회원 ID") @PathVariable Long userId,
+            @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "게시판 유형 (생략 시 전체)") @RequestParam(name = "post_type", required = false) String postType,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return CustomResponse.success("작성한 게시글을 성공적으로 조회했습니다.",
+                memberActivityService.getPosts(userId, userDetails, postType, limit, cursor));
+    }
+
+    @Operation(summary = "회원 작성 댓글 조회", description = "회원이 작성한 댓글 중 조회하는 사용자가 접근할 수 있는 게시판의 댓글을 최신순으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 limit 또는 cursor"),
+            @ApiResponse(responseCode = "401", description = "로그인 되지 않음")
+    })
+    @GetMapping("/{userId}/comments")
+    public CustomResponse<MemberResponseDto.ActivityPage<CommentActivity>> getUserComments(
+            @Parameter(description = "회원 ID") @PathVariable Long userId,
+            @Parameter(description = "한 페이지에 표시할 댓글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return CustomResponse.success("작성한 댓글을 성공적으로 조회했습니다.",
+                memberActivityService.getComments(userId, userDetails, limit, cursor));
+    }
+
+    @Operation(summary = "회원 작성 대댓글 조회", description = "회원이 작성한 대댓글 중 조회하는 사용자가 접근할 수 있는 게시판의 대댓글을 최신순으로 조회합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 limit 또는 cursor"),
+            @ApiResponse(responseCode = "401", description = "로그인 되지 않음")
+    })
+    @GetMapping("/{userId}/recomments")
+    public CustomResponse<MemberResponseDto.ActivityPage<RecommentActivity>> getUserRecomments(
+            @Parameter(description = "회원 ID") @PathVariable Long userId,
+            @Parameter(description = "한 페이지에 표시할 대댓글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) String cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return CustomResponse.success("작성한 대댓글을 성공적으로 조회했습니다.",
+                memberActivityService.getRecomments(userId, userDetails, limit, cursor));
+    }
+
 
     @Operation(summary = "회원탈퇴", description = "기존 회원을 탈퇴시킵니다")
     @ApiResponses(value = {
@@ -0,0 +1,28 @@
+package com.kakaobase.snsapp.domain.members.dto;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+
+/**
+ * AI 봇 요청에 필요한 회원 정보 프로젝션
+ *
+ * <p>봇 게시글/대댓글 생성 시 작성자 정보를 엔티티 전체 대신 필요한 컬럼만 조회하기 위해 사용합니다.</p>
+ *
+ * @param id 회원 ID
+ * @param nickname 닉네임
+ * @param profileImgUrl 프로필 이미지 URL
+ * @param className 기수
+ */
+public record MemberBotInfo(
+        Long id,
+        String nickname,
+        String profileImgUrl,
+        Member.ClassName className
+) {
+
+    /**
+     * @return 기수 이름 (AI 서버 요청 형식)
+     */
+    public String classNameValue() {
+        return className.name();
+    }
+}
@@ -3,6 +3,8 @@ package com.kakaobase.snsapp.domain.members.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
 /**
  * 회원 응답 DTO
  */
@@ -61,4 +63,19 @@ public class MemberResponseDto {
                 @JsonProperty("image_url")
                 String profileImageUrl
         ){}
-}
\ No newline at end of file
+
+    @Schema(description = "회원 활동 피드 응답 DTO")
+    public record ActivityPage<T>(
+            @Schema(description = "활동 목록")
+            @JsonProperty("items")
+            List<T> items,
+
+            @Schema(description = "다음 페이지 존재 여부", example = "true")
+            @JsonProperty("has_next")
+            boolean hasNext,
+
+            @Schema(description = "다음 페이지 커서", nullable = true)
+            @JsonProperty("next_cursor")
+            String nextCursor
+    ) {}
+}
@@ -1,9 +1,11 @@
 package com.kakaobase.snsapp.domain.members.entity;
 
 import com.kakaobase.snsapp.global.common.entity.BaseSoftDeletableEntity;
+import com.kakaobase.snsapp.global.common.entity.IdSequences;
 import jakarta.persistence.*;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.*;
 import org.hibernate.annotations.*;
 
@@ -14,7 +16,8 @@ import org.hibernate.annotations.*;
         indexes = {
                 @Index(name = "idx_email_not_deleted", columnList = "email, deleted_at"),
                 @Index(name = "idx_nickname_not_deleted", columnList = "nickname, deleted_at"),
-                @Index(name = "idx_role_not_deleted", columnList = "role, deleted_at")
+                @Index(name = "idx_role_not_deleted", columnList = "role, deleted_at"),
+                @Index(name = "idx_profile_img_url", columnList = "profile_img_url")
         }
 )
 @Getter
@@ -25,7 +28,10 @@ import org.hibernate.annotations.*;
 public class Member extends BaseSoftDeletableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "members_id")
+    @TableGenerator(name = "members_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "members", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -1,11 +1,13 @@
 package com.kakaobase.snsapp.domain.members.repository;
 
+import com.kakaobase.snsapp.domain.members.dto.MemberBotInfo;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -95,6 +97,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     List<Member> findAllByIdIn(List<Long> ids);
 
+    /**
+     * 여러 회원의 봇 요청용 정보(닉네임, 프로필 이미지, 기수)를 한 번에 조회합니다.
+     * 엔티티 대신 필요한 컬럼만 프로젝션합니다.
+     *
+     * @param ids 조회할 회원 ID 목록
+     * @return 봇 요청용 회원 정보 목록
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.members.dto.MemberBotInfo(m.id, m.nickname, m.profileImgUrl, m.className) " +
+            "FROM Member m WHERE m.id IN :ids")
+    List<MemberBotInfo> findBotInfoByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 닉네임 일부로 회원을 검색하고 결과 수를 제한합니다.
      * 회원 검색 기능에 사용되며, 대소문자를 구분하지 않고 일부만 일치해도 결과에 포함됩니다.
@@ -124,4 +137,15 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return 조회된 회원 엔티티 목록
      */
     List<Member> findAllByNicknameIn(List<String> nicknames);
+
+    /**
+     * 주어진 URL 중 프로필 이미지로 쓰이는 URL을 조회합니다. (인덱스: idx_profile_img_url 사용)
+     * S3 정리 시 참조 확인에 사용되며, 탈퇴 회원의 프로필도 참조로 봅니다.
+     *
+     * @param imageUrls 확인할 이미지 URL 목록
+     * @return 참조 중인 URL 목록 (중복 제거)
+     */
+    @Query(value = "SELECT DISTINCT profile_img_url FROM members WHERE profile_img_url IN (:imageUrls)",
+            nativeQuery = true)
+    List<String> findReferencedProfileImgUrls(@Param("imageUrls") Collection<String> imageUrls);
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.dto.CommentActivity;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentActivity;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.exception.MemberException;
+import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
+import com.kakaobase.snsapp.domain.posts.dto.PostActivity;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.common.pagination.KeysetCursor;
+import com.kakaobase.snsapp.global.common.pagination.KeysetSlice;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 회원 프로필의 활동 피드(작성 게시글/댓글/대댓글)를 조회하는 서비스입니다.
+ *
+ * <p>모든 피드는 (작성 시각, ID) {@link KeysetCursor}로 페이징하며 {@link KeysetSlice}로 limit + 1건을 조회해
+ * 다음 페이지 여부를 판단하므로 COUNT 쿼리를 실행하지 않습니다.</p>
+ *
+ * <p>조회하는 사용자가 접근할 수 없는 게시판(다른 기수 게시판)의 게시글과 그 게시글에 달린 댓글/대댓글은 제외합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberActivityService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final RecommentRepository recommentRepository;
+    private final AccessChecker accessChecker;
+
+    /**
+     * 회원이 작성한 게시글 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param viewer 조회하는 사용자
+     * @param postType 게시판 타입 (null이거나 all이면 접근 가능한 전체 게시판)
+     * @param limit 한 페이지 크기
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 null)
+     * @return 게시글 활동 피드
+     * @throws CustomException 접근할 수 없는 게시판을 지정한 경우
+     */
+    public MemberResponseDto.ActivityPage<PostActivity> getPosts(
+            Long memberId, CustomUserDetails viewer, String postType, int limit, String cursor) {
+        validateLimit(limit);
+        List<Post.BoardType> boardTypes = toBoardTypes(postType, viewer);
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+
+        List<PostActivity> rows = postRepository.findActivityByMemberId(
+                memberId, boardTypes, decoded.createdAt(), decoded.id(), KeysetSlice.probe(limit));
+
+        return toPage(rows, limit, PostActivity::createdAt, PostActivity::id);
+    }
+
+    /**
+     * 회원이 작성한 댓글 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param viewer 조회하는 사용자
+     * @param limit 한 페이지 크기
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 null)
+     * @return 댓글 활동 피드
+     */
+    public MemberResponseDto.ActivityPage<CommentActivity> getComments(
+            Long memberId, CustomUserDetails viewer, int limit, String cursor) {
+        validateLimit(limit);
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+
+        List<CommentActivity> rows = commentRepository.findActivityByMemberId(
+                memberId, accessChecker.findAccessibleBoards(viewer),
+                decoded.createdAt(), decoded.id(), KeysetSlice.probe(limit));
+
+        return toPage(rows, limit, CommentActivity::createdAt, CommentActivity::id);
+    }
+
+    /**
+     * 회원이 작성한 대댓글 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param viewer 조회하는 사용자
+     * @param limit 한 페이지 크기
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 null)
+     * @return 대댓글 활동 피드
+     */
+    public MemberResponseDto.ActivityPage<RecommentActivity> getRecomments(
+            Long memberId, CustomUserDetails viewer, int limit, String cursor) {
+        validateLimit(limit);
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+
+        List<RecommentActivity> rows = recommentRepository.findActivityByMemberId(
+                memberId, accessChecker.findAccessibleBoards(viewer),
+                decoded.createdAt(), decoded.id(), KeysetSlice.probe(limit));
+
+        return toPage(rows, limit, RecommentActivity::createdAt, RecommentActivity::id);
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1) {
+            throw new MemberException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 조회할 게시판 목록을 결정합니다. 특정 게시판을 지정하면 해당 게시판 접근 권한을 검증합니다.
+     */
+    private List<Post.BoardType> toBoardTypes(String postType, CustomUserDetails viewer) {
+        if (postType == null) {
+            return accessChecker.findAccessibleBoards(viewer);
+        }
+        Post.BoardType boardType = PostConverter.toBoardType(postType);
+        if (boardType == Post.BoardType.ALL) {
+            return accessChecker.findAccessibleBoards(viewer);
+        }
+        if (!accessChecker.hasAccessToBoard(boardType.name(), viewer)) {
+            throw new CustomException(GeneralErrorCode.FORBIDDEN);
+        }
+        return List.of(boardType);
+    }
+
+    private <T> MemberResponseDto.ActivityPage<T> toPage(
+            List<T> rows, int limit, Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        KeysetSlice<T> slice = KeysetSlice.of(rows, limit);
+        String nextCursor = slice.nextCursor(last -> new KeysetCursor(createdAt.apply(last), id.apply(last)).encode());
+        return new MemberResponseDto.ActivityPage<>(slice.content(), slice.hasNext(), nextCursor);
+    }
+}
@@ -0,0 +1,25 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.global.common.s3.service.S3ObjectReferenceChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 회원 프로필 이미지(members.profile_img_url)가 참조하는 S3 객체를 정리 대상에서 제외합니다.
+ *
+ * <p>여러 회원이 같은 기본 이미지를 쓰는 경우, 한 회원이 교체해도 다른 회원이 참조하므로 삭제되지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberProfileImageReferenceChecker implements S3ObjectReferenceChecker {
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public Collection<String> findReferencedUrls(Collection<String> imageUrls) {
+        return memberRepository.findReferencedProfileImgUrls(imageUrls);
+    }
+}
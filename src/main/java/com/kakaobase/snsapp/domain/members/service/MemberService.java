@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.domain.members.service;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
+import com.kakaobase.snsapp.domain.members.dto.MemberBotInfo;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -10,6 +11,8 @@ import com.kakaobase.snsapp.domain.members.exception.MemberErrorCode;
 import com.kakaobase.snsapp.domain.members.exception.MemberException;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.global.common.email.service.EmailVerificationService;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.service.S3Service;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +23,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,6 +42,7 @@ public class MemberService {
     private final MemberConverter memberConverter;
     private final EmailVerificationService emailVerificationService;
     private final PasswordEncoder passwordEncoder;
+    private final S3Service s3Service;
 
     /**
      * 회원 가입 처리
@@ -186,15 +192,34 @@ public class MemberService {
      */
     @Transactional(readOnly = true)
     public BotRecommentRequestDto.UserInfo getMemberBotInfo(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "memberId"));
+        MemberBotInfo botInfo = getMemberBotInfoMap(List.of(memberId)).get(memberId);
+        if (botInfo == null) {
+            throw new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "memberId");
+        }
 
         return new BotRecommentRequestDto.UserInfo(
-                member.getNickname(),
-                member.getClassName()
+                botInfo.nickname(),
+                botInfo.classNameValue()
         );
     }
 
+    /**
+     * 여러 회원의 봇 요청용 정보를 한 번의 프로젝션 쿼리로 조회합니다.
+     * 봇 게시글/대댓글 생성 시 작성자별 개별 조회를 피하기 위해 사용합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID를 키로 하는 봇 요청용 회원 정보 맵 (존재하지 않는 회원은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, MemberBotInfo> getMemberBotInfoMap(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return memberRepository.findBotInfoByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(MemberBotInfo::id, Function.identity()));
+    }
+
     @Transactional
     public void unregister() {
         log.debug("회원탈퇴 처리 시작");
@@ -248,6 +273,11 @@ public class MemberService {
         member.updateGithubUrl(request.githubUrl());
     }
 
+    /**
+     * 프로필 이미지를 변경합니다.
+     * 이전 이미지는 정리 후보로 등록되며, 다른 회원이나 게시글이 참조하지 않을 때만 삭제됩니다.
+     */
+    @Transactional
     public MemberResponseDto.ProfileImageChange changProfileImageUrl(MemberRequestDto.@Valid ProfileImageChange request) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
@@ -255,8 +285,13 @@ public class MemberService {
         Member member = memberRepository.findById(Long.valueOf(userDetails.getId()))
                 .orElseThrow(() -> new MemberException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
+        String previousImageUrl = member.getProfileImgUrl();
         member.updateProfile(request.imageUrl());
 
+        if (previousImageUrl != null && !previousImageUrl.equals(request.imageUrl())) {
+            s3Service.scheduleDeletion(previousImageUrl, S3GcReason.REPLACED_PROFILE_IMAGE);
+        }
+
         return new MemberResponseDto.ProfileImageChange(request.imageUrl());
     }
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.service.PostLikeService;
 import com.kakaobase.snsapp.domain.posts.service.PostService;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import com.kakaobase.snsapp.global.security.authorization.AccessRule;
+import com.kakaobase.snsapp.global.security.authorization.CheckAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,12 +21,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -48,7 +51,7 @@ public class PostController {
      */
     @GetMapping("/{postType}")
     @Operation(summary = "게시글 목록 조회", description = "게시판 유형별로 게시글 목록을 조회합니다.")
-    @PreAuthorize("isAuthenticated() && @accessChecker.hasAccessToBoard(#postType, authentication.principal)")
+    @CheckAccess(AccessRule.BOARD)
     public ResponseEntity<PostResponseDto.PostListResponse> getPosts(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
@@ -63,9 +66,27 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 로그인한 회원이 좋아요한 게시글 목록을 조회합니다.
+     * 커서 기반 페이지네이션을 적용합니다.
+     */
+    @GetMapping("/liked")
+    @Operation(summary = "좋아요한 게시글 목록 조회", description = "로그인한 회원이 좋아요한 게시글 목록을 조회합니다.")
+    public ResponseEntity<PostResponseDto.LikedPostListResponse> getLikedPosts(
+            @Parameter(description = "한 페이지에 표시할 게시글 수") @RequestParam(defaultValue = "12") int limit,
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        PostResponseDto.LikedPostListResponse response = postService.getLikedPostList(memberId, limit, cursor);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{postType}/{postId}")
     @Operation(summary = "게시글 상세 조회", description = "게시글의 상세 정보를 조회합니다.")
-    @PreAuthorize("isAuthenticated() && @accessChecker.hasAccessToBoard(#postType, authentication.principal)")
+    @CheckAccess(AccessRule.BOARD)
     public ResponseEntity<PostResponseDto.PostDetailResponse> getPostDetail(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
@@ -83,7 +104,7 @@ public class PostController {
      */
     @PostMapping("/{postType}")
     @Operation(summary = "게시글 생성", description = "새 게시글을 생성합니다.")
-    @PreAuthorize("isAuthenticated() && @accessChecker.hasAccessToBoard(#postType, authentication.principal)")
+    @CheckAccess(AccessRule.BOARD)
     public ResponseEntity<PostResponseDto.PostCreateResponse> createPost(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Valid @RequestBody PostRequestDto.PostCreateRequestDto requestDto,
@@ -111,11 +132,9 @@ public class PostController {
         // 작성자 정보 조회
         Map<String, String> userInfo = postService.getMemberInfo(memberId);
 
-        String ImageUrl = requestDto.image_url();
-
         // 응답 생성
         PostResponseDto.PostCreateResponse response = PostConverter.toPostCreateResponse(
-                createdPost, userInfo, ImageUrl,false);
+                createdPost, userInfo, requestDto.imageUrls(), false);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -125,7 +144,7 @@ public class PostController {
      */
     @DeleteMapping("/{postType}/{postId}")
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
-    @PreAuthorize("isAuthenticated() && @accessChecker.hasAccessToBoard(#postType, authentication.principal) and @accessChecker.isPostOwner(#postId, authentication.principal)")
+    @CheckAccess({AccessRule.BOARD, AccessRule.POST_OWNER})
     public ResponseEntity<PostResponseDto.PostDeleteResponse> deletePost(
             @Parameter(description = "게시판 유형") @PathVariable String postType,
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
@@ -148,7 +167,7 @@ public class PostController {
      */
     @PostMapping("/{postId}/likes")
     @Operation(summary = "게시글 좋아요 추가", description = "게시글에 좋아요를 추가합니다.")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     public ResponseEntity<PostResponseDto.PostLikeResponse> addLike(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -170,7 +189,7 @@ public class PostController {
      */
     @DeleteMapping("/{postId}/likes")
     @Operation(summary = "게시글 좋아요 취소", description = "게시글 좋아요를 취소합니다.")
-    @PreAuthorize("isAuthenticated()")
+    @CheckAccess
     public ResponseEntity<PostResponseDto.PostLikeResponse> removeLike(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -208,7 +227,7 @@ public class PostController {
             @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다."),
             @ApiResponse(responseCode = "500", description = "서버에 문제가 발생하였습니다.")
     })
-    @PreAuthorize("isAuthenticated() && @accessChecker.isPostOwner(#postId, authentication.principal)")
+    @CheckAccess(AccessRule.POST_OWNER)
     public ResponseEntity<CustomResponse<PostResponseDto.YouTubeSummaryResponse>> summarizeYoutube(
             @PathVariable Long postId,
             @AuthenticationPrincipal CustomUserDetails userDetails
@@ -222,4 +241,33 @@ public class PostController {
         // 성공 응답 반환
         return ResponseEntity.ok(CustomResponse.success("유튜브 요약에 성공하였습니다.", response));
     }
-}
\ No newline at end of file
+
+    /**
+     * YouTube 영상 요약 완료를 구독합니다.
+     *
+     * <p>요약 결과를 반복 조회하는 대신 SSE 연결을 열어 두면, 요약이 저장되는 즉시
+     * {@code summary} 이벤트(요약 내용) 또는 {@code summary_failed} 이벤트(실패 사유)를 한 번 보내고 연결을 종료합니다.
+     * 이미 요약된 게시글은 바로 결과를 보냅니다.</p>
+     *
+     * @param postId 요약을 기다릴 게시글의 ID
+     * @return SSE 스트림
+     * @throws PostException 게시글을 찾을 수 없거나, 권한이 없거나, YouTube URL이 없는 경우
+     */
+    @GetMapping(value = "/{postId}/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "YouTube 영상 요약 구독", description = "YouTube 영상 요약이 완료되면 SSE로 결과를 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "요약 완료 시 summary 또는 summary_failed 이벤트를 전송합니다."),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요한 요청입니다."),
+            @ApiResponse(responseCode = "403", description = "본인의 글만 요약 가능합니다."),
+            @ApiResponse(responseCode = "404", description = "해당 게시글을 찾을 수 없습니다.")
+    })
+    @CheckAccess(AccessRule.POST_OWNER)
+    public ResponseEntity<SseEmitter> subscribeYoutubeSummary(@PathVariable Long postId) {
+        SseEmitter emitter = postService.subscribeYoutubeSummary(postId);
+
+        // 프록시(Nginx) 버퍼링으로 이벤트가 지연되지 않도록 설정
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
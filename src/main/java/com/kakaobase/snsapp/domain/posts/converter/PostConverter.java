@@ -1,14 +1,17 @@
 package com.kakaobase.snsapp.domain.posts.converter;
 
+import com.kakaobase.snsapp.domain.posts.dto.PostImageUrls;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.entity.PostImage;
+import com.kakaobase.snsapp.domain.posts.event.PostImagesUploadedEvent;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 /**
  * Post 도메인의 Entity와 DTO 간 변환을 담당하는 Converter 클래스
@@ -66,11 +69,44 @@ public class PostConverter {
                 .build();
     }
 
+    /**
+     * 이미지 URL 목록을 첨부 순서대로 게시글 이미지 엔티티 목록으로 변환합니다.
+     *
+     * @param post 게시글 엔티티
+     * @param imageUrls 이미지 URL 목록 (첫 번째가 대표 이미지)
+     * @return sortIndex가 0부터 매겨진 이미지 엔티티 목록
+     */
+    public static List<PostImage> toPostImages(
+            Post post,
+            List<String> imageUrls) {
+
+        return IntStream.range(0, imageUrls.size())
+                .mapToObj(i -> toPostImage(post, i, imageUrls.get(i)))
+                .toList();
+    }
+
+    /**
+     * 저장된 게시글 이미지 목록을 이미지 변환 요청 이벤트로 변환합니다.
+     *
+     * @param postId 게시글 ID
+     * @param postImages 저장된 이미지 엔티티 목록 (ID 발급 완료)
+     * @return 이미지 업로드 완료 이벤트
+     */
+    public static PostImagesUploadedEvent toPostImagesUploadedEvent(
+            Long postId,
+            List<PostImage> postImages) {
+
+        return new PostImagesUploadedEvent(postId, postImages.stream()
+                .map(postImage -> new PostImagesUploadedEvent.Image(postImage.getId(), postImage.getImgUrl()))
+                .toList());
+    }
+
     /**
      * Post 엔티티를 상세 응답 DTO로 변환합니다.
      *
      * @param post 게시글 엔티티
      * @param userInfo 작성자 정보 (닉네임, 프로필 이미지 등)
+     * @param images 이미지 원본/변환본 URL 목록 (첨부 순서)
      * @param isMine 본인 게시글 여부
      * @param isLiked 좋아요 여부
      * @param isFollowing 작성자 팔로우 여부
@@ -79,7 +115,7 @@ public class PostConverter {
     public static PostResponseDto.PostDetailResponse toPostDetailResponse(
             Post post,
             Map<String, String> userInfo,
-            List<PostImage> postImages,
+            List<PostImageUrls> images,
             boolean isMine,
             boolean isLiked,
             boolean isFollowing) {
@@ -92,16 +128,18 @@ public class PostConverter {
                 isFollowing
         );
 
-        // 이미지 URL 가져오기 (첫 번째 이미지만 사용)
-        String imageUrl = postImages.isEmpty() ? null : postImages.get(0).getImgUrl();
-
+        List<String> imageUrls = images.stream()
+                .map(PostImageUrls::imgUrl)
+                .toList();
 
         // 상세 정보 생성
         PostResponseDto.PostDetail data = new PostResponseDto.PostDetail(
                 post.getId(),
                 user,
                 post.getContent(),
-                imageUrl,
+                imageUrls.isEmpty() ? null : imageUrls.get(0),
+                imageUrls,
+                images.stream().map(PostConverter::toImageVariants).toList(),
                 post.getYoutubeUrl(),
                 post.getYoutubeSummary(),
                 post.getCreatedAt(),
@@ -122,6 +160,7 @@ public class PostConverter {
      *
      * @param post 게시글 엔티티
      * @param userInfo 작성자 정보
+     * @param firstImage 대표 이미지 원본/변환본 URL (이미지가 없으면 null)
      * @param isLiked 좋아요 여부
      * @param isFollowing 팔로우 여부
      * @param isMine 본인 게시글 여부
@@ -130,7 +169,7 @@ public class PostConverter {
     public static PostResponseDto.PostListItem toPostListItem(
             Post post,
             Map<String, String> userInfo,
-            String imageUrl,
+            PostImageUrls firstImage,
             boolean isLiked,
             boolean isFollowing,
             boolean isMine) {
@@ -152,7 +191,8 @@ public class PostConverter {
                 post.getId(),
                 user,
                 post.getContent(),
-                imageUrl,
+                firstImage == null ? null : firstImage.feedUrl(),
+                firstImage == null ? null : toImageVariants(firstImage),
                 post.getYoutubeUrl(),
                 post.getYoutubeSummary(),
                 post.getCreatedAt(),
@@ -163,18 +203,34 @@ public class PostConverter {
         );
     }
 
+    /**
+     * 이미지 원본/변환본 URL을 응답 DTO로 변환합니다.
+     *
+     * @param image 이미지 원본/변환본 URL
+     * @return 이미지 변환본 응답 DTO
+     */
+    public static PostResponseDto.ImageVariants toImageVariants(PostImageUrls image) {
+        return new PostResponseDto.ImageVariants(
+                image.imgUrl(),
+                image.thumbnailUrl(),
+                image.mediumUrl(),
+                image.largeUrl()
+        );
+    }
+
     /**
      * Post 엔티티를 생성 응답 DTO로 변환합니다.
      *
      * @param post 생성된 게시글 엔티티
      * @param userInfo 작성자 정보 (닉네임, 프로필 이미지 등)
+     * @param imageUrls 첨부한 이미지 URL 목록 (첨부 순서)
      * @param isFollowing 작성자 팔로우 여부
      * @return 게시글 생성 응답 DTO
      */
     public static PostResponseDto.PostCreateResponse toPostCreateResponse(
             Post post,
             Map<String, String> userInfo,
-            String imageUrl,
+            List<String> imageUrls,
             boolean isFollowing) {
 
         // 사용자 정보 생성
@@ -190,7 +246,12 @@ public class PostConverter {
                 post.getId(),
                 user,
                 post.getContent(),
-                imageUrl,
+                imageUrls.isEmpty() ? null : imageUrls.get(0),
+                imageUrls,
+                // 변환본은 커밋 이후 비동기로 만들어지므로 생성 응답에는 원본만 담는다
+                imageUrls.stream()
+                        .map(imageUrl -> new PostResponseDto.ImageVariants(imageUrl, null, null, null))
+                        .toList(),
                 post.getYoutubeUrl(),
                 post.getYoutubeSummary(),
                 post.getCreatedAt(),
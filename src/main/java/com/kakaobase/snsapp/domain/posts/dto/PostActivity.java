@@ -0,0 +1,32 @@
+package com.kakaobase.snsapp.domain.posts.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 활동 피드의 게시글 프로젝션
+ *
+ * <p>프로필의 작성 게시글 목록에 필요한 컬럼만 조회하며, 작성자/이미지/좋아요 여부는 조회하지 않습니다.</p>
+ *
+ * @param id 게시글 ID
+ * @param boardType 게시판 타입
+ * @param content 게시글 내용
+ * @param likeCount 좋아요 수
+ * @param commentCount 댓글 수
+ * @param createdAt 작성 시각
+ */
+public record PostActivity(
+        Long id,
+        @JsonProperty("board_type")
+        Post.BoardType boardType,
+        String content,
+        @JsonProperty("like_count")
+        Integer likeCount,
+        @JsonProperty("comment_count")
+        Integer commentCount,
+        @JsonProperty("created_at")
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,29 @@
+package com.kakaobase.snsapp.domain.posts.dto;
+
+/**
+ * 게시글 이미지의 원본/변환본 URL 프로젝션
+ *
+ * <p>목록과 상세 조회는 이미지 엔티티 대신 URL 컬럼만 조회합니다.
+ * 게시글당 이미지 수가 늘어나도 목록 조회 비용은 게시글 수에만 비례합니다.</p>
+ *
+ * @param postId 게시글 ID
+ * @param imgUrl 원본 URL
+ * @param thumbnailUrl 썸네일 변환본 URL (변환 전이거나 변환할 수 없는 이미지는 null)
+ * @param mediumUrl 중간 크기 변환본 URL (변환 전이거나 변환할 수 없는 이미지는 null)
+ * @param largeUrl 큰 크기 변환본 URL (변환 전이거나 변환할 수 없는 이미지는 null)
+ */
+public record PostImageUrls(
+        Long postId,
+        String imgUrl,
+        String thumbnailUrl,
+        String mediumUrl,
+        String largeUrl
+) {
+
+    /**
+     * 피드 카드에 쓸 URL을 반환합니다. 중간 크기 변환본이 있으면 그것을, 아직 변환 전이면 원본을 씁니다.
+     */
+    public String feedUrl() {
+        return mediumUrl != null ? mediumUrl : imgUrl;
+    }
+}
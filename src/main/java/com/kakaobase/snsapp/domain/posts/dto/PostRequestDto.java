@@ -4,12 +4,20 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
 
 /**
  * 게시글 도메인의 요청 DTO를 관리하는 통합 클래스
  */
 public class PostRequestDto {
 
+    /**
+     * 게시글 하나에 첨부할 수 있는 최대 이미지 수
+     */
+    public static final int MAX_IMAGES = 10;
+
     /**
      * 게시글 생성 요청 DTO
      */
@@ -19,12 +27,38 @@ public class PostRequestDto {
             @Size(max = 2000, message = "게시글 본문은 최대 2000자까지 작성할 수 있습니다.")
             String content,
 
-            @Schema(description = "이미지 URL", example = "https://s3.amazonaws.com/bucket/uploads/dev.jpg", required = false)
+            @Schema(description = "이미지 URL (단일 이미지, image_urls가 있으면 무시)", example = "https://s3.amazonaws.com/bucket/uploads/dev.jpg", required = false)
             String image_url,
 
+            @Schema(description = "이미지 URL 목록 (첫 번째 이미지가 대표 이미지)", example = "[\"https://s3.amazonaws.com/bucket/uploads/dev.jpg\"]", required = false)
+            @Size(max = MAX_IMAGES, message = "이미지는 최대 " + MAX_IMAGES + "장까지 첨부할 수 있습니다.")
+            List<String> image_urls,
+
             @Schema(description = "유튜브 URL", example = "https://www.youtube.com/watch?v=abcd1234", required = false)
             String youtube_url
     ) {
+        /**
+         * 단일 이미지 요청을 생성합니다.
+         */
+        public PostCreateRequestDto(String content, String image_url, String youtube_url) {
+            this(content, image_url, null, youtube_url);
+        }
+
+        /**
+         * 첨부 순서대로 정리한 이미지 URL 목록을 반환합니다.
+         * image_urls가 있으면 그것을, 없으면 image_url 한 장을 사용하며 빈 값은 제외합니다.
+         *
+         * @return 이미지 URL 목록 (없으면 빈 목록)
+         */
+        public List<String> imageUrls() {
+            if (image_urls != null && !image_urls.isEmpty()) {
+                return image_urls.stream()
+                        .filter(StringUtils::hasText)
+                        .toList();
+            }
+            return StringUtils.hasText(image_url) ? List.of(image_url) : List.of();
+        }
+
         /**
          * 게시글 내용이 비어있는지 검증합니다.
          * 내용, 이미지, 유튜브 링크 중 하나는 반드시 존재해야 합니다.
@@ -33,7 +67,7 @@ public class PostRequestDto {
          */
         public boolean isEmpty() {
             return (content == null || content.isBlank())
-                    && (image_url == null || image_url.isBlank())
+                    && imageUrls().isEmpty()
                     && (youtube_url == null || youtube_url.isBlank());
         }
 
@@ -36,10 +36,18 @@ public class PostResponseDto {
             @Schema(description = "게시글 내용", example = "오늘도 Typescript 공부 중입니다.")
             String content,
 
-            @Schema(description = "이미지 URL", example = "https://s3.../uploads/dev.jpg")
+            @Schema(description = "대표 이미지 URL", example = "https://s3.../uploads/dev.jpg")
             @JsonProperty("image_url")
             String imageUrl,
 
+            @Schema(description = "이미지 URL 목록 (첨부 순서)", example = "[\"https://s3.../uploads/dev.jpg\"]")
+            @JsonProperty("image_urls")
+            List<String> imageUrls,
+
+            @Schema(description = "이미지별 크기 변환본 URL 목록 (image_urls와 같은 순서)")
+            @JsonProperty("images")
+            List<ImageVariants> images,
+
             @Schema(description = "유튜브 URL", example = "https://www.youtube.com/watch?v=abcd1234")
             @JsonProperty("youtube_url")
             String youtubeUrl,
@@ -81,6 +89,26 @@ public class PostResponseDto {
             List<PostListItem> data
     ) {}
 
+    /**
+     * 좋아요한 게시글 목록 조회 응답 DTO
+     */
+    @Schema(description = "좋아요한 게시글 목록 조회 응답")
+    public record LikedPostListResponse(
+            @Schema(description = "응답 메시지", example = "좋아요한 게시글을 불러오는데 성공하였습니다")
+            String message,
+
+            @Schema(description = "게시글 목록 데이터")
+            List<PostListItem> data,
+
+            @Schema(description = "다음 페이지 존재 여부", example = "true")
+            @JsonProperty("has_next")
+            boolean hasNext,
+
+            @Schema(description = "다음 페이지 커서", example = "102", nullable = true)
+            @JsonProperty("next_cursor")
+            Long nextCursor
+    ) {}
+
     @Schema(description = "게시글 목록 아이템")
     public record PostListItem(
             @Schema(description = "게시글 ID", example = "123")
@@ -92,10 +120,14 @@ public class PostResponseDto {
             @Schema(description = "게시글 내용", example = "이벤트 버블링 헷갈릴 때는...")
             String content,
 
-            @Schema(description = "이미지 URL", example = "https://s3.../event-tip.png")
+            @Schema(description = "이미지 URL (피드용 변환본, 변환 전이면 원본)", example = "https://s3.../event-tip_m.jpg")
             @JsonProperty("image_url")
             String imageUrl,
 
+            @Schema(description = "대표 이미지의 크기 변환본 URL (이미지가 없으면 null)", nullable = true)
+            @JsonProperty("image")
+            ImageVariants image,
+
             @Schema(description = "유튜브 URL", example = "https://www.youtube.com/watch?v=abcd1234")
             @JsonProperty("youtube_url")
             String youtubeUrl,
@@ -129,6 +161,30 @@ public class PostResponseDto {
 //            List<String> whoLiked
     ) {}
 
+    /**
+     * 이미지 원본과 크기별 변환본 URL DTO
+     *
+     * <p>변환본은 업로드 이후 비동기로 만들어지므로, 아직 처리 전이거나 변환할 수 없는 이미지는 변환본 URL이 null입니다.
+     * 클라이언트는 화면 크기에 맞는 변환본을 쓰고, 없으면 원본을 사용합니다.</p>
+     */
+    @Schema(description = "이미지 원본과 크기별 변환본 URL")
+    public record ImageVariants(
+            @Schema(description = "원본 URL", example = "https://s3.../uploads/dev.jpg")
+            String url,
+
+            @Schema(description = "정사각형 썸네일 URL (320px)", example = "https://s3.../uploads/dev_thumb.jpg", nullable = true)
+            @JsonProperty("thumbnail_url")
+            String thumbnailUrl,
+
+            @Schema(description = "중간 크기 URL (너비 720px)", example = "https://s3.../uploads/dev_m.jpg", nullable = true)
+            @JsonProperty("medium_url")
+            String mediumUrl,
+
+            @Schema(description = "큰 크기 URL (너비 1280px)", example = "https://s3.../uploads/dev_l.jpg", nullable = true)
+            @JsonProperty("large_url")
+            String largeUrl
+    ) {}
+
     /**
      * 사용자 정보 DTO
      */
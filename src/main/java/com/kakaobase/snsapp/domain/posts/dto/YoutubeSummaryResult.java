@@ -0,0 +1,53 @@
+package com.kakaobase.snsapp.domain.posts.dto;
+
+import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * YouTube 요약 결과
+ *
+ * <p>요약 성공 시 {@code summary}를, 실패 시 {@code failure} 상태를 가집니다.
+ * 게시글에는 {@link #storedValue()}가 저장됩니다.</p>
+ *
+ * @param summary 요약 내용 (실패 시 null)
+ * @param failure 실패 상태 (성공 시 null)
+ */
+public record YoutubeSummaryResult(String summary, YoutubeSummaryStatus failure) {
+
+    private static final Map<String, YoutubeSummaryStatus> STATUS_BY_NAME = Arrays.stream(YoutubeSummaryStatus.values())
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+    public static YoutubeSummaryResult success(String summary) {
+        return new YoutubeSummaryResult(summary, null);
+    }
+
+    public static YoutubeSummaryResult failure(YoutubeSummaryStatus status) {
+        return new YoutubeSummaryResult(null, status);
+    }
+
+    /**
+     * 게시글에 저장된 값을 요약 결과로 복원합니다.
+     *
+     * @param storedValue youtube_summary 컬럼 값 (null 불가)
+     * @return 실패 상태 이름이면 실패 결과, 그 외에는 성공 결과
+     */
+    public static YoutubeSummaryResult fromStoredValue(String storedValue) {
+        YoutubeSummaryStatus status = STATUS_BY_NAME.get(storedValue);
+        return status != null ? failure(status) : success(storedValue);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * @return 게시글의 youtube_summary 컬럼에 저장할 값 (요약 내용 또는 실패 상태 이름)
+     */
+    public String storedValue() {
+        return isSuccess() ? summary : failure.name();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kakaobase.snsapp.domain.posts.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리되지 않은 봇 게시글 생성 요청 엔티티
+ * <p>
+ * 게시판별로 최대 한 행만 존재하며, 게시글 수 임계값에 도달하면 기록되고
+ * 봇 게시글 생성 트랜잭션에서 함께 삭제됩니다. 서버가 재시작되어 메모리의 예약 작업이 사라져도
+ * BotPostScheduler가 남아 있는 요청을 다시 예약합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "bot_post_triggers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BotPostTrigger {
+
+    @Id
+    @Column(name = "board_type", length = 20)
+    @Enumerated(EnumType.STRING)
+    private Post.BoardType boardType;
+
+    /**
+     * 마지막으로 요청된 시각. 생성 작업 시작 이후에 들어온 요청은 삭제되지 않고 남습니다.
+     */
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+}
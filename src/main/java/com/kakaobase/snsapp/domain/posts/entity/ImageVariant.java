@@ -0,0 +1,56 @@
+package com.kakaobase.snsapp.domain.posts.entity;
+
+/**
+ * 게시글 이미지 변환본 종류
+ *
+ * <p>원본은 클라이언트가 S3에 직접 올린 그대로 두고, 업로드 이후 아래 크기의 변환본을 만들어
+ * {@link PostImage}의 변환본 URL 컬럼에 기록합니다. 원본보다 큰 크기로 확대하지는 않습니다.</p>
+ */
+public enum ImageVariant {
+
+    /**
+     * 정사각형으로 가운데를 잘라낸 썸네일 (프로필 그리드 등)
+     */
+    THUMBNAIL(320, true, "thumb"),
+
+    /**
+     * 너비 기준 중간 크기 (피드 카드)
+     */
+    MEDIUM(720, false, "m"),
+
+    /**
+     * 너비 기준 큰 크기 (고해상도 화면의 피드/상세)
+     */
+    LARGE(1280, false, "l");
+
+    private final int width;
+    private final boolean square;
+    private final String keySuffix;
+
+    ImageVariant(int width, boolean square, String keySuffix) {
+        this.width = width;
+        this.square = square;
+        this.keySuffix = keySuffix;
+    }
+
+    /**
+     * @return 목표 너비 (정사각형이면 한 변의 길이)
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * @return 가운데를 정사각형으로 잘라내는지 여부
+     */
+    public boolean square() {
+        return square;
+    }
+
+    /**
+     * @return 원본 객체 키 뒤에 붙는 변환본 구분자
+     */
+    public String keySuffix() {
+        return keySuffix;
+    }
+}
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.posts.entity;
 
 import com.kakaobase.snsapp.global.common.entity.BaseSoftDeletableEntity;
+import com.kakaobase.snsapp.global.common.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -34,7 +35,10 @@ public class Post extends BaseSoftDeletableEntity {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "posts_id")
+    @TableGenerator(name = "posts_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "posts", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "member_id", nullable = false)
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.posts.entity;
 
 import com.kakaobase.snsapp.global.common.entity.BaseUpdateTimeEntity;
+import com.kakaobase.snsapp.global.common.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
  * 게시글 이미지 정보를 담는 엔티티
  * <p>
  * 게시글에 첨부된 이미지의 URL과 순서 정보를 관리합니다.
+ * 원본 URL과 함께, 업로드 이후 생성한 크기별 변환본 URL을 보관합니다.
  * BaseUpdateTimeEntity를 상속받아 생성 시간, 수정 시간 정보를 관리합니다.
  * </p>
  */
@@ -18,7 +20,8 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "post_imgs",
         indexes = {
-                @Index(name = "idx_post_sort", columnList = "post_id, sort_index")
+                @Index(name = "idx_post_sort", columnList = "post_id, sort_index"),
+                @Index(name = "idx_post_img_url", columnList = "img_url")
         }
 )
 @Getter
@@ -26,7 +29,10 @@ import lombok.NoArgsConstructor;
 public class PostImage extends BaseUpdateTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_imgs_id")
+    @TableGenerator(name = "post_imgs_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "post_imgs", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -39,6 +45,18 @@ public class PostImage extends BaseUpdateTimeEntity {
     @Column(name = "img_url", nullable = false, length = 512)
     private String imgUrl;
 
+    /**
+     * 변환본 URL ({@link ImageVariant}) - 업로드 후 처리 전이거나 변환할 수 없는 이미지는 null
+     */
+    @Column(name = "thumbnail_url", length = 512)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 512)
+    private String mediumUrl;
+
+    @Column(name = "large_url", length = 512)
+    private String largeUrl;
+
     /**
      * 이미지 정보 생성을 위한 생성자
      *
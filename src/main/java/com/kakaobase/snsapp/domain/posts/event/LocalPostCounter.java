@@ -0,0 +1,112 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 카운터 관리 (단일 인스턴스용)
+ *
+ * <p>게시판별로 게시글 수를 JVM 메모리에서 카운트하여 봇 게시글 생성 조건을 관리합니다.
+ * 인스턴스마다 따로 집계되고 재시작 시 초기화되므로, 여러 인스턴스로 운영할 때는
+ * {@link RedisPostCounter}를 사용합니다. ({@code app.bot.post-counter.store=redis})</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.bot.post-counter.store", havingValue = "local", matchIfMissing = true)
+public class LocalPostCounter implements PostCounter {
+
+    /**
+     * 게시판별 카운터 맵
+     *
+     * <p>스레드 안전성을 위해 ConcurrentHashMap과 AtomicInteger를 사용합니다.</p>
+     */
+    private final Map<Post.BoardType, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 카운터를 증가시키고 임계값 도달 여부를 반환합니다.
+     *
+     * <p>증가와 리셋을 하나의 CAS 연산으로 처리하므로,
+     * 동시에 호출되어도 임계값 도달은 정확히 한 스레드에서만 관측됩니다.</p>
+     *
+     * @param boardType 게시판 타입
+     * @param threshold 임계값
+     * @return 이번 증가로 임계값에 도달하여 카운터가 리셋되었으면 true
+     */
+    @Override
+    public boolean incrementAndCheckThreshold(Post.BoardType boardType, int threshold) {
+        AtomicInteger counter = counters.computeIfAbsent(boardType, k -> new AtomicInteger(0));
+
+        int current;
+        int next;
+        boolean reached;
+        do {
+            current = counter.get();
+            reached = current + 1 >= threshold;
+            next = reached ? 0 : current + 1;
+        } while (!counter.compareAndSet(current, next));
+
+        log.debug("카운터 증가 - boardType: {}, count: {}, reached: {}", boardType, current + 1, reached);
+        return reached;
+    }
+
+    /**
+     * 게시글 카운터 리셋
+     *
+     * <p>지정된 게시판의 카운터를 0으로 초기화합니다.</p>
+     *
+     * @param boardType 게시판 타입
+     */
+    @Override
+    public void reset(Post.BoardType boardType) {
+        counters.computeIfAbsent(boardType, k -> new AtomicInteger(0)).set(0);
+        log.debug("카운터 리셋 - boardType: {}", boardType);
+    }
+
+    /**
+     * 현재 카운터 값 조회
+     *
+     * <p>지정된 게시판의 현재 카운터 값을 반환합니다.</p>
+     *
+     * @param boardType 게시판 타입
+     * @return 현재 카운터 값
+     */
+    @Override
+    public int getCount(Post.BoardType boardType) {
+        AtomicInteger counter = counters.get(boardType);
+        int count = (counter != null) ? counter.get() : 0;
+        log.debug("카운터 조회 - boardType: {}, count: {}", boardType, count);
+        return count;
+    }
+
+    /**
+     * 모든 카운터 리셋
+     *
+     * <p>모든 게시판의 카운터를 0으로 초기화합니다.
+     * 주로 테스트나 초기화 작업에 사용됩니다.</p>
+     */
+    public void resetAll() {
+        counters.forEach((boardType, counter) -> counter.set(0));
+        log.info("모든 카운터 리셋 완료");
+    }
+
+    /**
+     * 카운터 상태 정보 반환
+     *
+     * <p>디버깅용으로 모든 게시판의 카운터 상태를 문자열로 반환합니다.</p>
+     *
+     * @return 카운터 상태 문자열
+     */
+    public String getStatus() {
+        StringBuilder status = new StringBuilder("PostCounter Status: ");
+        counters.forEach((boardType, counter) ->
+                status.append(String.format("[%s: %d] ", boardType, counter.get()))
+        );
+        return status.toString();
+    }
+}
\ No newline at end of file
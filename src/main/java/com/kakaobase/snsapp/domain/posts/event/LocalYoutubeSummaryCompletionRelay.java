@@ -0,0 +1,28 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import com.kakaobase.snsapp.domain.posts.service.YoutubeSummarySubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 단일 인스턴스용 YouTube 요약 완료 전달
+ *
+ * <p>요약을 처리한 인스턴스의 구독자에게만 전달합니다.
+ * 다중 인스턴스 환경에서는 {@link RedisYoutubeSummaryCompletionRelay}를 사용합니다.
+ * ({@code app.youtube-summary.notify.store=redis})</p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.youtube-summary.notify.store", havingValue = "local", matchIfMissing = true)
+public class LocalYoutubeSummaryCompletionRelay {
+
+    private final YoutubeSummarySubscriptionRegistry subscriptionRegistry;
+
+    @TransactionalEventListener
+    public void handleYoutubeSummaryCompleted(YoutubeSummaryCompletedEvent event) {
+        subscriptionRegistry.deliver(event.postId(), YoutubeSummaryResult.fromStoredValue(event.summary()));
+    }
+}
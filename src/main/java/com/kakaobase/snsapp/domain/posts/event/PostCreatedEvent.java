@@ -1,8 +1,9 @@
 package com.kakaobase.snsapp.domain.posts.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
 
 import java.time.LocalDateTime;
 
@@ -10,10 +11,11 @@ import java.time.LocalDateTime;
  * 게시글 생성 이벤트
  *
  * <p>게시글이 생성될 때 발행되는 이벤트입니다.
- * 모든 게시글(봇 포함)이 5개 생성될 때마다 봇 게시글을 추가로 생성합니다.</p>
+ * 모든 게시글(봇 포함)이 5개 생성될 때마다 봇 게시글을 추가로 생성합니다.
+ * 게시글과 같은 트랜잭션에서 아웃박스에 JSON으로 기록된 뒤 PostEventListener로 전달됩니다.</p>
  */
 @Getter
-public class PostCreatedEvent extends ApplicationEvent {
+public class PostCreatedEvent {
 
     /**
      * 생성된 게시글 ID
@@ -38,28 +40,31 @@ public class PostCreatedEvent extends ApplicationEvent {
     /**
      * PostCreatedEvent 생성자
      *
-     * @param source 이벤트 소스 (일반적으로 이벤트를 발행하는 객체)
      * @param postId 생성된 게시글 ID
      * @param boardType 게시판 타입
      * @param memberId 작성자 ID
      */
-    public PostCreatedEvent(Object source, Long postId, Post.BoardType boardType, Long memberId) {
-        super(source);
-        this.postId = postId;
-        this.boardType = boardType;
-        this.memberId = memberId;
-        this.createdAt = LocalDateTime.now();
+    public PostCreatedEvent(Long postId, Post.BoardType boardType, Long memberId) {
+        this(postId, boardType, memberId, LocalDateTime.now());
     }
 
     /**
-     * 간편 생성자 (source를 postId로 사용)
+     * 아웃박스 페이로드 역직렬화용 생성자
      *
      * @param postId 생성된 게시글 ID
      * @param boardType 게시판 타입
      * @param memberId 작성자 ID
+     * @param createdAt 이벤트 발생 시각
      */
-    public PostCreatedEvent(Long postId, Post.BoardType boardType, Long memberId) {
-        this(postId, postId, boardType, memberId);
+    @JsonCreator
+    public PostCreatedEvent(@JsonProperty("postId") Long postId,
+                            @JsonProperty("boardType") Post.BoardType boardType,
+                            @JsonProperty("memberId") Long memberId,
+                            @JsonProperty("createdAt") LocalDateTime createdAt) {
+        this.postId = postId;
+        this.boardType = boardType;
+        this.memberId = memberId;
+        this.createdAt = createdAt;
     }
 
     /**
@@ -1,63 +1,67 @@
 package com.kakaobase.snsapp.domain.posts.event;
 
 import com.kakaobase.snsapp.domain.posts.entity.Post;
-import com.kakaobase.snsapp.domain.posts.service.BotPostService;
+import com.kakaobase.snsapp.domain.posts.service.BotPostScheduler;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 /**
  * 게시글 생성 이벤트 리스너
  *
- * <p>모든 게시글(봇 포함) 생성 이벤트를 처리하여 5개마다 봇 게시글을 생성합니다.</p>
+ * <p>모든 게시글(봇 포함) 생성 이벤트를 처리하여 5개마다 봇 게시글을 생성합니다.
+ * 이벤트는 아웃박스를 통해 게시글 커밋 이후에 전달됩니다.
+ * 카운터는 메모리 상태이므로 재전달 시 중복 집계될 수 있으며, 이는 봇 게시글 생성 시점이 앞당겨지는 정도로 허용합니다.
+ * 봇 게시글 생성 요청은 이벤트 처리 완료 전에 DB에 기록되므로, 이후 서버가 재시작되어도 봇 게시글 생성이 누락되지 않습니다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class PostEventListener {
+public class PostEventListener implements OutboxEventHandler<PostCreatedEvent> {
 
     private final PostCounter postCounter;
-    private final BotPostService botPostService;
+    private final BotPostScheduler botPostScheduler;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.POST_CREATED;
+    }
+
+    @Override
+    public Class<PostCreatedEvent> getPayloadType() {
+        return PostCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(PostCreatedEvent event) {
+        handlePostCreated(event);
+    }
 
     /**
      * 게시글 생성 이벤트 처리
      *
      * <p>모든 게시글(봇 포함)이 생성될 때마다 카운터를 증가시키고,
-     * 5개가 되면 봇 게시글을 생성합니다.</p>
+     * 임계값에 도달하면 봇 게시글 생성을 요청합니다.</p>
      *
      * @param event 게시글 생성 이벤트
      */
-    @EventListener
-    @Async
     public void handlePostCreated(PostCreatedEvent event) {
         log.info("게시글 생성 이벤트 처리 시작 - postId: {}, boardType: {}, memberId: {}",
                 event.getPostId(), event.getBoardType(), event.getMemberId());
 
-        try {
-            Post.BoardType boardType = event.getBoardType();
-
-            // 모든 게시글에 대해 카운터 증가
-            int currentCount = postCounter.increment(boardType);
-            log.info("게시글 카운터 증가 - boardType: {}, currentCount: {}", boardType, currentCount);
-
-            // 카운터가 5에 도달한 경우
-            if (currentCount >= BotConstants.POST_COUNT_THRESHOLD) {
-                log.info("게시글 5개 도달 - 봇 게시글 생성 시작. boardType: {}", boardType);
-
-                // 카운터 먼저 리셋 (봇 게시글 생성 실패해도 리셋은 보장)
-                postCounter.reset(boardType);
-                log.info("카운터 리셋 완료 - boardType: {}", boardType);
+        Post.BoardType boardType = event.getBoardType();
 
-                // 봇 게시글 생성
-                botPostService.createBotPost(boardType);
-            }
+        // 카운터 증가와 임계값 도달 시 리셋을 원자적으로 처리 (동시 이벤트가 중복으로 봇 게시글을 만들지 않도록)
+        boolean thresholdReached = postCounter.incrementAndCheckThreshold(boardType, BotConstants.POST_COUNT_THRESHOLD);
+        if (thresholdReached) {
+            log.info("게시글 수 임계값 도달, 카운터 리셋 - 봇 게시글 생성 요청. boardType: {}", boardType);
 
-        } catch (Exception e) {
-            log.error("게시글 생성 이벤트 처리 중 오류 발생", e);
-            // 이벤트 처리 실패가 게시글 생성에 영향을 주지 않도록 예외 처리
+            // 봇 게시글 생성 요청을 DB에 기록한 뒤 예약 (게시판별로 병합/디바운스되어 실행)
+            // 기록에 실패하면 예외를 전파하여 아웃박스가 이벤트를 다시 전달
+            botPostScheduler.requestGeneration(boardType);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.service.PostImageVariantService;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 이미지 업로드 이벤트 리스너
+ *
+ * <p>게시글 커밋 이후 아웃박스를 통해 전달된 이미지의 변환본을 생성합니다.
+ * 변환 작업이 거부되거나 S3 처리 중 예외가 발생하면 아웃박스가 재시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostImageVariantEventListener implements OutboxEventHandler<PostImagesUploadedEvent> {
+
+    private final PostImageVariantService postImageVariantService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.POST_IMAGES_UPLOADED;
+    }
+
+    @Override
+    public Class<PostImagesUploadedEvent> getPayloadType() {
+        return PostImagesUploadedEvent.class;
+    }
+
+    @Override
+    public void handle(PostImagesUploadedEvent event) {
+        log.info("게시글 이미지 변환 이벤트 처리: postId={}, 이미지 수={}", event.postId(), event.images().size());
+        postImageVariantService.generateVariants(event.images());
+    }
+}
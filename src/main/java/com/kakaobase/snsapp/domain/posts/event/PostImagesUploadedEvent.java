@@ -0,0 +1,22 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import java.util.List;
+
+/**
+ * 게시글 이미지 업로드 완료 이벤트
+ *
+ * <p>이미지가 첨부된 게시글이 생성될 때 게시글과 같은 트랜잭션에서 아웃박스에 기록됩니다.
+ * 변환 워커가 DB를 다시 읽지 않도록 이미지 ID와 원본 URL을 함께 담습니다.</p>
+ *
+ * @param postId 게시글 ID
+ * @param images 변환할 이미지 목록
+ */
+public record PostImagesUploadedEvent(Long postId, List<Image> images) {
+
+    /**
+     * @param id 이미지 ID
+     * @param url 원본 이미지 URL
+     */
+    public record Image(Long id, String url) {
+    }
+}
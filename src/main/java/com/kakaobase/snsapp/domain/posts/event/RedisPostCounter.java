@@ -0,0 +1,64 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 기반 게시글 카운터 (다중 인스턴스용)
+ *
+ * <p>모든 인스턴스가 같은 Redis 키를 공유하므로 배포/재시작 후에도 카운트가 유지되고,
+ * 인스턴스 수와 관계없이 게시판 전체 기준으로 봇 게시글 생성 시점이 결정됩니다.
+ * 증가와 리셋은 Lua 스크립트 한 번으로 실행되어 노드 간에도 원자적입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.bot.post-counter.store", havingValue = "redis")
+public class RedisPostCounter implements PostCounter {
+
+    private static final String KEY_PREFIX = "bot:post-counter:";
+
+    /**
+     * INCR 후 임계값에 도달하면 0으로 리셋하고 1을 반환합니다.
+     */
+    private static final RedisScript<Long> INCREMENT_AND_CHECK = RedisScript.of("""
+            local count = redis.call('INCR', KEYS[1])
+            if count >= tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], 0)
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean incrementAndCheckThreshold(Post.BoardType boardType, int threshold) {
+        Long reached = redisTemplate.execute(INCREMENT_AND_CHECK, List.of(key(boardType)), String.valueOf(threshold));
+        log.debug("카운터 증가 - boardType: {}, reached: {}", boardType, reached);
+        return reached != null && reached == 1L;
+    }
+
+    @Override
+    public int getCount(Post.BoardType boardType) {
+        String value = redisTemplate.opsForValue().get(key(boardType));
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+
+    @Override
+    public void reset(Post.BoardType boardType) {
+        redisTemplate.opsForValue().set(key(boardType), "0");
+        log.debug("카운터 리셋 - boardType: {}", boardType);
+    }
+
+    private String key(Post.BoardType boardType) {
+        return KEY_PREFIX + boardType.name();
+    }
+}
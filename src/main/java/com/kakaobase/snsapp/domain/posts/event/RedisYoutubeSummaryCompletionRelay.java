@@ -0,0 +1,84 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import com.kakaobase.snsapp.domain.posts.service.YoutubeSummarySubscriptionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis pub/sub 기반 YouTube 요약 완료 전달
+ *
+ * <p>요약은 아웃박스 워커가 있는 아무 인스턴스에서나 완료될 수 있으므로,
+ * 완료 이벤트를 채널로 발행하고 모든 인스턴스가 자신에게 연결된 구독자에게 전달합니다.
+ * 발행이 유실되더라도 클라이언트는 재연결 시 저장된 요약을 바로 받습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.youtube-summary.notify.store", havingValue = "redis")
+public class RedisYoutubeSummaryCompletionRelay implements MessageListener, InitializingBean, DisposableBean {
+
+    static final String CHANNEL = "youtube:summary:completed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final YoutubeSummarySubscriptionRegistry subscriptionRegistry;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+    public RedisYoutubeSummaryCompletionRelay(StringRedisTemplate redisTemplate,
+                                              RedisConnectionFactory connectionFactory,
+                                              ObjectMapper objectMapper,
+                                              YoutubeSummarySubscriptionRegistry subscriptionRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+
+    @TransactionalEventListener
+    public void handleYoutubeSummaryCompleted(YoutubeSummaryCompletedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // 구독자는 타임아웃 후 재연결하며 저장된 요약을 받으므로 로컬 구독자에게만 전달
+            log.warn("YouTube 요약 완료 발행 실패 - postId: {}, error: {}", event.postId(), e.getMessage());
+            subscriptionRegistry.deliver(event.postId(), YoutubeSummaryResult.fromStoredValue(event.summary()));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            YoutubeSummaryCompletedEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), YoutubeSummaryCompletedEvent.class);
+            subscriptionRegistry.deliver(event.postId(), YoutubeSummaryResult.fromStoredValue(event.summary()));
+        } catch (JsonProcessingException e) {
+            log.error("YouTube 요약 완료 메시지 해석 실패 - error: {}", e.getMessage());
+        }
+    }
+}
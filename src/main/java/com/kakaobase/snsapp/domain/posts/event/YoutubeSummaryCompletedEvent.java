@@ -0,0 +1,12 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+/**
+ * YouTube 요약 완료 이벤트
+ *
+ * <p>요약 결과가 게시글에 저장된 트랜잭션이 커밋된 뒤 SSE 구독자에게 전달됩니다.</p>
+ *
+ * @param postId 게시글 ID
+ * @param summary 게시글에 저장된 값 (요약 내용 또는 실패 상태 이름)
+ */
+public record YoutubeSummaryCompletedEvent(Long postId, String summary) {
+}
@@ -0,0 +1,38 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.service.YouTubeSummaryService;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유튜브 요약 요청 이벤트 리스너
+ *
+ * <p>게시글 커밋 이후 아웃박스를 통해 전달된 요청으로 YouTube 요약을 생성합니다.
+ * 처리 중 예외가 발생하면 아웃박스가 재시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YoutubeSummaryEventListener implements OutboxEventHandler<YoutubeSummaryRequestedEvent> {
+
+    private final YouTubeSummaryService youtubeSummaryService;
+
+    @Override
+    public OutboxEventType getEventType() {
+        return OutboxEventType.YOUTUBE_SUMMARY_REQUESTED;
+    }
+
+    @Override
+    public Class<YoutubeSummaryRequestedEvent> getPayloadType() {
+        return YoutubeSummaryRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(YoutubeSummaryRequestedEvent event) {
+        log.info("유튜브 요약 요청 이벤트 처리: postId={}", event.postId());
+        youtubeSummaryService.processYoutubeSummary(event.postId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+/**
+ * 유튜브 요약 요청 이벤트
+ *
+ * <p>유튜브 링크가 포함된 게시글이 생성될 때 게시글과 같은 트랜잭션에서 아웃박스에 기록됩니다.</p>
+ *
+ * @param postId 요약할 게시글 ID
+ */
+public record YoutubeSummaryRequestedEvent(Long postId) {
+}
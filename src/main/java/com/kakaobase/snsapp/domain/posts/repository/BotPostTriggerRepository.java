@@ -0,0 +1,62 @@
+package com.kakaobase.snsapp.domain.posts.repository;
+
+import com.kakaobase.snsapp.domain.posts.entity.BotPostTrigger;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 봇 게시글 생성 요청 엔티티에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface BotPostTriggerRepository extends JpaRepository<BotPostTrigger, Post.BoardType> {
+
+    /**
+     * 게시판의 생성 요청을 기록합니다. 이미 요청이 있으면 요청 시각만 갱신합니다.
+     *
+     * @param boardType 게시판 타입 이름
+     * @param requestedAt 요청 시각
+     */
+    @Modifying
+    @Query(value = "INSERT INTO bot_post_triggers (board_type, requested_at) VALUES (:boardType, :requestedAt) " +
+            "ON DUPLICATE KEY UPDATE requested_at = GREATEST(requested_at, VALUES(requested_at))",
+            nativeQuery = true)
+    void upsert(@Param("boardType") String boardType, @Param("requestedAt") LocalDateTime requestedAt);
+
+    /**
+     * 게시판의 생성 요청을 잠금과 함께 조회합니다.
+     * 여러 인스턴스가 같은 요청을 함께 가져가지 않도록, 요청을 삭제하는 짧은 트랜잭션 동안 잠금을 유지합니다.
+     *
+     * @param boardType 게시판 타입 이름
+     * @return 처리되지 않은 생성 요청
+     */
+    @Query(value = "SELECT * FROM bot_post_triggers WHERE board_type = :boardType FOR UPDATE", nativeQuery = true)
+    Optional<BotPostTrigger> findForUpdate(@Param("boardType") String boardType);
+
+    /**
+     * 기준 시각 이전에 요청된 게시판 목록을 조회합니다. (재예약 대상)
+     *
+     * @param before 기준 시각
+     * @return 처리되지 않은 생성 요청 목록
+     */
+    List<BotPostTrigger> findByRequestedAtBefore(LocalDateTime before);
+
+    /**
+     * 기준 시각까지의 요청을 처리 완료로 보고 삭제합니다.
+     *
+     * @param boardType 게시판 타입
+     * @param requestedUpTo 생성 작업 시작 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM BotPostTrigger t WHERE t.boardType = :boardType AND t.requestedAt <= :requestedUpTo")
+    int deleteRequestedUpTo(@Param("boardType") Post.BoardType boardType,
+                            @Param("requestedUpTo") LocalDateTime requestedUpTo);
+}
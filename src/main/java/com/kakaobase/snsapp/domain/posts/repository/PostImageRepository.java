@@ -1,12 +1,15 @@
 package com.kakaobase.snsapp.domain.posts.repository;
 
+import com.kakaobase.snsapp.domain.posts.dto.PostImageUrls;
 import com.kakaobase.snsapp.domain.posts.entity.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,14 +38,35 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      */
     Optional<PostImage> findByIdAndPostId(Long id, Long postId);
 
-    @Query("SELECT pi FROM PostImage pi " +
+    /**
+     * 특정 게시글의 이미지 원본/변환본 URL을 순서대로 조회합니다.
+     * 상세 조회에서 이미지 수와 관계없이 한 번의 쿼리로 전체 목록을 가져옵니다.
+     *
+     * @param postId 게시글 ID
+     * @return 이미지 URL 목록 (sortIndex 오름차순)
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.posts.dto.PostImageUrls(" +
+            "pi.post.id, pi.imgUrl, pi.thumbnailUrl, pi.mediumUrl, pi.largeUrl) " +
+            "FROM PostImage pi WHERE pi.post.id = :postId ORDER BY pi.sortIndex ASC")
+    List<PostImageUrls> findImageUrlsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글의 대표 이미지(sortIndex가 가장 작은 이미지) 원본/변환본 URL을 한 번에 조회합니다.
+     * 목록 조회에서 사용하며, idx_post_sort 인덱스로 게시글마다 첫 행만 읽습니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글별 대표 이미지 (이미지가 없는 게시글은 포함되지 않음)
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.posts.dto.PostImageUrls(" +
+            "pi.post.id, pi.imgUrl, pi.thumbnailUrl, pi.mediumUrl, pi.largeUrl) " +
+            "FROM PostImage pi " +
             "WHERE pi.post.id IN :postIds " +
             "AND pi.sortIndex = (" +
             "    SELECT MIN(pi2.sortIndex) " +
             "    FROM PostImage pi2 " +
             "    WHERE pi2.post.id = pi.post.id" +
             ")")
-    List<PostImage> findFirstImagesByPostIds(@Param("postIds") List<Long> postIds);
+    List<PostImageUrls> findThumbnailsByPostIds(@Param("postIds") List<Long> postIds);
 
     /**
      * 특정 게시글의 특정 순서에 있는 이미지를 조회합니다.
@@ -99,6 +123,25 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     @Query("UPDATE PostImage pi SET pi.sortIndex = :sortIndex WHERE pi.id = :id")
     void updateSortIndex(@Param("id") Long id, @Param("sortIndex") Integer sortIndex);
 
+    /**
+     * 이미지 변환본 URL을 기록합니다.
+     * 변환 워커가 트랜잭션 밖에서 호출하므로 이 쿼리만 짧은 트랜잭션으로 실행합니다.
+     *
+     * @param id 이미지 ID
+     * @param thumbnailUrl 썸네일 URL
+     * @param mediumUrl 중간 크기 URL
+     * @param largeUrl 큰 크기 URL
+     * @return 갱신된 행 수 (그 사이 게시글이 삭제되었으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PostImage pi SET pi.thumbnailUrl = :thumbnailUrl, pi.mediumUrl = :mediumUrl, pi.largeUrl = :largeUrl " +
+            "WHERE pi.id = :id")
+    int updateVariantUrls(@Param("id") Long id,
+                          @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl,
+                          @Param("largeUrl") String largeUrl);
+
     /**
      * 특정 이미지 URL을 사용하는 모든 이미지를 찾습니다.
      * S3에서 이미지 삭제 시 참조 확인에 사용됩니다.
@@ -107,4 +150,14 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      * @return 해당 URL을 사용하는 이미지 목록
      */
     List<PostImage> findByImgUrl(String imgUrl);
+
+    /**
+     * 주어진 URL 중 게시글 이미지 원본으로 쓰이는 URL을 조회합니다. (인덱스: idx_post_img_url 사용)
+     * {@link #findByImgUrl}의 일괄 버전으로, S3 정리 시 후보 배치 전체의 참조 여부를 한 번에 확인합니다.
+     *
+     * @param imgUrls 확인할 이미지 URL 목록
+     * @return 참조 중인 URL 목록 (중복 제거)
+     */
+    @Query("SELECT DISTINCT pi.imgUrl FROM PostImage pi WHERE pi.imgUrl IN :imgUrls")
+    List<String> findReferencedImgUrls(@Param("imgUrls") Collection<String> imgUrls);
 }
\ No newline at end of file
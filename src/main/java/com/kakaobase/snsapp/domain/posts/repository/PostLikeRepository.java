@@ -1,15 +1,13 @@
 package com.kakaobase.snsapp.domain.posts.repository;
 
 import com.kakaobase.snsapp.domain.posts.entity.PostLike;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 게시글 좋아요 엔티티에 대한 데이터 액세스 객체
@@ -19,15 +17,6 @@ import java.util.Optional;
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.PostLikeId> {
 
-    /**
-     * 특정 회원이 특정 게시글에 좋아요를 눌렀는지 확인합니다.
-     *
-     * @param memberId 회원 ID
-     * @param postId   게시글 ID
-     * @return 좋아요 정보 (Optional)
-     */
-    Optional<PostLike> findByMemberIdAndPostId(Long memberId, Long postId);
-
     /**
      * 특정 회원이 특정 게시글에 좋아요를 눌렀는지 여부를 확인합니다.
      *
@@ -46,6 +35,17 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Pos
     @Query("SELECT pl.postId FROM PostLike pl WHERE pl.memberId = :memberId")
     List<Long> findPostIdsByMemberId(@Param("memberId") Long memberId);
 
+    /**
+     * 특정 회원이 좋아요를 누른 게시글 ID 목록을 잠금 읽기로 조회합니다.
+     * 호출자 트랜잭션의 스냅샷이 아니라 최신 커밋 상태를 읽으며, 트랜잭션이 끝날 때까지
+     * 해당 회원의 좋아요 추가/취소를 잠시 막습니다.
+     *
+     * @param memberId 회원 ID
+     * @return 좋아요를 누른 게시글 ID 목록
+     */
+    @Query(value = "SELECT post_id FROM posts_likes WHERE member_id = :memberId FOR SHARE", nativeQuery = true)
+    List<Long> findPostIdsByMemberIdForShare(@Param("memberId") Long memberId);
+
     /**
      * 특정 회원이 주어진 게시글 목록 중 좋아요를 누른 게시글 ID 목록을 조회합니다.
      * 게시글 목록 조회 시 좋아요 여부를 확인하는 데 사용됩니다.
@@ -67,15 +67,6 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Pos
      */
     long countByPostId(Long postId);
 
-    /**
-     * 특정 회원이 좋아요를 누른 게시글 목록을 페이지네이션하여 조회합니다.
-     *
-     * @param memberId 회원 ID
-     * @param pageable 페이지네이션 정보
-     * @return 좋아요를 누른 게시글 ID 목록 (페이지네이션 적용)
-     */
-    Page<PostLike> findByMemberId(Long memberId, Pageable pageable);
-
     /**
      * 특정 게시글의 모든 좋아요를 삭제합니다.
      * 게시글 삭제 시 관련 좋아요도 함께 삭제하는 데 사용됩니다.
@@ -92,6 +83,33 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Pos
      */
     void deleteByMemberId(Long memberId);
 
+    /**
+     * 삭제되지 않은 게시글에 한해 좋아요를 추가합니다.
+     * 이미 좋아요한 경우 INSERT IGNORE로 기본 키 중복을 무시하므로 예외 없이 0건이 반환됩니다.
+     * IGNORE는 외래 키 위반(회원이 없는 경우)도 경고로 바꾸므로, 0건이면 좋아요가 실제로 있는지 확인해야 합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     * @return 추가된 행 수 (이미 좋아요했거나 게시글이 없거나 삭제된 경우 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO posts_likes (member_id, post_id) " +
+            "SELECT :memberId, t.id FROM posts t " +
+            "WHERE t.id = :postId AND t.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfTargetActive(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    /**
+     * 좋아요를 취소합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     * @return 삭제된 행 수 (좋아요하지 않은 경우 0)
+     */
+    @Modifying
+    @Query("DELETE FROM PostLike l WHERE l.memberId = :memberId AND l.postId = :postId")
+    int deleteIfPresent(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
     /**
      * 특정 게시글에 좋아요를 누른 회원 ID를 커서 기반으로 조회합니다.
      * 게시글에 좋아요를 누른 회원 중 활성 상태인 회원만 조회합니다.
@@ -114,4 +132,4 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLike.Pos
 //            @Param("lastMemberId") Long lastMemberId,
 //            @Param("limit") int limit);
 
-}
\ No newline at end of file
+}
@@ -1,14 +1,15 @@
 package com.kakaobase.snsapp.domain.posts.repository;
 
+import com.kakaobase.snsapp.domain.posts.dto.PostActivity;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,34 +22,34 @@ import java.util.Optional;
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 특정 회원이 작성한 게시글을 최신순으로 조회합니다.
+     * 특정 회원이 작성한 게시글을 최신순으로 커서 기반 페이징하여 조회합니다.
      *
-     * @param memberId 회원 ID
-     * @param pageable 페이지네이션 정보
-     * @return 회원이 작성한 게시글 목록 (페이지네이션 적용)
-     */
-    Page<Post> findByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
-
-    /**
-     * 특정 회원이 작성한 특정 게시판의 게시글을 최신순으로 조회합니다.
+     * <p>(작성 시각 내림차순, ID 오름차순) 키셋으로 다음 페이지를 찾으므로 OFFSET과 COUNT 쿼리가 없습니다.
+     * 같은 작성 시각 안에서는 보조 인덱스 끝에 붙는 기본 키 순서(오름차순)를 그대로 따르므로,
+     * 게시판을 하나만 지정하면 idx_member_board_deleted_created 인덱스 순서대로 읽다가 limit에서 멈춥니다.</p>
      *
      * @param memberId 회원 ID
-     * @param boardType 게시판 타입
-     * @param pageable 페이지네이션 정보
-     * @return 회원이 작성한 특정 게시판의 게시글 목록 (페이지네이션 적용)
-     */
-    Page<Post> findByMemberIdAndBoardTypeOrderByCreatedAtDesc(
-            Long memberId, Post.BoardType boardType, Pageable pageable);
-
-    /**
-     * 특정 게시판의 게시글을 최신순으로 조회합니다.
-     *
-     * @param boardType 게시판 타입
-     * @param pageable 페이지네이션 정보
-     * @return 특정 게시판의 게시글 목록 (페이지네이션 적용)
+     * @param boardTypes 조회할 게시판 목록 (조회하는 사용자가 접근할 수 있는 게시판만 전달)
+     * @param cursorCreatedAt 마지막으로 조회한 게시글의 작성 시각 (첫 페이지에서는 null)
+     * @param cursorId 마지막으로 조회한 게시글 ID (첫 페이지에서는 null)
+     * @param limit 조회할 게시글 수
+     * @return 회원이 작성한 게시글 목록
      */
-    Page<Post> findByBoardTypeOrderByCreatedAtDesc(Post.BoardType boardType, Pageable pageable);
-
+    @Query("SELECT new com.kakaobase.snsapp.domain.posts.dto.PostActivity(" +
+            "p.id, p.boardType, p.content, p.likeCount, p.commentCount, p.createdAt) " +
+            "FROM Post p " +
+            "WHERE p.memberId = :memberId " +
+            "AND p.boardType IN :boardTypes " +
+            "AND p.deletedAt IS NULL " +
+            "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id > :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id ASC")
+    List<PostActivity> findActivityByMemberId(
+            @Param("memberId") Long memberId,
+            @Param("boardTypes") List<Post.BoardType> boardTypes,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 
     /**
      * 특정 게시글이 특정 사용자가 작성했는지 확인
@@ -59,21 +60,27 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * 특정 회원이 좋아요를 누른 게시글 목록을 게시글 ID 기준으로 커서 기반 페이징으로 조회합니다.
      * 게시글 ID 내림차순으로 조회하므로 대략적인 최신순으로 볼 수 있습니다.
      *
+     * <p>posts_likes의 기본 키 (member_id, post_id) 범위를 역순으로 읽다가 limit개를 채우면 멈추므로,
+     * 좋아요 수와 관계없이 페이지당 비용이 일정합니다.</p>
+     *
      * @param memberId 회원 ID
-     * @param lastPostId 마지막으로 조회한 게시글 ID (첫 페이지에서는 null 또는 Long.MAX_VALUE)
+     * @param lastPostId 마지막으로 조회한 게시글 ID (첫 페이지에서는 null)
      * @param limit 조회할 게시글 수
      * @return 회원이 좋아요를 누른 게시글 목록
      */
-    @Query("SELECT p FROM Post p " +
-            "JOIN PostLike pl ON p.id = pl.postId " +
-            "WHERE pl.memberId = :memberId " +
-            "AND p.deletedAt IS NULL " +
-            "AND (:lastPostId IS NULL OR p.id < :lastPostId) " +
-            "ORDER BY p.id DESC")
+    @Query(value = "SELECT p.* FROM posts_likes pl " +
+            "JOIN posts p ON p.id = pl.post_id " +
+            "WHERE pl.member_id = :memberId " +
+            "AND (:lastPostId IS NULL OR pl.post_id < :lastPostId) " +
+            "AND p.deleted_at IS NULL " +
+            "ORDER BY pl.post_id DESC " +
+            "LIMIT :limit",
+            nativeQuery = true)
     List<Post> findPostsLikedByMemberWithCursor(
             @Param("memberId") Long memberId,
             @Param("lastPostId") Long lastPostId,
             @Param("limit") int limit);
+
     /**
      * 게시글 좋아요 수를 증가시킵니다.
      *
@@ -110,30 +117,6 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount > 0 THEN p.commentCount - 1 ELSE 0 END WHERE p.id = :postId")
     void decreaseCommentCount(@Param("postId") Long postId);
 
-    /**
-     * 제목이나 내용에 특정 키워드가 포함된 게시글을 검색합니다.
-     *
-     * @param keyword 검색 키워드
-     * @param pageable 페이지네이션 정보
-     * @return 검색 결과 게시글 목록 (페이지네이션 적용)
-     */
-    @Query("SELECT p FROM Post p WHERE p.content LIKE %:keyword%")
-    Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
-    /**
-     * 특정 게시판에서 제목이나 내용에 특정 키워드가 포함된 게시글을 검색합니다.
-     *
-     * @param boardType 게시판 타입
-     * @param keyword 검색 키워드
-     * @param pageable 페이지네이션 정보
-     * @return 검색 결과 게시글 목록 (페이지네이션 적용)
-     */
-    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType AND p.content LIKE %:keyword%")
-    Page<Post> searchByBoardTypeAndKeyword(
-            @Param("boardType") Post.BoardType boardType,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
     /**
      * 특정 게시판의 최신 게시글을 생성일시와 ID 기준으로 내림차순 정렬하여 조회합니다.
      *
@@ -144,6 +127,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query(value = "SELECT p FROM Post p WHERE p.boardType = :boardType AND p.deletedAt IS NULL ORDER BY p.createdAt DESC, p.id DESC LIMIT :limit")
     List<Post> findTopNByBoardTypeOrderByCreatedAtDescIdDesc(@Param("boardType") Post.BoardType boardType, @Param("limit") int limit);
 
+    /**
+     * 특정 게시판에서 기준 시각 이후(포함)에 작성된 게시글을 생성일시와 ID 기준으로 내림차순 정렬하여 조회합니다.
+     *
+     * @param boardType 게시판 유형
+     * @param since 기준 시각
+     * @param limit 조회할 게시글 수
+     * @return 기준 시각 이후 게시글 목록
+     */
+    @Query(value = "SELECT p FROM Post p WHERE p.boardType = :boardType AND p.createdAt >= :since AND p.deletedAt IS NULL ORDER BY p.createdAt DESC, p.id DESC LIMIT :limit")
+    List<Post> findByBoardTypeCreatedSince(@Param("boardType") Post.BoardType boardType, @Param("since") LocalDateTime since, @Param("limit") int limit);
+
     /**
      * 특정 게시판에서 주어진 ID보다 작은 게시글을 ID 기준으로 내림차순 정렬하여 조회합니다.
      *
@@ -154,4 +148,14 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query(value = "SELECT p FROM Post p WHERE p.boardType = :boardType AND p.id < :cursor AND p.deletedAt IS NULL ORDER BY p.id DESC LIMIT :limit")
     List<Post> findByBoardTypeAndIdLessThanOrderByIdDesc(@Param("boardType") Post.BoardType boardType, @Param("cursor") Long cursor, @Param("limit") int limit);
-}
\ No newline at end of file
+
+    /**
+     * 게시글의 YouTube 요약 값만 조회합니다.
+     * 엔티티를 거치지 않으므로, 트랜잭션 밖에서 호출하면 커밋된 최신 값을 읽습니다.
+     *
+     * @param postId 게시글 ID
+     * @return 요약 내용 또는 실패 상태 이름, 아직 요약되지 않았으면 빈 값
+     */
+    @Query("SELECT p.youtubeSummary FROM Post p WHERE p.id = :postId")
+    Optional<String> findYoutubeSummaryById(@Param("postId") Long postId);
+}
@@ -0,0 +1,240 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 게시판별 봇 게시글 생성 스케줄러
+ *
+ * <p>게시글이 몰리는 구간에 봇 게시글 생성 요청이 연달아 들어와도 AI 서버 호출이 겹치지 않도록 조율합니다.</p>
+ * <ul>
+ *     <li>병합: 게시판마다 대기 중이거나 실행 중인 작업은 최대 하나이며, 그 사이에 들어온 요청은 합쳐집니다.</li>
+ *     <li>디바운스: 마지막 요청 후 일정 시간 조용해지면 실행하여 연속된 요청을 한 번의 생성으로 묶습니다.
+ *     요청이 끊이지 않아도 첫 요청 후 최대 대기 시간이 지나면 실행합니다.</li>
+ *     <li>호출 상한: 게시판별 분당 AI 호출 수를 넘으면 여유가 생길 때까지 실행을 미룹니다.</li>
+ *     <li>복구: 요청은 DB에 기록되므로, 재시작이나 생성 실패로 남은 요청은 주기적으로 다시 예약합니다.</li>
+ * </ul>
+ * <p>생성 작업은 직전 생성에 사용한 최근 게시글을 재사용하고 이후 게시글만 조회합니다.</p>
+ */
+@Slf4j
+@Component
+public class BotPostScheduler {
+
+    private static final Duration RATE_WINDOW = Duration.ofMinutes(1);
+
+    private final BotPostService botPostService;
+    private final TaskScheduler taskScheduler;
+    private final Executor taskExecutor;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Post.BoardType, BoardState> states = new EnumMap<>(Post.BoardType.class);
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Value("${app.bot.post-generation.debounce-ms:5000}")
+    private long debounceMillis;
+
+    @Value("${app.bot.post-generation.max-wait-ms:30000}")
+    private long maxWaitMillis;
+
+    @Value("${app.bot.post-generation.max-calls-per-minute:2}")
+    private int maxCallsPerMinute;
+
+    @Value("${app.bot.post-generation.recovery-delay-ms:60000}")
+    private long recoveryDelayMillis;
+
+    public BotPostScheduler(BotPostService botPostService,
+                            TaskScheduler taskScheduler,
+                            @Qualifier("taskExecutor") Executor taskExecutor,
+                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.botPostService = botPostService;
+        this.taskScheduler = taskScheduler;
+        this.taskExecutor = taskExecutor;
+        this.meterRegistryProvider = meterRegistryProvider;
+        for (Post.BoardType boardType : Post.BoardType.values()) {
+            states.put(boardType, new BoardState());
+        }
+    }
+
+    /**
+     * 봇 게시글 생성을 요청합니다.
+     *
+     * <p>요청을 DB에 먼저 기록한 뒤 예약하므로, 이 메서드가 정상 반환되면 서버가 재시작되어도 요청은 남습니다.
+     * 이미 같은 게시판의 작업이 대기 중이면 실행 시각을 뒤로 미루며 합치고,
+     * 실행 중이면 종료 후 한 번 더 실행하도록 표시만 합니다.</p>
+     *
+     * @param boardType 게시판 타입
+     */
+    public void requestGeneration(Post.BoardType boardType) {
+        botPostService.recordTrigger(boardType);
+        enqueue(boardType);
+    }
+
+    /**
+     * 처리되지 않고 남은 요청을 다시 예약합니다.
+     * 최근 요청은 이 인스턴스나 다른 인스턴스가 처리 중일 수 있으므로 일정 시간이 지난 요청만 대상으로 합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.bot.post-generation.recovery-interval-ms:60000}",
+            initialDelayString = "${app.bot.post-generation.recovery-initial-delay-ms:10000}")
+    public void recoverPendingTriggers() {
+        LocalDateTime requestedBefore = LocalDateTime.now(clock).minus(Duration.ofMillis(recoveryDelayMillis));
+        for (Post.BoardType boardType : botPostService.findPendingTriggers(requestedBefore)) {
+            BoardState state = states.get(boardType);
+            synchronized (state) {
+                if (state.scheduled || state.running) {
+                    continue;
+                }
+            }
+            log.info("처리되지 않은 봇 게시글 생성 요청 재예약 - boardType: {}", boardType);
+            count(boardType, "recovered");
+            enqueue(boardType);
+        }
+    }
+
+    private void enqueue(Post.BoardType boardType) {
+        BoardState state = states.get(boardType);
+        long now = clock.millis();
+        synchronized (state) {
+            if (state.running) {
+                state.rerunRequested = true;
+                count(boardType, "coalesced");
+                return;
+            }
+            if (state.scheduled) {
+                // 마지막 요청 기준으로 실행 시각을 미루되, 첫 요청 후 최대 대기 시간은 넘기지 않음
+                state.dueAtMillis = Math.min(now + debounceMillis, state.firstRequestedAtMillis + maxWaitMillis);
+                count(boardType, "coalesced");
+                return;
+            }
+            state.markScheduled(now, debounceMillis);
+        }
+
+        count(boardType, "scheduled");
+        schedule(boardType, debounceMillis);
+    }
+
+    private void schedule(Post.BoardType boardType, long delayMillis) {
+        taskScheduler.schedule(() -> submit(boardType), Instant.now(clock).plusMillis(delayMillis));
+    }
+
+    /**
+     * AI 호출은 오래 걸리므로 스케줄러 스레드가 아닌 taskExecutor에서 실행합니다.
+     */
+    private void submit(Post.BoardType boardType) {
+        try {
+            taskExecutor.execute(() -> run(boardType));
+        } catch (TaskRejectedException e) {
+            log.warn("작업 큐가 가득 차 봇 게시글 생성을 미룹니다 - boardType: {}", boardType);
+            schedule(boardType, debounceMillis);
+        }
+    }
+
+    private void run(Post.BoardType boardType) {
+        BoardState state = states.get(boardType);
+        long now = clock.millis();
+        synchronized (state) {
+            if (now < state.dueAtMillis) {
+                // 대기 중 새 요청으로 실행 시각이 미뤄짐
+                schedule(boardType, state.dueAtMillis - now);
+                return;
+            }
+            long waitMillis = state.rateLimitWaitMillis(now, maxCallsPerMinute);
+            if (waitMillis > 0) {
+                log.info("분당 AI 호출 상한 도달, 봇 게시글 생성 지연 - boardType: {}, waitMs: {}", boardType, waitMillis);
+                count(boardType, "rate_limited");
+                schedule(boardType, waitMillis);
+                return;
+            }
+            state.scheduled = false;
+            state.running = true;
+            state.callTimes.addLast(now);
+        }
+
+        boolean rerun = false;
+        try {
+            botPostService.createBotPost(boardType);
+        } catch (Exception e) {
+            // 요청은 DB에 남아 있으므로 복구 주기에 다시 예약됨
+            log.error("봇 게시글 생성 실패 - boardType: {}", boardType, e);
+            count(boardType, "failed");
+        } finally {
+            synchronized (state) {
+                state.running = false;
+                if (state.rerunRequested) {
+                    state.rerunRequested = false;
+                    state.markScheduled(clock.millis(), debounceMillis);
+                    rerun = true;
+                }
+            }
+        }
+
+        if (rerun) {
+            schedule(boardType, debounceMillis);
+        }
+    }
+
+    private void count(Post.BoardType boardType, String outcome) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Counter.builder("bot.post.triggers")
+                .description("봇 게시글 생성 요청 처리 결과")
+                .tag("board", boardType.name())
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 게시판별 스케줄링 상태. 모든 필드는 인스턴스 모니터로 보호됩니다.
+     */
+    private static final class BoardState {
+
+        private boolean scheduled;
+        private boolean running;
+        private boolean rerunRequested;
+        private long firstRequestedAtMillis;
+        private long dueAtMillis;
+        private final Deque<Long> callTimes = new ArrayDeque<>();
+
+        private void markScheduled(long now, long debounceMillis) {
+            scheduled = true;
+            firstRequestedAtMillis = now;
+            dueAtMillis = now + debounceMillis;
+        }
+
+        /**
+         * 최근 1분간 호출 수가 상한 이상이면 가장 오래된 호출이 창을 벗어날 때까지의 대기 시간을 반환합니다.
+         */
+        private long rateLimitWaitMillis(long now, int maxCalls) {
+            long windowStart = now - RATE_WINDOW.toMillis();
+            while (!callTimes.isEmpty() && callTimes.peekFirst() <= windowStart) {
+                callTimes.pollFirst();
+            }
+            if (callTimes.size() < maxCalls) {
+                return 0;
+            }
+            return callTimes.peekFirst() - windowStart;
+        }
+    }
+}
@@ -1,155 +1,264 @@
 package com.kakaobase.snsapp.domain.posts.service;
 
-import com.kakaobase.snsapp.domain.members.entity.Member;
-import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.dto.MemberBotInfo;
+import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
 import com.kakaobase.snsapp.domain.posts.dto.BotRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.entity.BotPostTrigger;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.BotPostTriggerRepository;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * AI 봇의 게시글 관련 서비스
  *
- * <p>게시글이 5개 생성될 때마다 AI 서버에 요청하여 자동으로 봇 게시글을 생성합니다.</p>
+ * <p>게시글이 5개 생성될 때마다 AI 서버에 요청하여 자동으로 봇 게시글을 생성합니다.
+ * 생성 요청은 bot_post_triggers 테이블에 기록되므로 처리되기 전에 서버가 재시작되어도 사라지지 않습니다.
+ * 생성 작업은 요청을 짧은 트랜잭션에서 가져가고(삭제), AI 서버 호출은 트랜잭션 밖에서 수행합니다.
+ * AI 호출이나 저장이 실패하면 요청을 다시 기록하여 재예약되도록 합니다.</p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BotPostService {
 
+    private static final int RECENT_POST_COUNT = 5;
+    private static final int RECENT_POST_FETCH_SIZE = 10;
+
     private final PostService postService;
     private final WebClient webClient;
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final BotPostTriggerRepository botPostTriggerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시판별로 직전 생성에 사용한 최근 일반 게시글 (최신순). 다음 생성 시 이후에 작성된 게시글만 조회합니다.
+     * 삭제된 게시글은 전체를 다시 조회하기 전까지 남아 있을 수 있습니다.
+     */
+    private final Map<Post.BoardType, List<RecentPost>> recentPostsByBoard = new ConcurrentHashMap<>();
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
+    public BotPostService(PostService postService,
+                          WebClient webClient,
+                          MemberService memberService,
+                          BotPostTriggerRepository botPostTriggerRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.postService = postService;
+        this.webClient = webClient;
+        this.memberService = memberService;
+        this.botPostTriggerRepository = botPostTriggerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
-     * AI 봇 게시글 생성
-     *
-     * <p>최근 5개 게시글을 기반으로 AI 서버에 요청하여 봇 게시글을 생성합니다.</p>
+     * 봇 게시글 생성 요청을 기록합니다. 이미 처리되지 않은 요청이 있으면 요청 시각만 갱신합니다.
      *
      * @param boardType 게시판 타입
-     * @return 생성된 봇 게시글 응답 (null일 수 있음)
      */
     @Transactional
-    public PostResponseDto.PostCreateResponse createBotPost(Post.BoardType boardType) {
-        try {
-            log.info("봇 게시글 생성 시작 - boardType: {}", boardType);
-
-            // 1. 최근 게시글 조회 (봇 게시글 필터링을 위해 여유있게 10개 조회)
-            List<Post> recentPosts = postService.findByCursor(boardType, 10, null);
-            log.info("조회된 최근 게시글 수: {}", recentPosts.size());
+    public void recordTrigger(Post.BoardType boardType) {
+        botPostTriggerRepository.upsert(boardType.name(), LocalDateTime.now());
+    }
 
-            // ArrayList로 초기화 (최종 반환 타입은 List 인터페이스)
-            List<Post> filteredPosts = new ArrayList<>();
+    /**
+     * 기준 시각 이전에 요청되었지만 아직 처리되지 않은 게시판 목록을 조회합니다.
+     *
+     * @param requestedBefore 기준 시각
+     * @return 게시판 타입 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Post.BoardType> findPendingTriggers(LocalDateTime requestedBefore) {
+        return botPostTriggerRepository.findByRequestedAtBefore(requestedBefore).stream()
+                .map(BotPostTrigger::getBoardType)
+                .toList();
+    }
 
-            // 봇이 작성하지 않은 게시글만 필터링
-            int botPostCount = 0;
-            for (Post post : recentPosts) {
-                if (!post.getMemberId().equals(BotConstants.BOT_MEMBER_ID)) {
-                    filteredPosts.add(post);
-                    log.debug("일반 게시글 추가: id={}, content={}, createdAt={}",
-                            post.getId(), post.getContent(), post.getCreatedAt());
+    /**
+     * AI 봇 게시글 생성
+     *
+     * <p>최근 5개 게시글을 기반으로 AI 서버에 요청하여 봇 게시글을 생성합니다.
+     * BotPostScheduler를 통해 게시판별로 한 번에 하나씩 호출됩니다.
+     * 생성 요청 행은 잠근 뒤 바로 삭제하고 커밋하므로, 다른 인스턴스는 같은 요청을 가져가지 못하고
+     * AI 응답을 기다리는 동안 잠금이나 DB 커넥션을 점유하지 않습니다.
+     * AI 호출이나 저장이 실패하면 요청을 다시 기록하여 복구 주기에 재예약되도록 합니다.</p>
+     *
+     * @param boardType 게시판 타입
+     * @return 생성된 봇 게시글 응답 (생성을 건너뛰면 null)
+     */
+    @Timed(value = "ai.bot.post", description = "AI 봇 게시글 생성 소요 시간")
+    public PostResponseDto.PostCreateResponse createBotPost(Post.BoardType boardType) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (!claimTrigger(boardType, startedAt)) {
+            log.info("처리할 봇 게시글 생성 요청이 없습니다 (이미 처리됨) - boardType: {}", boardType);
+            return null;
+        }
 
+        try {
+            return generate(boardType);
+        } catch (RuntimeException e) {
+            // 가져간 요청을 되돌려 복구 주기에 다시 예약되도록 함
+            transactionTemplate.executeWithoutResult(status ->
+                    botPostTriggerRepository.upsert(boardType.name(), startedAt));
+            throw e;
+        }
+    }
 
-                    if (filteredPosts.size() == 5) {
-                        log.info("5개의 일반 게시글 필터링 완료. 반복 중단");
-                        break;
-                    }
-                } else {
-                    botPostCount++;
-                    log.debug("봇 게시글 필터링 제외: id={}, content={}", post.getId(), post.getContent());
-                }
+    /**
+     * 작업 시작 전까지의 생성 요청을 잠그고 삭제합니다. AI 호출 전에 커밋되므로 잠금은 바로 풀립니다.
+     *
+     * @return 처리할 요청이 있었으면 true
+     */
+    private boolean claimTrigger(Post.BoardType boardType, LocalDateTime startedAt) {
+        Boolean claimed = transactionTemplate.execute(status -> {
+            if (botPostTriggerRepository.findForUpdate(boardType.name()).isEmpty()) {
+                return false;
             }
+            botPostTriggerRepository.deleteRequestedUpTo(boardType, startedAt);
+            return true;
+        });
+        return Boolean.TRUE.equals(claimed);
+    }
 
-            log.info("필터링 결과 - 총 게시글: {}, 봇 게시글: {}, 일반 게시글: {}",
-                    recentPosts.size(), botPostCount, filteredPosts.size());
+    private PostResponseDto.PostCreateResponse generate(Post.BoardType boardType) {
+        log.info("봇 게시글 생성 시작 - boardType: {}", boardType);
 
+        // 1. 최근 일반 게시글 5개 준비 (직전 생성에 사용한 게시글을 재사용하고 이후 게시글만 조회)
+        List<RecentPost> cachedPosts = recentPostsByBoard.getOrDefault(boardType, List.of());
+        List<RecentPost> newPosts = loadNewPosts(boardType, cachedPosts);
+        List<RecentPost> recentPosts = mergeRecentPosts(newPosts, cachedPosts);
 
-            if (filteredPosts.size() < 5) {
-                log.warn("게시글이 5개 미만입니다. 봇 게시글 생성을 건너뜁니다. - count: {}", filteredPosts.size());
-                return null;
-            }
+        if (!cachedPosts.isEmpty() && newPosts.isEmpty()) {
+            log.info("직전 생성 이후 새 일반 게시글이 없어 봇 게시글 생성을 건너뜁니다. - boardType: {}", boardType);
+            return null;
+        }
 
-            Collections.reverse(filteredPosts);
+        if (recentPosts.size() < RECENT_POST_COUNT) {
+            recentPostsByBoard.put(boardType, recentPosts);
+            log.warn("게시글이 5개 미만입니다. 봇 게시글 생성을 건너뜁니다. - count: {}", recentPosts.size());
+            return null;
+        }
 
-            log.debug("역순 정렬 후 게시글 순서(오래된순):");
-            for (int i = 0; i < filteredPosts.size(); i++) {
-                Post post = filteredPosts.get(i);
-                log.debug("  {}. id={}, content={}, createdAt={}",
-                        i+1, post.getId(), post.getContent(), post.getCreatedAt());
-            }
+        log.info("AI에게 전송할 5개 게시글 준비 완료 - 새 게시글: {}, 재사용: {}",
+                newPosts.size(), RECENT_POST_COUNT - Math.min(newPosts.size(), RECENT_POST_COUNT));
 
-            log.info("AI에게 전송할 5개 게시글 준비 완료 (오래된순)");
+        // 2. AI 서버 요청 DTO 생성 (오래된순)
+        BotRequestDto.CreatePostRequest request = createBotRequest(boardType, recentPosts);
 
+        // 3. AI 서버 호출 (트랜잭션 밖)
+        BotRequestDto.AiPostResponse aiResponse = callAiServer(request);
 
-            // 2. AI 서버 요청 DTO 생성
-            BotRequestDto.CreatePostRequest request = createBotRequest(boardType, filteredPosts);
+        // 4. 봇 게시글 저장 및 클라이언트 응답 생성
+        PostResponseDto.PostCreateResponse clientResponse = transactionTemplate.execute(status -> saveBotPost(aiResponse));
 
-            // 3. AI 서버 호출
-            BotRequestDto.AiPostResponse aiResponse = callAiServer(request);
+        // 실패한 생성의 입력은 재시도 때 다시 사용하도록 저장까지 끝난 뒤에 기록
+        recentPostsByBoard.put(boardType, recentPosts);
 
-            // 4. 봇 게시글 저장 및 클라이언트 응답 생성
-            PostResponseDto.PostCreateResponse clientResponse = saveBotPost(aiResponse);
+        log.info("봇 게시글 생성 완료 - boardType: {}", boardType);
+        return clientResponse;
+    }
 
-            log.info("봇 게시글 생성 완료 - boardType: {}", boardType);
-            return clientResponse;
+    /**
+     * 직전 생성 이후 작성된 일반 게시글을 조회하여 AI 요청 형태로 변환합니다.
+     * 재사용할 게시글이 없으면 최신 게시글을 처음부터 조회합니다.
+     */
+    private List<RecentPost> loadNewPosts(Post.BoardType boardType, List<RecentPost> cachedPosts) {
+        List<Post> posts = cachedPosts.isEmpty()
+                ? postService.findByCursor(boardType, RECENT_POST_FETCH_SIZE, null)
+                : postService.findCreatedSince(boardType, cachedPosts.get(0).createdAt(), RECENT_POST_FETCH_SIZE);
+
+        Set<Long> cachedIds = cachedPosts.stream()
+                .map(RecentPost::id)
+                .collect(Collectors.toSet());
+
+        // 봇이 작성하지 않은 새 게시글만 필터링
+        List<Post> filteredPosts = posts.stream()
+                .filter(post -> !post.getMemberId().equals(BotConstants.BOT_MEMBER_ID))
+                .filter(post -> !cachedIds.contains(post.getId()))
+                .limit(RECENT_POST_COUNT)
+                .toList();
+
+        log.info("필터링 결과 - 조회한 게시글: {}, 새 일반 게시글: {}", posts.size(), filteredPosts.size());
+        return toRecentPosts(filteredPosts);
+    }
 
-        } catch (Exception e) {
-            log.error("봇 게시글 생성 실패 - boardType: {}", boardType, e);
-            // 실패해도 카운터는 리셋되어야 하므로 예외를 전파하지 않음
-            return null;
-        }
+    /**
+     * 새 게시글과 재사용할 게시글을 합쳐 최신 5개만 남깁니다. (최신순)
+     */
+    private List<RecentPost> mergeRecentPosts(List<RecentPost> newPosts, List<RecentPost> cachedPosts) {
+        Map<Long, RecentPost> merged = new LinkedHashMap<>();
+        newPosts.forEach(post -> merged.put(post.id(), post));
+        cachedPosts.forEach(post -> merged.putIfAbsent(post.id(), post));
+
+        return merged.values().stream()
+                .sorted(Comparator.comparing(RecentPost::createdAt).thenComparing(RecentPost::id).reversed())
+                .limit(RECENT_POST_COUNT)
+                .toList();
     }
 
     /**
-     * AI 서버 요청 DTO 생성
-     *
-     * @param boardType 게시판 타입
-     * @param posts 최근 게시글 목록
-     * @return AI 서버 요청 DTO
+     * 게시글 작성자들의 닉네임/기수를 한 번의 프로젝션 쿼리로 조회하여 AI 요청 형태로 변환합니다.
      */
-    private BotRequestDto.CreatePostRequest createBotRequest(Post.BoardType boardType, List<Post> posts) {
-        // 게시글 작성자들의 정보를 한 번에 조회
-        Map<Long, Map<String, String>> memberInfoMap = postService.getMemberInfoByPosts(posts);
+    private List<RecentPost> toRecentPosts(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> authorIds = posts.stream()
+                .map(Post::getMemberId)
+                .collect(Collectors.toSet());
+        Map<Long, MemberBotInfo> authorInfoMap = memberService.getMemberBotInfoMap(authorIds);
 
-        List<BotRequestDto.PostDto> botPosts = posts.stream()
+        return posts.stream()
                 .map(post -> {
-                    Map<String, String> memberInfo = memberInfoMap.get(post.getMemberId());
-                    if (memberInfo == null) {
+                    MemberBotInfo author = authorInfoMap.get(post.getMemberId());
+                    if (author == null) {
                         throw new IllegalStateException("회원 정보를 찾을 수 없습니다. memberId: " + post.getMemberId());
                     }
+                    log.debug("게시글 작성자 정보: {}, {}", author.nickname(), author.classNameValue());
 
-
-                    Optional<Member> member = memberRepository.findById(post.getMemberId());
-                    String className  = member.get().getClassName();
-                    log.debug("게시글 작성자 정보: {}, {}", memberInfo.get("nickname"), className);
-
-                    return new BotRequestDto.PostDto(
+                    BotRequestDto.PostDto postDto = new BotRequestDto.PostDto(
                             new BotRequestDto.UserDto(
-                                    memberInfo.get("nickname"),
-                                    className
+                                    author.nickname(),
+                                    author.classNameValue()
                             ),
                             post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toString(),
                             post.getContent()
                     );
+                    return new RecentPost(post.getId(), post.getCreatedAt(), postDto);
                 })
-                .collect(Collectors.toList());
+                .toList();
+    }
 
+    /**
+     * AI 서버 요청 DTO 생성
+     *
+     * @param boardType 게시판 타입
+     * @param recentPosts 최근 게시글 목록 (최신순)
+     * @return AI 서버 요청 DTO
+     */
+    private BotRequestDto.CreatePostRequest createBotRequest(Post.BoardType boardType, List<RecentPost> recentPosts) {
+        List<BotRequestDto.PostDto> botPosts = new ArrayList<>(recentPosts.size());
+        for (int i = recentPosts.size() - 1; i >= 0; i--) {
+            botPosts.add(recentPosts.get(i).postDto());
+        }
         return new BotRequestDto.CreatePostRequest(boardType.name(), botPosts);
     }
 
@@ -205,6 +314,16 @@ public class BotPostService {
         Map<String, String> botMemberInfo = postService.getMemberInfo(BotConstants.BOT_MEMBER_ID);
 
         // PostConverter를 사용하여 응답 생성
-        return PostConverter.toPostCreateResponse(socialBotPost, botMemberInfo, null, false);
+        return PostConverter.toPostCreateResponse(socialBotPost, botMemberInfo, List.of(), false);
+    }
+
+    /**
+     * AI 요청에 사용한 게시글
+     *
+     * @param id 게시글 ID
+     * @param createdAt 작성 시각
+     * @param postDto AI 요청 형태로 변환한 게시글
+     */
+    private record RecentPost(Long id, LocalDateTime createdAt, BotRequestDto.PostDto postDto) {
     }
-}
\ No newline at end of file
+}
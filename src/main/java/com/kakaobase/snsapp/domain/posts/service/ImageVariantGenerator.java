@@ -0,0 +1,319 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.entity.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.zip.ZipException;
+
+/**
+ * 원본 이미지에서 {@link ImageVariant} 크기별 변환본을 만듭니다.
+ *
+ * <p>원본을 전부 메모리에 풀지 않도록, 헤더에서 크기만 먼저 읽은 뒤 가장 큰 변환본에 필요한 만큼만
+ * 줄여서(source subsampling) 디코딩합니다. 10MB JPEG(약 4000x3000)도 디코딩 결과는 변환본 크기 수준이고,
+ * 나머지 변환본은 이 이미지를 다시 축소해 만듭니다.</p>
+ *
+ * <p>휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 EXIF Orientation 태그로 회전을 지시하는데, 변환본에는 EXIF를
+ * 남기지 않으므로 디코딩 직후 태그대로 회전/반전한 뒤 축소합니다. 크기 계산도 회전 후 기준입니다.</p>
+ *
+ * <p>출력 포맷은 ImageIO writer 이름({@code app.post-image.variant.format})으로 정하며,
+ * 기본 JDK에는 WebP writer가 없으므로 WebP ImageIO 플러그인이 있을 때만 webp를 쓸 수 있습니다.</p>
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final ImageWriterSpi writerSpi;
+    private final float quality;
+    private final long maxPixels;
+
+    public ImageVariantGenerator(@Value("${app.post-image.variant.format:jpeg}") String format,
+                                 @Value("${app.post-image.variant.quality:0.8}") float quality,
+                                 @Value("${app.post-image.variant.max-pixels:40000000}") long maxPixels) {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IllegalStateException("이미지 변환 포맷을 지원하는 ImageIO writer가 없습니다: " + format);
+        }
+        this.writerSpi = writers.next().getOriginatingProvider();
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * @return 변환본 Content-Type (예: image/jpeg)
+     */
+    public String contentType() {
+        return writerSpi.getMIMETypes()[0];
+    }
+
+    /**
+     * @return 변환본 객체 키 확장자 (예: jpg)
+     */
+    public String fileExtension() {
+        return writerSpi.getFileSuffixes()[0];
+    }
+
+    /**
+     * 원본 스트림을 읽어 모든 변환본을 인코딩합니다. 스트림은 닫지 않습니다.
+     *
+     * @param original 원본 이미지 스트림
+     * @return 변환본별 인코딩 결과
+     * @throws IllegalArgumentException 이미지가 아니거나, 읽을 수 없는 포맷이거나, 디코딩할 수 없게 손상되었거나,
+     *                                  픽셀 수가 상한을 넘는 경우 (재시도해도 같은 결과)
+     * @throws IOException 스트림 읽기 실패
+     */
+    public Map<ImageVariant, byte[]> generate(InputStream original) throws IOException {
+        BufferedImage decoded;
+        int sourceWidth;
+        int sourceHeight;
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(original)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int orientation = orientation(reader);
+                int storedWidth = reader.getWidth(0);
+                int storedHeight = reader.getHeight(0);
+                if (storedWidth <= 0 || storedHeight <= 0) {
+                    throw new IllegalArgumentException("이미지 크기를 읽을 수 없습니다: " + storedWidth + "x" + storedHeight);
+                }
+                if ((long) storedWidth * storedHeight > maxPixels) {
+                    throw new IllegalArgumentException(
+                            "이미지 픽셀 수가 상한을 초과합니다: " + storedWidth + "x" + storedHeight);
+                }
+
+                // 90도 회전(5~8)이면 화면에 보이는 가로/세로가 저장된 값과 바뀐다
+                boolean transposed = orientation >= 5;
+                sourceWidth = transposed ? storedHeight : storedWidth;
+                sourceHeight = transposed ? storedWidth : storedHeight;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsampling(sourceWidth, sourceHeight);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                decoded = orient(reader.read(0, param), orientation);
+            } catch (IIOException e) {
+                // 일부 reader(PNG 등)는 원본 스트림 읽기 실패도 감싸서 던지므로, 그 경우는 재시도하도록 원래 예외를 돌려준다
+                if (e.getCause() instanceof IOException cause && !(cause instanceof IIOException)
+                        && !(cause instanceof ZipException) && !(cause instanceof EOFException)) {
+                    throw cause;
+                }
+                // 헤더나 압축 데이터가 손상된 경우로, 다시 읽어도 같은 결과
+                throw new IllegalArgumentException("이미지를 디코딩할 수 없습니다: " + e.getMessage(), e);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            variants.put(variant, encode(resize(decoded, sourceWidth, sourceHeight, variant)));
+        }
+        return variants;
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트에서 Orientation 태그(0x0112) 값을 읽습니다.
+     *
+     * @return 1~8 (태그가 없거나 JPEG가 아니거나 형식이 맞지 않으면 1)
+     */
+    private int orientation(ImageReader reader) throws IOException {
+        IIOMetadata metadata = reader.getImageMetadata(0);
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+        NodeList markers = root.getElementsByTagName("unknown");
+        for (int i = 0; i < markers.getLength(); i++) {
+            IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+            if (APP1_MARKER.equals(marker.getAttribute("MarkerTag")) && marker.getUserObject() instanceof byte[] data) {
+                int orientation = exifOrientation(data);
+                if (orientation != 1) {
+                    return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * "Exif\0\0" 뒤의 TIFF 헤더와 첫 번째 IFD에서 Orientation 값을 찾습니다.
+     */
+    private static int exifOrientation(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(data, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 1;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 1;
+        }
+
+        long ifdOffset = Integer.toUnsignedLong(tiff.getInt(4));
+        if (ifdOffset + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entryCount = Short.toUnsignedInt(tiff.getShort((int) ifdOffset));
+        for (int i = 0; i < entryCount; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 1;
+            }
+            if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * EXIF Orientation대로 이미지를 회전/반전해 화면에 보이는 방향으로 맞춥니다.
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == 1) {
+            return image;
+        }
+
+        int w = image.getWidth();
+        int h = image.getHeight();
+        // (x, y) -> (x', y') 매핑. 값은 AffineTransform(m00, m10, m01, m11, m02, m12) 순서
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 기준 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 기준 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 8: 반시계 방향 90도
+        };
+
+        boolean transposed = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(
+                transposed ? h : w,
+                transposed ? w : h,
+                image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * 가장 큰 변환본을 만들 수 있는 범위에서 디코딩 시 건너뛸 픽셀 간격을 구합니다.
+     */
+    private int subsampling(int sourceWidth, int sourceHeight) {
+        double requiredScale = 0;
+        for (ImageVariant variant : ImageVariant.values()) {
+            int sourceEdge = variant.square() ? Math.min(sourceWidth, sourceHeight) : sourceWidth;
+            requiredScale = Math.max(requiredScale, (double) variant.width() / sourceEdge);
+        }
+        return requiredScale >= 1 ? 1 : (int) Math.floor(1 / requiredScale);
+    }
+
+    /**
+     * 디코딩된 이미지를 변환본 크기로 줄입니다. 원본보다 크게 늘리지는 않습니다.
+     */
+    private BufferedImage resize(BufferedImage decoded, int sourceWidth, int sourceHeight, ImageVariant variant) {
+        int srcX = 0;
+        int srcY = 0;
+        int srcWidth = decoded.getWidth();
+        int srcHeight = decoded.getHeight();
+        int targetWidth;
+        int targetHeight;
+
+        if (variant.square()) {
+            int edge = Math.min(srcWidth, srcHeight);
+            srcX = (srcWidth - edge) / 2;
+            srcY = (srcHeight - edge) / 2;
+            srcWidth = edge;
+            srcHeight = edge;
+            targetWidth = Math.min(variant.width(), Math.min(sourceWidth, sourceHeight));
+            targetHeight = targetWidth;
+        } else {
+            targetWidth = Math.min(variant.width(), sourceWidth);
+            targetHeight = Math.max(1, (int) Math.round((double) sourceHeight * targetWidth / sourceWidth));
+        }
+
+        // JPEG는 알파 채널이 없으므로 투명 영역은 흰 배경으로 채운다
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(decoded,
+                    0, 0, targetWidth, targetHeight,
+                    srcX, srcY, srcX + srcWidth, srcY + srcHeight,
+                    null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = writerSpi.createWriterInstance();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 회원별 좋아요한 게시글 인덱스
+ *
+ * <p>피드와 상세 조회마다 {@code posts_likes}를 조회하던 좋아요 여부 확인을 회원별 집합 조회로 대체합니다.</p>
+ * <ul>
+ *     <li>지연 적재: 회원의 집합이 없을 때 한 번만 전체 좋아요 목록을 읽어 {@link LikedPostStore}에 저장합니다.</li>
+ *     <li>write-through: 좋아요 추가/취소가 커밋된 뒤 집합에 반영합니다.</li>
+ *     <li>적재는 호출자의 커넥션에서 잠금 읽기로 실행되어 추가 커넥션 없이 최신 커밋 상태를 읽으며,
+ *         적재 중 좋아요가 바뀌면 그 결과는 저장하지 않습니다.</li>
+ * </ul>
+ */
+@Component
+public class LikedPostIndex {
+
+    private final LikedPostStore likedPostStore;
+    private final PostLikeRepository postLikeRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LikedPostIndex(LikedPostStore likedPostStore,
+                          PostLikeRepository postLikeRepository,
+                          ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.likedPostStore = likedPostStore;
+        this.postLikeRepository = postLikeRepository;
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        this.hitCounter = registry == null ? null : counter(registry, "hit");
+        this.missCounter = registry == null ? null : counter(registry, "miss");
+    }
+
+    /**
+     * 회원이 게시글에 좋아요했는지 확인합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     * @return 좋아요 여부
+     */
+    public boolean isLiked(Long memberId, Long postId) {
+        return !findLiked(memberId, List.of(postId)).isEmpty();
+    }
+
+    /**
+     * 주어진 게시글 중 회원이 좋아요한 게시글 ID 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postIds 확인할 게시글 ID 목록
+     * @return 좋아요한 게시글 ID 목록
+     */
+    public List<Long> findLiked(Long memberId, Collection<Long> postIds) {
+        Optional<List<Long>> cached = likedPostStore.findLiked(memberId, postIds);
+        if (cached.isPresent()) {
+            increment(hitCounter);
+            return cached.get();
+        }
+
+        increment(missCounter);
+        String token = likedPostStore.beginLoad(memberId);
+        // 호출자의 읽기 트랜잭션 스냅샷은 적재 시작 전에 커밋된 좋아요를 놓칠 수 있으므로 잠금 읽기로 최신 상태를 읽음
+        List<Long> likedPostIds = postLikeRepository.findPostIdsByMemberIdForShare(memberId);
+        likedPostStore.completeLoad(memberId, token, likedPostIds);
+
+        Set<Long> liked = new HashSet<>(likedPostIds);
+        return postIds.stream()
+                .filter(liked::contains)
+                .toList();
+    }
+
+    /**
+     * 좋아요 추가를 커밋 후 인덱스에 반영합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     */
+    public void onLiked(Long memberId, Long postId) {
+        afterCommit(() -> likedPostStore.add(memberId, postId));
+    }
+
+    /**
+     * 좋아요 취소를 커밋 후 인덱스에 반영합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     */
+    public void onUnliked(Long memberId, Long postId) {
+        afterCommit(() -> likedPostStore.remove(memberId, postId));
+    }
+
+    /**
+     * 롤백된 변경이 인덱스에 남지 않도록 트랜잭션 안에서는 커밋 이후에 실행합니다.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("likes.index")
+                .description("좋아요 인덱스 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 좋아요한 게시글 집합 저장소
+ *
+ * <p>{@link LikedPostIndex}가 DB에서 읽어 온 집합을 보관하고, 좋아요 변경을 반영합니다.
+ * 적재 중에 같은 회원의 좋아요가 바뀌면 그 적재 결과는 버려야 하므로,
+ * 적재는 {@link #beginLoad}로 받은 토큰이 유효할 때만 완료됩니다.</p>
+ */
+public interface LikedPostStore {
+
+    /**
+     * 주어진 게시글 중 좋아요한 게시글 ID 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postIds 확인할 게시글 ID 목록
+     * @return 좋아요한 게시글 ID 목록, 회원의 집합이 적재되어 있지 않으면 empty
+     */
+    Optional<List<Long>> findLiked(Long memberId, Collection<Long> postIds);
+
+    /**
+     * 회원의 집합 적재를 시작하고 적재 토큰을 발급합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 적재 토큰
+     */
+    String beginLoad(Long memberId);
+
+    /**
+     * 적재 시작 이후 좋아요 변경이 없었을 때만 집합을 저장합니다.
+     *
+     * @param memberId 회원 ID
+     * @param token {@link #beginLoad}에서 받은 토큰
+     * @param likedPostIds 회원이 좋아요한 전체 게시글 ID 목록
+     */
+    void completeLoad(Long memberId, String token, List<Long> likedPostIds);
+
+    /**
+     * 좋아요 추가를 반영합니다. 집합이 없으면 진행 중인 적재를 무효화합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     */
+    void add(Long memberId, Long postId);
+
+    /**
+     * 좋아요 취소를 반영합니다. 집합이 없으면 진행 중인 적재를 무효화합니다.
+     *
+     * @param memberId 회원 ID
+     * @param postId 게시글 ID
+     */
+    void remove(Long memberId, Long postId);
+}
@@ -0,0 +1,119 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 좋아요한 게시글 집합 저장소 (단일 인스턴스용)
+ *
+ * <p>회원별 집합을 Roaring 비트맵으로 압축하여 Caffeine 캐시에 보관합니다.
+ * 비트맵은 게시된 뒤 수정하지 않고, 변경 시 복사본을 만들어 교체하므로 조회에 잠금이 필요 없습니다.
+ * 다른 인스턴스의 좋아요 변경은 반영되지 않으므로, 여러 인스턴스로 운영할 때는
+ * {@link RedisLikedPostStore}를 사용합니다. ({@code app.like-index.store=redis})</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.like-index.store", havingValue = "local", matchIfMissing = true)
+public class LocalLikedPostStore implements LikedPostStore {
+
+    private static final Duration LOAD_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Cache<Long, RoaringBitmap> bitmaps;
+    private final Cache<Long, String> pendingLoads;
+
+    public LocalLikedPostStore(@Value("${app.like-index.max-members:10000}") long maxMembers,
+                               @Value("${app.like-index.ttl:30m}") Duration ttl) {
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterAccess(ttl)
+                .build();
+        this.pendingLoads = Caffeine.newBuilder()
+                .expireAfterWrite(LOAD_TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public Optional<List<Long>> findLiked(Long memberId, Collection<Long> postIds) {
+        RoaringBitmap bitmap = bitmaps.getIfPresent(memberId);
+        if (bitmap == null) {
+            return Optional.empty();
+        }
+        return Optional.of(postIds.stream()
+                .filter(postId -> isIndexable(postId) && bitmap.contains(postId.intValue()))
+                .toList());
+    }
+
+    @Override
+    public String beginLoad(Long memberId) {
+        String token = UUID.randomUUID().toString();
+        pendingLoads.put(memberId, token);
+        return token;
+    }
+
+    /**
+     * 비트맵에 담을 수 없는 ID가 있으면 저장하지 않으므로 해당 회원은 계속 DB에서 조회됩니다.
+     */
+    @Override
+    public void completeLoad(Long memberId, String token, List<Long> likedPostIds) {
+        RoaringBitmap loaded = toBitmap(likedPostIds);
+        bitmaps.asMap().compute(memberId, (id, current) ->
+                pendingLoads.asMap().remove(memberId, token) && loaded != null ? loaded : current);
+    }
+
+    @Override
+    public void add(Long memberId, Long postId) {
+        update(memberId, postId, true);
+    }
+
+    @Override
+    public void remove(Long memberId, Long postId) {
+        update(memberId, postId, false);
+    }
+
+    /**
+     * 적재 완료와 같은 키 단위 잠금 안에서 실행되므로, 적재 무효화와 비트맵 교체가 서로 끼어들지 않습니다.
+     */
+    private void update(Long memberId, Long postId, boolean liked) {
+        bitmaps.asMap().compute(memberId, (id, current) -> {
+            if (current == null) {
+                pendingLoads.invalidate(memberId);
+                return null;
+            }
+            if (!isIndexable(postId)) {
+                return null;
+            }
+            RoaringBitmap updated = current.clone();
+            if (liked) {
+                updated.add(postId.intValue());
+            } else {
+                updated.remove(postId.intValue());
+            }
+            return updated;
+        });
+    }
+
+    private RoaringBitmap toBitmap(List<Long> postIds) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long postId : postIds) {
+            if (!isIndexable(postId)) {
+                return null;
+            }
+            bitmap.add(postId.intValue());
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    private boolean isIndexable(Long postId) {
+        return postId != null && postId > 0 && postId <= Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
+import com.kakaobase.snsapp.global.common.s3.service.S3ObjectReferenceChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 게시글 이미지(post_imgs.img_url)가 참조하는 S3 객체를 정리 대상에서 제외합니다.
+ *
+ * <p>변환본({@code <원본 키>_<구분자>.<확장자>})은 게시글이 만들어진 뒤에만 생기고 정리 후보로 등록되지 않으므로
+ * 원본 URL만 확인합니다. 게시글은 소프트 삭제되어 이미지 행이 남으므로 삭제된 게시글의 이미지도 참조로 봅니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostImageReferenceChecker implements S3ObjectReferenceChecker {
+
+    private final PostImageRepository postImageRepository;
+
+    @Override
+    public Collection<String> findReferencedUrls(Collection<String> imageUrls) {
+        return postImageRepository.findReferencedImgUrls(imageUrls);
+    }
+}
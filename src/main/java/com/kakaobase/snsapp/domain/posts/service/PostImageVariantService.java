@@ -0,0 +1,144 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.entity.ImageVariant;
+import com.kakaobase.snsapp.domain.posts.event.PostImagesUploadedEvent;
+import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
+import com.kakaobase.snsapp.global.common.s3.service.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 게시글 이미지 변환본 생성 서비스
+ *
+ * <p>원본을 S3에서 스트림으로 읽어 {@link ImageVariant}별 변환본을 만들고, 원본 키 옆에
+ * {@code <원본 키>_<구분자>.<확장자>}로 업로드한 뒤 URL을 {@code post_imgs}에 기록합니다.
+ * 키가 원본에 따라 정해지므로 같은 이미지를 다시 처리해도 같은 객체를 덮어쓸 뿐입니다.</p>
+ *
+ * <p>변환은 imageProcessingExecutor에서 이미지 단위로 실행되어 동시에 디코딩하는 이미지 수가 워커 수로 제한됩니다.
+ * 이미지가 아니거나, 손상되어 디코딩할 수 없거나, 크기 상한을 넘는 원본은 재시도해도 같으므로 건너뛰고(피드는 원본 URL 사용),
+ * S3 오류나 작업 거부는 예외로 전파해 아웃박스가 다시 전달하게 합니다.</p>
+ */
+@Slf4j
+@Service
+public class PostImageVariantService {
+
+    private final PostImageRepository postImageRepository;
+    private final S3Service s3Service;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final Executor imageProcessingExecutor;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long maxFileSize;
+
+    public PostImageVariantService(PostImageRepository postImageRepository,
+                                   S3Service s3Service,
+                                   ImageVariantGenerator imageVariantGenerator,
+                                   @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor,
+                                   ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                   @Value("${app.s3.max-file-size:10485760}") long maxFileSize) {
+        this.postImageRepository = postImageRepository;
+        this.s3Service = s3Service;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * 이미지들의 변환본을 워커 풀에서 생성하고 모두 끝날 때까지 기다립니다.
+     *
+     * @param images 변환할 이미지 목록
+     * @throws org.springframework.core.task.TaskRejectedException 워커 큐가 가득 찬 경우
+     * @throws RuntimeException 하나라도 재시도 가능한 오류로 실패한 경우
+     */
+    public void generateVariants(List<PostImagesUploadedEvent.Image> images) {
+        CompletableFuture<?>[] tasks = images.stream()
+                .map(image -> CompletableFuture.runAsync(() -> generate(image), imageProcessingExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void generate(PostImagesUploadedEvent.Image image) {
+        Timer.Sample sample = startTimer();
+        String result = "failed";
+        try (ResponseInputStream<GetObjectResponse> original = s3Service.getObject(image.url())) {
+            Long contentLength = original.response().contentLength();
+            if (contentLength != null && contentLength > maxFileSize) {
+                throw new IllegalArgumentException("원본 크기가 상한을 초과합니다: " + contentLength);
+            }
+
+            Map<ImageVariant, byte[]> variants = imageVariantGenerator.generate(original);
+            Map<ImageVariant, String> variantUrls = upload(image.url(), variants);
+
+            postImageRepository.updateVariantUrls(image.id(),
+                    variantUrls.get(ImageVariant.THUMBNAIL),
+                    variantUrls.get(ImageVariant.MEDIUM),
+                    variantUrls.get(ImageVariant.LARGE));
+            result = "success";
+        } catch (IllegalArgumentException e) {
+            // 디코딩 실패(IIOException)도 ImageVariantGenerator가 IllegalArgumentException으로 바꿔 던진다
+            result = "skipped";
+            log.warn("이미지 변환 건너뜀: imageId={}, url={}, 사유={}", image.id(), image.url(), e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 변환 실패: imageId=" + image.id(), e);
+        } finally {
+            record(sample, result);
+        }
+    }
+
+    private Map<ImageVariant, String> upload(String originalUrl, Map<ImageVariant, byte[]> variants) {
+        String originalKey = s3Service.extractObjectKeyFromUrl(originalUrl);
+        int extensionIndex = originalKey.lastIndexOf('.');
+        String baseKey = extensionIndex > originalKey.lastIndexOf('/') ? originalKey.substring(0, extensionIndex) : originalKey;
+
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        variants.forEach((variant, content) -> variantUrls.put(variant, s3Service.putObject(
+                baseKey + "_" + variant.keySuffix() + "." + imageVariantGenerator.fileExtension(),
+                content,
+                imageVariantGenerator.contentType())));
+        return variantUrls;
+    }
+
+    private Timer.Sample startTimer() {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        return registry != null ? Timer.start(registry) : null;
+    }
+
+    private void record(Timer.Sample sample, String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null || sample == null) {
+            return;
+        }
+
+        sample.stop(Timer.builder("post.image.variant.duration")
+                .description("게시글 이미지 한 장의 변환본 생성 소요 시간 (다운로드/디코딩/업로드 포함)")
+                .tag("result", result)
+                .register(registry));
+        Counter.builder("post.image.variant")
+                .description("게시글 이미지 변환 결과")
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+}
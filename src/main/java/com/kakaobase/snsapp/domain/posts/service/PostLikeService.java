@@ -2,12 +2,11 @@ package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
-import com.kakaobase.snsapp.domain.posts.entity.PostLike;
-import com.kakaobase.snsapp.domain.posts.exception.PostErrorCode;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.annotation.Counted;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,70 +29,70 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final MemberService memberService;
+    private final LikedPostIndex likedPostIndex;
 
     /**
-     * 게시글에 좋아요를 추가합니다.
+     * 게시글에 좋아요를 추가합니다. 이미 좋아요한 게시글이면 아무것도 바꾸지 않습니다.
      *
      * @param postId 게시글 ID
      * @param memberId 회원 ID
-     * @throws PostException 게시글이 없거나 이미 좋아요한 경우
+     * @throws PostException 게시글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "post", "action", "add"})
     @Transactional
     public void addLike(Long postId, Long memberId) {
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
-
-        // 이미 좋아요한 경우 확인
-        if (postLikeRepository.existsByMemberIdAndPostId(memberId, postId)) {
-            throw new PostException(PostErrorCode.ALREADY_LIKED);
+        // 게시글 존재 확인과 좋아요 추가를 한 문장으로 처리하고, 실제로 추가된 경우에만 좋아요 수 증가
+        if (postLikeRepository.insertIfTargetActive(memberId, postId) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId");
+            }
+            // IGNORE는 외래 키 위반도 0건으로 바꾸므로, 좋아요가 실제로 있는 경우만 이미 좋아요한 것으로 처리
+            if (!postLikeRepository.existsByMemberIdAndPostId(memberId, postId)) {
+                throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "memberId");
+            }
+            log.debug("이미 좋아요한 게시글: 게시글 ID={}, 회원 ID={}", postId, memberId);
+            return;
         }
-
-        // 좋아요 엔티티 생성 및 저장
-        PostLike postLike = new PostLike(memberId, postId);
-        postLikeRepository.save(postLike);
-
-        // 게시글 좋아요 수 증가
         postRepository.increaseLikeCount(postId);
+        likedPostIndex.onLiked(memberId, postId);
 
         log.info("게시글 좋아요 추가 완료: 게시글 ID={}, 회원 ID={}", postId, memberId);
     }
 
     /**
-     * 게시글 좋아요를 취소합니다.
+     * 게시글 좋아요를 취소합니다. 좋아요하지 않은 게시글이면 아무것도 바꾸지 않습니다.
      *
      * @param postId 게시글 ID
      * @param memberId 회원 ID
-     * @throws PostException 게시글이 없거나 좋아요하지 않은 경우
+     * @throws PostException 게시글이 없는 경우
      */
+    @Counted(value = "likes.changes", extraTags = {"target", "post", "action", "remove"})
     @Transactional
     public void removeLike(Long postId, Long memberId) {
-        // 게시글 존재 여부 확인
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
-
-        // 좋아요 존재 여부 확인
-        PostLike postLike = postLikeRepository.findByMemberIdAndPostId(memberId, postId)
-                .orElseThrow(() -> new PostException(PostErrorCode.ALREADY_UNLIKED));
-
-        // 좋아요 삭제
-        postLikeRepository.delete(postLike);
-
-        // 게시글 좋아요 수 감소
+        // 실제로 삭제된 경우에만 좋아요 수 감소
+        if (postLikeRepository.deleteIfPresent(memberId, postId) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId");
+            }
+            log.debug("좋아요하지 않은 게시글: 게시글 ID={}, 회원 ID={}", postId, memberId);
+            return;
+        }
         postRepository.decreaseLikeCount(postId);
+        likedPostIndex.onUnliked(memberId, postId);
 
         log.info("게시글 좋아요 취소 완료: 게시글 ID={}, 회원 ID={}", postId, memberId);
     }
 
     /**
      * 회원이 게시글에 좋아요했는지 확인합니다.
+     * 회원별 좋아요 인덱스가 적재되어 있으면 SQL을 실행하지 않습니다.
      *
      * @param postId 게시글 ID
      * @param memberId 회원 ID
      * @return 좋아요 여부
      */
     public boolean isLikedByMember(Long postId, Long memberId) {
-        return postLikeRepository.existsByMemberIdAndPostId(memberId, postId);
+        return likedPostIndex.isLiked(memberId, postId);
     }
 
     /**
@@ -108,6 +107,7 @@ public class PostLikeService {
 
     /**
      * 게시글 목록 중 회원이 좋아요한 게시글 ID 목록을 조회합니다.
+     * 회원별 좋아요 인덱스가 적재되어 있으면 SQL을 실행하지 않습니다.
      *
      * @param memberId 회원 ID
      * @param posts 게시글 목록
@@ -122,7 +122,7 @@ public class PostLikeService {
                 .map(Post::getId)
                 .collect(Collectors.toList());
 
-        return postLikeRepository.findPostIdsByMemberIdAndPostIdIn(memberId, postIds);
+        return likedPostIndex.findLiked(memberId, postIds);
     }
 
 //    /**
@@ -2,29 +2,36 @@ package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
+import com.kakaobase.snsapp.domain.posts.dto.PostImageUrls;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.entity.PostImage;
 import com.kakaobase.snsapp.domain.posts.event.PostCreatedEvent;
+import com.kakaobase.snsapp.domain.posts.event.YoutubeSummaryRequestedEvent;
 import com.kakaobase.snsapp.domain.posts.exception.PostErrorCode;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
-import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
 import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventPublisher;
+import com.kakaobase.snsapp.global.common.pagination.KeysetSlice;
 import com.kakaobase.snsapp.global.common.s3.service.S3Service;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
-import org.springframework.context.ApplicationEventPublisher;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -40,9 +47,9 @@ public class PostService {
     private final PostImageRepository postImageRepository;
     private final S3Service s3Service;
     private final MemberService memberService;
-    private final YouTubeSummaryService youtubeSummaryService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
     private final PostLikeService postLikeService;
+    private final YoutubeSummarySubscriptionRegistry youtubeSummarySubscriptionRegistry;
 
     /**
      * 게시글을 생성합니다.
@@ -55,8 +62,11 @@ public class PostService {
     @Transactional
     public Post createPost(Post.BoardType boardType, PostRequestDto.PostCreateRequestDto requestDto, Long memberId) {
         // 이미지 URL 유효성 검증
-        if (StringUtils.hasText(requestDto.image_url()) && !s3Service.isValidImageUrl(requestDto.image_url())) {
-            throw new PostException(PostErrorCode.INVALID_IMAGE_URL);
+        List<String> imageUrls = requestDto.imageUrls();
+        for (String imageUrl : imageUrls) {
+            if (!s3Service.isValidImageUrl(imageUrl)) {
+                throw new PostException(PostErrorCode.INVALID_IMAGE_URL);
+            }
         }
 
         String youtubeUrl = requestDto.youtube_url();
@@ -66,25 +76,26 @@ public class PostService {
         // 게시글 저장
         Post savedPost = postRepository.save(post);
 
-        if (StringUtils.hasText(requestDto.image_url())) {
-            PostImage postImage = PostConverter.toPostImage(post, 0, requestDto.image_url());
-            postImageRepository.save(postImage);
+        // 이미지는 첨부 순서대로 한 번의 배치 INSERT로 저장 (채번 테이블 ID라 JDBC 배치가 적용됨)
+        if (!imageUrls.isEmpty()) {
+            List<PostImage> postImages = postImageRepository.saveAll(PostConverter.toPostImages(savedPost, imageUrls));
+
+            // 이미지 변환본 생성 요청 기록 (커밋 이후 아웃박스 디스패처가 전달)
+            if (!postImages.isEmpty()) {
+                outboxEventPublisher.publish(OutboxEventType.POST_IMAGES_UPLOADED, savedPost.getId(),
+                        PostConverter.toPostImagesUploadedEvent(savedPost.getId(), postImages));
+            }
         }
 
-        // 트랜잭션 커밋 후 비동기 요약 실행 예약
+        // 유튜브 요약 요청 기록 (커밋 이후 아웃박스 디스패처가 전달)
         if (StringUtils.hasText(youtubeUrl)) {
-            final Long postId = savedPost.getId();  // final로 캡처
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    log.info(" 트랜잭션 커밋 완료 후 유튜브 요약 시작: postId={}", postId);
-                    youtubeSummaryService.processYoutubeSummary(postId);
-                }
-            });
+            outboxEventPublisher.publish(OutboxEventType.YOUTUBE_SUMMARY_REQUESTED, savedPost.getId(),
+                    new YoutubeSummaryRequestedEvent(savedPost.getId()));
         }
 
-        // 게시글 생성 이벤트 발행
-        applicationEventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), boardType, memberId));
+        // 게시글 생성 이벤트 기록
+        outboxEventPublisher.publish(OutboxEventType.POST_CREATED, savedPost.getId(),
+                new PostCreatedEvent(savedPost.getId(), boardType, memberId));
 
         log.info("게시글 생성 완료: 게시글 ID={}, 작성자 ID={}, 게시판={}", savedPost.getId(), memberId, boardType);
         return savedPost;
@@ -97,6 +108,7 @@ public class PostService {
      * @param memberId 현재 사용자 ID
      * @return 게시글 상세 정보
      */
+    @Timed(value = "posts.detail", description = "게시글 상세 조회 소요 시간")
     public PostResponseDto.PostDetailResponse getPostDetail(Long postId, Long memberId) {
         // 게시글 조회
         Post post = findById(postId);
@@ -113,12 +125,12 @@ public class PostService {
         // 팔로우 여부는 현재 비활성화 되어있으므로 false로 설정
         boolean isFollowing = false;
 
-        // 이미지 조회
-        List<PostImage> postImages = postImageRepository.findByPostIdOrderBySortIndexAsc(post.getId());
+        // 이미지 원본/변환본 URL 목록 조회 (이미지 수와 관계없이 한 번의 쿼리)
+        List<PostImageUrls> images = postImageRepository.findImageUrlsByPostId(post.getId());
 
         // 응답 DTO 생성 및 반환
         return PostConverter.toPostDetailResponse(
-                post, userInfo, postImages, isMine, isLiked, isFollowing);
+                post, userInfo, images, isMine, isLiked, isFollowing);
     }
 
     /**
@@ -139,6 +151,18 @@ public class PostService {
         }
     }
 
+    /**
+     * 기준 시각 이후(포함)에 작성된 게시글을 최신순으로 조회합니다.
+     *
+     * @param boardType 게시판 타입
+     * @param since 기준 시각
+     * @param limit 조회할 게시글 수
+     * @return 게시글 목록
+     */
+    public List<Post> findCreatedSince(Post.BoardType boardType, LocalDateTime since, int limit) {
+        return postRepository.findByBoardTypeCreatedSince(boardType, since, limit);
+    }
+
     /**
      * 게시글 ID로 게시글을 조회합니다.
      *
@@ -179,6 +203,7 @@ public class PostService {
     /**
      * 게시글 목록을 조회합니다.
      */
+    @Timed(value = "posts.list", description = "게시글 목록 조회 소요 시간")
     public PostResponseDto.PostListResponse getPostList(String postType, int limit, Long cursor, Long currentMemberId) {
         // 1. 유효성 검증
         if (limit < 1) {
@@ -195,7 +220,7 @@ public class PostService {
         Map<Long, Map<String, String>> memberInfoMap = getMemberInfoByPosts(posts);
 
         // 5. 게시글의 첫 번째 이미지 URL 조회
-        Map<Long, String> firstImageUrlMap = findFirstImageUrlsByPosts(posts);
+        Map<Long, PostImageUrls> firstImageMap = findFirstImagesByPosts(posts);
 
 
         // 7. 팔로우 정보 조회
@@ -211,7 +236,7 @@ public class PostService {
                 .map(post -> createPostListItem(
                         post,
                         memberInfoMap,
-                        firstImageUrlMap.get(post.getId()),
+                        firstImageMap.get(post.getId()),
                         likedPostIds,
                         followingIds,
                         currentMemberId
@@ -222,13 +247,56 @@ public class PostService {
         return PostConverter.toPostListResponse(items, "게시글을 불러오는데 성공하였습니다");
     }
 
+    /**
+     * 회원이 좋아요한 게시글 목록을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param limit 페이지 크기
+     * @param cursor 마지막으로 조회한 게시글 ID (첫 페이지에서는 null)
+     * @return 좋아요한 게시글 목록 응답
+     */
+    @Timed(value = "posts.liked", description = "좋아요한 게시글 목록 조회 소요 시간")
+    public PostResponseDto.LikedPostListResponse getLikedPostList(Long memberId, int limit, Long cursor) {
+        if (limit < 1) {
+            throw new PostException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지 확인을 위해 limit + 1개 조회
+        KeysetSlice<Post> slice = KeysetSlice.of(
+                postRepository.findPostsLikedByMemberWithCursor(memberId, cursor, KeysetSlice.probeSize(limit)), limit);
+        List<Post> pagePosts = slice.content();
+
+        // 작성자 정보와 첫 번째 이미지를 페이지 단위로 한 번씩 조회
+        Map<Long, Map<String, String>> memberInfoMap = getMemberInfoByPosts(pagePosts);
+        Map<Long, PostImageUrls> firstImageMap = findFirstImagesByPosts(pagePosts);
+
+        // 좋아요한 게시글 목록이므로 모든 게시글이 좋아요 상태
+        List<Long> likedPostIds = pagePosts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+
+        List<PostResponseDto.PostListItem> items = pagePosts.stream()
+                .map(post -> createPostListItem(
+                        post,
+                        memberInfoMap,
+                        firstImageMap.get(post.getId()),
+                        likedPostIds,
+                        List.of(),
+                        memberId
+                ))
+                .collect(Collectors.toList());
+
+        return new PostResponseDto.LikedPostListResponse(
+                "좋아요한 게시글을 불러오는데 성공하였습니다", items, slice.hasNext(), slice.nextCursor(Post::getId));
+    }
+
     /**
      * 개별 게시글을 PostListItem DTO로 변환합니다.
      */
     private PostResponseDto.PostListItem createPostListItem(
             Post post,
             Map<Long, Map<String, String>> memberInfoMap,
-            String firstImageUrl,
+            PostImageUrls firstImage,
             List<Long> likedPostIds,
             List<Long> followingIds,
             Long currentMemberId) {
@@ -252,7 +320,8 @@ public class PostService {
                 post.getId(),
                 user,
                 post.getContent(),
-                firstImageUrl,  // 변경: 미리 조회한 이미지 URL 사용
+                firstImage == null ? null : firstImage.feedUrl(),  // 미리 조회한 이미지 URL 사용 (피드용 변환본 우선)
+                firstImage == null ? null : PostConverter.toImageVariants(firstImage),
                 post.getYoutubeUrl(),
                 post.getYoutubeSummary(),
                 post.getCreatedAt(),
@@ -294,12 +363,12 @@ public class PostService {
         return memberService.getMemberInfoMapByIds(memberIds);
     }
     /**
-     * 게시글 목록의 첫 번째 이미지 URL을 조회합니다.
+     * 게시글 목록의 첫 번째 이미지 원본/변환본 URL을 조회합니다.
      *
      * @param posts 게시글 목록
      * @return 게시글 ID를 키로, 첫 번째 이미지 URL을 값으로 하는 Map
      */
-    public Map<Long, String> findFirstImageUrlsByPosts(List<Post> posts) {
+    public Map<Long, PostImageUrls> findFirstImagesByPosts(List<Post> posts) {
         if (posts.isEmpty()) {
             return Map.of();
         }
@@ -308,14 +377,14 @@ public class PostService {
                 .map(Post::getId)
                 .collect(Collectors.toList());
 
-        // 각 게시글의 첫 번째 이미지만 조회 (sortIndex가 가장 작은 것)
-        List<PostImage> firstImages = postImageRepository.findFirstImagesByPostIds(postIds);
+        // 각 게시글의 대표 이미지 URL만 조회 (sortIndex가 가장 작은 것)
+        List<PostImageUrls> thumbnails = postImageRepository.findThumbnailsByPostIds(postIds);
 
-        // postId를 키로, imgUrl을 값으로 하는 Map 생성
-        return firstImages.stream()
+        // postId를 키로, 이미지 URL을 값으로 하는 Map 생성
+        return thumbnails.stream()
                 .collect(Collectors.toMap(
-                        postImage -> postImage.getPost().getId(),
-                        PostImage::getImgUrl
+                        PostImageUrls::postId,
+                        Function.identity()
                 ));
     }
 
@@ -343,13 +412,38 @@ public class PostService {
 
 
         String summary = post.getYoutubeSummary();
+        if (summary == null) {
+            return PostResponseDto.YouTubeSummaryResponse.of(null);
+        }
 
         //summary의 상태값이 YoutubeSummaryStatus과 같다면 에러응답 반환
-        for (YoutubeSummaryStatus status : YoutubeSummaryStatus.values()) {
-            if (status.name().equals(summary)) {
-                throw new PostException(status.getPostErrorCode());
-            }
+        YoutubeSummaryResult result = YoutubeSummaryResult.fromStoredValue(summary);
+        if (!result.isSuccess()) {
+            throw new PostException(result.failure().getPostErrorCode());
         }
         return PostResponseDto.YouTubeSummaryResponse.of(summary);
     }
+
+    /**
+     * YouTube 영상 요약 완료 구독
+     *
+     * <p>요약이 저장되면 SSE로 결과(또는 실패 상태)를 한 번 보내고 연결을 종료합니다.
+     * 이미 요약이 완료된 게시글은 즉시 결과를 보냅니다.</p>
+     *
+     * @param postId 요약을 기다릴 게시글의 ID
+     * @return SSE emitter
+     * @throws PostException 게시글을 찾을 수 없거나 YouTube URL이 없는 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter subscribeYoutubeSummary(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
+        if (!StringUtils.hasText(post.getYoutubeUrl())) {
+            throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "youtubeUrl", "유튜브 링크가 없는 게시글입니다.");
+        }
+
+        // 구독 등록 이후 조회하므로 트랜잭션 스냅샷이 아닌 커밋된 최신 값을 읽어야 함 (NOT_SUPPORTED)
+        return youtubeSummarySubscriptionRegistry.subscribe(postId,
+                () -> postRepository.findYoutubeSummaryById(postId).orElse(null));
+    }
 }
\ No newline at end of file
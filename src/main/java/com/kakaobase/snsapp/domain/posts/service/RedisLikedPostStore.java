@@ -0,0 +1,159 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 좋아요한 게시글 집합 저장소 (다중 인스턴스용)
+ *
+ * <p>회원별 집합을 Redis SET으로 보관합니다. 원소가 모두 정수이므로 작은 집합은 intset으로 압축 저장되며,
+ * 여러 게시글의 좋아요 여부는 SMISMEMBER 한 번으로 확인합니다.
+ * 빈 집합도 적재 여부를 구분할 수 있도록 센티널 원소 {@code 0}을 함께 저장합니다.
+ * 적재 완료와 좋아요 반영은 Lua 스크립트로 실행되어 인스턴스 간에도 원자적입니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.like-index.store", havingValue = "redis")
+public class RedisLikedPostStore implements LikedPostStore {
+
+    private static final String KEY_PREFIX = "likes:member:";
+    private static final String SENTINEL = "0";
+    private static final Duration LOAD_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * 적재 토큰이 그대로일 때만 집합을 새로 저장합니다.
+     * ARGV: [토큰, TTL(초), 게시글 ID...]
+     */
+    private static final RedisScript<Long> COMPLETE_LOAD = RedisScript.of("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('SADD', KEYS[1], '0')
+            for i = 3, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 집합이 있으면 변경을 반영하고, 없으면 진행 중인 적재를 무효화합니다.
+     * ARGV: [SADD|SREM, 게시글 ID, TTL(초)]
+     */
+    private static final RedisScript<Long> UPDATE = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call(ARGV[1], KEYS[1], ARGV[2])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                return 1
+            end
+            redis.call('DEL', KEYS[2])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisLikedPostStore(StringRedisTemplate redisTemplate,
+                               @Value("${app.like-index.ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<List<Long>> findLiked(Long memberId, Collection<Long> postIds) {
+        List<Object> members = new ArrayList<>(postIds.size() + 1);
+        members.add(SENTINEL);
+        postIds.forEach(postId -> members.add(String.valueOf(postId)));
+
+        try {
+            Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(setKey(memberId), members.toArray());
+            if (result == null || !Boolean.TRUE.equals(result.get(SENTINEL))) {
+                return Optional.empty();
+            }
+            return Optional.of(postIds.stream()
+                    .filter(postId -> Boolean.TRUE.equals(result.get(String.valueOf(postId))))
+                    .toList());
+        } catch (Exception e) {
+            // Redis 장애 시 DB 조회로 진행
+            log.warn("좋아요 집합 조회 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String beginLoad(Long memberId) {
+        String token = UUID.randomUUID().toString();
+        try {
+            redisTemplate.opsForValue().set(loadingKey(memberId), token, LOAD_TIMEOUT);
+        } catch (Exception e) {
+            log.warn("좋아요 집합 적재 시작 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+        }
+        return token;
+    }
+
+    @Override
+    public void completeLoad(Long memberId, String token, List<Long> likedPostIds) {
+        List<String> args = new ArrayList<>(likedPostIds.size() + 2);
+        args.add(token);
+        args.add(String.valueOf(ttl.toSeconds()));
+        likedPostIds.forEach(postId -> args.add(String.valueOf(postId)));
+
+        try {
+            redisTemplate.execute(COMPLETE_LOAD, List.of(setKey(memberId), loadingKey(memberId)), args.toArray());
+        } catch (Exception e) {
+            log.warn("좋아요 집합 적재 실패 - memberId: {}, error: {}", memberId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void add(Long memberId, Long postId) {
+        update(memberId, postId, "SADD");
+    }
+
+    @Override
+    public void remove(Long memberId, Long postId) {
+        update(memberId, postId, "SREM");
+    }
+
+    /**
+     * 반영에 실패하면 TTL 동안 잘못된 좋아요 여부가 보일 수 있으므로 집합을 삭제해 다음 조회 때 다시 적재합니다.
+     */
+    private void update(Long memberId, Long postId, String command) {
+        try {
+            redisTemplate.execute(UPDATE, List.of(setKey(memberId), loadingKey(memberId)),
+                    command, String.valueOf(postId), String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("좋아요 집합 반영 실패, 집합 삭제 - memberId: {}, postId: {}, error: {}",
+                    memberId, postId, e.getMessage());
+            try {
+                redisTemplate.delete(setKey(memberId));
+            } catch (Exception deleteFailure) {
+                log.error("좋아요 집합 삭제 실패 - memberId: {}", memberId, deleteFailure);
+            }
+        }
+    }
+
+    /**
+     * 클러스터 환경에서 집합 키와 적재 키가 같은 슬롯에 배치되도록 회원 ID를 해시 태그로 감쌉니다.
+     */
+    private String setKey(Long memberId) {
+        return KEY_PREFIX + "{" + memberId + "}:posts";
+    }
+
+    private String loadingKey(Long memberId) {
+        return KEY_PREFIX + "{" + memberId + "}:loading";
+    }
+}
@@ -1,16 +1,21 @@
 package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.event.YoutubeSummaryCompletedEvent;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.util.YoutubeVideoIdParser;
 import com.kakaobase.snsapp.global.error.exception.AiServerException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.handler.WebClientErrorHandler;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -31,24 +36,57 @@ public class YouTubeSummaryService {
 
     private final WebClient webClient;
     private final PostRepository postRepository;
+    private final YoutubeSummaryCache youtubeSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
-    @Async
+    /**
+     * 게시글의 YouTube 요약을 생성하여 저장합니다.
+     *
+     * <p>아웃박스 이벤트(YOUTUBE_SUMMARY_REQUESTED) 워커 스레드에서 호출되며,
+     * 재전달되더라도 이미 요약이 저장된 게시글은 다시 요청하지 않습니다.</p>
+     *
+     * @param postId 게시글 ID
+     */
+    @Timed(value = "ai.youtube.summary", description = "YouTube 요약 비동기 처리 소요 시간")
     @Transactional
     public void processYoutubeSummary(Long postId) {
         log.info("YouTube 요약 시작");
         Post post = postRepository.findById(postId)
                 .orElseThrow(()->new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId", "유튜브 요약게시글을 찾을 수 없음"));
 
+        if (post.getYoutubeSummary() != null) {
+            log.info("이미 요약이 저장된 게시글이므로 스킵 - postId: {}", postId);
+            return;
+        }
+
         log.debug("유튜브 요약할 게시글 Post: {}, PostId {}", post, post.getId());
-        try{
-            String summary = getSummary(post.getYoutubeUrl());
-            post.updateYoutubeSummary(summary);
+        String youtubeUrl = post.getYoutubeUrl();
+
+        // 같은 영상은 URL 형태와 관계없이 캐시된 요약을 재사용 (영상 ID를 알 수 없으면 캐시 없이 요청)
+        YoutubeSummaryResult result = YoutubeVideoIdParser.parse(youtubeUrl)
+                .map(videoId -> youtubeSummaryCache.getOrLoad(videoId, () -> summarize(youtubeUrl)))
+                .orElseGet(() -> summarize(youtubeUrl));
+
+        post.updateYoutubeSummary(result.storedValue());
+
+        // 커밋 이후 SSE 구독자에게 전달
+        eventPublisher.publishEvent(new YoutubeSummaryCompletedEvent(postId, result.storedValue()));
+    }
+
+    /**
+     * AI 서버에 요약을 요청하고, AI 서버가 알려준 실패는 실패 상태로 변환합니다.
+     *
+     * @param youtubeUrl YouTube 영상 URL
+     * @return 요약 결과
+     */
+    private YoutubeSummaryResult summarize(String youtubeUrl) {
+        try {
+            return YoutubeSummaryResult.success(getSummary(youtubeUrl));
         } catch (AiServerException e) {
-            String summaryStatus = YoutubeSummaryStatus.fromAiErrorCode(e.getErrorCode()).name();
-            post.updateYoutubeSummary(summaryStatus);
+            return YoutubeSummaryResult.failure(YoutubeSummaryStatus.fromAiErrorCode(e.getErrorCode()));
         }
     }
 
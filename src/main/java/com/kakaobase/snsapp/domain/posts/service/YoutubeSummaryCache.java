@@ -0,0 +1,219 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * YouTube 요약 결과 캐시
+ *
+ * <p>같은 영상이 여러 게시글에 반복해서 공유되므로, 정규화된 영상 ID를 키로 요약 결과를 재사용합니다.</p>
+ * <ul>
+ *     <li>L1: 인스턴스 로컬 Caffeine 캐시</li>
+ *     <li>L2: Redis (선택, {@code app.youtube-summary.cache.l2-enabled})로 인스턴스 간 공유 및 재시작 후 재사용</li>
+ *     <li>single-flight: 같은 영상에 대한 동시 요청은 하나의 AI 호출 결과를 함께 기다립니다.</li>
+ *     <li>negative cache: 자막 없음, 비공개 영상 등 재시도해도 같은 실패는 짧은 TTL로 캐싱합니다.
+ *         일시적인 AI 서버 오류({@link YoutubeSummaryStatus#AI_SERVER_FAILED})는 캐싱하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class YoutubeSummaryCache {
+
+    private static final String KEY_PREFIX = "youtube:summary:";
+    private static final String SUCCESS_PREFIX = "S:";
+    private static final String FAILURE_PREFIX = "F:";
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Cache<String, YoutubeSummaryResult> localCache;
+    private final Cache<String, YoutubeSummaryResult> localNegativeCache;
+    private final Map<String, CompletableFuture<YoutubeSummaryResult>> inFlight = new ConcurrentHashMap<>();
+    private final boolean l2Enabled;
+    private final Duration l2Ttl;
+    private final Duration negativeTtl;
+
+    public YoutubeSummaryCache(ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                               ObjectProvider<MeterRegistry> meterRegistryProvider,
+                               @Value("${app.youtube-summary.cache.l1-max-size:1000}") long l1MaxSize,
+                               @Value("${app.youtube-summary.cache.l1-ttl:1h}") Duration l1Ttl,
+                               @Value("${app.youtube-summary.cache.l2-enabled:false}") boolean l2Enabled,
+                               @Value("${app.youtube-summary.cache.l2-ttl:7d}") Duration l2Ttl,
+                               @Value("${app.youtube-summary.cache.negative-ttl:10m}") Duration negativeTtl) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .build();
+        this.localNegativeCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        this.l2Enabled = l2Enabled;
+        this.l2Ttl = l2Ttl;
+        this.negativeTtl = negativeTtl;
+    }
+
+    /**
+     * 캐시된 요약을 반환하고, 없으면 loader로 한 번만 요약을 생성합니다.
+     *
+     * <p>loader가 예외를 던지면 캐싱하지 않고 기다리던 모든 호출자에게 같은 예외를 전파합니다.</p>
+     *
+     * @param videoId 정규화된 YouTube 영상 ID
+     * @param loader AI 서버 요약 호출
+     * @return 요약 결과
+     */
+    public YoutubeSummaryResult getOrLoad(String videoId, Supplier<YoutubeSummaryResult> loader) {
+        YoutubeSummaryResult cached = lookup(videoId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<YoutubeSummaryResult> future = new CompletableFuture<>();
+        CompletableFuture<YoutubeSummaryResult> existing = inFlight.putIfAbsent(videoId, future);
+        if (existing != null) {
+            count("shared");
+            return join(existing);
+        }
+
+        try {
+            // 캐시 확인과 슬롯 획득 사이에 다른 호출이 로드를 끝내고 슬롯을 비웠을 수 있으므로 다시 확인
+            YoutubeSummaryResult result = lookup(videoId);
+            if (result == null) {
+                count("miss");
+                result = loader.get();
+                put(videoId, result);
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(videoId, future);
+        }
+    }
+
+    /**
+     * L1, L2 순서로 캐시를 조회합니다. L2에서 찾으면 L1에도 적재합니다.
+     */
+    private YoutubeSummaryResult lookup(String videoId) {
+        YoutubeSummaryResult cached = getLocal(videoId);
+        if (cached != null) {
+            count("l1_hit");
+            return cached;
+        }
+
+        cached = getRemote(videoId);
+        if (cached != null) {
+            count("l2_hit");
+            putLocal(videoId, cached);
+            return cached;
+        }
+        return null;
+    }
+
+    private YoutubeSummaryResult join(CompletableFuture<YoutubeSummaryResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private YoutubeSummaryResult getLocal(String videoId) {
+        YoutubeSummaryResult result = localCache.getIfPresent(videoId);
+        return result != null ? result : localNegativeCache.getIfPresent(videoId);
+    }
+
+    private void putLocal(String videoId, YoutubeSummaryResult result) {
+        if (result.isSuccess()) {
+            localCache.put(videoId, result);
+        } else {
+            localNegativeCache.put(videoId, result);
+        }
+    }
+
+    private void put(String videoId, YoutubeSummaryResult result) {
+        if (!isCacheable(result)) {
+            return;
+        }
+        putLocal(videoId, result);
+        putRemote(videoId, result);
+    }
+
+    private boolean isCacheable(YoutubeSummaryResult result) {
+        return result.isSuccess() || result.failure() != YoutubeSummaryStatus.AI_SERVER_FAILED;
+    }
+
+    private YoutubeSummaryResult getRemote(String videoId) {
+        StringRedisTemplate redisTemplate = l2Enabled ? redisTemplateProvider.getIfAvailable() : null;
+        if (redisTemplate == null) {
+            return null;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + videoId);
+            if (value == null) {
+                return null;
+            }
+            if (value.startsWith(FAILURE_PREFIX)) {
+                return YoutubeSummaryResult.failure(YoutubeSummaryStatus.valueOf(value.substring(FAILURE_PREFIX.length())));
+            }
+            return YoutubeSummaryResult.success(value.substring(SUCCESS_PREFIX.length()));
+        } catch (Exception e) {
+            // L2 장애는 캐시 미스로 취급하고 AI 호출로 진행
+            log.warn("YouTube 요약 L2 캐시 조회 실패 - videoId: {}, error: {}", videoId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(String videoId, YoutubeSummaryResult result) {
+        StringRedisTemplate redisTemplate = l2Enabled ? redisTemplateProvider.getIfAvailable() : null;
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            if (result.isSuccess()) {
+                redisTemplate.opsForValue().set(KEY_PREFIX + videoId, SUCCESS_PREFIX + result.summary(), l2Ttl);
+            } else {
+                redisTemplate.opsForValue().set(KEY_PREFIX + videoId, FAILURE_PREFIX + result.failure().name(), negativeTtl);
+            }
+        } catch (Exception e) {
+            log.warn("YouTube 요약 L2 캐시 저장 실패 - videoId: {}, error: {}", videoId, e.getMessage());
+        }
+    }
+
+    private void count(String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Counter.builder("youtube.summary.cache")
+                .description("YouTube 요약 캐시 조회 결과")
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,146 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * YouTube 요약 완료 구독 레지스트리
+ *
+ * <p>요약이 끝날 때까지 게시글을 반복 조회하는 대신, 클라이언트는 SSE로 구독하고
+ * 요약이 저장되면 결과를 한 번 받은 뒤 연결이 종료됩니다.
+ * 구독은 이 인스턴스의 메모리에만 존재하며, 다른 인스턴스에서 완료된 요약은
+ * {@code app.youtube-summary.notify.store=redis} 설정 시 Redis pub/sub으로 전달받습니다.</p>
+ */
+@Slf4j
+@Component
+public class YoutubeSummarySubscriptionRegistry implements MeterBinder {
+
+    static final String SUMMARY_EVENT = "summary";
+    static final String FAILED_EVENT = "summary_failed";
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public YoutubeSummarySubscriptionRegistry(@Value("${app.youtube-summary.sse.timeout:60s}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("youtube.summary.subscribers", this, YoutubeSummarySubscriptionRegistry::getSubscriberCount)
+                .description("YouTube 요약 완료를 기다리는 SSE 구독 수")
+                .register(registry);
+    }
+
+    /**
+     * 게시글의 요약 완료를 구독합니다.
+     *
+     * <p>구독을 먼저 등록한 뒤 현재 저장된 값을 확인하므로, 그 사이에 완료된 요약도 놓치지 않습니다.
+     * 이미 요약이 저장되어 있으면 즉시 결과를 보내고 연결을 종료합니다.</p>
+     *
+     * @param postId 게시글 ID
+     * @param currentSummary 커밋된 요약 값 조회 (아직 없으면 null)
+     * @return SSE emitter
+     */
+    public SseEmitter subscribe(Long postId, Supplier<String> currentSummary) {
+        Subscription subscription = new Subscription(postId, new SseEmitter(timeout.toMillis()));
+        subscriptions.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        SseEmitter emitter = subscription.emitter;
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> {
+            // 클라이언트(EventSource)가 재연결하며 다시 구독
+            remove(subscription);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(subscription));
+
+        String summary = currentSummary.get();
+        if (summary != null) {
+            remove(subscription);
+            subscription.send(YoutubeSummaryResult.fromStoredValue(summary));
+        }
+        return emitter;
+    }
+
+    /**
+     * 이 인스턴스에서 게시글을 구독 중인 모든 클라이언트에게 요약 결과를 보냅니다.
+     *
+     * @param postId 게시글 ID
+     * @param result 요약 결과
+     */
+    public void deliver(Long postId, YoutubeSummaryResult result) {
+        Set<Subscription> targets = subscriptions.remove(postId);
+        if (targets == null) {
+            return;
+        }
+
+        log.debug("YouTube 요약 완료 전달 - postId: {}, subscribers: {}", postId, targets.size());
+        targets.forEach(subscription -> subscription.send(result));
+    }
+
+    int getSubscriberCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.postId, (id, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 단일 SSE 연결. 전달과 즉시 응답이 겹쳐도 결과는 한 번만 보냅니다.
+     */
+    private static final class Subscription {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sent = new AtomicBoolean();
+
+        private Subscription(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        private void send(YoutubeSummaryResult result) {
+            if (!sent.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                if (result.isSuccess()) {
+                    emitter.send(SseEmitter.event()
+                            .name(SUMMARY_EVENT)
+                            .data(CustomResponse.success("유튜브 요약에 성공하였습니다.",
+                                    PostResponseDto.YouTubeSummaryResponse.of(result.summary()))));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .name(FAILED_EVENT)
+                            .data(result.failure().getPostErrorCode().getErrorResponse()));
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 연결을 끊은 경우
+                log.debug("YouTube 요약 SSE 전송 실패 - postId: {}, error: {}", postId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * YouTube URL에서 영상 ID를 추출하는 유틸리티 클래스
+ *
+ * <p>같은 영상이라도 공유 방식에 따라 URL 형태가 달라지므로, 요약 캐시 키로는 정규화된 영상 ID를 사용합니다.
+ * 지원 형태: {@code youtube.com/watch?v=ID}, {@code youtu.be/ID}, {@code youtube.com/shorts/ID},
+ * {@code youtube.com/embed/ID}, {@code youtube.com/live/ID} (www., m., music. 서브도메인 포함)</p>
+ */
+public final class YoutubeVideoIdParser {
+
+    private static final Pattern VIDEO_ID = Pattern.compile("[A-Za-z0-9_-]{11}");
+    private static final Set<String> YOUTUBE_HOSTS = Set.of(
+            "youtube.com", "www.youtube.com", "m.youtube.com", "music.youtube.com");
+    private static final Set<String> PATH_PREFIXES = Set.of("shorts", "embed", "live", "v");
+
+    private YoutubeVideoIdParser() {
+    }
+
+    /**
+     * URL에서 영상 ID를 추출합니다.
+     *
+     * @param url YouTube URL
+     * @return 11자리 영상 ID, 지원하지 않는 형태이면 빈 값
+     */
+    public static Optional<String> parse(String url) {
+        if (url == null || url.isBlank()) {
+            return Optional.empty();
+        }
+
+        URI uri;
+        try {
+            String trimmed = url.trim();
+            uri = URI.create(trimmed.contains("://") ? trimmed : "https://" + trimmed);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        String host = uri.getHost();
+        String path = uri.getPath();
+        if (host == null || path == null) {
+            return Optional.empty();
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        String[] segments = path.replaceFirst("^/", "").split("/");
+
+        if (host.equals("youtu.be")) {
+            return validate(segments[0]);
+        }
+        if (!YOUTUBE_HOSTS.contains(host)) {
+            return Optional.empty();
+        }
+        if (segments[0].equals("watch")) {
+            return validate(queryParameter(uri.getRawQuery(), "v"));
+        }
+        if (segments.length >= 2 && PATH_PREFIXES.contains(segments[0])) {
+            return validate(segments[1]);
+        }
+        return Optional.empty();
+    }
+
+    private static String queryParameter(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return pair.substring(eq + 1);
+            }
+        }
+        return null;
+    }
+
+    private static Optional<String> validate(String candidate) {
+        if (candidate == null || !VIDEO_ID.matcher(candidate).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidate);
+    }
+}
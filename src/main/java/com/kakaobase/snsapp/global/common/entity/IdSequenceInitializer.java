@@ -0,0 +1,56 @@
+package com.kakaobase.snsapp.global.common.entity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채번 테이블의 시작 값을 기존 데이터보다 크게 맞춥니다.
+ *
+ * <p>IDENTITY에서 채번 테이블로 옮긴 테이블은 이미 AUTO_INCREMENT로 발급된 ID가 있으므로,
+ * 스케줄러나 요청이 INSERT를 시작하기 전(싱글톤 초기화 직후)에 테이블별 MAX(id) + 블록 크기 이상으로
+ * 채번 값을 올립니다. 값은 올리기만 하므로 여러 인스턴스가 동시에 기동해도 안전합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : IdSequences.TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            // pooled 옵티마이저는 읽은 값을 블록의 끝으로 보므로 블록 크기만큼 여유를 둔다
+            long floor = maxId + IdSequences.ALLOCATION_SIZE + 1;
+
+            if (!raise(table, floor)) {
+                try {
+                    jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE +
+                            " (" + IdSequences.PK_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)", table, floor);
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 먼저 만든 경우
+                    raise(table, floor);
+                }
+            }
+            log.info("ID 채번 값 확인: {} (기존 최대 ID={})", table, maxId);
+        }
+    }
+
+    /**
+     * 채번 값이 floor보다 작으면 올립니다.
+     *
+     * @return 채번 행이 존재하면 true
+     */
+    private boolean raise(String table, long floor) {
+        jdbcTemplate.update("UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ?" +
+                " WHERE " + IdSequences.PK_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?", floor, table, floor);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdSequences.TABLE +
+                " WHERE " + IdSequences.PK_COLUMN + " = ?", Integer.class, table);
+        return rows != null && rows > 0;
+    }
+}
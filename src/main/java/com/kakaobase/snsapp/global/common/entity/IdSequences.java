@@ -0,0 +1,43 @@
+package com.kakaobase.snsapp.global.common.entity;
+
+import java.util.List;
+
+/**
+ * 엔티티 ID 채번 테이블 설정
+ *
+ * <p>IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼집니다.
+ * 대신 {@value #TABLE} 테이블에서 {@value #ALLOCATION_SIZE}개씩 ID 블록을 미리 받아(pooled)
+ * 메모리에서 나눠 주므로, 여러 행을 저장할 때 INSERT를 한 번의 배치로 보낼 수 있습니다.</p>
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;GeneratedValue(strategy = GenerationType.TABLE, generator = "posts_id")
+ * &#64;TableGenerator(name = "posts_id", table = IdSequences.TABLE,
+ *         pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+ *         pkColumnValue = "posts", allocationSize = IdSequences.ALLOCATION_SIZE)
+ * </pre>
+ *
+ * <p>블록이 바닥나면 Hibernate는 현재 트랜잭션과 분리된 트랜잭션에서 채번 행을 갱신하므로, 그동안 풀에서
+ * 커넥션을 하나 더 빌립니다. 쓰기 트랜잭션이 풀을 모두 잡고 있으면 서로 두 번째 커넥션을 기다리며
+ * {@code connection-timeout}까지 멈추므로, {@code spring.datasource.hikari.maximum-pool-size}는
+ * 동시 쓰기 요청 수보다 여유 있게 잡아야 합니다. 블록당 한 번만 빌리므로 평소에는 드물게 발생합니다.</p>
+ *
+ * <p>채번 이름은 테이블 이름과 같게 두며, {@link IdSequenceInitializer}가 기동 시
+ * 기존 AUTO_INCREMENT 값보다 큰 값에서 채번을 시작하도록 맞춥니다.</p>
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * 채번 테이블을 사용하는 엔티티 테이블 목록 (채번 이름과 같음)
+     */
+    public static final List<String> TABLES = List.of(
+            "members", "auth_tokens", "posts", "post_imgs", "comments", "recomments", "s3_gc_candidates");
+
+    private IdSequences() {
+    }
+}
@@ -0,0 +1,109 @@
+package com.kakaobase.snsapp.global.common.outbox.entity;
+
+import com.kakaobase.snsapp.global.common.entity.BaseCreatedTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 이벤트 엔티티
+ * <p>
+ * 비즈니스 데이터와 같은 트랜잭션에서 저장되어, 커밋된 변경에 대해서만 이벤트가 전달되도록 보장합니다.
+ * OutboxEventDispatcher가 PENDING 상태의 이벤트를 배치로 가져가 처리하며(at-least-once),
+ * 처리 중 재시작되더라도 임대 시간(availableAt)이 지나면 다시 전달됩니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_status_available",
+                        columnList = "status, available_at, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseCreatedTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    /**
+     * 이벤트 대상 엔티티 ID (게시글 ID, 댓글 ID 등). 로그 및 추적용입니다.
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * JSON으로 직렬화된 이벤트 페이로드
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventStatus status;
+
+    /**
+     * 전달 시도 횟수 (배치로 가져갈 때마다 증가)
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 이 시각 이후에만 전달 대상이 됩니다. 처리 중 임대 만료 시각과 재시도 지연에 함께 사용됩니다.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public OutboxEvent(OutboxEventType eventType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이벤트를 처리 대상으로 가져가며 임대 만료 시각까지 다른 디스패처가 가져가지 못하게 합니다.
+     *
+     * @param leaseUntil 임대 만료 시각
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 처리 실패를 기록합니다. 최대 시도 횟수에 도달하면 FAILED로 전환되어 더 이상 전달되지 않습니다.
+     *
+     * @param error 실패 원인
+     * @param maxAttempts 최대 시도 횟수
+     * @param retryAt 다음 재시도 시각
+     */
+    public void markFailedAttempt(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+            return;
+        }
+        this.availableAt = retryAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.kakaobase.snsapp.global.common.outbox.entity;
+
+/**
+ * 아웃박스 이벤트 처리 상태
+ */
+public enum OutboxEventStatus {
+
+    /**
+     * 전달 대기 (처리 중 임대 상태 포함)
+     */
+    PENDING,
+
+    /**
+     * 핸들러 처리 완료
+     */
+    PROCESSED,
+
+    /**
+     * 최대 시도 횟수 초과로 전달 중단
+     */
+    FAILED
+}
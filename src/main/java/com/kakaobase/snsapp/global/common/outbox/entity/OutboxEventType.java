@@ -0,0 +1,29 @@
+package com.kakaobase.snsapp.global.common.outbox.entity;
+
+/**
+ * 아웃박스에 기록되는 이벤트 종류
+ *
+ * <p>각 타입은 정확히 하나의 OutboxEventHandler가 처리합니다.</p>
+ */
+public enum OutboxEventType {
+
+    /**
+     * 게시글 생성 - 봇 게시글 생성 카운터 증가
+     */
+    POST_CREATED,
+
+    /**
+     * 댓글 생성 - 봇 게시글에 달린 댓글에 대한 봇 대댓글 생성
+     */
+    COMMENT_CREATED,
+
+    /**
+     * 유튜브 링크가 포함된 게시글의 요약 요청
+     */
+    YOUTUBE_SUMMARY_REQUESTED,
+
+    /**
+     * 이미지가 첨부된 게시글의 이미지 변환본 생성 요청
+     */
+    POST_IMAGES_UPLOADED
+}
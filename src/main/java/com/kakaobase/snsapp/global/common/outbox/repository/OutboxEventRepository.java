@@ -0,0 +1,95 @@
+package com.kakaobase.snsapp.global.common.outbox.repository;
+
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEvent;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 엔티티에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 가능한 PENDING 이벤트를 잠금과 함께 조회합니다.
+     * SKIP LOCKED를 사용하여 여러 인스턴스의 디스패처가 같은 이벤트를 동시에 가져가지 않도록 합니다.
+     *
+     * @param now 기준 시각
+     * @param limit 최대 조회 수
+     * @return 처리 대상 이벤트 목록 (ID 오름차순)
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status = 'PENDING' " +
+            "AND available_at <= :now " +
+            "ORDER BY id ASC " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> findDispatchableForUpdate(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * PENDING 상태의 이벤트를 처리 완료로 표시합니다.
+     * 이미 다른 워커가 처리한 경우 0을 반환합니다.
+     *
+     * @param id 이벤트 ID
+     * @param processedAt 처리 완료 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus.PROCESSED, " +
+            "e.processedAt = :processedAt, e.lastError = NULL " +
+            "WHERE e.id = :id AND e.status = com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus.PENDING")
+    int markProcessed(@Param("id") Long id, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * 가져갔지만 실행하지 못한 PENDING 이벤트의 임대를 반납합니다.
+     * 실제로 시도하지 않았으므로 가져갈 때 늘린 시도 횟수도 되돌립니다.
+     *
+     * @param ids 이벤트 ID 목록
+     * @param now 다시 전달 가능해지는 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :now, e.attempts = e.attempts - 1 " +
+            "WHERE e.id IN :ids AND e.status = com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus.PENDING " +
+            "AND e.attempts > 0")
+    int releaseLeases(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 상태별 이벤트 수를 조회합니다. (백로그 메트릭용)
+     *
+     * @param status 이벤트 상태
+     * @return 이벤트 수
+     */
+    long countByStatus(OutboxEventStatus status);
+
+    /**
+     * 가장 오래된 PENDING 이벤트의 생성 시각을 조회합니다. (지연 메트릭용)
+     *
+     * @return 가장 오래된 생성 시각, PENDING 이벤트가 없으면 null
+     */
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e " +
+            "WHERE e.status = com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 삭제합니다.
+     *
+     * @param before 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e " +
+            "WHERE e.status = com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus.PROCESSED " +
+            "AND e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
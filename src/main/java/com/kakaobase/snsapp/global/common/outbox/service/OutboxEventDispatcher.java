@@ -0,0 +1,193 @@
+package com.kakaobase.snsapp.global.common.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEvent;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 아웃박스 이벤트 디스패처
+ *
+ * <p>주기적으로 PENDING 이벤트를 배치로 가져와(claim) taskExecutor에서 핸들러를 실행합니다.
+ * 가져갈 때 임대 만료 시각을 설정하므로, 처리 도중 서버가 재시작되어도 임대가 만료되면 이벤트가 다시 전달됩니다.
+ * 작업 큐가 가득 차 실행이 거부된 이벤트는 임대를 즉시 반납하여 다음 폴링에서 다시 가져갑니다. 실패한 이벤트는 지수 백오프로 재시도하며
+ * 최대 시도 횟수를 넘기면 FAILED로 남겨 수동 확인 대상이 됩니다.</p>
+ */
+@Slf4j
+@Component
+public class OutboxEventDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<OutboxEventType, OutboxEventHandler<?>> handlers = new EnumMap<>(OutboxEventType.class);
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.retry-base-delay-seconds:5}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${app.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Qualifier("taskExecutor") Executor taskExecutor,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                 List<OutboxEventHandler<?>> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.meterRegistryProvider = meterRegistryProvider;
+
+        for (OutboxEventHandler<?> handler : handlers) {
+            OutboxEventHandler<?> previous = this.handlers.put(handler.getEventType(), handler);
+            if (previous != null) {
+                throw new IllegalStateException("아웃박스 이벤트 핸들러 중복 등록: " + handler.getEventType());
+            }
+        }
+    }
+
+    /**
+     * 전달 가능한 이벤트를 배치로 가져와 비동기로 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<Long> claimedIds = claimBatch();
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+
+        log.debug("아웃박스 이벤트 {}건 전달 시작", claimedIds.size());
+        for (int i = 0; i < claimedIds.size(); i++) {
+            Long eventId = claimedIds.get(i);
+            try {
+                taskExecutor.execute(() -> process(eventId));
+            } catch (TaskRejectedException e) {
+                // 제출하지 못한 이벤트는 임대 만료를 기다리지 않고 다음 폴링에서 바로 다시 가져가도록 반납
+                List<Long> unsubmittedIds = claimedIds.subList(i, claimedIds.size());
+                log.warn("작업 큐가 가득 차 아웃박스 이벤트 {}건 전달 보류 - 첫 eventId: {}",
+                        unsubmittedIds.size(), eventId);
+                releaseLeases(unsubmittedIds);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트를 정리합니다.
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 0 4 * * *}")
+    public void cleanUp() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteProcessedBefore(before));
+        log.info("처리 완료된 아웃박스 이벤트 {}건 삭제 (기준: {})", deleted, before);
+    }
+
+    /**
+     * 이벤트를 짧은 트랜잭션에서 잠그고 임대 시각을 기록한 뒤 ID 목록을 반환합니다.
+     */
+    private List<Long> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findDispatchableForUpdate(now, batchSize);
+            LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+            events.forEach(event -> event.claim(leaseUntil));
+            return events.stream().map(OutboxEvent::getId).toList();
+        });
+    }
+
+    /**
+     * 가져갔지만 실행하지 못한 이벤트의 임대를 반납하고 시도 횟수를 되돌립니다.
+     */
+    private void releaseLeases(List<Long> eventIds) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.releaseLeases(List.copyOf(eventIds), LocalDateTime.now()));
+    }
+
+    /**
+     * 단일 이벤트를 처리합니다. 핸들러는 아웃박스 트랜잭션 밖에서 실행되며,
+     * 처리 결과만 별도의 짧은 트랜잭션으로 기록합니다.
+     */
+    void process(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null || event.getStatus() != OutboxEventStatus.PENDING) {
+            return;
+        }
+
+        OutboxEventType eventType = event.getEventType();
+        try {
+            OutboxEventHandler<?> handler = handlers.get(eventType);
+            if (handler == null) {
+                throw new IllegalStateException("등록된 아웃박스 이벤트 핸들러 없음: " + eventType);
+            }
+            dispatchTo(handler, event.getPayload());
+
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markProcessed(eventId, LocalDateTime.now()));
+            count(eventType, "processed");
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 처리 실패 - eventId: {}, type: {}, attempts: {}",
+                    eventId, eventType, event.getAttempts(), e);
+            recordFailure(eventId, e);
+            count(eventType, "failed");
+        }
+    }
+
+    private <T> void dispatchTo(OutboxEventHandler<T> handler, String payload) throws Exception {
+        T value = objectMapper.readValue(payload, handler.getPayloadType());
+        handler.handle(value);
+    }
+
+    private void recordFailure(Long eventId, Exception cause) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(eventId).ifPresent(event -> {
+                    long delaySeconds = retryBaseDelaySeconds << Math.min(event.getAttempts() - 1, 10);
+                    event.markFailedAttempt(cause.getMessage(), maxAttempts,
+                            LocalDateTime.now().plusSeconds(delaySeconds));
+                }));
+    }
+
+    private void count(OutboxEventType eventType, String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Counter.builder("outbox.events")
+                .description("아웃박스 이벤트 처리 결과")
+                .tag("type", eventType.name())
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,32 @@
+package com.kakaobase.snsapp.global.common.outbox.service;
+
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 핸들러
+ *
+ * <p>아웃박스는 at-least-once로 전달하므로 같은 이벤트가 두 번 이상 전달될 수 있습니다.
+ * 구현체는 중복 전달되어도 결과가 달라지지 않도록(멱등하게) 작성해야 합니다.
+ * 예외를 던지면 재시도 대상이 되고, 재시도가 의미 없는 실패는 핸들러 안에서 처리해야 합니다.</p>
+ *
+ * @param <T> 페이로드 타입
+ */
+public interface OutboxEventHandler<T> {
+
+    /**
+     * @return 처리할 이벤트 타입
+     */
+    OutboxEventType getEventType();
+
+    /**
+     * @return JSON 페이로드를 역직렬화할 타입
+     */
+    Class<T> getPayloadType();
+
+    /**
+     * 이벤트를 처리합니다. 아웃박스 트랜잭션 밖에서 호출됩니다.
+     *
+     * @param payload 이벤트 페이로드
+     */
+    void handle(T payload);
+}
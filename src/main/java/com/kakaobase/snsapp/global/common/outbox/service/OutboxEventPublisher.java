@@ -0,0 +1,57 @@
+package com.kakaobase.snsapp.global.common.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEvent;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.repository.OutboxEventRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 이벤트 발행 서비스
+ *
+ * <p>호출한 비즈니스 트랜잭션 안에서 이벤트를 outbox_events 테이블에 기록합니다.
+ * 비즈니스 데이터와 이벤트가 함께 커밋되거나 함께 롤백되므로,
+ * 커밋되지 않은 데이터에 대한 이벤트가 전달되거나 커밋된 데이터의 이벤트가 유실되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 아웃박스에 기록합니다. 반드시 진행 중인 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param eventType 이벤트 타입
+     * @param aggregateId 이벤트 대상 엔티티 ID
+     * @param payload 이벤트 페이로드 (JSON으로 직렬화됨)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType eventType, Long aggregateId, Object payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(serialize(payload))
+                .build();
+
+        outboxEventRepository.save(event);
+        log.debug("아웃박스 이벤트 기록: type={}, aggregateId={}", eventType, aggregateId);
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "payload", "아웃박스 이벤트 직렬화 실패");
+        }
+    }
+}
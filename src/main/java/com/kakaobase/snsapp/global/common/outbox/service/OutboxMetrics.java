@@ -0,0 +1,67 @@
+package com.kakaobase.snsapp.global.common.outbox.service;
+
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus;
+import com.kakaobase.snsapp.global.common.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 백로그/지연 메트릭
+ *
+ * <p>스크레이프마다 DB를 조회하지 않도록 주기적으로 집계한 값을 게이지로 노출합니다.</p>
+ * <ul>
+ *     <li>{@code outbox.backlog} - 전달 대기 중인 이벤트 수</li>
+ *     <li>{@code outbox.failed} - 최대 시도 횟수를 넘겨 중단된 이벤트 수</li>
+ *     <li>{@code outbox.lag} - 가장 오래된 대기 이벤트의 경과 시간(초)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxMetrics implements MeterBinder {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 아웃박스 이벤트 수")
+                .register(registry);
+        Gauge.builder("outbox.failed", failed, AtomicLong::get)
+                .description("전달이 중단된 아웃박스 이벤트 수")
+                .register(registry);
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * 백로그와 지연 시간을 다시 집계합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.metrics-interval-ms:15000}")
+    public void refresh() {
+        try {
+            backlog.set(outboxEventRepository.countByStatus(OutboxEventStatus.PENDING));
+            failed.set(outboxEventRepository.countByStatus(OutboxEventStatus.FAILED));
+
+            LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        } catch (Exception e) {
+            log.warn("아웃박스 메트릭 집계 실패: {}", e.getMessage());
+        }
+    }
+}
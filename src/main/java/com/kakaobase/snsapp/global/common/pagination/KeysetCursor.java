@@ -0,0 +1,59 @@
+package com.kakaobase.snsapp.global.common.pagination;
+
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (작성 시각, ID) 키셋 커서
+ *
+ * <p>클라이언트에는 "createdAt|id"를 base64url로 인코딩한 불투명한 문자열로 전달합니다.
+ * 정렬 방향은 커서가 아니라 각 쿼리가 결정합니다.</p>
+ *
+ * @param createdAt 마지막으로 조회한 항목의 작성 시각 (첫 페이지에서는 null)
+ * @param id 마지막으로 조회한 항목의 ID (첫 페이지에서는 null)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 첫 페이지를 나타내는 커서
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(null, null);
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 응답에 담을 문자열로 인코딩합니다.
+     *
+     * @return base64url 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 요청으로 받은 커서 문자열을 해석합니다.
+     *
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 null 또는 빈 문자열)
+     * @return 해석된 커서, 커서가 없으면 {@link #FIRST}
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "cursor");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kakaobase.snsapp.global.common.pagination;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 조회 결과
+ *
+ * <p>limit + 1건을 조회해 한 건이 더 있으면 다음 페이지가 있다고 판단하므로,
+ * {@code Page}와 달리 COUNT 쿼리가 필요 없습니다.</p>
+ *
+ * <pre>
+ * List&lt;T&gt; rows = repository.findXxx(..., KeysetSlice.probe(limit));
+ * KeysetSlice&lt;T&gt; slice = KeysetSlice.of(rows, limit);
+ * </pre>
+ *
+ * @param content 현재 페이지 항목 (최대 limit건)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record KeysetSlice<T>(List<T> content, boolean hasNext) {
+
+    /**
+     * 다음 페이지 여부까지 확인하기 위해 조회할 행 수를 반환합니다.
+     * LIMIT 파라미터를 직접 받는 네이티브 쿼리에 사용합니다.
+     *
+     * @param limit 한 페이지 크기
+     * @return limit + 1
+     */
+    public static int probeSize(int limit) {
+        return limit + 1;
+    }
+
+    /**
+     * 다음 페이지 여부까지 확인하기 위한 JPQL 조회 제한을 반환합니다.
+     *
+     * @param limit 한 페이지 크기
+     * @return limit + 1건 제한
+     */
+    public static Limit probe(int limit) {
+        return Limit.of(probeSize(limit));
+    }
+
+    /**
+     * limit + 1건으로 조회한 결과를 한 페이지로 자릅니다.
+     *
+     * @param rows {@link #probe(int)}로 조회한 결과
+     * @param limit 한 페이지 크기
+     * @return 현재 페이지와 다음 페이지 여부
+     */
+    public static <T> KeysetSlice<T> of(List<T> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        return new KeysetSlice<>(List.copyOf(hasNext ? rows.subList(0, limit) : rows), hasNext);
+    }
+
+    /**
+     * 마지막 항목으로 다음 페이지 커서를 만듭니다.
+     *
+     * @param cursorOf 항목에서 커서를 추출하는 함수
+     * @return 다음 페이지 커서, 마지막 페이지이면 null
+     */
+    public <C> C nextCursor(Function<? super T, C> cursorOf) {
+        return hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+    }
+}
@@ -3,6 +3,8 @@ package com.kakaobase.snsapp.global.common.s3.controller;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
 import com.kakaobase.snsapp.global.common.s3.service.S3Service;
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlBatchRequestDto;
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlRequestDto;
 import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,13 +16,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 
+import java.util.List;
+
 /**
  * S3 이미지 관련 API를 제공하는 컨트롤러
  *
@@ -43,10 +50,14 @@ public class S3Controller {
      * @param mimeType 파일의 MIME 타입 (예: image/jpeg)
      * @param type 이미지 사용 용도 (예: profile_image)
      * @return Presigned URL 정보가 포함된 응답
+     * @deprecated 발급마다 업로드 객체를 정리 후보로 등록하므로 {@code POST /images/presigned-url}을 사용합니다.
      */
+    @Deprecated
     @Operation(
             summary = "Presigned URL 발급",
-            description = "S3에 이미지를 업로드할 수 있는 Presigned URL을 발급합니다. 발급된 URL은 제한된 시간 동안만 유효합니다."
+            description = "S3에 이미지를 업로드할 수 있는 Presigned URL을 발급합니다. 발급된 URL은 제한된 시간 동안만 유효합니다. "
+                    + "POST /images/presigned-url로 대체되었습니다.",
+            deprecated = true
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -86,4 +97,91 @@ public class S3Controller {
                 CustomResponse.success("S3에 이미지를 업로드할 수 있도록 presigned URL을 발급했습니다.", response)
         );
     }
+
+    /**
+     * S3에 이미지를 업로드하기 위한 Presigned URL을 발급합니다.
+     *
+     * <p>발급할 때마다 업로드 객체를 정리 후보로 등록하므로 요청 본문으로 받는 POST를 제공합니다.
+     * 기존 GET 요청도 계속 지원합니다.</p>
+     *
+     * @param request 업로드할 파일 정보
+     * @return Presigned URL 정보가 포함된 응답
+     */
+    @Operation(
+            summary = "Presigned URL 발급",
+            description = "S3에 이미지를 업로드할 수 있는 Presigned URL을 발급합니다. 발급된 URL은 제한된 시간 동안만 유효합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Presigned URL 발급 성공",
+                    content = @Content(schema = @Schema(implementation = PresignedUrlResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 파라미터 (지원하지 않는 이미지 형식 또는 파일 크기 초과)",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 오류 (토큰 없음 또는 유효하지 않은 토큰)",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))
+            )
+    })
+    @PostMapping("/presigned-url")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CustomResponse<PresignedUrlResponseDto>> createPresignedUrl(
+            @Valid @RequestBody PresignedUrlRequestDto request
+    ) {
+        // Presigned URL 생성 및 반환
+        PresignedUrlResponseDto response = s3Service.generatePresignedUrl(
+                request.getFileName(), request.getFileSize(), request.getMimeType(), request.getType());
+
+        return ResponseEntity.ok(
+                CustomResponse.success("S3에 이미지를 업로드할 수 있도록 presigned URL을 발급했습니다.", response)
+        );
+    }
+
+    /**
+     * 여러 이미지를 S3에 업로드하기 위한 Presigned URL을 한 번에 발급합니다.
+     *
+     * @param request 업로드할 파일 목록
+     * @return 요청 순서와 같은 순서의 Presigned URL 목록
+     */
+    @Operation(
+            summary = "Presigned URL 일괄 발급",
+            description = "다중 이미지 게시글용으로 여러 파일의 Presigned URL을 한 번에 발급합니다. 하나라도 조건을 어기면 전체 요청이 실패합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Presigned URL 일괄 발급 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (파일 수 초과, 지원하지 않는 이미지 형식 또는 파일 크기 초과)",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 오류 (토큰 없음 또는 유효하지 않은 토큰)",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class))
+            )
+    })
+    @PostMapping("/presigned-urls")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CustomResponse<List<PresignedUrlResponseDto>>> getPresignedUrls(
+            @Valid @RequestBody PresignedUrlBatchRequestDto request
+    ) {
+        List<PresignedUrlResponseDto> response = s3Service.generatePresignedUrls(request.getFiles());
+
+        return ResponseEntity.ok(
+                CustomResponse.success("S3에 이미지를 업로드할 수 있도록 presigned URL을 발급했습니다.", response)
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.kakaobase.snsapp.global.common.s3.dto;
+
+import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Presigned URL 일괄 발급 요청을 위한 DTO 클래스
+ *
+ * <p>다중 이미지 게시글처럼 여러 파일을 한 번에 올릴 때, 파일 수만큼 요청하지 않고
+ * 한 번의 요청으로 모든 Presigned URL을 발급받습니다.</p>
+ *
+ * <p>API 경로: /images/presigned-urls (POST)</p>
+ */
+@Schema(description = "Presigned URL 일괄 발급 요청 DTO")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresignedUrlBatchRequestDto {
+
+    /**
+     * 업로드할 파일 목록
+     */
+    @Schema(description = "업로드할 파일 목록 (응답은 같은 순서)", required = true)
+    @NotEmpty(message = "파일 목록은 필수입니다")
+    @Size(max = PostRequestDto.MAX_IMAGES, message = "한 번에 최대 " + PostRequestDto.MAX_IMAGES + "개까지 발급할 수 있습니다")
+    @Valid
+    private List<PresignedUrlRequestDto> files;
+}
@@ -16,7 +16,7 @@ import jakarta.validation.constraints.Positive;
  * <p>이 클래스는 S3에 이미지를 업로드하기 위한 Presigned URL을 발급받을 때
  * 필요한 정보를 담고 있습니다.</p>
  *
- * <p>API 경로: /images/presigned-url (GET)</p>
+ * <p>API 경로: /images/presigned-url (GET 쿼리 파라미터, POST 요청 본문), /images/presigned-urls (POST)의 files 항목</p>
  */
 @Schema(description = "Presigned URL 발급 요청 DTO")
 @Getter
@@ -12,7 +12,7 @@ import lombok.NoArgsConstructor;
  * <p>이 클래스는 S3에 이미지를 업로드하기 위한 Presigned URL 발급 결과를
  * 클라이언트에 전달하기 위한 DTO입니다.</p>
  *
- * <p>API 경로: /images/presigned-url (GET)의 응답 형식</p>
+ * <p>API 경로: /images/presigned-url (GET, POST)의 응답 형식</p>
  */
 @Schema(description = "Presigned URL 발급 응답 DTO")
 @Getter
@@ -0,0 +1,100 @@
+package com.kakaobase.snsapp.global.common.s3.entity;
+
+import com.kakaobase.snsapp.global.common.entity.BaseCreatedTimeEntity;
+import com.kakaobase.snsapp.global.common.entity.IdSequences;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 객체 정리 후보 엔티티
+ * <p>
+ * 더 이상 쓰이지 않을 수 있는 객체 키를 큐에 넣어 두면, S3GarbageCollector가 유예 시각(availableAt) 이후
+ * 게시글/회원 테이블에서 참조 여부를 확인하고 참조되지 않는 객체만 삭제합니다.
+ * 다중 이미지 업로드는 후보를 한 번에 저장하므로 채번 테이블로 ID를 받아 INSERT를 배치로 보냅니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "s3_gc_candidates",
+        indexes = {
+                @Index(name = "idx_s3_gc_status_available",
+                        columnList = "status, available_at, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class S3GcCandidate extends BaseCreatedTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "s3_gc_candidates_id")
+    @TableGenerator(name = "s3_gc_candidates_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "s3_gc_candidates", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "reason", nullable = false, length = 40)
+    @Enumerated(EnumType.STRING)
+    private S3GcReason reason;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private S3GcStatus status;
+
+    /**
+     * 삭제 시도 횟수 (배치로 가져갈 때마다 증가)
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * 이 시각 이후에만 정리 대상이 됩니다. 유예 기간, 처리 중 임대 만료 시각, 재시도 지연에 함께 사용됩니다.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public S3GcCandidate(String objectKey, S3GcReason reason, LocalDateTime availableAt) {
+        this.objectKey = objectKey;
+        this.reason = reason;
+        this.status = S3GcStatus.PENDING;
+        this.attempts = 0;
+        this.availableAt = availableAt;
+    }
+
+    /**
+     * 후보를 처리 대상으로 가져가며 임대 만료 시각까지 다른 인스턴스가 가져가지 못하게 합니다.
+     *
+     * @param leaseUntil 임대 만료 시각
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 삭제 실패를 기록합니다. 최대 시도 횟수에 도달하면 FAILED로 전환되어 더 이상 처리되지 않습니다.
+     *
+     * @param error 실패 원인
+     * @param maxAttempts 최대 시도 횟수
+     * @param retryAt 다음 재시도 시각
+     */
+    public void markFailedAttempt(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.lastError = (error != null && error.length() > 500) ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = S3GcStatus.FAILED;
+            return;
+        }
+        this.availableAt = retryAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.kakaobase.snsapp.global.common.s3.entity;
+
+/**
+ * S3 객체가 정리 후보가 된 이유
+ */
+public enum S3GcReason {
+
+    /**
+     * Presigned URL을 발급한 업로드 - 유예 기간 안에 게시글/프로필에 등록되지 않으면 삭제
+     */
+    ORPHANED_UPLOAD,
+
+    /**
+     * 회원이 다른 이미지로 교체한 이전 프로필 이미지
+     */
+    REPLACED_PROFILE_IMAGE
+}
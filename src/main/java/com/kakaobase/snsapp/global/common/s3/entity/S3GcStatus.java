@@ -0,0 +1,17 @@
+package com.kakaobase.snsapp.global.common.s3.entity;
+
+/**
+ * S3 정리 후보 처리 상태
+ */
+public enum S3GcStatus {
+
+    /**
+     * 정리 대기 (처리 중 임대 상태 포함). 삭제되거나 참조 중으로 확인되면 행이 삭제됩니다.
+     */
+    PENDING,
+
+    /**
+     * 최대 시도 횟수 초과로 삭제 중단
+     */
+    FAILED
+}
@@ -0,0 +1,45 @@
+package com.kakaobase.snsapp.global.common.s3.repository;
+
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcCandidate;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * S3 정리 후보 엔티티에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface S3GcCandidateRepository extends JpaRepository<S3GcCandidate, Long> {
+
+    /**
+     * 유예 시각이 지난 PENDING 후보를 잠금과 함께 조회합니다.
+     * SKIP LOCKED를 사용하여 여러 인스턴스가 같은 후보를 동시에 가져가지 않도록 합니다.
+     *
+     * @param now 기준 시각
+     * @param limit 최대 조회 수
+     * @return 처리 대상 후보 목록 (ID 오름차순)
+     */
+    @Query(value = "SELECT * FROM s3_gc_candidates " +
+            "WHERE status = 'PENDING' " +
+            "AND available_at <= :now " +
+            "ORDER BY id ASC " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<S3GcCandidate> findCollectableForUpdate(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * 상태별 후보 수를 조회합니다. (백로그 메트릭용)
+     *
+     * @param status 후보 상태
+     * @return 후보 수
+     */
+    long countByStatus(S3GcStatus status);
+}
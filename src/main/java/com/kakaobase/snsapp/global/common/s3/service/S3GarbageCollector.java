@@ -0,0 +1,259 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcCandidate;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcStatus;
+import com.kakaobase.snsapp.global.common.s3.repository.S3GcCandidateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * S3 객체 정리기
+ *
+ * <p>주기적으로 유예 시각이 지난 정리 후보를 배치로 가져와(claim) 다음 순서로 처리합니다.</p>
+ * <ol>
+ *     <li>후보를 잠그고 임대 시각을 기록한 뒤 커밋합니다.</li>
+ *     <li>삭제 직전에 별도 트랜잭션(프라이머리)에서 {@link S3ObjectReferenceChecker}로 참조 여부를 확인하고,
+ *     참조 중인 후보는 큐에서 뺍니다. 가져오는 트랜잭션에서 확인하면 커밋 후 삭제 전까지 만들어진 게시글의
+ *     이미지를 지울 수 있으므로, 확인과 삭제 사이의 간격을 S3 요청 하나로 줄입니다.</li>
+ *     <li>나머지 객체를 DeleteObjects 요청으로 최대 {@value S3Service#MAX_DELETE_BATCH}개씩 삭제합니다.</li>
+ *     <li>삭제된 후보는 큐에서 빼고, 실패한 후보는 지수 백오프로 다시 시도하며
+ *     최대 시도 횟수를 넘기면 FAILED로 남겨 수동 확인 대상이 됩니다.</li>
+ * </ol>
+ * <p>가져갈 때 임대 만료 시각을 설정하므로, 삭제 도중 서버가 재시작되어도 임대가 만료되면 다시 처리됩니다.
+ * 이미 지운 객체를 다시 지워도 S3는 성공으로 응답하므로 중복 처리는 안전합니다.</p>
+ */
+@Slf4j
+@Component
+public class S3GarbageCollector {
+
+    private final S3GcCandidateRepository candidateRepository;
+    private final S3Service s3Service;
+    private final List<S3ObjectReferenceChecker> referenceCheckers;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${app.s3.gc.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.s3.gc.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.s3.gc.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.s3.gc.retry-base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    public S3GarbageCollector(S3GcCandidateRepository candidateRepository,
+                              S3Service s3Service,
+                              List<S3ObjectReferenceChecker> referenceCheckers,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        if (referenceCheckers.isEmpty()) {
+            // 참조 확인 없이 지우면 사용 중인 이미지까지 삭제된다
+            throw new IllegalStateException("등록된 S3 객체 참조 확인기가 없습니다.");
+        }
+        this.candidateRepository = candidateRepository;
+        this.s3Service = s3Service;
+        this.referenceCheckers = referenceCheckers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * 정리 가능한 후보를 배치로 가져와 참조되지 않는 객체를 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.s3.gc.poll-interval-ms:60000}")
+    public void collect() {
+        List<Candidate> claimed = claim();
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<Candidate> candidates = excludeReferenced(claimed);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> failures = delete(candidates);
+        recordResults(candidates, failures);
+    }
+
+    /**
+     * 후보를 잠그고 임대 시각을 기록합니다. 임대가 끝나기 전까지 다른 인스턴스는 같은 후보를 가져가지 않습니다.
+     */
+    private List<Candidate> claim() {
+        List<Candidate> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<S3GcCandidate> candidates = candidateRepository.findCollectableForUpdate(now, batchSize);
+
+            LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+            List<Candidate> result = new ArrayList<>(candidates.size());
+            for (S3GcCandidate candidate : candidates) {
+                candidate.claim(leaseUntil);
+                result.add(new Candidate(candidate.getId(), candidate.getObjectKey(), candidate.getReason()));
+            }
+            return result;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 삭제 직전에 참조 여부를 확인해 참조 중인 후보는 큐에서 빼고 나머지를 반환합니다.
+     * 쓰기 트랜잭션이므로 참조 확인도 프라이머리에서 읽습니다.
+     */
+    private List<Candidate> excludeReferenced(List<Candidate> claimed) {
+        List<Candidate> unreferenced = transactionTemplate.execute(status -> {
+            Set<String> referencedKeys = findReferencedKeys(claimed);
+            List<Long> referencedIds = new ArrayList<>();
+            List<Candidate> candidates = new ArrayList<>(claimed.size());
+            for (Candidate candidate : claimed) {
+                if (referencedKeys.contains(candidate.objectKey())) {
+                    referencedIds.add(candidate.id());
+                    count(candidate.reason(), "referenced");
+                } else {
+                    candidates.add(candidate);
+                }
+            }
+
+            if (!referencedIds.isEmpty()) {
+                candidateRepository.deleteAllByIdInBatch(referencedIds);
+            }
+            return candidates;
+        });
+        return unreferenced != null ? unreferenced : List.of();
+    }
+
+    /**
+     * 후보 객체 중 참조 중인 객체 키를 모읍니다.
+     * 저장된 URL의 호스트 대소문자가 다를 수 있으므로 반환된 URL을 객체 키로 되돌려 비교합니다.
+     */
+    private Set<String> findReferencedKeys(List<Candidate> claimed) {
+        List<String> imageUrls = claimed.stream()
+                .map(candidate -> s3Service.toImageUrl(candidate.objectKey()))
+                .distinct()
+                .toList();
+
+        Set<String> referencedKeys = new HashSet<>();
+        for (S3ObjectReferenceChecker checker : referenceCheckers) {
+            for (String referencedUrl : checker.findReferencedUrls(imageUrls)) {
+                if (s3Service.isValidImageUrl(referencedUrl)) {
+                    referencedKeys.add(s3Service.extractObjectKeyFromUrl(referencedUrl));
+                }
+            }
+        }
+        return referencedKeys;
+    }
+
+    /**
+     * 트랜잭션 밖에서 객체를 삭제합니다. 요청 자체가 실패하면 모든 객체를 실패로 봅니다.
+     *
+     * @return 삭제하지 못한 객체 키와 원인
+     */
+    private Map<String, String> delete(List<Candidate> candidates) {
+        List<String> objectKeys = candidates.stream()
+                .map(Candidate::objectKey)
+                .distinct()
+                .toList();
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        Timer.Sample sample = registry != null ? Timer.start(registry) : null;
+        String result = "success";
+        try {
+            Map<String, String> failures = s3Service.deleteObjects(objectKeys);
+            if (!failures.isEmpty()) {
+                result = "partial";
+                log.warn("S3 객체 일부 삭제 실패: {}/{}건, 예: {}",
+                        failures.size(), objectKeys.size(), failures.entrySet().iterator().next());
+            }
+            return failures;
+        } catch (Exception e) {
+            result = "error";
+            log.warn("S3 객체 삭제 요청 실패: {}건, 사유={}", objectKeys.size(), e.getMessage());
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            return objectKeys.stream().collect(Collectors.toMap(Function.identity(), key -> error));
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("s3.gc.delete.duration")
+                        .description("정리 배치 하나의 S3 DeleteObjects 소요 시간")
+                        .tag("result", result)
+                        .register(registry));
+            }
+        }
+    }
+
+    /**
+     * 삭제된 후보는 큐에서 빼고, 실패한 후보는 다음 재시도 시각을 기록합니다.
+     */
+    private void recordResults(List<Candidate> candidates, Map<String, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> deletedIds = new ArrayList<>();
+            List<Long> failedIds = new ArrayList<>();
+            for (Candidate candidate : candidates) {
+                if (failures.containsKey(candidate.objectKey())) {
+                    failedIds.add(candidate.id());
+                } else {
+                    deletedIds.add(candidate.id());
+                    count(candidate.reason(), "deleted");
+                }
+            }
+
+            if (!deletedIds.isEmpty()) {
+                candidateRepository.deleteAllByIdInBatch(deletedIds);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (S3GcCandidate candidate : candidateRepository.findAllById(failedIds)) {
+                long delaySeconds = retryBaseDelaySeconds << Math.min(candidate.getAttempts() - 1, 10);
+                candidate.markFailedAttempt(failures.get(candidate.getObjectKey()), maxAttempts,
+                        now.plusSeconds(delaySeconds));
+
+                if (candidate.getStatus() == S3GcStatus.FAILED) {
+                    log.error("S3 객체 삭제 중단 (최대 시도 횟수 초과) - key: {}, 사유: {}",
+                            candidate.getObjectKey(), candidate.getLastError());
+                    count(candidate.getReason(), "abandoned");
+                } else {
+                    count(candidate.getReason(), "retry");
+                }
+            }
+        });
+    }
+
+    private void count(S3GcReason reason, String result) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Counter.builder("s3.gc.objects")
+                .description("S3 정리 후보 처리 결과")
+                .tag("reason", reason.name())
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 트랜잭션 밖에서 다루는 후보 정보
+     */
+    private record Candidate(Long id, String objectKey, S3GcReason reason) {
+    }
+}
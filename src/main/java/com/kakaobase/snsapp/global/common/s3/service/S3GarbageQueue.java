@@ -0,0 +1,57 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcCandidate;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.repository.S3GcCandidateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * S3 객체 정리 후보 큐
+ *
+ * <p>후보는 이유별 유예 기간이 지난 뒤에 {@link S3GarbageCollector}의 처리 대상이 됩니다.
+ * 호출자의 트랜잭션에 참여하므로, 프로필 이미지 교체처럼 DB 변경과 함께 등록하면 변경이 커밋될 때만 후보가 남습니다.</p>
+ */
+@Service
+public class S3GarbageQueue {
+
+    private final S3GcCandidateRepository candidateRepository;
+    private final Map<S3GcReason, Duration> gracePeriods = new EnumMap<>(S3GcReason.class);
+
+    public S3GarbageQueue(S3GcCandidateRepository candidateRepository,
+                          @Value("${app.s3.gc.orphan-grace:24h}") Duration orphanGrace,
+                          @Value("${app.s3.gc.replaced-grace:10m}") Duration replacedGrace) {
+        this.candidateRepository = candidateRepository;
+        gracePeriods.put(S3GcReason.ORPHANED_UPLOAD, orphanGrace);
+        gracePeriods.put(S3GcReason.REPLACED_PROFILE_IMAGE, replacedGrace);
+    }
+
+    /**
+     * 객체 키들을 정리 후보로 등록합니다.
+     *
+     * @param objectKeys 객체 키 목록
+     * @param reason 정리 후보가 된 이유
+     */
+    @Transactional
+    public void enqueue(Collection<String> objectKeys, S3GcReason reason) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime availableAt = LocalDateTime.now().plus(gracePeriods.get(reason));
+        candidateRepository.saveAll(objectKeys.stream()
+                .map(objectKey -> S3GcCandidate.builder()
+                        .objectKey(objectKey)
+                        .reason(reason)
+                        .availableAt(availableAt)
+                        .build())
+                .toList());
+    }
+}
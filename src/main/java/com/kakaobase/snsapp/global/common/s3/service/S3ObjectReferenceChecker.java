@@ -0,0 +1,21 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import java.util.Collection;
+
+/**
+ * 이미지 URL을 저장하는 도메인이 구현하는 참조 확인기
+ *
+ * <p>{@link S3GarbageCollector}는 등록된 모든 구현체 중 하나라도 참조 중이라고 답한 객체는 삭제하지 않습니다.
+ * 이미지 URL 컬럼을 새로 추가하면 해당 도메인에 구현체를 함께 등록해야 합니다.</p>
+ */
+public interface S3ObjectReferenceChecker {
+
+    /**
+     * 주어진 이미지 URL 중 현재 참조 중인 URL을 반환합니다.
+     * 복제 지연으로 방금 생긴 참조를 놓치지 않도록 쓰기 트랜잭션(프라이머리) 안에서 호출됩니다.
+     *
+     * @param imageUrls 확인할 이미지 URL 목록 (최대 app.s3.gc.batch-size개)
+     * @return 참조 중인 URL
+     */
+    Collection<String> findReferencedUrls(Collection<String> imageUrls);
+}
@@ -0,0 +1,115 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import java.util.Locale;
+
+/**
+ * 버킷의 객체 키와 공개 이미지 URL({@code https://{bucket}.s3.{region}.amazonaws.com/{key}})을 서로 변환합니다.
+ *
+ * <p>URL 접두사는 생성 시 한 번만 만들어 두고, 검증은 문자열 포함 여부가 아니라 구조로 판단합니다.</p>
+ * <ul>
+ *     <li>scheme/host/port - URL이 {@code https://{host}/}로 시작해야 합니다 (host는 대소문자 무시).
+ *     host 바로 뒤가 {@code /}여야 하므로 {@code user@host}, {@code host.evil.com}, 포트 지정은 통과하지 못합니다.</li>
+ *     <li>path - 나머지가 비어 있지 않은 객체 키여야 하며, 쿼리/프래그먼트/퍼센트 인코딩/역슬래시와
+ *     빈 세그먼트나 {@code .}, {@code ..} 세그먼트를 허용하지 않습니다.</li>
+ * </ul>
+ */
+public final class S3ObjectUrls {
+
+    /**
+     * S3 객체 키 최대 길이 (UTF-8 1024바이트, 키는 ASCII만 허용하므로 문자 수와 같음)
+     */
+    private static final int MAX_KEY_LENGTH = 1024;
+
+    private final String host;
+    private final String urlPrefix;
+
+    public S3ObjectUrls(String bucketName, String region) {
+        this.host = (bucketName + ".s3." + region + ".amazonaws.com").toLowerCase(Locale.ROOT);
+        this.urlPrefix = "https://" + host + "/";
+    }
+
+    /**
+     * @return 버킷 가상 호스트 (예: kakaobase.s3.ap-northeast-2.amazonaws.com)
+     */
+    public String host() {
+        return host;
+    }
+
+    /**
+     * 객체 키로 이미지 URL을 만듭니다.
+     *
+     * @param objectKey 객체 키
+     * @return 이미지 URL
+     */
+    public String toUrl(String objectKey) {
+        return urlPrefix.concat(objectKey);
+    }
+
+    /**
+     * 이미지 URL이 이 버킷의 객체를 가리키면 객체 키를, 아니면 null을 반환합니다.
+     *
+     * @param url 이미지 URL
+     * @return 객체 키 (유효하지 않으면 null)
+     */
+    public String toObjectKey(String url) {
+        if (url == null || url.length() <= urlPrefix.length()
+                || !url.regionMatches(true, 0, urlPrefix, 0, urlPrefix.length())) {
+            return null;
+        }
+
+        String objectKey = url.substring(urlPrefix.length());
+        return isValidObjectKey(objectKey) ? objectKey : null;
+    }
+
+    /**
+     * 이미지 URL이 이 버킷의 객체를 가리키는지 확인합니다.
+     *
+     * @param url 이미지 URL
+     * @return 유효하면 true
+     */
+    public boolean isValid(String url) {
+        return toObjectKey(url) != null;
+    }
+
+    private static boolean isValidObjectKey(String objectKey) {
+        int length = objectKey.length();
+        if (length > MAX_KEY_LENGTH) {
+            return false;
+        }
+
+        int segmentStart = 0;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? objectKey.charAt(i) : '/';
+            if (c == '/') {
+                if (!isValidSegment(objectKey, segmentStart, i)) {
+                    return false;
+                }
+                segmentStart = i + 1;
+            } else if (!isAllowedKeyChar(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidSegment(String objectKey, int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return false;
+        }
+        if (objectKey.charAt(start) != '.') {
+            return true;
+        }
+        return length > 2 || (length == 2 && objectKey.charAt(start + 1) != '.');
+    }
+
+    /**
+     * S3가 안전하다고 분류한 문자(영숫자, {@code !-_.*'()})만 허용합니다. 업로드 키는 UUID와 확장자로 만들어집니다.
+     */
+    private static boolean isAllowedKeyChar(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '!' || c == '*' || c == '\'' || c == '(' || c == ')';
+    }
+}
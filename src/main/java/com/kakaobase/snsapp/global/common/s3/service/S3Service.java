@@ -1,23 +1,32 @@
 package com.kakaobase.snsapp.global.common.s3.service;
 
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlRequestDto;
 import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlResponseDto;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
 import com.kakaobase.snsapp.global.common.s3.exception.S3ErrorCode;
 import com.kakaobase.snsapp.global.common.s3.exception.S3Exception;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -25,35 +34,60 @@ import java.util.UUID;
  *
  * <p>이 클래스는 Amazon S3와의 상호작용을 담당하며, Presigned URL 생성,
  * 이미지 URL 검증, S3 객체 삭제 등의 기능을 제공합니다.</p>
+ *
+ * <p>이미지 URL과 객체 키의 변환/검증은 기동 시 만든 {@link S3ObjectUrls}가 담당하고,
+ * S3Presigner는 Spring Cloud AWS가 등록한 싱글톤 빈(자격 증명/서명 키 캐시 포함)을 재사용합니다.</p>
+ *
+ * <p>Presigned URL로 발급한 객체 키는 {@link S3GarbageQueue}에 정리 후보로 등록되어,
+ * 유예 기간 안에 게시글/프로필에 등록되지 않으면 {@link S3GarbageCollector}가 삭제합니다.</p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
-
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
-
-    @Value("${spring.cloud.aws.region.static}")
-    private String region;
-
-    // ✅ 커스텀 설정은 별도 네임스페이스에서
-    @Value("${app.s3.expiration-time:300}")
-    private int expirationTime;
-
-    @Value("${app.s3.max-file-size:10485760}")
-    private long maxFileSize;
-
     /**
-     * 허용된 MIME 타입 목록
+     * 허용된 MIME 타입과 객체 키에 붙일 확장자
+     *
+     * <p>확장자는 클라이언트 파일명이 아니라 MIME 타입으로 정하므로, 객체 키에는 검증 가능한 문자만 들어갑니다.</p>
      */
-    private static final List<String> ALLOWED_MIME_TYPES = List.of(
-            "image/jpeg", "image/jpg", "image/png", "image/gif"
+    private static final Map<String, String> EXTENSIONS_BY_MIME_TYPE = Map.of(
+            "image/jpeg", "jpg",
+            "image/jpg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif"
     );
 
+    /**
+     * DeleteObjects 요청 하나에 담을 수 있는 최대 객체 수 (S3 제한)
+     */
+    public static final int MAX_DELETE_BATCH = 1000;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3GarbageQueue garbageQueue;
+    private final String bucketName;
+    private final S3ObjectUrls objectUrls;
+    private final Duration signatureDuration;
+    private final int expirationTime;
+    private final long maxFileSize;
+
+    public S3Service(S3Client s3Client,
+                     S3Presigner s3Presigner,
+                     S3GarbageQueue garbageQueue,
+                     @Value("${spring.cloud.aws.s3.bucket}") String bucketName,
+                     @Value("${spring.cloud.aws.region.static}") String region,
+                     @Value("${app.s3.expiration-time:300}") int expirationTime,
+                     @Value("${app.s3.max-file-size:10485760}") long maxFileSize) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.garbageQueue = garbageQueue;
+        this.bucketName = bucketName;
+        this.objectUrls = new S3ObjectUrls(bucketName, region);
+        this.signatureDuration = Duration.ofSeconds(expirationTime);
+        this.expirationTime = expirationTime;
+        this.maxFileSize = maxFileSize;
+    }
+
     /**
      * Presigned URL을 생성합니다.
      *
@@ -67,76 +101,60 @@ public class S3Service {
      */
     public PresignedUrlResponseDto generatePresignedUrl(
             String fileName, Long fileSize, String mimeType, String type) {
-        // 파일 타입 검증
-        if (!ALLOWED_MIME_TYPES.contains(mimeType)) {
-            throw new S3Exception(S3ErrorCode.UNSUPPORTED_IMAGE_FORMAT);
-        }
+        String extension = validateUpload(fileSize, mimeType, null);
+        String objectKey = generateObjectKey(type, extension);
 
-        // 파일 크기 검증
-        if (fileSize > maxFileSize) {
-            throw new S3Exception(S3ErrorCode.FILE_SIZE_EXCEEDED);
-        }
-
-        try {
-            // 파일 경로 및 이름 생성 (타입에 따라 폴더 구분)
-            String objectKey = generateObjectKey(type, fileName);
-
-            // PutObjectRequest 생성
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(objectKey)
-                    .contentType(mimeType)
-                    .build();
-
-            // Presigned PUT URL 생성 요청
-            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-                    .signatureDuration(Duration.ofSeconds(expirationTime))
-                    .putObjectRequest(putObjectRequest)
-                    .build();
+        // URL을 내주기 전에 등록해야 업로드 후 게시글이 만들어지지 않은 객체도 정리된다
+        garbageQueue.enqueue(List.of(objectKey), S3GcReason.ORPHANED_UPLOAD);
+        return presign(objectKey, mimeType);
+    }
 
-            // Presigned URL 생성
-            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
-            URL presignedUrl = presignedRequest.url();
+    /**
+     * 여러 파일의 Presigned URL을 한 번에 생성합니다 (다중 이미지 게시글).
+     *
+     * <p>모든 파일을 먼저 검증하므로, 하나라도 조건을 어기면 URL을 하나도 발급하지 않습니다.
+     * 서명은 로컬 연산이라 파일 수만큼 S3를 호출하지 않습니다.</p>
+     *
+     * @param files 업로드할 파일 목록
+     * @return 요청 순서와 같은 순서의 Presigned URL 목록
+     * @throws S3Exception 검증 실패 시 (field는 {@code files[i].mimeType} 형태) 또는 서명 오류 시
+     */
+    public List<PresignedUrlResponseDto> generatePresignedUrls(List<PresignedUrlRequestDto> files) {
+        List<String> objectKeys = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            PresignedUrlRequestDto file = files.get(i);
+            String extension = validateUpload(file.getFileSize(), file.getMimeType(), "files[" + i + "].");
+            objectKeys.add(generateObjectKey(file.getType(), extension));
+        }
 
-            // 이미지 접근 URL 생성
-            String imageUrl = generateImageUrl(objectKey);
+        garbageQueue.enqueue(objectKeys, S3GcReason.ORPHANED_UPLOAD);
 
-            return PresignedUrlResponseDto.builder()
-                    .presigned_url(presignedUrl.toString())
-                    .image_url(imageUrl)
-                    .expires_in(expirationTime)
-                    .build();
-        } catch (Exception e) {
-            log.error("S3 Presigned URL 생성 실패", e);
-            throw new S3Exception(GeneralErrorCode.INTERNAL_SERVER_ERROR);
+        List<PresignedUrlResponseDto> responses = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            responses.add(presign(objectKeys.get(i), files.get(i).getMimeType()));
         }
+        return responses;
     }
 
     /**
-     * 이미지 URL이 유효한지 확인합니다 (버킷 내 경로인지).
+     * 이미지 URL이 유효한지 확인합니다 (이 버킷의 객체 URL인지).
      *
      * @param imageUrl 확인할 이미지 URL
      * @return 유효한 URL이면 true, 그렇지 않으면 false
      */
     public boolean isValidImageUrl(String imageUrl) {
-        if (imageUrl == null || imageUrl.isEmpty()) {
-            return false;
-        }
-
-        String bucketDomain = bucketName + ".s3." + region + ".amazonaws.com";
-        return imageUrl.contains(bucketDomain);
+        return objectUrls.isValid(imageUrl);
     }
 
     /**
      * S3에서 객체를 삭제합니다.
      *
      * @param imageUrl 삭제할 이미지의 URL
-     * @throws S3Exception S3 객체 삭제 중 오류 발생 시
+     * @throws S3Exception 이 버킷의 URL이 아니거나, S3 객체 삭제 중 오류 발생 시
      */
     public void deleteObject(String imageUrl) {
+        String objectKey = extractObjectKeyFromUrl(imageUrl);
         try {
-            String objectKey = extractObjectKeyFromUrl(imageUrl);
-
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                     .bucket(bucketName)
                     .key(objectKey)
@@ -151,54 +169,90 @@ public class S3Service {
     }
 
     /**
-     * 타입별 S3 객체 키를 생성합니다.
+     * 여러 객체를 DeleteObjects 요청으로 최대 {@value #MAX_DELETE_BATCH}개씩 나눠 삭제합니다.
+     * 없는 키를 삭제해도 S3는 성공으로 응답하므로 같은 키를 다시 삭제해도 됩니다.
      *
-     * @param type 이미지 타입 (profile_image, post_image 등)
-     * @param originalFilename 원본 파일명
-     * @return 생성된 객체 키
+     * @param objectKeys 삭제할 객체 키 목록
+     * @return 삭제하지 못한 객체 키와 S3 오류 (모두 삭제되면 빈 맵)
+     * @throws software.amazon.awssdk.core.exception.SdkException 요청 자체가 실패한 경우
      */
-    private String generateObjectKey(String type, String originalFilename) {
-        // 확장자 추출
-        String extension = getFileExtension(originalFilename);
-        // UUID 생성
-        String uuid = UUID.randomUUID().toString();
+    public Map<String, String> deleteObjects(List<String> objectKeys) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (int from = 0; from < objectKeys.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> objects = objectKeys.subList(from, Math.min(from + MAX_DELETE_BATCH, objectKeys.size()))
+                    .stream()
+                    .map(objectKey -> ObjectIdentifier.builder().key(objectKey).build())
+                    .toList();
 
-        // 타입에 따른 경로 설정
-        String path;
-        if ("profile_image".equals(type)) {
-            path = "profiles";
-        } else if ("post_image".equals(type)) {
-            path = "post_image";
+            // quiet 모드: 실패한 키만 응답에 담긴다
+            DeleteObjectsResponse response = s3Client.deleteObjects(request -> request
+                    .bucket(bucketName)
+                    .delete(delete -> delete.objects(objects).quiet(true)));
+            response.errors().forEach(error -> failures.put(error.key(), error.code() + ": " + error.message()));
         }
-        else {
-            path = "others";
+        return failures;
+    }
+
+    /**
+     * 더 이상 쓰이지 않을 수 있는 이미지를 정리 후보로 등록합니다.
+     * 이 버킷의 객체가 아니면(외부 URL, 기본 이미지 URL 등) 무시하며, 실제 삭제 전에 참조 여부를 다시 확인합니다.
+     *
+     * @param imageUrl 이미지 URL (nullable)
+     * @param reason 정리 후보가 된 이유
+     */
+    public void scheduleDeletion(String imageUrl, S3GcReason reason) {
+        String objectKey = objectUrls.toObjectKey(imageUrl);
+        if (objectKey != null) {
+            garbageQueue.enqueue(List.of(objectKey), reason);
         }
+    }
 
-        return String.format("%s/%s.%s", path, uuid, extension);
+    /**
+     * 객체 키로 이미지 URL을 만듭니다.
+     *
+     * @param objectKey 객체 키
+     * @return 이미지 URL
+     */
+    public String toImageUrl(String objectKey) {
+        return objectUrls.toUrl(objectKey);
     }
 
     /**
-     * 파일 확장자를 추출합니다.
+     * 이미지 URL이 가리키는 S3 객체를 스트림으로 엽니다.
+     * 호출자가 스트림을 닫아야 하며, 응답 메타데이터(contentLength 등)는 {@code response()}로 확인합니다.
      *
-     * @param fileName 파일명
-     * @return 파일 확장자
+     * @param imageUrl 이미지 URL
+     * @return 객체 본문 스트림
      */
-    private String getFileExtension(String fileName) {
-        if (fileName == null || !fileName.contains(".")) {
-            return "jpg";  // 기본 확장자
-        }
-        return fileName.substring(fileName.lastIndexOf(".") + 1);
+    public ResponseInputStream<GetObjectResponse> getObject(String imageUrl) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(extractObjectKeyFromUrl(imageUrl))
+                .build();
+
+        return s3Client.getObject(getObjectRequest);
     }
 
     /**
-     * 객체 키로부터 이미지 URL을 생성합니다.
+     * 서버에서 만든 객체(이미지 변환본 등)를 업로드합니다.
+     * 같은 키로 다시 업로드하면 덮어쓰므로 재처리해도 결과가 같습니다.
      *
      * @param objectKey S3 객체 키
-     * @return 이미지 접근 URL
+     * @param content 객체 본문
+     * @param contentType Content-Type
+     * @return 업로드한 객체의 이미지 URL
      */
-    private String generateImageUrl(String objectKey) {
-        return String.format("https://%s.s3.%s.amazonaws.com/%s",
-                bucketName, region, objectKey);
+    public String putObject(String objectKey, byte[] content, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(contentType)
+                // 키가 내용에 따라 정해지므로 클라이언트/CDN이 오래 캐시해도 된다
+                .cacheControl("public, max-age=31536000, immutable")
+                .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+        return objectUrls.toUrl(objectKey);
     }
 
     /**
@@ -206,10 +260,87 @@ public class S3Service {
      *
      * @param imageUrl 이미지 URL
      * @return 추출된 객체 키
+     * @throws S3Exception 이 버킷의 객체 URL이 아닌 경우
+     */
+    public String extractObjectKeyFromUrl(String imageUrl) {
+        String objectKey = objectUrls.toObjectKey(imageUrl);
+        if (objectKey == null) {
+            throw new S3Exception(S3ErrorCode.INVALID_IMAGE_URL);
+        }
+        return objectKey;
+    }
+
+    /**
+     * 업로드 조건을 검증하고 객체 키 확장자를 반환합니다.
+     *
+     * @param fieldPrefix 일괄 요청에서 오류 필드 앞에 붙일 경로 (단건 요청은 null)
+     */
+    private String validateUpload(Long fileSize, String mimeType, String fieldPrefix) {
+        // 파일 타입 검증
+        String extension = mimeType == null ? null : EXTENSIONS_BY_MIME_TYPE.get(mimeType);
+        if (extension == null) {
+            throw fieldPrefix == null
+                    ? new S3Exception(S3ErrorCode.UNSUPPORTED_IMAGE_FORMAT)
+                    : new S3Exception(S3ErrorCode.UNSUPPORTED_IMAGE_FORMAT, fieldPrefix + "mimeType");
+        }
+
+        // 파일 크기 검증
+        if (fileSize == null || fileSize > maxFileSize) {
+            throw fieldPrefix == null
+                    ? new S3Exception(S3ErrorCode.FILE_SIZE_EXCEEDED)
+                    : new S3Exception(S3ErrorCode.FILE_SIZE_EXCEEDED, fieldPrefix + "fileSize");
+        }
+        return extension;
+    }
+
+    private PresignedUrlResponseDto presign(String objectKey, String mimeType) {
+        try {
+            // PutObjectRequest 생성
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .contentType(mimeType)
+                    .build();
+
+            // Presigned PUT URL 생성 요청
+            PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                    .signatureDuration(signatureDuration)
+                    .putObjectRequest(putObjectRequest)
+                    .build();
+
+            // Presigned URL 생성
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
+
+            return PresignedUrlResponseDto.builder()
+                    .presigned_url(presignedRequest.url().toString())
+                    .image_url(objectUrls.toUrl(objectKey))
+                    .expires_in(expirationTime)
+                    .build();
+        } catch (Exception e) {
+            log.error("S3 Presigned URL 생성 실패", e);
+            throw new S3Exception(GeneralErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 타입별 S3 객체 키를 생성합니다.
+     *
+     * @param type 이미지 타입 (profile_image, post_image 등)
+     * @param extension MIME 타입에 해당하는 확장자
+     * @return 생성된 객체 키
      */
-    private String extractObjectKeyFromUrl(String imageUrl) {
-        String baseUrl = String.format("https://%s.s3.%s.amazonaws.com/",
-                bucketName, region);
-        return imageUrl.substring(baseUrl.length());
+    private String generateObjectKey(String type, String extension) {
+        // 타입에 따른 경로 설정
+        String path;
+        if ("profile_image".equals(type)) {
+            path = "profiles";
+        } else if ("post_image".equals(type)) {
+            path = "post_image";
+        }
+        else {
+            path = "others";
+        }
+
+        return path + "/" + UUID.randomUUID() + "." + extension;
     }
-}
\ No newline at end of file
+}
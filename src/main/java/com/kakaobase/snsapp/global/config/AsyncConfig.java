@@ -1,5 +1,9 @@
 package com.kakaobase.snsapp.global.config;
 
+import com.kakaobase.snsapp.global.monitoring.TracingTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,7 +14,8 @@ import java.util.concurrent.Executor;
 /**
  * 비동기 처리 설정
  *
- * <p>Spring의 @Async 어노테이션을 위한 설정입니다.</p>
+ * <p>Spring의 @Async 어노테이션을 위한 설정입니다.
+ * 등록된 ThreadPoolTaskExecutor는 Actuator가 executor.* 메트릭(활성 스레드, 큐 대기 수 등)으로 자동 수집합니다.</p>
  */
 @Configuration
 @EnableAsync
@@ -19,10 +24,11 @@ public class AsyncConfig {
     /**
      * 비동기 작업을 위한 ThreadPoolTaskExecutor 빈 생성
      *
+     * @param meterRegistryProvider 큐 대기 시간 기록용 MeterRegistry
      * @return 설정된 TaskExecutor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 코어 스레드 개수
@@ -37,9 +43,39 @@ public class AsyncConfig {
         // 스레드 이름 prefix
         executor.setThreadNamePrefix("sns-async-");
 
+        // 요청 스레드의 트레이스 컨텍스트를 비동기 작업으로 전파
+        executor.setTaskDecorator(new TracingTaskDecorator(meterRegistryProvider, "taskExecutor"));
+
         // 초기화
         executor.initialize();
 
         return executor;
     }
+
+    /**
+     * 게시글 이미지 변환 전용 ThreadPoolTaskExecutor 빈 생성
+     *
+     * <p>이미지 디코딩/인코딩은 CPU와 메모리를 많이 쓰므로 taskExecutor와 분리하고 스레드 수를 고정합니다.
+     * 큐가 가득 차면 작업을 거부(TaskRejectedException)하며, 아웃박스가 임대 만료 후 다시 전달합니다.</p>
+     *
+     * @param workers 동시에 변환할 이미지 수
+     * @param queueCapacity 대기 가능한 이미지 수
+     * @param meterRegistryProvider 큐 대기 시간 기록용 MeterRegistry
+     * @return 설정된 TaskExecutor
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public Executor imageProcessingExecutor(
+            @Value("${app.post-image.variant.workers:2}") int workers,
+            @Value("${app.post-image.variant.queue-capacity:50}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sns-image-");
+        executor.setTaskDecorator(new TracingTaskDecorator(meterRegistryProvider, "imageProcessingExecutor"));
+        executor.initialize();
+
+        return executor;
+    }
 }
\ No newline at end of file
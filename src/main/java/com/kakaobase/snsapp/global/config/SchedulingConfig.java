@@ -0,0 +1,16 @@
+package com.kakaobase.snsapp.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>@Scheduled 작업(아웃박스 이벤트 전달, 아웃박스 메트릭 집계 등)을 활성화합니다.
+ * 스케줄러 스레드는 Spring Boot가 자동 구성하는 ThreadPoolTaskScheduler를 사용하며,
+ * 실제 작업 처리는 각 작업이 taskExecutor로 넘깁니다.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,18 +1,25 @@
 package com.kakaobase.snsapp.global.config;
 
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.LoggingCodecSupport;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -20,31 +27,76 @@ import java.util.concurrent.TimeUnit;
 /**
  * WebClient 설정
  *
- * <p>외부 API 통신을 위한 WebClient 빈을 설정합니다.</p>
+ * <p>외부 API 통신을 위한 WebClient 빈을 설정합니다.
+ * AI 서버 전용 커넥션 풀을 사용하며, 풀 크기와 유휴 연결 정리 주기, h2c 사용 여부는
+ * {@code ai.server.http.*} 설정으로 조정합니다.</p>
  */
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    /**
+     * AI 서버 전용 커넥션 풀
+     *
+     * <p>기본 공유 풀 대신 AI 서버 전용 풀을 두어 최대 연결 수와 대기열 크기를 제한합니다.
+     * 유휴 연결은 서버나 로드밸런서가 먼저 끊기 전에 백그라운드에서 정리하며,
+     * 풀 상태는 {@code reactor.netty.connection.provider.*} 메트릭으로 노출됩니다.</p>
+     *
+     * @return AI 서버용 ConnectionProvider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiServerConnectionProvider(
+            @Value("${ai.server.http.max-connections:50}") int maxConnections,
+            @Value("${ai.server.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${ai.server.http.pending-acquire-timeout:10s}") Duration pendingAcquireTimeout,
+            @Value("${ai.server.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${ai.server.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${ai.server.http.evict-interval:60s}") Duration evictInterval) {
+        return ConnectionProvider.builder("ai-server")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInterval)
+                .metrics(true)
+                .build();
+    }
+
     /**
      * WebClient 빈 생성
      *
-     * <p>AI 서버와의 통신을 위한 WebClient를 설정합니다.</p>
+     * <p>AI 서버와의 통신을 위한 WebClient를 설정합니다.
+     * Spring Boot가 제공하는 Builder를 사용하여 http.client.requests 메트릭이 수집되고
+     * traceparent 헤더로 트레이스 컨텍스트가 AI 서버까지 전파되도록 합니다.
+     * 요청/응답 로깅 필터는 DEBUG 레벨이 켜져 있을 때만 등록되어 평상시에는 비용이 없습니다.</p>
      *
+     * @param webClientBuilder Spring Boot가 관측(Observation) 설정을 적용한 WebClient.Builder
+     * @param tracerProvider 현재 traceId 조회용 Tracer
+     * @param connectionProvider AI 서버 전용 커넥션 풀
+     * @param h2cEnabled h2c(평문 HTTP/2) 사용 여부. AI 서버가 prior-knowledge h2c를 지원해야 합니다.
      * @return 설정된 WebClient 인스턴스
      */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               ObjectProvider<Tracer> tracerProvider,
+                               ConnectionProvider connectionProvider,
+                               @Value("${ai.server.http.h2c-enabled:false}") boolean h2cEnabled) {
+        boolean debugEnabled = log.isDebugEnabled();
+
         // Exchange 전략 설정 (최대 메모리 사이즈 등)
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
                 .codecs(configurer -> {
                     configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024); // 10MB
-                    configurer.defaultCodecs().enableLoggingRequestDetails(true);
+                    configurer.defaultCodecs().enableLoggingRequestDetails(debugEnabled);
                 })
                 .build();
 
         // HttpClient 설정
-        HttpClient httpClient = HttpClient.create()
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(h2cEnabled ? HttpProtocol.H2C : HttpProtocol.HTTP11)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃 10초
                 .responseTimeout(Duration.ofSeconds(120)) // 응답 타임아웃 120초(2분)
                 .followRedirect(true)
@@ -53,12 +105,38 @@ public class WebClientConfig {
                                 .addHandlerLast(new WriteTimeoutHandler(30, TimeUnit.SECONDS))
                 );
 
-        return WebClient.builder()
+        WebClient.Builder builder = webClientBuilder
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .exchangeStrategies(exchangeStrategies)
-                .filter(logRequest())
-                .filter(logResponse())
-                .build();
+                .filter(traceIdHeader(tracerProvider));
+
+        if (debugEnabled) {
+            builder.filter(logRequest())
+                    .filter(logResponse());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 트레이스 ID 헤더 필터
+     *
+     * <p>traceparent를 해석하지 않는 AI 서버 로그에서도 요청을 추적할 수 있도록
+     * 현재 traceId를 X-Trace-Id 헤더로 함께 전송합니다.</p>
+     *
+     * @param tracerProvider Tracer 제공자
+     * @return 트레이스 ID 헤더를 추가하는 ExchangeFilterFunction
+     */
+    private ExchangeFilterFunction traceIdHeader(ObjectProvider<Tracer> tracerProvider) {
+        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
+            Tracer tracer = tracerProvider.getIfAvailable();
+            Span span = tracer != null ? tracer.currentSpan() : null;
+            if (span == null) {
+                return Mono.just(clientRequest);
+            }
+            return Mono.just(ClientRequest.from(clientRequest)
+                    .header(TRACE_ID_HEADER, span.context().traceId())
+                    .build());
+        });
     }
 
     /**
@@ -68,7 +146,7 @@ public class WebClientConfig {
      */
     private ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("=== Request: {} {}", clientRequest.method(), clientRequest.url());
+            log.debug("=== Request: {} {}", clientRequest.method(), clientRequest.url());
             clientRequest.headers().forEach((name, values) -> values.forEach(value ->
                     log.debug("Request Header: {}={}", name, value)));
             return Mono.just(clientRequest);
@@ -82,7 +160,7 @@ public class WebClientConfig {
      */
     private ExchangeFilterFunction logResponse() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("=== Response Status: {}", clientResponse.statusCode());
+            log.debug("=== Response Status: {}", clientResponse.statusCode());
             clientResponse.headers().asHttpHeaders().forEach((name, values) -> values.forEach(value ->
                     log.debug("Response Header: {}={}", name, value)));
             return Mono.just(clientResponse);
@@ -0,0 +1,46 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 한 회원을 기억해 자신의 변경을 레플리카 지연 없이 읽도록 합니다.
+ *
+ * <p>쓰기 후 {@code app.datasource.replica.sticky-window} 동안 해당 회원의 읽기 전용 트랜잭션은
+ * 프라이머리로 라우팅됩니다. 허용 지연(max-lag)보다 길게 잡아야 창이 끝난 뒤 레플리카에서도 변경이 보입니다.
+ * 인스턴스 로컬 상태이므로, 다른 인스턴스로 간 요청은 지연 허용치 안에서만 일관성을 보장합니다.</p>
+ */
+public class ReadYourWritesTracker {
+
+    private static final long MAX_TRACKED_MEMBERS = 100_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_MEMBERS)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    /**
+     * 회원의 쓰기를 기록하고 프라이머리 고정 시간을 다시 시작합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void recordWrite(Long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    /**
+     * 회원이 아직 프라이머리를 읽어야 하는지 확인합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 최근 쓰기 후 고정 시간이 지나지 않았으면 true
+     */
+    public boolean isSticky(Long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 레플리카 복제 지연을 주기적으로 확인합니다.
+ *
+ * <p>{@code SHOW REPLICA STATUS}의 Seconds_Behind_Source가 허용치를 넘거나, 복제가 멈췄거나(NULL),
+ * 조회 자체가 실패하면 레플리카를 사용하지 않도록 표시합니다. 첫 확인 전까지도 사용하지 않습니다.
+ * 레플리카 계정에는 REPLICATION CLIENT 권한이 필요합니다.</p>
+ * <ul>
+ *     <li>{@code datasource.replica.lag} - 마지막으로 확인한 복제 지연(초), 알 수 없으면 NaN</li>
+ *     <li>{@code datasource.replica.available} - 레플리카 사용 여부 (1/0)</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private final DataSource replicaDataSource;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("레플리카 복제 지연")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("레플리카 읽기 라우팅 사용 여부")
+                .register(registry);
+    }
+
+    /**
+     * 레플리카로 읽기를 보내도 되는지 반환합니다.
+     *
+     * @return 마지막 확인에서 복제 지연이 허용치 이내였으면 true
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 복제 상태를 다시 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!rs.next()) {
+                update(Double.NaN, false, "복제 설정 없음");
+                return;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                update(Double.NaN, false, "복제 중단");
+                return;
+            }
+            update(lag, lag <= maxLagSeconds, "지연 " + lag + "초");
+        } catch (SQLException e) {
+            update(Double.NaN, false, e.getMessage());
+        }
+    }
+
+    private void update(double lag, boolean nowAvailable, String detail) {
+        lagSeconds = lag;
+        if (available != nowAvailable) {
+            if (nowAvailable) {
+                log.info("레플리카 읽기 라우팅 재개: {}", detail);
+            } else {
+                log.warn("레플리카 읽기 라우팅 중단, 프라이머리로 전환: {}", detail);
+            }
+        }
+        available = nowAvailable;
+    }
+}
@@ -0,0 +1,141 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 프라이머리/레플리카 읽기 쓰기 분리 설정
+ *
+ * <p>{@code app.datasource.replica.enabled=true}일 때만 적용되며, 비활성화 시에는
+ * Spring Boot가 {@code spring.datasource.*}로 만드는 단일 DataSource를 그대로 사용합니다.</p>
+ *
+ * <p>프라이머리 풀은 {@code spring.datasource.*}, 레플리카 풀은 {@code app.datasource.replica.*}로 구성하고,
+ * JPA가 사용하는 기본 DataSource는 {@link ReplicationRoutingDataSource}를
+ * {@link LazyConnectionDataSourceProxy}로 감싼 것입니다.
+ * 각 풀은 DataSourceProxyBeanPostProcessor가 따로 계측하므로 SQL 메트릭이 풀 단위로 구분됩니다.
+ * 복제 지연 확인 쿼리는 계측하지 않습니다.</p>
+ *
+ * <p>open-in-view가 켜져 있으면 요청 전체가 처음 얻은 커넥션을 계속 사용하므로,
+ * 권한 확인 같은 읽기 전용 조회 뒤의 쓰기가 레플리카로 가거나 쓰기 뒤의 읽기가 프라이머리에 고정됩니다.
+ * 따라서 {@code spring.jpa.open-in-view=false}가 아니면 시작하지 않습니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    public ReplicationDataSourceConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "레플리카 라우팅을 사용하려면 spring.jpa.open-in-view=false로 설정해야 합니다.");
+        }
+    }
+
+    /**
+     * 프라이머리 커넥션 풀
+     *
+     * <p>단일 DataSource일 때와 같이 {@code spring.datasource.hikari.*}(배치 재작성 등 드라이버 속성 포함)를 적용합니다.</p>
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username}") String username,
+            @Value("${app.datasource.replica.password}") String password,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.getDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 레플리카 복제 지연 모니터
+     *
+     * <p>주기적인 {@code SHOW REPLICA STATUS}가 요청 SQL 메트릭과 느린 쿼리 집계에 섞이지 않도록
+     * SQL 계측 프록시를 벗긴 레플리카 커넥션 풀을 사용합니다.</p>
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${app.datasource.replica.max-lag:2s}") Duration maxLag) throws SQLException {
+        return new ReplicaLagMonitor(replicaDataSource.unwrap(HikariDataSource.class), maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    /**
+     * JPA와 트랜잭션 매니저가 사용하는 기본 DataSource
+     *
+     * <p>LazyConnectionDataSourceProxy가 첫 SQL 실행 시점까지 커넥션 획득을 미루므로,
+     * 라우팅 시점에는 트랜잭션의 읽기 전용 여부와 현재 회원이 이미 정해져 있습니다.</p>
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                replicaLagMonitor,
+                readYourWritesTracker,
+                ReplicationDataSourceConfig::currentMemberId,
+                meterRegistryProvider);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("읽기 전용 트랜잭션 레플리카 라우팅 활성화");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static Long currentMemberId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return Long.valueOf(userDetails.getId());
+        }
+        return null;
+    }
+}
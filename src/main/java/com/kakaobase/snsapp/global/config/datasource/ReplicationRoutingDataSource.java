@@ -0,0 +1,119 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 속성에 따라 프라이머리와 레플리카 커넥션 풀을 고르는 DataSource
+ *
+ * <p>읽기 전용 트랜잭션만 레플리카로 보내며, 다음 경우에는 프라이머리를 사용합니다.</p>
+ * <ul>
+ *     <li>쓰기 트랜잭션이거나 트랜잭션 밖에서 커넥션을 얻는 경우</li>
+ *     <li>현재 회원이 직전에 쓰기를 커밋해서 자신의 변경을 읽어야 하는 경우 (read-your-writes).
+ *     쓰기 트랜잭션이라도 데이터를 변경하는 SQL을 실행하지 않았으면 고정하지 않습니다.</li>
+ *     <li>레플리카 지연이 허용치를 넘었거나 복제 상태를 확인할 수 없는 경우</li>
+ * </ul>
+ *
+ * <p>트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어야 읽기 전용 여부가 반영되므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용합니다.</p>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Supplier<Long> currentMemberId;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    public ReplicationRoutingDataSource(DataSource primary,
+                                        DataSource replica,
+                                        ReplicaLagMonitor replicaLagMonitor,
+                                        ReadYourWritesTracker readYourWritesTracker,
+                                        Supplier<Long> currentMemberId,
+                                        ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentMemberId = currentMemberId;
+        this.meterRegistryProvider = meterRegistryProvider;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(Target.PRIMARY, "write");
+        }
+        Long memberId = currentMemberId.get();
+        if (memberId != null && readYourWritesTracker.isSticky(memberId)) {
+            return route(Target.PRIMARY, "sticky");
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            return route(Target.PRIMARY, "replica_unavailable");
+        }
+        return route(Target.REPLICA, "read");
+    }
+
+    /**
+     * 회원의 쓰기 트랜잭션 커넥션이면 데이터를 변경하는 SQL이 실행되는지 감지하도록 감쌉니다.
+     * 실제로 쓰기(플러시 포함)를 한 트랜잭션이 커밋된 경우에만 회원을 프라이머리에 고정합니다.
+     * 조회만 하는 쓰기 트랜잭션 때문에 이후 읽기가 레플리카를 벗어나지 않도록 하기 위함입니다.
+     */
+    private Connection trackWrites(Connection connection) {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        Long memberId = currentMemberId.get();
+        if (memberId == null) {
+            return connection;
+        }
+
+        AtomicBoolean written = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (written.get()) {
+                    readYourWritesTracker.recordWrite(memberId);
+                }
+            }
+        });
+        return WriteDetectingConnection.wrap(connection, () -> written.set(true));
+    }
+
+    private Target route(Target target, String reason) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry != null) {
+            Counter.builder("datasource.routing")
+                    .description("커넥션 라우팅 결과")
+                    .tag("target", target.name().toLowerCase())
+                    .tag("reason", reason)
+                    .register(registry)
+                    .increment();
+        }
+        return target;
+    }
+}
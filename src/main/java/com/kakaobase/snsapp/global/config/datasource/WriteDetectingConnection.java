@@ -0,0 +1,122 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 커넥션에서 데이터를 변경하는 SQL이 실행되는지 감지하는 프록시
+ *
+ * <p>쓰기 트랜잭션이라도 실제로 INSERT/UPDATE/DELETE 등을 실행(플러시 포함)한 경우에만
+ * read-your-writes 고정을 걸기 위해 사용합니다. PreparedStatement는 준비 시점의 SQL로,
+ * 일반 Statement는 실행 시점의 SQL로 판단하며, SQL을 알 수 없는 프로시저 호출은 쓰기로 간주합니다.</p>
+ */
+final class WriteDetectingConnection {
+
+    private static final Set<String> READ_KEYWORDS = Set.of("SELECT", "SHOW", "EXPLAIN", "DESCRIBE", "DESC");
+    private static final Set<String> STATEMENT_SQL_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private WriteDetectingConnection() {
+    }
+
+    /**
+     * 쓰기 SQL이 처음 준비되거나 실행될 때 콜백을 호출하도록 커넥션을 감쌉니다.
+     *
+     * @param connection 실제 커넥션
+     * @param onWrite 쓰기 SQL 감지 시 호출할 콜백 (여러 번 호출될 수 있음)
+     * @return 쓰기 감지 커넥션
+     */
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        return proxy(Connection.class, (method, args) -> {
+            String name = method.getName();
+            if (name.equals("prepareStatement") && args[0] instanceof String sql) {
+                detect(sql, onWrite);
+            } else if (name.equals("prepareCall")) {
+                onWrite.run();
+            }
+
+            Object result = invoke(connection, method, args);
+            if (name.equals("createStatement") && result instanceof Statement statement) {
+                return wrapStatement(statement, onWrite);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * SQL이 데이터를 변경하는 문장인지 판단합니다. 주석과 괄호로 시작하는 경우 건너뛰고 첫 키워드를 봅니다.
+     *
+     * @param sql 실행할 SQL
+     * @return 조회 문장이 아니면 true
+     */
+    static boolean isWrite(String sql) {
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (sql.startsWith("--", i) || c == '#') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else {
+                break;
+            }
+        }
+
+        int start = i;
+        while (i < length && Character.isLetter(sql.charAt(i))) {
+            i++;
+        }
+        String keyword = sql.substring(start, i).toUpperCase(Locale.ROOT);
+        return !READ_KEYWORDS.contains(keyword);
+    }
+
+    private static Statement wrapStatement(Statement statement, Runnable onWrite) {
+        return proxy(Statement.class, (method, args) -> {
+            if (STATEMENT_SQL_METHODS.contains(method.getName())
+                    && args != null && args.length > 0 && args[0] instanceof String sql) {
+                detect(sql, onWrite);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static void detect(String sql, Runnable onWrite) {
+        if (isWrite(sql)) {
+            onWrite.run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Interceptor interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> interceptor.intercept(method, args);
+        };
+        return (T) Proxy.newProxyInstance(WriteDetectingConnection.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,53 @@
+package com.kakaobase.snsapp.global.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업에 호출 스레드의 컨텍스트(Observation, Trace, MDC)를 전파하고
+ * 작업이 큐에서 대기한 시간을 기록하는 TaskDecorator입니다.
+ *
+ * <p>@Async 작업의 로그와 스팬은 작업을 제출한 스레드의 traceId로 이어지며,
+ * 큐 대기 시간은 {@code executor.queue.wait} 타이머로 확인할 수 있습니다.
+ * 아웃박스 이벤트 핸들러는 디스패처의 폴링 스레드에서 제출되므로 원래 요청의 traceId는 이어지지 않습니다.</p>
+ */
+public class TracingTaskDecorator implements TaskDecorator {
+
+    private final TaskDecorator contextPropagatingDecorator = new ContextPropagatingTaskDecorator();
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final String executorName;
+
+    public TracingTaskDecorator(ObjectProvider<MeterRegistry> meterRegistryProvider, String executorName) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.executorName = executorName;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable propagated = contextPropagatingDecorator.decorate(runnable);
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            recordQueueWait(System.nanoTime() - submittedAt);
+            propagated.run();
+        };
+    }
+
+    private void recordQueueWait(long waitNanos) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Timer.builder("executor.queue.wait")
+                .description("비동기 작업이 실행되기 전까지 큐에서 대기한 시간")
+                .tag("name", executorName)
+                .register(registry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+}
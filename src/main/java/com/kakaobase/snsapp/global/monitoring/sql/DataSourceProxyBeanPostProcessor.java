@@ -0,0 +1,53 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource를 datasource-proxy로 감싸 SQL 실행을 계측합니다.
+ *
+ * <p>app.sql-monitor.enabled=false로 비활성화할 수 있습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.sql-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceProxyBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long slowQueryMillis;
+
+    public DataSourceProxyBeanPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${app.sql-monitor.slow-query-ms:300}") long slowQueryMillis
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryMillis = slowQueryMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        // 레플리카 라우팅 시 실제 커넥션 풀(primary/replica)이 각각 계측되므로 감싸는 쪽은 건너뛴다
+        if (bean instanceof LazyConnectionDataSourceProxy) {
+            return bean;
+        }
+
+        log.info("SQL 계측용 DataSource 프록시 적용: {}", beanName);
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SqlStatementListener(meterRegistryProvider, slowQueryMillis))
+                .build();
+    }
+}
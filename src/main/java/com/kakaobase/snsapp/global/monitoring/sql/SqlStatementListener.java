@@ -0,0 +1,60 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/**
+ * datasource-proxy가 SQL 실행 후 호출하는 리스너입니다.
+ * 실행된 SQL을 현재 스레드의 {@link SqlStatementStats}에 기록하고, 느린 쿼리를 경고 로그로 남깁니다.
+ */
+@Slf4j
+class SqlStatementListener implements QueryExecutionListener {
+
+    private static final int MAX_LOGGED_QUERY_LENGTH = 500;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long slowQueryMillis;
+
+    SqlStatementListener(ObjectProvider<MeterRegistry> meterRegistryProvider, long slowQueryMillis) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryMillis = slowQueryMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 전에는 할 일이 없음
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        int statementCount = execInfo.isBatch() ? Math.max(execInfo.getBatchSize(), 1) : 1;
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            SqlStatementStats.record(QueryUtils.getQueryType(queryInfo.getQuery()), statementCount, elapsedMillis);
+        }
+
+        if (elapsedMillis >= slowQueryMillis && !queryInfoList.isEmpty()) {
+            log.warn("느린 쿼리 감지 - {}ms: {}", elapsedMillis, abbreviate(queryInfoList.get(0).getQuery()));
+
+            MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+            if (registry != null) {
+                registry.counter("sql.slow.queries").increment();
+            }
+        }
+    }
+
+    private String abbreviate(String query) {
+        String singleLine = query.replaceAll("\\s+", " ");
+        return singleLine.length() <= MAX_LOGGED_QUERY_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_QUERY_LENGTH) + "...";
+    }
+}
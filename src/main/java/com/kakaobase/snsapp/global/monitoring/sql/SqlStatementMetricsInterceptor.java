@@ -0,0 +1,91 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드 단위로 실행된 SQL 문 수와 JDBC 실행 시간을 집계합니다.
+ *
+ * <p>집계 결과는 handler 태그(컨트롤러.메서드)와 함께 {@code sql.statements.per.request},
+ * {@code sql.time.per.request} 메트릭으로 기록되며, 설정한 임계값을 넘으면 경고 로그를 남깁니다.</p>
+ *
+ * <p>비동기 요청은 최초 스레드에서 afterCompletion이 호출되지 않으므로 비동기 처리가 시작될 때 집계를 정리하고,
+ * 이후 비동기 디스패치에서 다시 집계합니다.</p>
+ */
+@Slf4j
+@Component
+public class SqlStatementMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final int warnStatementCount;
+    private final long warnTotalTimeMillis;
+
+    public SqlStatementMetricsInterceptor(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${app.sql-monitor.warn-statement-count:30}") int warnStatementCount,
+            @Value("${app.sql-monitor.warn-total-time-ms:1000}") long warnTotalTimeMillis
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.warnStatementCount = warnStatementCount;
+        this.warnTotalTimeMillis = warnTotalTimeMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlStatementStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 서블릿 스레드가 풀로 반환되기 전에 ThreadLocal을 비워 다른 요청으로 집계가 새지 않도록 함
+        if (handler instanceof HandlerMethod) {
+            SqlStatementStats.end();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !SqlStatementStats.isActive()) {
+            return;
+        }
+
+        SqlStatementStats stats = SqlStatementStats.end();
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        if (stats.getStatementCount() > warnStatementCount || stats.getTotalTimeMillis() > warnTotalTimeMillis) {
+            log.warn("SQL 임계값 초과 - handler: {}, {} {}, {}",
+                    handlerName, request.getMethod(), request.getRequestURI(), stats);
+        }
+
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        DistributionSummary.builder("sql.statements.per.request")
+                .description("요청 하나에서 실행된 SQL 문 수")
+                .tag("handler", handlerName)
+                .register(registry)
+                .record(stats.getStatementCount());
+
+        Timer.builder("sql.time.per.request")
+                .description("요청 하나에서 소요된 JDBC 실행 시간")
+                .tag("handler", handlerName)
+                .register(registry)
+                .record(stats.getTotalTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,105 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import net.ttddyy.dsproxy.QueryType;
+
+/**
+ * 하나의 작업 단위(HTTP 요청 등)에서 실행된 SQL 문 수와 JDBC 실행 시간을 집계합니다.
+ *
+ * <p>{@link #begin()}으로 현재 스레드에서 집계를 시작하고 {@link #end()}로 결과를 꺼냅니다.
+ * 집계 중이 아닌 스레드(비동기 작업 등)에서 실행된 SQL은 기록하지 않습니다.</p>
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int selectCount;
+    private int insertCount;
+    private int updateCount;
+    private int deleteCount;
+    private int otherCount;
+    private long totalTimeMillis;
+    private long slowestTimeMillis;
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * 현재 스레드에서 SQL 집계를 시작합니다. 진행 중이던 집계는 초기화됩니다.
+     */
+    public static void begin() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    /**
+     * 현재 스레드의 SQL 집계를 종료하고 결과를 반환합니다.
+     *
+     * @return 집계 결과 (집계 중이 아니었다면 빈 결과)
+     */
+    public static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats != null ? stats : new SqlStatementStats();
+    }
+
+    /**
+     * 현재 스레드가 SQL을 집계 중인지 확인합니다.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(QueryType type, int statementCount, long elapsedMillis) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+
+        switch (type) {
+            case SELECT -> stats.selectCount += statementCount;
+            case INSERT -> stats.insertCount += statementCount;
+            case UPDATE -> stats.updateCount += statementCount;
+            case DELETE -> stats.deleteCount += statementCount;
+            default -> stats.otherCount += statementCount;
+        }
+        stats.totalTimeMillis += elapsedMillis;
+        stats.slowestTimeMillis = Math.max(stats.slowestTimeMillis, elapsedMillis);
+    }
+
+    public int getStatementCount() {
+        return selectCount + insertCount + updateCount + deleteCount + otherCount;
+    }
+
+    public int getSelectCount() {
+        return selectCount;
+    }
+
+    public int getInsertCount() {
+        return insertCount;
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    public int getDeleteCount() {
+        return deleteCount;
+    }
+
+    public long getTotalTimeMillis() {
+        return totalTimeMillis;
+    }
+
+    public long getSlowestTimeMillis() {
+        return slowestTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatementStats{statements=" + getStatementCount()
+                + ", select=" + selectCount
+                + ", insert=" + insertCount
+                + ", update=" + updateCount
+                + ", delete=" + deleteCount
+                + ", totalTimeMillis=" + totalTimeMillis + "}";
+    }
+}
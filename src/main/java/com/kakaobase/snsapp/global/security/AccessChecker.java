@@ -17,9 +17,11 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 /**
  * 게시판 및 게시글 접근 권한을 검증하는 클래스
- * Spring Security의 @PreAuthorize 어노테이션과 함께 사용됩니다.
+ * {@link com.kakaobase.snsapp.global.security.authorization.CheckAccess}의 접근 규칙에서 호출됩니다.
  */
 @Slf4j
 @Component("accessChecker")
@@ -71,6 +73,31 @@ public class AccessChecker {
         return hasAccess;
     }
 
+    /**
+     * 사용자가 조회할 수 있는 게시판 목록을 반환합니다.
+     * 게시판을 지정하지 않는 목록(회원 활동 피드 등)에서 접근할 수 없는 게시판의 글을 걸러내는 데 사용합니다.
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @return 관리자, 봇이면 모든 게시판, 그 외에는 전체 게시판과 본인 기수 게시판
+     */
+    public List<Post.BoardType> findAccessibleBoards(CustomUserDetails userDetails) {
+        if (isAdminOrBot(userDetails)) {
+            return List.of(Post.BoardType.values());
+        }
+
+        String className = userDetails.getClassName();
+        if (!StringUtils.hasText(className) || Post.BoardType.ALL.name().equals(className)) {
+            return List.of(Post.BoardType.ALL);
+        }
+
+        try {
+            return List.of(Post.BoardType.ALL, Post.BoardType.valueOf(className));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 ID {}의 기수 {}에 해당하는 게시판이 없습니다.", userDetails.getId(), className);
+            return List.of(Post.BoardType.ALL);
+        }
+    }
+
     /**
      * 사용자가 게시글의 소유자인지 검증합니다.
      *
@@ -0,0 +1,74 @@
+package com.kakaobase.snsapp.global.security.authorization;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+
+/**
+ * 컨트롤러 메서드에 선언할 수 있는 접근 규칙 목록입니다.
+ * 각 규칙은 검사에 사용할 경로 변수 이름과 AccessChecker 호출을 타입 안전하게 묶어둡니다.
+ */
+public enum AccessRule {
+
+    /** 경로의 게시판 타입(postType)에 접근할 수 있는지 검사 */
+    BOARD("postType") {
+        @Override
+        boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails) {
+            return checker.hasAccessToBoard((String) argument, userDetails);
+        }
+    },
+
+    /** 게시글(postId)이 속한 게시판에 접근할 수 있는지 검사 */
+    POST_BOARD("postId") {
+        @Override
+        boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails) {
+            return checker.canAccessOnComments((Long) argument, userDetails);
+        }
+    },
+
+    /** 게시글(postId)의 작성자인지 검사 */
+    POST_OWNER("postId") {
+        @Override
+        boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails) {
+            return checker.isPostOwner((Long) argument, userDetails);
+        }
+    },
+
+    /** 댓글(commentId)의 작성자인지 검사 */
+    COMMENT_OWNER("commentId") {
+        @Override
+        boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails) {
+            return checker.isCommentOwner((Long) argument, userDetails);
+        }
+    },
+
+    /** 대댓글(recommentId)의 작성자인지 검사 */
+    RECOMMENT_OWNER("recommentId") {
+        @Override
+        boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails) {
+            return checker.isRecommentOwner((Long) argument, userDetails);
+        }
+    };
+
+    private final String parameterName;
+
+    AccessRule(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * 규칙 검사에 사용할 메서드 파라미터 이름을 반환합니다.
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * 규칙을 검사합니다.
+     *
+     * @param checker 접근 권한 검증기
+     * @param argument parameterName에 해당하는 메서드 인자
+     * @param userDetails 인증된 사용자 정보
+     * @return 접근 가능하면 true
+     */
+    abstract boolean check(AccessChecker checker, Object argument, CustomUserDetails userDetails);
+}
@@ -0,0 +1,127 @@
+package com.kakaobase.snsapp.global.security.authorization;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link CheckAccess}가 선언된 메서드의 접근 권한을 검사하는 AuthorizationManager입니다.
+ *
+ * <p>메서드별로 규칙과 인자 위치를 최초 호출 시 한 번만 계산해 캐싱하고,
+ * 이후에는 인자 배열에서 바로 값을 꺼내 AccessChecker를 호출합니다.
+ * 규칙별 검사 시간은 {@code authorization.check} 타이머로 기록됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessRuleAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final String METRIC_NAME = "authorization.check";
+
+    private final ObjectProvider<AccessChecker> accessCheckerProvider;
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, BoundRule[]> boundRulesCache = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Authentication auth = authentication.get();
+        if (!trustResolver.isAuthenticated(auth)
+                || !(auth.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return new AuthorizationDecision(false);
+        }
+
+        BoundRule[] rules = boundRulesCache.computeIfAbsent(invocation.getMethod(), this::bindRules);
+        Object[] arguments = invocation.getArguments();
+
+        for (BoundRule rule : rules) {
+            if (!checkRule(rule, arguments[rule.argumentIndex()], userDetails)) {
+                return new AuthorizationDecision(false);
+            }
+        }
+        return new AuthorizationDecision(true);
+    }
+
+    /**
+     * 규칙 하나를 검사하고 소요 시간을 결과(granted/denied/error)별로 기록합니다.
+     * AccessChecker가 던진 예외는 그대로 전파되어 GlobalExceptionHandler에서 처리됩니다.
+     */
+    private boolean checkRule(BoundRule rule, Object argument, CustomUserDetails userDetails) {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        Timer.Sample sample = registry != null ? Timer.start(registry) : null;
+        String outcome = "error";
+
+        try {
+            boolean granted = rule.rule().check(accessCheckerProvider.getObject(), argument, userDetails);
+            outcome = granted ? "granted" : "denied";
+            return granted;
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder(METRIC_NAME)
+                        .description("접근 규칙 검사 소요 시간")
+                        .tag("rule", rule.rule().name())
+                        .tag("outcome", outcome)
+                        .register(registry));
+            }
+        }
+    }
+
+    /**
+     * 메서드에 선언된 규칙마다 검사에 사용할 인자 위치를 찾습니다.
+     *
+     * @throws IllegalStateException 규칙이 요구하는 파라미터가 메서드에 없는 경우
+     */
+    private BoundRule[] bindRules(Method method) {
+        CheckAccess annotation = AnnotationUtils.findAnnotation(method, CheckAccess.class);
+        if (annotation == null) {
+            return new BoundRule[0];
+        }
+
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+        AccessRule[] rules = annotation.value();
+        BoundRule[] boundRules = new BoundRule[rules.length];
+
+        for (int i = 0; i < rules.length; i++) {
+            boundRules[i] = new BoundRule(rules[i], indexOf(parameterNames, rules[i], method));
+        }
+
+        log.debug("접근 규칙 바인딩 완료 - method: {}, rules: {}", method.getName(), rules.length);
+        return boundRules;
+    }
+
+    private int indexOf(String[] parameterNames, AccessRule rule, Method method) {
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (rule.getParameterName().equals(parameterNames[i])) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException(
+                method + "에 " + rule + " 규칙에 필요한 파라미터 '" + rule.getParameterName() + "'가 없습니다.");
+    }
+
+    private record BoundRule(AccessRule rule, int argumentIndex) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.kakaobase.snsapp.global.security.authorization;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자만 메서드를 호출할 수 있도록 하고, 선언된 접근 규칙을 순서대로 검사합니다.
+ * 문자열 SpEL 대신 {@link AccessRule}로 검사 대상을 지정하므로 호출마다 표현식을 해석하지 않습니다.
+ *
+ * <pre>
+ * &#64;CheckAccess({AccessRule.BOARD, AccessRule.POST_OWNER})
+ * public ResponseEntity&lt;?&gt; deletePost(@PathVariable String postType, @PathVariable Long postId, ...)
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CheckAccess {
+
+    /**
+     * 검사할 접근 규칙 목록 (비어 있으면 인증 여부만 검사)
+     */
+    AccessRule[] value() default {};
+}
@@ -0,0 +1,166 @@
+package com.kakaobase.snsapp.global.security.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 없이 접근 가능한 엔드포인트 목록을 한 곳에서 관리하는 레지스트리입니다.
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 필터 제외 판단이 모두 이 목록을 사용합니다.
+ *
+ * <p>애플리케이션 시작 시 패턴을 한 번만 컴파일합니다.
+ * 와일드카드가 없는 경로는 해시 조회로, 와일드카드 패턴은 첫 번째 경로 세그먼트별로 묶어
+ * 요청 경로와 관련 있는 패턴만 {@link PathPattern}으로 매칭합니다.</p>
+ */
+@Component
+public class PublicEndpointRegistry implements RequestMatcher {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    /**
+     * 공개 엔드포인트 목록 (method가 null이면 모든 HTTP 메서드 허용)
+     */
+    private static final List<PublicEndpoint> PUBLIC_ENDPOINTS = List.of(
+            // Swagger 관련 경로들
+            PublicEndpoint.any("/v3/api-docs/**"),
+            PublicEndpoint.any("/swagger-ui/**"),
+            PublicEndpoint.any("/swagger-ui.html"),
+            // 인증 관련 경로들
+            PublicEndpoint.any("/auth/tokens"),
+            PublicEndpoint.any("/auth/tokens/refresh"),
+            // 이메일 인증 및 회원가입
+            PublicEndpoint.any("/users/email/verification-requests"),
+            PublicEndpoint.any("/users/email/verification"),
+            PublicEndpoint.of(HttpMethod.POST, "/users"),
+            // 모니터링 (management.server.port의 내부 포트로만 노출)
+            PublicEndpoint.of(HttpMethod.GET, "/actuator/health"),
+            PublicEndpoint.of(HttpMethod.GET, "/actuator/prometheus")
+    );
+
+    private final Map<String, List<PublicEndpoint>> exactPaths = new HashMap<>();
+    private final Map<String, List<CompiledPattern>> patternsByRootSegment = new HashMap<>();
+    private final List<CompiledPattern> rootWildcardPatterns = new ArrayList<>();
+
+    public PublicEndpointRegistry() {
+        this(PUBLIC_ENDPOINTS);
+    }
+
+    PublicEndpointRegistry(List<PublicEndpoint> endpoints) {
+        for (PublicEndpoint endpoint : endpoints) {
+            register(endpoint);
+        }
+    }
+
+    /**
+     * 요청이 공개 엔드포인트에 해당하는지 확인합니다.
+     *
+     * @param request 현재 요청
+     * @return 공개 엔드포인트이면 true
+     */
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return matches(request.getMethod(), request.getServletPath());
+    }
+
+    /**
+     * HTTP 메서드와 경로가 공개 엔드포인트에 해당하는지 확인합니다.
+     *
+     * @param method HTTP 메서드
+     * @param path 컨텍스트 경로를 제외한 요청 경로
+     * @return 공개 엔드포인트이면 true
+     */
+    public boolean matches(String method, String path) {
+        List<PublicEndpoint> exact = exactPaths.get(path);
+        if (exact != null) {
+            for (PublicEndpoint endpoint : exact) {
+                if (endpoint.allows(method)) {
+                    return true;
+                }
+            }
+        }
+
+        List<CompiledPattern> candidates = patternsByRootSegment.get(rootSegment(path));
+        if (candidates == null && rootWildcardPatterns.isEmpty()) {
+            return false;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return matchesAny(candidates, method, pathContainer)
+                || matchesAny(rootWildcardPatterns, method, pathContainer);
+    }
+
+    private boolean matchesAny(List<CompiledPattern> patterns, String method, PathContainer pathContainer) {
+        if (patterns == null) {
+            return false;
+        }
+        for (CompiledPattern pattern : patterns) {
+            if (pattern.endpoint().allows(method) && pattern.pathPattern().matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void register(PublicEndpoint endpoint) {
+        String pattern = endpoint.pattern();
+
+        if (!isWildcard(pattern)) {
+            exactPaths.computeIfAbsent(pattern, key -> new ArrayList<>()).add(endpoint);
+            return;
+        }
+
+        CompiledPattern compiled = new CompiledPattern(endpoint, PARSER.parse(pattern));
+        String root = rootSegment(pattern);
+        if (isWildcard(root)) {
+            rootWildcardPatterns.add(compiled);
+        } else {
+            patternsByRootSegment.computeIfAbsent(root, key -> new ArrayList<>()).add(compiled);
+        }
+    }
+
+    private static boolean isWildcard(String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+    }
+
+    /**
+     * 경로의 첫 번째 세그먼트를 반환합니다. (예: /swagger-ui/index.html → swagger-ui)
+     */
+    private static String rootSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    /**
+     * 공개 엔드포인트 정의
+     *
+     * @param method 허용할 HTTP 메서드 (null이면 모든 메서드)
+     * @param pattern 경로 패턴
+     */
+    record PublicEndpoint(HttpMethod method, String pattern) {
+
+        static PublicEndpoint any(String pattern) {
+            return new PublicEndpoint(null, pattern);
+        }
+
+        static PublicEndpoint of(HttpMethod method, String pattern) {
+            return new PublicEndpoint(method, pattern);
+        }
+
+        boolean allows(String requestMethod) {
+            return method == null || method.matches(requestMethod);
+        }
+    }
+
+    private record CompiledPattern(PublicEndpoint endpoint, PathPattern pathPattern) {
+    }
+}
@@ -1,11 +1,20 @@
 package com.kakaobase.snsapp.global.security.config;
 
+import com.kakaobase.snsapp.global.security.authorization.AccessRuleAuthorizationManager;
+import com.kakaobase.snsapp.global.security.authorization.CheckAccess;
 import com.kakaobase.snsapp.global.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -32,6 +41,7 @@ public class SecurityConfig {
     private final CustomAuthenticationEntryPoint authenticationEntryPoint;
     private final CustomAccessDeniedHandler accessDeniedHandler;
     private final CorsFilter corsFilter;
+    private final PublicEndpointRegistry publicEndpointRegistry;
 
     /**
      * Spring Security 필터 체인을 구성합니다.
@@ -55,19 +65,12 @@ public class SecurityConfig {
                 .addFilterBefore(corsFilter, UsernamePasswordAuthenticationFilter.class)
                 // URL 기반 인가 설정
                 .authorizeHttpRequests(auth -> auth
-                        //Swagger관련 경로들
-                        .requestMatchers(
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html"
-                        ).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**")
                         .permitAll()
-                        // 인증 없이 접근 가능한 경로들
-                        .requestMatchers("/auth/tokens", "/auth/tokens/refresh").permitAll()
-                        .requestMatchers("/users/email/verification-requests").permitAll()
-                        .requestMatchers("/users/email/verification").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/users").permitAll()
+                        // SSE 등 비동기 응답 재디스패치 (최초 요청에서 이미 인증/인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 인증 없이 접근 가능한 경로들 (PublicEndpointRegistry에서 관리)
+                        .requestMatchers(publicEndpointRegistry).permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/users").authenticated()
                         // 그 외 모든 요청은 인증 필요
                         .anyRequest().authenticated()
@@ -82,6 +85,24 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * {@link CheckAccess}가 선언된 메서드에 접근 규칙 검사 인터셉터를 적용합니다.
+     * &#64;PreAuthorize와 같은 시점(메서드 호출 직전)에 실행됩니다.
+     *
+     * @param authorizationManager 접근 규칙 AuthorizationManager
+     * @return 메서드 보안 Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor checkAccessAuthorizationAdvisor(AccessRuleAuthorizationManager authorizationManager) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                AnnotationMatchingPointcut.forMethodAnnotation(CheckAccess.class),
+                authorizationManager
+        );
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+
     /**
      * AuthenticationManager 빈을 제공합니다.
      * 로그인 API에서 사용자 자격 증명을 검증할 때 사용됩니다.
@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.global.security.jwt;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetailsService;
 import com.kakaobase.snsapp.global.error.exception.CustomException;
+import com.kakaobase.snsapp.global.security.config.PublicEndpointRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,12 +13,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * HTTP 요청에서 JWT 토큰을 추출하고 검증하여 Security Context에 인증 정보를 설정하는 필터입니다.
@@ -31,36 +30,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final JwtTokenValidator jwtTokenValidator;
     private final CustomUserDetailsService userDetailsService;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
-    // 필터를 적용하지 않을 경로 패턴 목록
-    private final List<String> excludedPaths = List.of(
-            "/auth/tokens",
-            "/auth/tokens/refresh",
-            "/users/email/verification-requests",
-            "/users/email/verification",
-            "/swagger-ui/**",
-            "/v3/api-docs/**"
-    );
+    private final PublicEndpointRegistry publicEndpointRegistry;
 
     /**
      * 특정 경로에 대해 이 필터를 적용하지 않아야 하는지 결정합니다.
      * 인증이 필요 없는 경로들(로그인, 토큰 갱신, 회원가입 등)에는 필터를 적용하지 않습니다.
+     * 공개 경로 목록은 {@link PublicEndpointRegistry}에서 관리합니다.
      *
      * @param request 현재 요청
      * @return true이면 필터를 적용하지 않음, false이면 필터 적용
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-        String method = request.getMethod();
-
-        if (pathMatcher.match("/users", path) && method.equals("POST")) {
-            return true;
-        }
-
-        return excludedPaths.stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        return publicEndpointRegistry.matches(request);
     }
 
     /**
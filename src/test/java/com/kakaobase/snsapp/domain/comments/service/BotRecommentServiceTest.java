@@ -0,0 +1,217 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.event.BotRecommentCompletedEvent;
+import com.kakaobase.snsapp.domain.comments.event.CommentCreatedEvent;
+import com.kakaobase.snsapp.domain.comments.exception.CommentException;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.global.common.constant.BotConstants;
+import com.kakaobase.snsapp.global.fixture.MemberFixture;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 봇 대댓글 스트리밍 테스트
+ *
+ * <p>로컬 스텁 AI 서버(JDK HttpServer)가 NDJSON/SSE로 응답 조각을 나눠 보내는 상황을 재현합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BotRecommentService 스트리밍 단위 테스트")
+class BotRecommentServiceTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long COMMENT_ID = 20L;
+    private static final Long RECOMMENT_ID = 30L;
+    private static final String STREAM_PATH = "/recomments/bot/stream";
+
+    @Mock
+    private CommentService commentService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private RecommentRepository recommentRepository;
+
+    @Mock
+    private BotRecommentStreamRegistry botRecommentStreamRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HttpServer stubAiServer;
+    private BotRecommentService botRecommentService;
+    private CommentCreatedEvent event;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubAiServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubAiServer.start();
+
+        botRecommentService = new BotRecommentService(commentService, memberService, commentRepository,
+                recommentRepository, WebClient.create(), botRecommentStreamRegistry, eventPublisher);
+        ReflectionTestUtils.setField(botRecommentService, "aiServerUrl",
+                "http://localhost:" + stubAiServer.getAddress().getPort());
+        ReflectionTestUtils.setField(botRecommentService, "contextSize", 20);
+        ReflectionTestUtils.setField(botRecommentService, "contextCharBudget", 4000);
+        ReflectionTestUtils.setField(botRecommentService, "timeoutSeconds", 5);
+        ReflectionTestUtils.setField(botRecommentService, "retryAttempts", 0L);
+        ReflectionTestUtils.setField(botRecommentService, "retryDelaySeconds", 1L);
+        ReflectionTestUtils.setField(botRecommentService, "streamingEnabled", true);
+
+        Post botPost = Post.builder()
+                .memberId(BotConstants.BOT_MEMBER_ID)
+                .boardType(Post.BoardType.ALL)
+                .content("오늘 점심 뭐 먹지?")
+                .build();
+        ReflectionTestUtils.setField(botPost, "id", POST_ID);
+        ReflectionTestUtils.setField(botPost, "createdAt", LocalDateTime.now());
+
+        Comment comment = Comment.builder()
+                .post(botPost)
+                .member(MemberFixture.createKbtMember())
+                .content("김치찌개 어때요?")
+                .build();
+        ReflectionTestUtils.setField(comment, "id", COMMENT_ID);
+        ReflectionTestUtils.setField(comment, "createdAt", LocalDateTime.now());
+
+        event = new CommentCreatedEvent(COMMENT_ID, POST_ID, BotConstants.BOT_MEMBER_ID, 1L,
+                "김치찌개 어때요?", LocalDateTime.now());
+
+        given(recommentRepository.existsByCommentIdAndMemberId(COMMENT_ID, BotConstants.BOT_MEMBER_ID)).willReturn(false);
+        given(commentService.findById(COMMENT_ID)).willReturn(comment);
+        given(memberService.getMemberBotInfo(BotConstants.BOT_MEMBER_ID))
+                .willReturn(new BotRecommentRequestDto.UserInfo("roro.bot", Member.ClassName.PANGYO_2.name()));
+        given(recommentRepository.findBotContextByCommentId(eq(COMMENT_ID), any())).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubAiServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("NDJSON 조각마다 누적 내용을 구독자에게 보내고, 최종 내용만 한 번 저장한다")
+    void createBotRecomment_Ndjson_PublishesPartialsAndSavesFinalContent() {
+        // given
+        serve("application/x-ndjson",
+                "{\"delta\":\"김치찌개\",\"done\":false}\n",
+                "{\"delta\":\" 좋아요\",\"done\":false}\n",
+                "{\"delta\":\"!\",\"done\":true}\n");
+        givenRecommentSaved("김치찌개 좋아요!");
+        given(botRecommentStreamRegistry.hasSubscribers(COMMENT_ID)).willReturn(true);
+
+        // when
+        botRecommentService.createBotRecomment(event);
+
+        // then
+        InOrder order = inOrder(botRecommentStreamRegistry);
+        order.verify(botRecommentStreamRegistry).publishPartial(COMMENT_ID, "김치찌개");
+        order.verify(botRecommentStreamRegistry).publishPartial(COMMENT_ID, "김치찌개 좋아요");
+        order.verify(botRecommentStreamRegistry).publishPartial(COMMENT_ID, "김치찌개 좋아요!");
+
+        ArgumentCaptor<CommentRequestDto.CreateCommentRequest> requestCaptor =
+                ArgumentCaptor.forClass(CommentRequestDto.CreateCommentRequest.class);
+        verify(commentService).createComment(eq(BotConstants.BOT_MEMBER_ID), eq(POST_ID), requestCaptor.capture());
+        assertThat(requestCaptor.getValue().content()).isEqualTo("김치찌개 좋아요!");
+
+        verify(eventPublisher).publishEvent(new BotRecommentCompletedEvent(COMMENT_ID, RECOMMENT_ID, "김치찌개 좋아요!"));
+        verify(commentService, never()).findById(RECOMMENT_ID);
+    }
+
+    @Test
+    @DisplayName("SSE 형식의 스트림도 같은 방식으로 조립한다")
+    void createBotRecomment_Sse_AssemblesContent() {
+        // given
+        serve("text/event-stream",
+                "data: {\"delta\":\"안녕\",\"done\":false}\n\n",
+                "data: {\"delta\":\"하세요\",\"done\":true}\n\n");
+        givenRecommentSaved("안녕하세요");
+
+        // when
+        botRecommentService.createBotRecomment(event);
+
+        // then
+        ArgumentCaptor<CommentRequestDto.CreateCommentRequest> requestCaptor =
+                ArgumentCaptor.forClass(CommentRequestDto.CreateCommentRequest.class);
+        verify(commentService).createComment(eq(BotConstants.BOT_MEMBER_ID), eq(POST_ID), requestCaptor.capture());
+        assertThat(requestCaptor.getValue().content()).isEqualTo("안녕하세요");
+        verify(botRecommentStreamRegistry, never()).publishPartial(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 길이가 되면 스트림을 중단하고 실패를 알린다")
+    void createBotRecomment_TooLong_FailsWithoutSaving() {
+        // given
+        String longDelta = "가".repeat(1500);
+        serve("application/x-ndjson",
+                "{\"delta\":\"" + longDelta + "\",\"done\":false}\n",
+                "{\"delta\":\"" + longDelta + "\",\"done\":true}\n");
+
+        // when & then
+        assertThatThrownBy(() -> botRecommentService.createBotRecomment(event))
+                .isInstanceOf(CommentException.class);
+        verify(commentService, never()).createComment(anyLong(), anyLong(), any());
+        verify(botRecommentStreamRegistry).fail(COMMENT_ID);
+    }
+
+    private void givenRecommentSaved(String content) {
+        given(commentService.createComment(eq(BotConstants.BOT_MEMBER_ID), eq(POST_ID), any()))
+                .willReturn(new CommentResponseDto.CreateCommentResponse(RECOMMENT_ID, null, content, COMMENT_ID));
+    }
+
+    /**
+     * 스텁 AI 서버가 각 조각을 따로 flush하여 보내도록 설정합니다.
+     */
+    private void serve(String contentType, String... chunks) {
+        stubAiServer.createContext(STREAM_PATH, exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String chunk : chunks) {
+                    body.write(chunk.getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,289 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.exception.CommentException;
+import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentLikeService 단위 테스트")
+class CommentLikeServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long COMMENT_ID = 20L;
+    private static final Long RECOMMENT_ID = 30L;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private RecommentRepository recommentRepository;
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    @Mock
+    private RecommentLikeRepository recommentLikeRepository;
+
+    @InjectMocks
+    private CommentLikeService commentLikeService;
+
+    // ========== 댓글 좋아요 ==========
+
+    @Test
+    @DisplayName("댓글 좋아요 추가 - 좋아요 수를 증가시키고 갱신된 좋아요 수를 반환한다")
+    void addCommentLike_Success() {
+        // given
+        given(commentLikeRepository.insertIfTargetActive(MEMBER_ID, COMMENT_ID)).willReturn(1);
+        givenComment(3);
+
+        // when
+        CommentResponseDto.CommentLikeResponse response = commentLikeService.addCommentLike(MEMBER_ID, COMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isTrue();
+        assertThat(response.like_count()).isEqualTo(3);
+        verify(commentRepository).increaseLikeCount(COMMENT_ID);
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 댓글에 좋아요 - RESOURCE_NOT_FOUND 예외가 발생한다")
+    void addCommentLike_CommentNotFound_ThrowsException() {
+        // given
+        given(commentLikeRepository.insertIfTargetActive(MEMBER_ID, COMMENT_ID)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> commentLikeService.addCommentLike(MEMBER_ID, COMMENT_ID))
+                .isInstanceOf(CommentException.class)
+                .satisfies(exception -> {
+                    CommentException commentException = (CommentException) exception;
+                    assertThat(commentException.getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND);
+                    assertThat(commentException.getEffectiveField()).isEqualTo("commentId");
+                });
+
+        verify(commentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 댓글에 재좋아요 - 예외 없이 좋아요 수를 바꾸지 않고 현재 상태를 반환한다")
+    void addCommentLike_AlreadyLiked_NoOp() {
+        // given
+        given(commentLikeRepository.insertIfTargetActive(MEMBER_ID, COMMENT_ID)).willReturn(0);
+        givenComment(3);
+        given(commentLikeRepository.existsByMemberIdAndCommentId(MEMBER_ID, COMMENT_ID)).willReturn(true);
+
+        // when
+        CommentResponseDto.CommentLikeResponse response = commentLikeService.addCommentLike(MEMBER_ID, COMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isTrue();
+        assertThat(response.like_count()).isEqualTo(3);
+        verify(commentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요가 무시되었지만 좋아요가 없는 경우 - 이미 좋아요로 처리하지 않고 회원 없음 예외가 발생한다")
+    void addCommentLike_IgnoredWithoutLike_ThrowsException() {
+        // given
+        // INSERT IGNORE가 외래 키 위반을 0건으로 바꾼 경우
+        given(commentLikeRepository.insertIfTargetActive(MEMBER_ID, COMMENT_ID)).willReturn(0);
+        given(commentRepository.findByIdAndDeletedAtIsNull(COMMENT_ID)).willReturn(Optional.of(mock(Comment.class)));
+        given(commentLikeRepository.existsByMemberIdAndCommentId(MEMBER_ID, COMMENT_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentLikeService.addCommentLike(MEMBER_ID, COMMENT_ID))
+                .isInstanceOf(CommentException.class)
+                .satisfies(exception -> {
+                    CommentException commentException = (CommentException) exception;
+                    assertThat(commentException.getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND);
+                    assertThat(commentException.getEffectiveField()).isEqualTo("memberId");
+                });
+
+        verify(commentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 취소 - 좋아요 수를 감소시키고 갱신된 좋아요 수를 반환한다")
+    void removeCommentLike_Success() {
+        // given
+        given(commentLikeRepository.deleteIfPresent(MEMBER_ID, COMMENT_ID)).willReturn(1);
+        givenComment(2);
+
+        // when
+        CommentResponseDto.CommentLikeResponse response = commentLikeService.removeCommentLike(MEMBER_ID, COMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isFalse();
+        assertThat(response.like_count()).isEqualTo(2);
+        verify(commentRepository).decreaseLikeCount(COMMENT_ID);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 댓글 취소 - 예외 없이 좋아요 수를 바꾸지 않고 현재 상태를 반환한다")
+    void removeCommentLike_NotLiked_NoOp() {
+        // given
+        given(commentLikeRepository.deleteIfPresent(MEMBER_ID, COMMENT_ID)).willReturn(0);
+        givenComment(2);
+
+        // when
+        CommentResponseDto.CommentLikeResponse response = commentLikeService.removeCommentLike(MEMBER_ID, COMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isFalse();
+        assertThat(response.like_count()).isEqualTo(2);
+        verify(commentRepository, never()).decreaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("없는 댓글 좋아요 취소 - RESOURCE_NOT_FOUND 예외가 발생한다")
+    void removeCommentLike_CommentNotFound_ThrowsException() {
+        // given
+        given(commentLikeRepository.deleteIfPresent(MEMBER_ID, COMMENT_ID)).willReturn(0);
+        given(commentRepository.findByIdAndDeletedAtIsNull(COMMENT_ID)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> commentLikeService.removeCommentLike(MEMBER_ID, COMMENT_ID))
+                .isInstanceOf(CommentException.class)
+                .satisfies(exception ->
+                        assertThat(((CommentException) exception).getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND));
+    }
+
+    // ========== 대댓글 좋아요 ==========
+
+    @Test
+    @DisplayName("대댓글 좋아요 추가 - 좋아요 수를 증가시키고 갱신된 좋아요 수를 반환한다")
+    void addRecommentLike_Success() {
+        // given
+        given(recommentLikeRepository.insertIfTargetActive(MEMBER_ID, RECOMMENT_ID)).willReturn(1);
+        givenRecomment(1);
+
+        // when
+        CommentResponseDto.RecommentLikeResponse response = commentLikeService.addRecommentLike(MEMBER_ID, RECOMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isTrue();
+        assertThat(response.like_count()).isEqualTo(1);
+        verify(recommentRepository).increaseLikeCount(RECOMMENT_ID);
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 대댓글에 좋아요 - RESOURCE_NOT_FOUND 예외가 발생한다")
+    void addRecommentLike_RecommentNotFound_ThrowsException() {
+        // given
+        given(recommentLikeRepository.insertIfTargetActive(MEMBER_ID, RECOMMENT_ID)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> commentLikeService.addRecommentLike(MEMBER_ID, RECOMMENT_ID))
+                .isInstanceOf(CommentException.class)
+                .satisfies(exception -> {
+                    CommentException commentException = (CommentException) exception;
+                    assertThat(commentException.getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND);
+                    assertThat(commentException.getEffectiveField()).isEqualTo("recommentId");
+                });
+
+        verify(recommentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 대댓글에 재좋아요 - 예외 없이 좋아요 수를 바꾸지 않고 현재 상태를 반환한다")
+    void addRecommentLike_AlreadyLiked_NoOp() {
+        // given
+        given(recommentLikeRepository.insertIfTargetActive(MEMBER_ID, RECOMMENT_ID)).willReturn(0);
+        givenRecomment(3);
+        given(recommentLikeRepository.existsByMemberIdAndRecommentId(MEMBER_ID, RECOMMENT_ID)).willReturn(true);
+
+        // when
+        CommentResponseDto.RecommentLikeResponse response = commentLikeService.addRecommentLike(MEMBER_ID, RECOMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isTrue();
+        assertThat(response.like_count()).isEqualTo(3);
+        verify(recommentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("대댓글 좋아요가 무시되었지만 좋아요가 없는 경우 - 이미 좋아요로 처리하지 않고 회원 없음 예외가 발생한다")
+    void addRecommentLike_IgnoredWithoutLike_ThrowsException() {
+        // given
+        // INSERT IGNORE가 외래 키 위반을 0건으로 바꾼 경우
+        given(recommentLikeRepository.insertIfTargetActive(MEMBER_ID, RECOMMENT_ID)).willReturn(0);
+        given(recommentRepository.findByIdAndDeletedAtIsNull(RECOMMENT_ID)).willReturn(Optional.of(mock(Recomment.class)));
+        given(recommentLikeRepository.existsByMemberIdAndRecommentId(MEMBER_ID, RECOMMENT_ID)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentLikeService.addRecommentLike(MEMBER_ID, RECOMMENT_ID))
+                .isInstanceOf(CommentException.class)
+                .satisfies(exception -> {
+                    CommentException commentException = (CommentException) exception;
+                    assertThat(commentException.getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND);
+                    assertThat(commentException.getEffectiveField()).isEqualTo("memberId");
+                });
+
+        verify(recommentRepository, never()).increaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("대댓글 좋아요 취소 - 좋아요 수를 감소시키고 갱신된 좋아요 수를 반환한다")
+    void removeRecommentLike_Success() {
+        // given
+        given(recommentLikeRepository.deleteIfPresent(MEMBER_ID, RECOMMENT_ID)).willReturn(1);
+        givenRecomment(0);
+
+        // when
+        CommentResponseDto.RecommentLikeResponse response = commentLikeService.removeRecommentLike(MEMBER_ID, RECOMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isFalse();
+        assertThat(response.like_count()).isZero();
+        verify(recommentRepository).decreaseLikeCount(RECOMMENT_ID);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 대댓글 취소 - 예외 없이 좋아요 수를 바꾸지 않고 현재 상태를 반환한다")
+    void removeRecommentLike_NotLiked_NoOp() {
+        // given
+        given(recommentLikeRepository.deleteIfPresent(MEMBER_ID, RECOMMENT_ID)).willReturn(0);
+        givenRecomment(2);
+
+        // when
+        CommentResponseDto.RecommentLikeResponse response = commentLikeService.removeRecommentLike(MEMBER_ID, RECOMMENT_ID);
+
+        // then
+        assertThat(response.liked()).isFalse();
+        assertThat(response.like_count()).isEqualTo(2);
+        verify(recommentRepository, never()).decreaseLikeCount(any());
+    }
+
+    private void givenComment(int likeCount) {
+        Comment comment = mock(Comment.class);
+        given(comment.getLikeCount()).willReturn(likeCount);
+        given(commentRepository.findByIdAndDeletedAtIsNull(COMMENT_ID)).willReturn(Optional.of(comment));
+    }
+
+    private void givenRecomment(int likeCount) {
+        Recomment recomment = mock(Recomment.class);
+        given(recomment.getLikeCount()).willReturn(likeCount);
+        given(recommentRepository.findByIdAndDeletedAtIsNull(RECOMMENT_ID)).willReturn(Optional.of(recomment));
+    }
+}
@@ -0,0 +1,155 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.dto.CommentActivity;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentActivity;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.dto.PostActivity;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.global.config.JpaConfig;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static com.kakaobase.snsapp.global.constants.MemberFixtureConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 활동 피드가 조회하는 사용자의 게시판 접근 권한에 따라 걸러지는지 실제 쿼리로 확인합니다.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({
+        JpaConfig.class,
+        AccessChecker.class,
+        MemberActivityService.class
+})
+@DisplayName("회원 활동 피드 게시판 접근 권한 테스트")
+class MemberActivityAccessTest {
+
+    private static final int LIMIT = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberActivityService memberActivityService;
+
+    private Member author;
+    private Post restrictedPost;
+    private Post openPost;
+    private Comment restrictedComment;
+    private Comment openComment;
+    private Recomment restrictedRecomment;
+    private Recomment openRecomment;
+
+    @BeforeEach
+    void setUp() {
+        // 제주 1기 회원이 제주 1기 게시판과 전체 게시판에 각각 게시글, 댓글, 대댓글을 작성
+        author = entityManager.persist(createMember("author@kakao.com", "작성자", Member.ClassName.JEJU_1));
+
+        restrictedPost = entityManager.persist(createPost(Post.BoardType.JEJU_1, "제주 1기 게시글"));
+        openPost = entityManager.persist(createPost(Post.BoardType.ALL, "전체 게시글"));
+
+        restrictedComment = entityManager.persist(createComment(restrictedPost, "제주 1기 댓글"));
+        openComment = entityManager.persist(createComment(openPost, "전체 댓글"));
+
+        restrictedRecomment = entityManager.persist(createRecomment(restrictedComment, "제주 1기 대댓글"));
+        openRecomment = entityManager.persist(createRecomment(openComment, "전체 대댓글"));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("다른 기수 회원은 제한된 게시판의 게시글, 댓글, 대댓글을 받지 못한다")
+    void crossClassViewer_SeesOnlyOpenBoard() {
+        CustomUserDetails viewer = viewer(MEMBER_ROLE, Member.ClassName.PANGYO_1);
+
+        assertThat(memberActivityService.getPosts(author.getId(), viewer, null, LIMIT, null).items())
+                .extracting(PostActivity::id)
+                .containsExactly(openPost.getId());
+        assertThat(memberActivityService.getComments(author.getId(), viewer, LIMIT, null).items())
+                .extracting(CommentActivity::id)
+                .containsExactly(openComment.getId());
+        assertThat(memberActivityService.getRecomments(author.getId(), viewer, LIMIT, null).items())
+                .extracting(RecommentActivity::id)
+                .containsExactly(openRecomment.getId());
+    }
+
+    @Test
+    @DisplayName("같은 기수 회원은 기수 게시판과 전체 게시판의 활동을 모두 받는다")
+    void sameClassViewer_SeesBothBoards() {
+        CustomUserDetails viewer = viewer(MEMBER_ROLE, Member.ClassName.JEJU_1);
+
+        assertThat(memberActivityService.getPosts(author.getId(), viewer, null, LIMIT, null).items())
+                .extracting(PostActivity::id)
+                .containsExactlyInAnyOrder(restrictedPost.getId(), openPost.getId());
+        assertThat(memberActivityService.getComments(author.getId(), viewer, LIMIT, null).items())
+                .extracting(CommentActivity::id)
+                .containsExactlyInAnyOrder(restrictedComment.getId(), openComment.getId());
+        assertThat(memberActivityService.getRecomments(author.getId(), viewer, LIMIT, null).items())
+                .extracting(RecommentActivity::id)
+                .containsExactlyInAnyOrder(restrictedRecomment.getId(), openRecomment.getId());
+    }
+
+    @Test
+    @DisplayName("관리자는 기수와 관계없이 모든 게시판의 활동을 받는다")
+    void adminViewer_SeesAllBoards() {
+        CustomUserDetails viewer = viewer(ADMIN_ROLE, Member.ClassName.PANGYO_1);
+
+        assertThat(memberActivityService.getPosts(author.getId(), viewer, null, LIMIT, null).items())
+                .hasSize(2);
+        assertThat(memberActivityService.getComments(author.getId(), viewer, LIMIT, null).items())
+                .hasSize(2);
+        assertThat(memberActivityService.getRecomments(author.getId(), viewer, LIMIT, null).items())
+                .hasSize(2);
+    }
+
+    private CustomUserDetails viewer(Member.Role role, Member.ClassName className) {
+        return new CustomUserDetails(String.valueOf(ADMIN_ID), role.name(), className.name(), true);
+    }
+
+    private Member createMember(String email, String nickname, Member.ClassName className) {
+        return Member.builder()
+                .email(email)
+                .name(MEMBER_NAME)
+                .nickname(nickname)
+                .password(MEMBER_PASSWORD)
+                .className(className)
+                .githubUrl(MEMBER_GITHUB_URL)
+                .build();
+    }
+
+    private Post createPost(Post.BoardType boardType, String content) {
+        return Post.builder()
+                .memberId(author.getId())
+                .boardType(boardType)
+                .content(content)
+                .build();
+    }
+
+    private Comment createComment(Post post, String content) {
+        return Comment.builder()
+                .post(post)
+                .member(author)
+                .content(content)
+                .build();
+    }
+
+    private Recomment createRecomment(Comment comment, String content) {
+        return Recomment.builder()
+                .comment(comment)
+                .member(author)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.dto.CommentActivity;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
+import com.kakaobase.snsapp.domain.members.exception.MemberException;
+import com.kakaobase.snsapp.domain.posts.dto.PostActivity;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+import com.kakaobase.snsapp.global.fixture.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberActivityService 단위 테스트")
+class MemberActivityServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0, 0);
+
+    private static final List<Post.BoardType> VISIBLE_BOARDS = List.of(Post.BoardType.ALL, Post.BoardType.PANGYO_1);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private RecommentRepository recommentRepository;
+
+    private MemberActivityService memberActivityService;
+
+    // 판교 1기 일반 회원
+    private final CustomUserDetails viewer = CustomUserDetailsFixture.createCustomUserDetailsForJwt();
+
+    @BeforeEach
+    void setUp() {
+        AccessChecker accessChecker = new AccessChecker(postRepository, commentRepository, recommentRepository);
+        memberActivityService = new MemberActivityService(
+                postRepository, commentRepository, recommentRepository, accessChecker);
+    }
+
+    @Test
+    @DisplayName("limit + 1건이 조회되면 limit건만 반환하고 다음 커서를 만든다")
+    void getPosts_MoreThanLimit_ReturnsNextCursor() {
+        given(postRepository.findActivityByMemberId(eq(MEMBER_ID), eq(VISIBLE_BOARDS), isNull(), isNull(), eq(Limit.of(3))))
+                .willReturn(List.of(post(30L, NOW), post(20L, NOW.minusMinutes(1)), post(10L, NOW.minusMinutes(2))));
+
+        MemberResponseDto.ActivityPage<PostActivity> page = memberActivityService.getPosts(MEMBER_ID, viewer, null, 2, null);
+
+        assertThat(page.items()).extracting(PostActivity::id).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다음 커서로 조회하면 마지막 항목의 작성 시각과 ID로 이어서 조회한다")
+    void getPosts_WithCursor_ContinuesFromLastItem() {
+        given(postRepository.findActivityByMemberId(eq(MEMBER_ID), eq(VISIBLE_BOARDS), isNull(), isNull(), any(Limit.class)))
+                .willReturn(List.of(post(30L, NOW), post(20L, NOW.minusMinutes(1))));
+        String cursor = memberActivityService.getPosts(MEMBER_ID, viewer, null, 1, null).nextCursor();
+
+        List<Post.BoardType> pangyo1 = List.of(Post.BoardType.PANGYO_1);
+        given(postRepository.findActivityByMemberId(MEMBER_ID, pangyo1, NOW, 30L, Limit.of(2)))
+                .willReturn(List.of());
+        MemberResponseDto.ActivityPage<PostActivity> next =
+                memberActivityService.getPosts(MEMBER_ID, viewer, "pangyo_1", 1, cursor);
+
+        assertThat(next.items()).isEmpty();
+        assertThat(next.hasNext()).isFalse();
+        assertThat(next.nextCursor()).isNull();
+        verify(postRepository).findActivityByMemberId(MEMBER_ID, pangyo1, NOW, 30L, Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("다른 기수 게시판을 지정하면 조회 없이 FORBIDDEN 예외를 던진다")
+    void getPosts_OtherClassBoard_Forbidden() {
+        assertThatThrownBy(() -> memberActivityService.getPosts(MEMBER_ID, viewer, "jeju_1", 12, null))
+                .isInstanceOf(CustomException.class)
+                .satisfies(exception ->
+                        assertThat(((CustomException) exception).getErrorCode()).isEqualTo(GeneralErrorCode.FORBIDDEN));
+
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("관리자는 모든 게시판의 활동을 조회한다")
+    void getRecomments_Admin_AllBoards() {
+        given(recommentRepository.findActivityByMemberId(MEMBER_ID, List.of(Post.BoardType.values()), null, null, Limit.of(13)))
+                .willReturn(List.of());
+
+        memberActivityService.getRecomments(MEMBER_ID, CustomUserDetailsFixture.createAdminCustomUserDetails(), 12, null);
+
+        verify(recommentRepository).findActivityByMemberId(MEMBER_ID, List.of(Post.BoardType.values()), null, null, Limit.of(13));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지에서는 다음 커서가 없다")
+    void getComments_LastPage_NoNextCursor() {
+        CommentActivity comment = new CommentActivity(5L, 100L, "댓글", 0, 0, NOW);
+        given(commentRepository.findActivityByMemberId(MEMBER_ID, VISIBLE_BOARDS, null, null, Limit.of(13)))
+                .willReturn(List.of(comment));
+
+        MemberResponseDto.ActivityPage<CommentActivity> page = memberActivityService.getComments(MEMBER_ID, viewer, 12, null);
+
+        assertThat(page.items()).containsExactly(comment);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 limit은 조회 없이 예외를 던진다")
+    void getRecomments_InvalidParameters_ThrowsException() {
+        assertThatThrownBy(() -> memberActivityService.getRecomments(MEMBER_ID, viewer, 12, "not-a-cursor"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> memberActivityService.getRecomments(MEMBER_ID, viewer, 0, null))
+                .isInstanceOf(MemberException.class);
+
+        verifyNoInteractions(recommentRepository);
+    }
+
+    private PostActivity post(Long id, LocalDateTime createdAt) {
+        return new PostActivity(id, Post.BoardType.PANGYO_1, "내용", 0, 0, createdAt);
+    }
+}
@@ -2,15 +2,20 @@ package com.kakaobase.snsapp.domain.members.service;
 
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
+import com.kakaobase.snsapp.domain.members.dto.MemberBotInfo;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.exception.MemberErrorCode;
 import com.kakaobase.snsapp.domain.members.exception.MemberException;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.global.common.email.service.EmailVerificationService;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.service.S3Service;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.fixture.CustomUserDetailsFixture;
 import com.kakaobase.snsapp.global.fixture.MemberFixture;
 import com.kakaobase.snsapp.global.fixture.MemberRequestFixture;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.*;
 
@@ -44,6 +51,9 @@ class MemberServiceTest {
     @Mock
     private EmailVerificationService emailVerificationService;
 
+    @Mock
+    private S3Service s3Service;
+
     @Mock
     private Member mockMember;
 
@@ -56,6 +66,11 @@ class MemberServiceTest {
         validNonKbtSignUpRequest = MemberRequestFixture.createValidNonKbtSignUpRequest();
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     // ========== 회원가입 단위 테스트 ==========
 
     @Test
@@ -300,8 +315,8 @@ class MemberServiceTest {
     @DisplayName("봇용 회원 정보 조회 성공")
     void getMemberBotInfo_Success() {
         // given
-        Member member = MemberFixture.createKbtMember();
-        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(member));
+        MemberBotInfo botInfo = new MemberBotInfo(MEMBER_ID, MEMBER_NICKNAME, MEMBER_PROFILE_IMG_URL, KBT_MEMBER_CLASS_NAME);
+        given(memberRepository.findBotInfoByIdIn(List.of(MEMBER_ID))).willReturn(List.of(botInfo));
 
         // when
         BotRecommentRequestDto.UserInfo result = memberService.getMemberBotInfo(MEMBER_ID);
@@ -311,14 +326,15 @@ class MemberServiceTest {
         assertThat(result.nickname()).isEqualTo(MEMBER_NICKNAME);
         assertThat(result.className()).isEqualTo(KBT_MEMBER_CLASS_NAME.name());
 
-        verify(memberRepository).findById(MEMBER_ID);
+        verify(memberRepository).findBotInfoByIdIn(List.of(MEMBER_ID));
+        verify(memberRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("존재하지 않는 회원의 봇용 정보 조회시 MemberException 발생")
     void getMemberBotInfo_MemberNotFound_ShouldThrowException() {
         // given
-        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.empty());
+        given(memberRepository.findBotInfoByIdIn(List.of(MEMBER_ID))).willReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> memberService.getMemberBotInfo(MEMBER_ID))
@@ -331,6 +347,68 @@ class MemberServiceTest {
                     assertThat(memberException.getEffectiveField()).isEqualTo("memberId");
                 });
 
-        verify(memberRepository).findById(MEMBER_ID);
+        verify(memberRepository).findBotInfoByIdIn(List.of(MEMBER_ID));
+    }
+
+    @Test
+    @DisplayName("여러 회원의 봇용 정보를 한 번의 쿼리로 조회")
+    void getMemberBotInfoMap_Success() {
+        // given
+        List<Long> memberIds = List.of(MEMBER_ID, BANNED_MEMBER_ID);
+        MemberBotInfo first = new MemberBotInfo(MEMBER_ID, MEMBER_NICKNAME, MEMBER_PROFILE_IMG_URL, KBT_MEMBER_CLASS_NAME);
+        MemberBotInfo second = new MemberBotInfo(BANNED_MEMBER_ID, BANNED_MEMBER_NICKNAME, null, NON_KBT_MEMBER_CLASS_NAME);
+        given(memberRepository.findBotInfoByIdIn(memberIds)).willReturn(List.of(first, second));
+
+        // when
+        Map<Long, MemberBotInfo> result = memberService.getMemberBotInfoMap(memberIds);
+
+        // then
+        assertThat(result)
+                .hasSize(2)
+                .containsEntry(MEMBER_ID, first)
+                .containsEntry(BANNED_MEMBER_ID, second);
+
+        verify(memberRepository, times(1)).findBotInfoByIdIn(memberIds);
+    }
+
+    // ========== 프로필 이미지 변경 단위 테스트 ==========
+
+    @Test
+    @DisplayName("프로필 이미지 변경 시 이전 이미지를 정리 후보로 등록")
+    void changProfileImageUrl_SchedulesPreviousImageDeletion() {
+        // given
+        String previousUrl = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/profiles/old.jpg";
+        String newUrl = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/profiles/new.jpg";
+        authenticate();
+        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(mockMember));
+        given(mockMember.getProfileImgUrl()).willReturn(previousUrl);
+
+        // when
+        memberService.changProfileImageUrl(new MemberRequestDto.ProfileImageChange(newUrl));
+
+        // then
+        verify(mockMember).updateProfile(newUrl);
+        verify(s3Service).scheduleDeletion(previousUrl, S3GcReason.REPLACED_PROFILE_IMAGE);
+    }
+
+    @Test
+    @DisplayName("같은 프로필 이미지로 변경하면 정리 후보로 등록하지 않음")
+    void changProfileImageUrl_SameImage_NotScheduled() {
+        // given
+        String url = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/profiles/same.jpg";
+        authenticate();
+        given(memberRepository.findById(MEMBER_ID)).willReturn(Optional.of(mockMember));
+        given(mockMember.getProfileImgUrl()).willReturn(url);
+
+        // when
+        memberService.changProfileImageUrl(new MemberRequestDto.ProfileImageChange(url));
+
+        // then
+        verify(s3Service, never()).scheduleDeletion(any(), any());
+    }
+
+    private static void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                CustomUserDetailsFixture.createKbtCustomUserDetails(), null, List.of()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalPostCounter 단위 테스트")
+class LocalPostCounterTest {
+
+    private static final Post.BoardType BOARD_TYPE = Post.BoardType.PANGYO_1;
+    private static final int THRESHOLD = 6;
+
+    private final LocalPostCounter postCounter = new LocalPostCounter();
+
+    @Test
+    @DisplayName("임계값에 도달한 증가에서만 true를 반환하고 카운터를 리셋한다")
+    void incrementAndCheckThreshold_ResetsOnThreshold() {
+        for (int i = 1; i < THRESHOLD; i++) {
+            assertThat(postCounter.incrementAndCheckThreshold(BOARD_TYPE, THRESHOLD)).isFalse();
+            assertThat(postCounter.getCount(BOARD_TYPE)).isEqualTo(i);
+        }
+
+        assertThat(postCounter.incrementAndCheckThreshold(BOARD_TYPE, THRESHOLD)).isTrue();
+        assertThat(postCounter.getCount(BOARD_TYPE)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 증가해도 임계값 도달 횟수는 전체 증가 수 / 임계값과 같다")
+    void incrementAndCheckThreshold_Concurrent() throws InterruptedException {
+        int threads = 8;
+        int incrementsPerThread = THRESHOLD * 250;
+        AtomicInteger reachedCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    if (postCounter.incrementAndCheckThreshold(BOARD_TYPE, THRESHOLD)) {
+                        reachedCount.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reachedCount.get()).isEqualTo(threads * incrementsPerThread / THRESHOLD);
+        assertThat(postCounter.getCount(BOARD_TYPE)).isZero();
+    }
+}
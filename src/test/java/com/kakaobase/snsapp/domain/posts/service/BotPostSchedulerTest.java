@@ -0,0 +1,231 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BotPostScheduler 단위 테스트")
+class BotPostSchedulerTest {
+
+    private static final Post.BoardType BOARD_TYPE = Post.BoardType.PANGYO_1;
+    private static final long DEBOUNCE_MILLIS = 5000L;
+    private static final long MAX_WAIT_MILLIS = 12000L;
+
+    @Mock
+    private BotPostService botPostService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private MutableClock clock;
+    private BotPostScheduler botPostScheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-05-01T00:00:00Z"));
+
+        // 실행기는 호출 스레드에서 바로 실행하여 스케줄된 작업만 직접 제어
+        botPostScheduler = new BotPostScheduler(botPostService, taskScheduler, Runnable::run, meterRegistryProvider);
+        ReflectionTestUtils.setField(botPostScheduler, "clock", clock);
+        ReflectionTestUtils.setField(botPostScheduler, "debounceMillis", DEBOUNCE_MILLIS);
+        ReflectionTestUtils.setField(botPostScheduler, "maxWaitMillis", MAX_WAIT_MILLIS);
+        ReflectionTestUtils.setField(botPostScheduler, "maxCallsPerMinute", 1);
+        ReflectionTestUtils.setField(botPostScheduler, "recoveryDelayMillis", 60000L);
+    }
+
+    @Test
+    @DisplayName("요청은 예약 전에 DB에 기록된다")
+    void requestGeneration_RecordsTriggerBeforeScheduling() {
+        // when
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+
+        // then
+        InOrder inOrder = inOrder(botPostService, taskScheduler);
+        inOrder.verify(botPostService).recordTrigger(BOARD_TYPE);
+        inOrder.verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업이 있으면 추가 요청은 합쳐져 AI 호출이 한 번만 일어난다")
+    void requestGeneration_CoalescesPendingRequests() {
+        // when
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+
+        // then
+        List<Runnable> scheduled = captureScheduled(1);
+        clock.advance(DEBOUNCE_MILLIS);
+        scheduled.get(0).run();
+
+        verify(botPostService, times(3)).recordTrigger(BOARD_TYPE);
+        verify(botPostService, times(1)).createBotPost(BOARD_TYPE);
+    }
+
+    @Test
+    @DisplayName("대기 중 새 요청이 오면 마지막 요청 기준으로 실행이 미뤄진다")
+    void requestGeneration_TrailingDebounce() {
+        // given
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        clock.advance(3000);
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+
+        // when: 첫 요청 기준 디바운스 시각에 깨어남
+        clock.advance(2000);
+        captureScheduled(1).get(0).run();
+
+        // then: 마지막 요청 후 디바운스가 지나지 않았으므로 남은 시간만큼 다시 예약
+        verify(botPostService, never()).createBotPost(BOARD_TYPE);
+        ArgumentCaptor<Instant> dueAt = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), dueAt.capture());
+        assertThat(dueAt.getAllValues().get(1)).isEqualTo(clock.instant().plusMillis(3000));
+
+        clock.advance(3000);
+        captureScheduled(2).get(1).run();
+        verify(botPostService, times(1)).createBotPost(BOARD_TYPE);
+    }
+
+    @Test
+    @DisplayName("요청이 끊이지 않아도 첫 요청 후 최대 대기 시간이 지나면 실행된다")
+    void requestGeneration_MaxWait() {
+        // given: 4초마다 요청이 계속 들어옴
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        for (int i = 0; i < 3; i++) {
+            clock.advance(4000);
+            botPostScheduler.requestGeneration(BOARD_TYPE);
+        }
+
+        // when
+        captureScheduled(1).get(0).run();
+
+        // then: 마지막 요청 기준(16초)이 아닌 최대 대기 시각(12초)에 실행
+        verify(botPostService, times(1)).createBotPost(BOARD_TYPE);
+    }
+
+    @Test
+    @DisplayName("실행 중 들어온 요청은 종료 후 한 번 더 예약된다")
+    void requestGeneration_ReschedulesWhenRequestedWhileRunning() {
+        // given
+        given(botPostService.createBotPost(BOARD_TYPE)).willAnswer(invocation -> {
+            botPostScheduler.requestGeneration(BOARD_TYPE);
+            botPostScheduler.requestGeneration(BOARD_TYPE);
+            return null;
+        });
+
+        // when
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        clock.advance(DEBOUNCE_MILLIS);
+        captureScheduled(1).get(0).run();
+
+        // then
+        captureScheduled(2);
+        verify(botPostService, times(1)).createBotPost(BOARD_TYPE);
+    }
+
+    @Test
+    @DisplayName("분당 호출 상한을 넘으면 AI를 호출하지 않고 다시 예약한다")
+    void run_DefersWhenRateLimited() {
+        // given
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        clock.advance(DEBOUNCE_MILLIS);
+        captureScheduled(1).get(0).run();
+
+        // when
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        clock.advance(DEBOUNCE_MILLIS);
+        captureScheduled(2).get(1).run();
+
+        // then
+        captureScheduled(3);
+        verify(botPostService, times(1)).createBotPost(BOARD_TYPE);
+    }
+
+    @Test
+    @DisplayName("생성에 실패해도 다음 요청은 정상적으로 예약된다")
+    void run_FailureDoesNotBlockNextRequest() {
+        // given
+        given(botPostService.createBotPost(BOARD_TYPE)).willThrow(new IllegalStateException("AI 서버 통신 오류"));
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+        clock.advance(DEBOUNCE_MILLIS);
+        captureScheduled(1).get(0).run();
+
+        // when
+        botPostScheduler.requestGeneration(BOARD_TYPE);
+
+        // then
+        captureScheduled(2);
+    }
+
+    @Test
+    @DisplayName("DB에 남아 있는 요청은 복구 주기에 다시 예약되며 DB에 중복 기록하지 않는다")
+    void recoverPendingTriggers_ReschedulesLeftoverTriggers() {
+        // given
+        given(botPostService.findPendingTriggers(any())).willReturn(List.of(BOARD_TYPE));
+
+        // when
+        botPostScheduler.recoverPendingTriggers();
+        botPostScheduler.recoverPendingTriggers();
+
+        // then: 이미 예약된 게시판은 다시 예약하지 않음
+        captureScheduled(1);
+        verify(botPostService, never()).recordTrigger(any());
+    }
+
+    private List<Runnable> captureScheduled(int expectedCount) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expectedCount)).schedule(captor.capture(), any(Instant.class));
+        return captor.getAllValues();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(long millis) {
+            now = now.plus(Duration.ofMillis(millis));
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
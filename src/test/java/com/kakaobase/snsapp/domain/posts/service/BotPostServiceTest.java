@@ -0,0 +1,189 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.members.dto.MemberBotInfo;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.domain.posts.entity.BotPostTrigger;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.BotPostTriggerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BotPostService 단위 테스트")
+class BotPostServiceTest {
+
+    private static final Post.BoardType BOARD_TYPE = Post.BoardType.PANGYO_1;
+    private static final Long AUTHOR_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private BotPostTriggerRepository botPostTriggerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BotPostService botPostService;
+
+    @Test
+    @DisplayName("처리할 요청이 없으면 다른 인스턴스가 이미 처리한 것으로 보고 건너뛴다")
+    void createBotPost_NoPendingTrigger_Skips() {
+        // given
+        given(botPostTriggerRepository.findForUpdate(BOARD_TYPE.name())).willReturn(Optional.empty());
+
+        // when
+        Object response = botPostService.createBotPost(BOARD_TYPE);
+
+        // then
+        assertThat(response).isNull();
+        verifyNoInteractions(postService, webClient);
+        verify(botPostTriggerRepository, never()).deleteRequestedUpTo(any(), any());
+    }
+
+    @Test
+    @DisplayName("일반 게시글이 5개 미만이면 AI를 호출하지 않고 요청만 처리 완료한다")
+    void createBotPost_NotEnoughPosts_AcksTrigger() {
+        // given
+        givenPendingTrigger();
+        given(postService.findByCursor(BOARD_TYPE, 10, null)).willReturn(posts(4));
+        givenAuthorInfo();
+
+        // when
+        Object response = botPostService.createBotPost(BOARD_TYPE);
+
+        // then
+        assertThat(response).isNull();
+        verify(botPostTriggerRepository).deleteRequestedUpTo(eq(BOARD_TYPE), any());
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("직전에 불러온 게시글은 재사용하고 이후 작성된 게시글만 조회한다")
+    void createBotPost_ReusesPreviouslyLoadedPosts() {
+        // given
+        List<Post> firstPosts = posts(4);
+        givenPendingTrigger();
+        given(postService.findByCursor(BOARD_TYPE, 10, null)).willReturn(firstPosts);
+        givenAuthorInfo();
+        botPostService.createBotPost(BOARD_TYPE);
+
+        // 최신 게시글 이후 새 게시글이 없음
+        LocalDateTime newestCreatedAt = firstPosts.get(0).getCreatedAt();
+        given(postService.findCreatedSince(BOARD_TYPE, newestCreatedAt, 10)).willReturn(List.of(firstPosts.get(0)));
+
+        // when
+        Object response = botPostService.createBotPost(BOARD_TYPE);
+
+        // then
+        assertThat(response).isNull();
+        verify(postService, times(1)).findByCursor(any(), anyInt(), any());
+        verify(postService).findCreatedSince(BOARD_TYPE, newestCreatedAt, 10);
+        verify(memberService, times(1)).getMemberBotInfoMap(any());
+        verify(botPostTriggerRepository, times(2)).deleteRequestedUpTo(eq(BOARD_TYPE), any());
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("요청을 가져가는 트랜잭션을 커밋한 뒤 AI를 호출하고, 실패하면 요청을 다시 기록한다")
+    void createBotPost_AiFailure_ReRecordsTrigger() {
+        // given
+        givenPendingTrigger();
+        given(postService.findByCursor(BOARD_TYPE, 10, null)).willReturn(posts(5));
+        givenAuthorInfo();
+        given(webClient.post()).willThrow(new IllegalStateException("AI 서버 통신 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> botPostService.createBotPost(BOARD_TYPE))
+                .isInstanceOf(IllegalStateException.class);
+
+        InOrder inOrder = inOrder(botPostTriggerRepository, transactionManager, webClient);
+        inOrder.verify(botPostTriggerRepository).deleteRequestedUpTo(eq(BOARD_TYPE), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(webClient).post();
+        inOrder.verify(botPostTriggerRepository).upsert(eq(BOARD_TYPE.name()), any());
+        verify(postService, never()).createPost(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("AI 호출이 실패한 생성의 게시글은 재사용하지 않고 다음 생성에서 다시 조회한다")
+    void createBotPost_AiFailure_DoesNotReusePosts() {
+        // given
+        givenPendingTrigger();
+        given(postService.findByCursor(BOARD_TYPE, 10, null)).willReturn(posts(5));
+        givenAuthorInfo();
+        given(webClient.post()).willThrow(new IllegalStateException("AI 서버 통신 오류"));
+        assertThatThrownBy(() -> botPostService.createBotPost(BOARD_TYPE))
+                .isInstanceOf(IllegalStateException.class);
+
+        // when & then
+        assertThatThrownBy(() -> botPostService.createBotPost(BOARD_TYPE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(postService, times(2)).findByCursor(BOARD_TYPE, 10, null);
+        verify(postService, never()).findCreatedSince(any(), any(), anyInt());
+    }
+
+    private void givenPendingTrigger() {
+        given(botPostTriggerRepository.findForUpdate(BOARD_TYPE.name()))
+                .willReturn(Optional.of(mock(BotPostTrigger.class)));
+    }
+
+    private void givenAuthorInfo() {
+        given(memberService.getMemberBotInfoMap(any())).willReturn(Map.of(
+                AUTHOR_ID, new MemberBotInfo(AUTHOR_ID, "tester", null, Member.ClassName.PANGYO_1)));
+    }
+
+    /**
+     * 최신순으로 정렬된 일반 게시글 목록을 생성합니다.
+     */
+    private List<Post> posts(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Post post = Post.builder()
+                            .memberId(AUTHOR_ID)
+                            .boardType(BOARD_TYPE)
+                            .content("content " + i)
+                            .build();
+                    ReflectionTestUtils.setField(post, "id", (long) (count - i));
+                    ReflectionTestUtils.setField(post, "createdAt", BASE_TIME.minusMinutes(i));
+                    return post;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,168 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.entity.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이미지 변환본 생성 단위 테스트")
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator("jpeg", 0.8f, 40_000_000L);
+
+    @Test
+    @DisplayName("큰 원본은 썸네일은 정사각형으로, 나머지는 비율을 유지해 목표 너비로 줄인다")
+    void generate_LargeImage_ResizesToVariantWidths() throws IOException {
+        Map<ImageVariant, byte[]> variants = generator.generate(image(4000, 3000, "jpg"));
+
+        assertThat(dimensions(variants.get(ImageVariant.THUMBNAIL))).containsExactly(320, 320);
+        assertThat(dimensions(variants.get(ImageVariant.MEDIUM))).containsExactly(720, 540);
+        assertThat(dimensions(variants.get(ImageVariant.LARGE))).containsExactly(1280, 960);
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 크기로는 늘리지 않는다")
+    void generate_SmallImage_DoesNotUpscale() throws IOException {
+        Map<ImageVariant, byte[]> variants = generator.generate(image(500, 800, "png"));
+
+        assertThat(dimensions(variants.get(ImageVariant.THUMBNAIL))).containsExactly(320, 320);
+        assertThat(dimensions(variants.get(ImageVariant.MEDIUM))).containsExactly(500, 800);
+        assertThat(dimensions(variants.get(ImageVariant.LARGE))).containsExactly(500, 800);
+        assertThat(generator.contentType()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 상한을 넘으면 디코딩하지 않고 거부한다")
+    void generate_TooManyPixels_Rejected() {
+        ImageVariantGenerator strict = new ImageVariantGenerator("jpeg", 0.8f, 1_000_000L);
+
+        assertThatThrownBy(() -> strict.generate(image(2000, 1000, "jpg")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용은 거부한다")
+    void generate_NotAnImage_Rejected() {
+        assertThatThrownBy(() -> generator.generate(
+                new ByteArrayInputStream("not an image".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation이 시계 방향 90도면 회전한 뒤 세로 사진 기준으로 줄인다")
+    void generate_ExifRotatedJpeg_RotatesBeforeResize() throws IOException {
+        // 센서 방향(가로 400x200)으로 저장된 사진: 왼쪽 절반 빨강, 오른쪽 절반 파랑
+        BufferedImage stored = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = stored.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 200, 200);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(200, 0, 200, 200);
+        graphics.dispose();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(stored, "jpg", bytes);
+
+        Map<ImageVariant, byte[]> variants = generator.generate(
+                new ByteArrayInputStream(withExifOrientation(bytes.toByteArray(), 6)));
+
+        // 시계 방향으로 돌리면 세로 200x400이 되고 왼쪽(빨강)이 위로 간다
+        assertThat(dimensions(variants.get(ImageVariant.MEDIUM))).containsExactly(200, 400);
+        assertThat(dimensions(variants.get(ImageVariant.THUMBNAIL))).containsExactly(200, 200);
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.MEDIUM)));
+        assertThat(new Color(medium.getRGB(100, 50))).satisfies(color -> {
+            assertThat(color.getRed()).isGreaterThan(200);
+            assertThat(color.getBlue()).isLessThan(60);
+        });
+        assertThat(new Color(medium.getRGB(100, 350))).satisfies(color -> {
+            assertThat(color.getBlue()).isGreaterThan(200);
+            assertThat(color.getRed()).isLessThan(60);
+        });
+    }
+
+    @Test
+    @DisplayName("JPEG 헤더가 손상되어 디코딩할 수 없으면 재시도 대상이 아닌 거부로 처리한다")
+    void generate_CorruptJpeg_Rejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "jpg", bytes);
+        byte[] jpeg = bytes.toByteArray();
+        // SOF0의 너비를 0으로 바꾼다 (마커, 길이 2, 정밀도 1, 높이 2 다음)
+        int sof = segmentOffset(jpeg, 0xC0);
+        jpeg[sof + 7] = 0;
+        jpeg[sof + 8] = 0;
+
+        assertThatThrownBy(() -> generator.generate(new ByteArrayInputStream(jpeg)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 출력 포맷이면 기동 시 실패한다")
+    void constructor_UnknownFormat_Fails() {
+        assertThatThrownBy(() -> new ImageVariantGenerator("no-such-format", 0.8f, 1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    static ByteArrayInputStream image(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, bytes);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    /**
+     * JFIF APP0 세그먼트 뒤에 Orientation 태그 하나만 가진 APP1(Exif) 세그먼트를 끼워 넣습니다.
+     */
+    static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                   // 빅엔디언 TIFF 헤더, 첫 IFD 오프셋 8
+                0, 1,                                          // IFD 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation(SHORT) = orientation
+                0, 0, 0, 0                                     // 다음 IFD 없음
+        };
+        int insertAt = segmentOffset(jpeg, 0xE0) + 2 + segmentLength(jpeg, segmentOffset(jpeg, 0xE0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write((exif.length + 2) >> 8);
+        out.write((exif.length + 2) & 0xFF);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+
+    /**
+     * SOI 다음부터 세그먼트를 따라가며 주어진 마커의 시작 위치를 찾습니다.
+     */
+    static int segmentOffset(byte[] jpeg, int marker) {
+        int offset = 2;
+        while ((jpeg[offset] & 0xFF) == 0xFF) {
+            if ((jpeg[offset + 1] & 0xFF) == marker) {
+                return offset;
+            }
+            offset += 2 + segmentLength(jpeg, offset);
+        }
+        throw new IllegalStateException("마커를 찾을 수 없습니다: " + Integer.toHexString(marker));
+    }
+
+    private static int segmentLength(byte[] jpeg, int offset) {
+        return ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+    }
+
+    static int[] dimensions(byte[] encoded) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(encoded));
+        return new int[]{image.getWidth(), image.getHeight()};
+    }
+}
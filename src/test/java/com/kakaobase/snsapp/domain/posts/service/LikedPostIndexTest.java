@@ -0,0 +1,85 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("LikedPostIndex 단위 테스트")
+class LikedPostIndexTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private PostLikeRepository postLikeRepository;
+    private LikedPostIndex likedPostIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+        likedPostIndex = new LikedPostIndex(
+                new LocalLikedPostStore(100, Duration.ofMinutes(30)),
+                postLikeRepository,
+                mock(ObjectProvider.class));
+    }
+
+    @Test
+    @DisplayName("첫 조회에서 한 번만 적재하고 이후에는 SQL 없이 응답한다")
+    void findLiked_LoadsOnce() {
+        given(postLikeRepository.findPostIdsByMemberIdForShare(MEMBER_ID)).willReturn(List.of(10L, 30L));
+
+        assertThat(likedPostIndex.findLiked(MEMBER_ID, List.of(10L, 20L))).containsExactly(10L);
+        assertThat(likedPostIndex.findLiked(MEMBER_ID, List.of(20L, 30L))).containsExactly(30L);
+        assertThat(likedPostIndex.isLiked(MEMBER_ID, 10L)).isTrue();
+
+        verify(postLikeRepository, times(1)).findPostIdsByMemberIdForShare(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("좋아요 변경이 적재된 인덱스에 반영된다")
+    void onLikedAndOnUnliked_UpdateIndex() {
+        given(postLikeRepository.findPostIdsByMemberIdForShare(MEMBER_ID)).willReturn(List.of(10L));
+        likedPostIndex.isLiked(MEMBER_ID, 10L);
+
+        likedPostIndex.onLiked(MEMBER_ID, 20L);
+        likedPostIndex.onUnliked(MEMBER_ID, 10L);
+
+        assertThat(likedPostIndex.isLiked(MEMBER_ID, 10L)).isFalse();
+        assertThat(likedPostIndex.isLiked(MEMBER_ID, 20L)).isTrue();
+        verify(postLikeRepository, times(1)).findPostIdsByMemberIdForShare(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("적중과 미스를 생성 시 등록한 카운터에 기록한다")
+    @SuppressWarnings("unchecked")
+    void findLiked_CountsHitsAndMisses() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        given(meterRegistryProvider.getIfAvailable()).willReturn(registry);
+        likedPostIndex = new LikedPostIndex(
+                new LocalLikedPostStore(100, Duration.ofMinutes(30)),
+                postLikeRepository,
+                meterRegistryProvider);
+        given(postLikeRepository.findPostIdsByMemberIdForShare(MEMBER_ID)).willReturn(List.of(10L));
+
+        likedPostIndex.isLiked(MEMBER_ID, 10L);
+        likedPostIndex.isLiked(MEMBER_ID, 10L);
+        likedPostIndex.isLiked(MEMBER_ID, 20L);
+
+        assertThat(registry.get("likes.index").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(registry.get("likes.index").tag("result", "hit").counter().count()).isEqualTo(2);
+        verify(meterRegistryProvider, times(1)).getIfAvailable();
+    }
+}
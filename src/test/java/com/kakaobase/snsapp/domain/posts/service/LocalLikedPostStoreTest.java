@@ -0,0 +1,79 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocalLikedPostStore 단위 테스트")
+class LocalLikedPostStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private LocalLikedPostStore likedPostStore;
+
+    @BeforeEach
+    void setUp() {
+        likedPostStore = new LocalLikedPostStore(100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 좋아요 여부를 알 수 없다")
+    void findLiked_NotLoaded_ReturnsEmpty() {
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재된 집합으로 좋아요한 게시글만 골라낸다")
+    void findLiked_Loaded_FiltersLikedPosts() {
+        String token = likedPostStore.beginLoad(MEMBER_ID);
+        likedPostStore.completeLoad(MEMBER_ID, token, List.of(10L, 30L));
+
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L, 20L, 30L)))
+                .hasValue(List.of(10L, 30L));
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글이 없는 회원도 적재 상태로 구분된다")
+    void findLiked_LoadedEmpty_ReturnsEmptyList() {
+        String token = likedPostStore.beginLoad(MEMBER_ID);
+        likedPostStore.completeLoad(MEMBER_ID, token, List.of());
+
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L))).hasValue(List.of());
+    }
+
+    @Test
+    @DisplayName("적재된 집합에 좋아요 추가/취소가 반영된다")
+    void addAndRemove_Loaded_UpdatesSet() {
+        String token = likedPostStore.beginLoad(MEMBER_ID);
+        likedPostStore.completeLoad(MEMBER_ID, token, List.of(10L));
+
+        likedPostStore.add(MEMBER_ID, 20L);
+        likedPostStore.remove(MEMBER_ID, 10L);
+
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L, 20L))).hasValue(List.of(20L));
+    }
+
+    @Test
+    @DisplayName("적재 중에 좋아요가 바뀌면 적재 결과를 저장하지 않는다")
+    void completeLoad_ChangedDuringLoad_Discarded() {
+        String token = likedPostStore.beginLoad(MEMBER_ID);
+        likedPostStore.add(MEMBER_ID, 20L);
+        likedPostStore.completeLoad(MEMBER_ID, token, List.of(10L));
+
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L, 20L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비트맵 범위를 넘는 게시글 ID가 있으면 적재하지 않는다")
+    void completeLoad_IdOutOfRange_NotStored() {
+        String token = likedPostStore.beginLoad(MEMBER_ID);
+        likedPostStore.completeLoad(MEMBER_ID, token, List.of(10L, Integer.MAX_VALUE + 1L));
+
+        assertThat(likedPostStore.findLiked(MEMBER_ID, List.of(10L))).isEmpty();
+    }
+}
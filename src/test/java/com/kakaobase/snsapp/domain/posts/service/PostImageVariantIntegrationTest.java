@@ -0,0 +1,181 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.event.PostImagesUploadedEvent;
+import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
+import com.kakaobase.snsapp.global.common.s3.service.S3GarbageQueue;
+import com.kakaobase.snsapp.global.common.s3.service.S3Service;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MinIO를 S3 대신 사용해 원본 다운로드 → 변환 → 업로드 → URL 기록까지 확인합니다.
+ * URL은 실제 S3 형식(https://{bucket}.s3.{region}.amazonaws.com/{key})을 그대로 쓰고, 요청만 MinIO로 보냅니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("게시글 이미지 변환 통합 테스트 (MinIO)")
+class PostImageVariantIntegrationTest {
+
+    private static final String BUCKET = "kakaobase-test";
+    private static final String REGION = "ap-northeast-2";
+    private static final String URL_PREFIX = "https://" + BUCKET + ".s3." + REGION + ".amazonaws.com/";
+
+    @Container
+    private static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3Client s3Client;
+
+    private PostImageRepository postImageRepository;
+    private S3Service s3Service;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeAll
+    static void createBucket() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .region(Region.of(REGION))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+                .forcePathStyle(true)
+                .build();
+        s3Client.createBucket(request -> request.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeClient() {
+        s3Client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        postImageRepository = mock(PostImageRepository.class);
+        s3Service = new S3Service(s3Client, mock(S3Presigner.class), mock(S3GarbageQueue.class), BUCKET, REGION, 300, 10_485_760L);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본 옆에 변환본을 업로드하고 URL을 기록한다")
+    void generateVariants_UploadsVariantsAndRecordsUrls() throws IOException {
+        upload("post_image/original.jpg", ImageVariantGeneratorTest.image(3000, 2000, "jpg").readAllBytes());
+
+        service(executor).generateVariants(List.of(
+                new PostImagesUploadedEvent.Image(1L, URL_PREFIX + "post_image/original.jpg")));
+
+        ArgumentCaptor<String> thumbnail = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> medium = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> large = ArgumentCaptor.forClass(String.class);
+        verify(postImageRepository).updateVariantUrls(
+                eq(1L), thumbnail.capture(), medium.capture(), large.capture());
+
+        assertThat(thumbnail.getValue()).isEqualTo(URL_PREFIX + "post_image/original_thumb.jpg");
+        assertThat(medium.getValue()).isEqualTo(URL_PREFIX + "post_image/original_m.jpg");
+        assertThat(large.getValue()).isEqualTo(URL_PREFIX + "post_image/original_l.jpg");
+
+        assertThat(downloadDimensions("post_image/original_thumb.jpg")).containsExactly(320, 320);
+        assertThat(downloadDimensions("post_image/original_m.jpg")).containsExactly(720, 480);
+        assertThat(downloadDimensions("post_image/original_l.jpg")).containsExactly(1280, 853);
+
+        HeadObjectResponse head = s3Client.headObject(request -> request.bucket(BUCKET).key("post_image/original_m.jpg"));
+        assertThat(head.contentType()).isEqualTo("image/jpeg");
+        assertThat(head.contentLength()).isLessThan(200_000L);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 원본은 재시도하지 않고 건너뛴다")
+    void generateVariants_NotAnImage_Skipped() {
+        upload("post_image/broken.jpg", "not an image".getBytes(StandardCharsets.UTF_8));
+
+        service(executor).generateVariants(List.of(
+                new PostImagesUploadedEvent.Image(2L, URL_PREFIX + "post_image/broken.jpg")));
+
+        verify(postImageRepository, never()).updateVariantUrls(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("워커 큐가 가득 차면 작업을 거부해 아웃박스가 다시 전달하게 한다")
+    void generateVariants_QueueFull_Rejected() {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));   // 워커 점유
+        executor.execute(() -> awaitQuietly(release));   // 큐 점유
+        try {
+            assertThatThrownBy(() -> service(executor).generateVariants(List.of(
+                    new PostImagesUploadedEvent.Image(3L, URL_PREFIX + "post_image/original.jpg"))))
+                    .isInstanceOf(TaskRejectedException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PostImageVariantService service(Executor imageProcessingExecutor) {
+        return new PostImageVariantService(
+                postImageRepository,
+                s3Service,
+                new ImageVariantGenerator("jpeg", 0.8f, 40_000_000L),
+                imageProcessingExecutor,
+                mock(ObjectProvider.class),
+                10_485_760L);
+    }
+
+    private static void upload(String key, byte[] content) {
+        s3Client.putObject(request -> request.bucket(BUCKET).key(key).contentType("image/jpeg"),
+                RequestBody.fromBytes(content));
+    }
+
+    private static int[] downloadDimensions(String key) throws IOException {
+        byte[] content = s3Client.getObjectAsBytes(request -> request.bucket(BUCKET).key(key)).asByteArray();
+        return ImageVariantGeneratorTest.dimensions(content);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
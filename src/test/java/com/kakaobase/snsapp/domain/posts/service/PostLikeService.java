@@ -2,8 +2,6 @@ package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
-import com.kakaobase.snsapp.domain.posts.entity.PostLike;
-import com.kakaobase.snsapp.domain.posts.exception.PostErrorCode;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
@@ -20,7 +18,6 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 import static com.kakaobase.snsapp.global.constants.MemberFixtureConstants.*;
 import static com.kakaobase.snsapp.global.constants.PostFixtureConstants.*;
@@ -45,6 +42,9 @@ class PostLikeServiceTest {
     @Mock
     private MemberService memberService;
 
+    @Mock
+    private LikedPostIndex likedPostIndex;
+
     private Post mockPost;
     private Post mockAdminPost;
 
@@ -67,17 +67,16 @@ class PostLikeServiceTest {
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
-        given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(false);
+        given(postLikeRepository.insertIfTargetActive(memberId, postId)).willReturn(1);
 
         // when
         postLikeService.addLike(postId, memberId);
 
         // then
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).existsByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository).save(any(PostLike.class));
+        verify(postLikeRepository).insertIfTargetActive(memberId, postId);
         verify(postRepository).increaseLikeCount(postId);
+        verify(likedPostIndex).onLiked(memberId, postId);
+        verify(postRepository, never()).existsById(any());
     }
 
     @Test
@@ -87,16 +86,13 @@ class PostLikeServiceTest {
         Long postId = ADMIN_POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockAdminPost));
-        given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(false);
+        given(postLikeRepository.insertIfTargetActive(memberId, postId)).willReturn(1);
 
         // when
         postLikeService.addLike(postId, memberId);
 
         // then
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).existsByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository).save(any(PostLike.class));
+        verify(postLikeRepository).insertIfTargetActive(memberId, postId);
         verify(postRepository).increaseLikeCount(postId);
     }
 
@@ -107,7 +103,7 @@ class PostLikeServiceTest {
         Long nonExistentPostId = NON_EXISTENT_POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(nonExistentPostId)).willReturn(Optional.empty());
+        given(postLikeRepository.insertIfTargetActive(memberId, nonExistentPostId)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> postLikeService.addLike(nonExistentPostId, memberId))
@@ -118,33 +114,52 @@ class PostLikeServiceTest {
                     assertThat(postException.getEffectiveField()).isEqualTo("postId");
                 });
 
-        verify(postRepository).findById(nonExistentPostId);
-        verify(postLikeRepository, never()).save(any());
         verify(postRepository, never()).increaseLikeCount(any());
     }
 
     @Test
-    @DisplayName("이미 좋아요한 게시글에 재좋아요 - PostException이 발생하는지 확인")
-    void addLike_AlreadyLiked_ThrowsException() {
+    @DisplayName("이미 좋아요한 게시글에 재좋아요 - 예외 없이 좋아요 수를 바꾸지 않는지 확인")
+    void addLike_AlreadyLiked_NoOp() {
         // given
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
+        given(postLikeRepository.insertIfTargetActive(memberId, postId)).willReturn(0);
+        given(postRepository.existsById(postId)).willReturn(true);
         given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(true);
 
+        // when
+        postLikeService.addLike(postId, memberId);
+
+        // then
+        verify(postLikeRepository).insertIfTargetActive(memberId, postId);
+        verify(postRepository, never()).increaseLikeCount(any());
+        verify(likedPostIndex, never()).onLiked(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요가 무시되었지만 좋아요가 없는 경우 - 이미 좋아요로 처리하지 않고 회원 없음 예외가 발생하는지 확인")
+    void addLike_IgnoredWithoutLike_ThrowsException() {
+        // given
+        Long postId = POST_ID;
+        Long memberId = MEMBER_ID;
+
+        // INSERT IGNORE가 외래 키 위반을 0건으로 바꾼 경우
+        given(postLikeRepository.insertIfTargetActive(memberId, postId)).willReturn(0);
+        given(postRepository.existsById(postId)).willReturn(true);
+        given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(false);
+
         // when & then
         assertThatThrownBy(() -> postLikeService.addLike(postId, memberId))
                 .isInstanceOf(PostException.class)
                 .satisfies(exception -> {
                     PostException postException = (PostException) exception;
-                    assertThat(postException.getErrorCode()).isEqualTo(PostErrorCode.ALREADY_LIKED);
+                    assertThat(postException.getErrorCode()).isEqualTo(GeneralErrorCode.RESOURCE_NOT_FOUND);
+                    assertThat(postException.getEffectiveField()).isEqualTo("memberId");
                 });
 
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).existsByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository, never()).save(any());
         verify(postRepository, never()).increaseLikeCount(any());
+        verify(likedPostIndex, never()).onLiked(any(), any());
     }
 
     // ========== removeLike() 메서드 테스트 ==========
@@ -155,20 +170,17 @@ class PostLikeServiceTest {
         // given
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
-        PostLike mockPostLike = new PostLike(memberId, postId);
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
-        given(postLikeRepository.findByMemberIdAndPostId(memberId, postId))
-                .willReturn(Optional.of(mockPostLike));
+        given(postLikeRepository.deleteIfPresent(memberId, postId)).willReturn(1);
 
         // when
         postLikeService.removeLike(postId, memberId);
 
         // then
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).findByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository).delete(mockPostLike);
+        verify(postLikeRepository).deleteIfPresent(memberId, postId);
         verify(postRepository).decreaseLikeCount(postId);
+        verify(likedPostIndex).onUnliked(memberId, postId);
+        verify(postRepository, never()).existsById(any());
     }
 
     @Test
@@ -177,19 +189,14 @@ class PostLikeServiceTest {
         // given
         Long postId = ADMIN_POST_ID;
         Long memberId = MEMBER_ID;
-        PostLike mockPostLike = new PostLike(memberId, postId);
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockAdminPost));
-        given(postLikeRepository.findByMemberIdAndPostId(memberId, postId))
-                .willReturn(Optional.of(mockPostLike));
+        given(postLikeRepository.deleteIfPresent(memberId, postId)).willReturn(1);
 
         // when
         postLikeService.removeLike(postId, memberId);
 
         // then
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).findByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository).delete(mockPostLike);
+        verify(postLikeRepository).deleteIfPresent(memberId, postId);
         verify(postRepository).decreaseLikeCount(postId);
     }
 
@@ -200,7 +207,8 @@ class PostLikeServiceTest {
         Long nonExistentPostId = NON_EXISTENT_POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(nonExistentPostId)).willReturn(Optional.empty());
+        given(postLikeRepository.deleteIfPresent(memberId, nonExistentPostId)).willReturn(0);
+        given(postRepository.existsById(nonExistentPostId)).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> postLikeService.removeLike(nonExistentPostId, memberId))
@@ -211,34 +219,27 @@ class PostLikeServiceTest {
                     assertThat(postException.getEffectiveField()).isEqualTo("postId");
                 });
 
-        verify(postRepository).findById(nonExistentPostId);
-        verify(postLikeRepository, never()).delete(any());
+        verify(postRepository).existsById(nonExistentPostId);
         verify(postRepository, never()).decreaseLikeCount(any());
     }
 
     @Test
-    @DisplayName("좋아요하지 않은 게시글 취소 시도 - PostException이 발생하는지 확인")
-    void removeLike_NotLiked_ThrowsException() {
+    @DisplayName("좋아요하지 않은 게시글 취소 시도 - 예외 없이 좋아요 수를 바꾸지 않는지 확인")
+    void removeLike_NotLiked_NoOp() {
         // given
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
-        given(postLikeRepository.findByMemberIdAndPostId(memberId, postId))
-                .willReturn(Optional.empty());
+        given(postLikeRepository.deleteIfPresent(memberId, postId)).willReturn(0);
+        given(postRepository.existsById(postId)).willReturn(true);
 
-        // when & then
-        assertThatThrownBy(() -> postLikeService.removeLike(postId, memberId))
-                .isInstanceOf(PostException.class)
-                .satisfies(exception -> {
-                    PostException postException = (PostException) exception;
-                    assertThat(postException.getErrorCode()).isEqualTo(PostErrorCode.ALREADY_UNLIKED);
-                });
+        // when
+        postLikeService.removeLike(postId, memberId);
 
-        verify(postRepository).findById(postId);
-        verify(postLikeRepository).findByMemberIdAndPostId(memberId, postId);
-        verify(postLikeRepository, never()).delete(any());
+        // then
+        verify(postLikeRepository).deleteIfPresent(memberId, postId);
         verify(postRepository, never()).decreaseLikeCount(any());
+        verify(likedPostIndex, never()).onUnliked(any(), any());
     }
 
     // ========== isLikedByMember() 메서드 테스트 ==========
@@ -250,14 +251,14 @@ class PostLikeServiceTest {
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(true);
+        given(likedPostIndex.isLiked(memberId, postId)).willReturn(true);
 
         // when
         boolean result = postLikeService.isLikedByMember(postId, memberId);
 
         // then
         assertThat(result).isTrue();
-        verify(postLikeRepository).existsByMemberIdAndPostId(memberId, postId);
+        verify(likedPostIndex).isLiked(memberId, postId);
     }
 
     @Test
@@ -267,14 +268,14 @@ class PostLikeServiceTest {
         Long postId = POST_ID;
         Long memberId = MEMBER_ID;
 
-        given(postLikeRepository.existsByMemberIdAndPostId(memberId, postId)).willReturn(false);
+        given(likedPostIndex.isLiked(memberId, postId)).willReturn(false);
 
         // when
         boolean result = postLikeService.isLikedByMember(postId, memberId);
 
         // then
         assertThat(result).isFalse();
-        verify(postLikeRepository).existsByMemberIdAndPostId(memberId, postId);
+        verify(likedPostIndex).isLiked(memberId, postId);
     }
 
     // ========== findLikedPostIdsByMember() 메서드 테스트 ==========
@@ -325,7 +326,7 @@ class PostLikeServiceTest {
         List<Long> postIds = List.of(POST_ID, ADMIN_POST_ID);
         List<Long> likedPostIds = List.of(POST_ID);
 
-        given(postLikeRepository.findPostIdsByMemberIdAndPostIdIn(memberId, postIds))
+        given(likedPostIndex.findLiked(memberId, postIds))
                 .willReturn(likedPostIds);
 
         // when
@@ -335,7 +336,7 @@ class PostLikeServiceTest {
         assertThat(result).isEqualTo(likedPostIds);
         assertThat(result).hasSize(1);
         assertThat(result).contains(POST_ID);
-        verify(postLikeRepository).findPostIdsByMemberIdAndPostIdIn(memberId, postIds);
+        verify(likedPostIndex).findLiked(memberId, postIds);
     }
 
     @Test
@@ -350,7 +351,7 @@ class PostLikeServiceTest {
 
         // then
         assertThat(result).isEmpty();
-        verify(postLikeRepository, never()).findPostIdsByMemberIdAndPostIdIn(any(), any());
+        verify(likedPostIndex, never()).findLiked(any(), any());
     }
 
     @Test
@@ -362,7 +363,7 @@ class PostLikeServiceTest {
         List<Long> postIds = List.of(POST_ID, ADMIN_POST_ID);
         List<Long> emptyLikedList = List.of();
 
-        given(postLikeRepository.findPostIdsByMemberIdAndPostIdIn(memberId, postIds))
+        given(likedPostIndex.findLiked(memberId, postIds))
                 .willReturn(emptyLikedList);
 
         // when
@@ -370,7 +371,7 @@ class PostLikeServiceTest {
 
         // then
         assertThat(result).isEmpty();
-        verify(postLikeRepository).findPostIdsByMemberIdAndPostIdIn(memberId, postIds);
+        verify(likedPostIndex).findLiked(memberId, postIds);
     }
 
     // ========== deleteAllByPostId() 메서드 테스트 ==========
@@ -2,14 +2,21 @@ package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.members.service.MemberService;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
+import com.kakaobase.snsapp.domain.posts.dto.PostImageUrls;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.entity.PostImage;
+import com.kakaobase.snsapp.domain.posts.event.PostCreatedEvent;
+import com.kakaobase.snsapp.domain.posts.event.PostImagesUploadedEvent;
+import com.kakaobase.snsapp.domain.posts.event.YoutubeSummaryRequestedEvent;
 import com.kakaobase.snsapp.domain.posts.exception.PostErrorCode;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
+import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
 import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventPublisher;
 import com.kakaobase.snsapp.global.common.s3.service.S3Service;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.fixture.PostFixture;
@@ -19,18 +26,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.MockedStatic;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.kakaobase.snsapp.global.constants.MemberFixtureConstants.*;
 import static com.kakaobase.snsapp.global.constants.PostFixtureConstants.*;
@@ -59,13 +66,13 @@ class PostServiceTest {
     private MemberService memberService;
 
     @Mock
-    private YouTubeSummaryService youtubeSummaryService;
+    private OutboxEventPublisher outboxEventPublisher;
 
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private PostLikeService postLikeService;
 
     @Mock
-    private PostLikeService postLikeService;
+    private YoutubeSummarySubscriptionRegistry youtubeSummarySubscriptionRegistry;
 
     private Post mockPost;
     private Post mockAdminPost;
@@ -112,8 +119,9 @@ class PostServiceTest {
                 });
 
         verify(postRepository).save(any(Post.class));
-        verify(postImageRepository, never()).save(any(PostImage.class));
-        verify(applicationEventPublisher).publishEvent(any());
+        verify(postImageRepository, never()).saveAll(anyList());
+        verify(outboxEventPublisher).publish(eq(OutboxEventType.POST_CREATED), eq(POST_ID), any(PostCreatedEvent.class));
+        verify(outboxEventPublisher, never()).publish(eq(OutboxEventType.YOUTUBE_SUMMARY_REQUESTED), any(), any());
     }
 
     @Test
@@ -131,33 +139,26 @@ class PostServiceTest {
 
         verify(s3Service).isValidImageUrl(VALID_IMAGE_URL_1);
         verify(postRepository).save(any(Post.class));
-        verify(postImageRepository).save(any(PostImage.class));
-        verify(applicationEventPublisher).publishEvent(any());
+        verify(postImageRepository).saveAll(anyList());
+        verify(outboxEventPublisher).publish(eq(OutboxEventType.POST_CREATED), eq(POST_ID), any(PostCreatedEvent.class));
     }
 
     @Test
-    @DisplayName("유튜브 URL이 포함된 게시글 생성 - 유튜브 요약 처리가 예약되는지 확인")
+    @DisplayName("유튜브 URL이 포함된 게시글 생성 - 유튜브 요약 요청이 아웃박스에 기록되는지 확인")
     void createPost_WithYoutube_Success() {
         // given
         given(postRepository.save(any(Post.class))).willReturn(mockPost);
 
-        // TransactionSynchronizationManager Mock 처리
-        try (MockedStatic<TransactionSynchronizationManager> mockedTxManager =
-                     mockStatic(TransactionSynchronizationManager.class)) {
-
-            // when
-            Post result = postService.createPost(PANGYO_1_BOARD_TYPE, youtubeRequest, MEMBER_ID);
-
-            // then
-            assertThat(result).isNotNull();
+        // when
+        Post result = postService.createPost(PANGYO_1_BOARD_TYPE, youtubeRequest, MEMBER_ID);
 
-            verify(postRepository).save(any(Post.class));
-            verify(applicationEventPublisher).publishEvent(any());
+        // then
+        assertThat(result).isNotNull();
 
-            // TransactionSynchronizationManager.registerSynchronization이 호출되었는지 확인
-            mockedTxManager.verify(() ->
-                    TransactionSynchronizationManager.registerSynchronization(any()));
-        }
+        verify(postRepository).save(any(Post.class));
+        verify(outboxEventPublisher).publish(eq(OutboxEventType.POST_CREATED), eq(POST_ID), any(PostCreatedEvent.class));
+        verify(outboxEventPublisher).publish(
+                OutboxEventType.YOUTUBE_SUMMARY_REQUESTED, POST_ID, new YoutubeSummaryRequestedEvent(POST_ID));
     }
 
     @Test
@@ -167,25 +168,105 @@ class PostServiceTest {
         given(s3Service.isValidImageUrl(VALID_IMAGE_URL_1)).willReturn(true);
         given(postRepository.save(any(Post.class))).willReturn(mockPost);
 
-        // 🔥 TransactionSynchronizationManager Mock 처리
-        try (MockedStatic<TransactionSynchronizationManager> mockedTxManager =
-                     mockStatic(TransactionSynchronizationManager.class)) {
+        // when
+        Post result = postService.createPost(PANGYO_1_BOARD_TYPE, completeRequest, MEMBER_ID);
+
+        // then
+        assertThat(result).isNotNull();
+
+        verify(s3Service).isValidImageUrl(VALID_IMAGE_URL_1);
+        verify(postRepository).save(any(Post.class));
+        verify(postImageRepository).saveAll(anyList());
+        verify(outboxEventPublisher).publish(eq(OutboxEventType.POST_CREATED), eq(POST_ID), any(PostCreatedEvent.class));
+        verify(outboxEventPublisher).publish(
+                OutboxEventType.YOUTUBE_SUMMARY_REQUESTED, POST_ID, new YoutubeSummaryRequestedEvent(POST_ID));
+    }
+
+    @Test
+    @DisplayName("여러 장의 이미지가 포함된 게시글 생성 - 첨부 순서대로 한 번에 저장되는지 확인")
+    @SuppressWarnings("unchecked")
+    void createPost_WithMultipleImages_SavesAllInOrder() {
+        // given
+        PostRequestDto.PostCreateRequestDto multiImageRequest = PostRequestDtoFixture.createMultiImageRequest();
+        given(s3Service.isValidImageUrl(anyString())).willReturn(true);
+        given(postRepository.save(any(Post.class))).willReturn(mockPost);
+        ArgumentCaptor<List<PostImage>> imagesCaptor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        postService.createPost(PANGYO_1_BOARD_TYPE, multiImageRequest, MEMBER_ID);
+
+        // then
+        verify(postImageRepository).saveAll(imagesCaptor.capture());
+        verify(postImageRepository, never()).save(any(PostImage.class));
+        assertThat(imagesCaptor.getValue())
+                .extracting(PostImage::getSortIndex, PostImage::getImgUrl)
+                .containsExactly(
+                        tuple(0, VALID_IMAGE_URL_1),
+                        tuple(1, VALID_IMAGE_URL_2),
+                        tuple(2, VALID_IMAGE_URL_3));
+    }
+
+    @Test
+    @DisplayName("이미지가 포함된 게시글 생성 - 저장된 이미지 ID와 원본 URL로 변환 요청이 아웃박스에 기록되는지 확인")
+    void createPost_WithImages_PublishesImagesUploadedEvent() {
+        // given
+        PostRequestDto.PostCreateRequestDto multiImageRequest = PostRequestDtoFixture.createMultiImageRequest();
+        given(s3Service.isValidImageUrl(anyString())).willReturn(true);
+        given(postRepository.save(any(Post.class))).willReturn(mockPost);
+        given(postImageRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<PostImage> images = invocation.getArgument(0);
+            for (int i = 0; i < images.size(); i++) {
+                ReflectionTestUtils.setField(images.get(i), "id", 100L + i);
+            }
+            return images;
+        });
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // when
+        postService.createPost(PANGYO_1_BOARD_TYPE, multiImageRequest, MEMBER_ID);
 
-            // when
-            Post result = postService.createPost(PANGYO_1_BOARD_TYPE, completeRequest, MEMBER_ID);
+        // then
+        verify(outboxEventPublisher).publish(eq(OutboxEventType.POST_IMAGES_UPLOADED), eq(POST_ID), eventCaptor.capture());
+        assertThat(eventCaptor.getValue())
+                .isInstanceOfSatisfying(PostImagesUploadedEvent.class, event -> {
+                    assertThat(event.postId()).isEqualTo(POST_ID);
+                    assertThat(event.images())
+                            .extracting(PostImagesUploadedEvent.Image::id, PostImagesUploadedEvent.Image::url)
+                            .containsExactly(
+                                    tuple(100L, VALID_IMAGE_URL_1),
+                                    tuple(101L, VALID_IMAGE_URL_2),
+                                    tuple(102L, VALID_IMAGE_URL_3));
+                });
+    }
 
-            // then
-            assertThat(result).isNotNull();
+    @Test
+    @DisplayName("이미지가 없는 게시글 생성 - 이미지 변환 요청을 기록하지 않는지 확인")
+    void createPost_WithoutImages_DoesNotPublishImagesUploadedEvent() {
+        // given
+        given(postRepository.save(any(Post.class))).willReturn(mockPost);
 
-            verify(s3Service).isValidImageUrl(VALID_IMAGE_URL_1);
-            verify(postRepository).save(any(Post.class));
-            verify(postImageRepository).save(any(PostImage.class));
-            verify(applicationEventPublisher).publishEvent(any());
+        // when
+        postService.createPost(PANGYO_1_BOARD_TYPE, contentOnlyRequest, MEMBER_ID);
 
-            // TransactionSynchronizationManager.registerSynchronization이 호출되었는지 확인
-            mockedTxManager.verify(() ->
-                    TransactionSynchronizationManager.registerSynchronization(any()));
-        }
+        // then
+        verify(outboxEventPublisher, never()).publish(eq(OutboxEventType.POST_IMAGES_UPLOADED), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 장 중 하나라도 잘못된 이미지 URL이면 게시글을 저장하지 않는지 확인")
+    void createPost_MultipleImagesWithInvalidOne_ThrowsException() {
+        // given
+        PostRequestDto.PostCreateRequestDto multiImageRequest = PostRequestDtoFixture.createMultiImageRequest();
+        given(s3Service.isValidImageUrl(VALID_IMAGE_URL_1)).willReturn(true);
+        given(s3Service.isValidImageUrl(VALID_IMAGE_URL_2)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() ->
+                postService.createPost(PANGYO_1_BOARD_TYPE, multiImageRequest, MEMBER_ID))
+                .isInstanceOf(PostException.class);
+
+        verify(postRepository, never()).save(any());
+        verify(postImageRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -238,12 +319,12 @@ class PostServiceTest {
                 "nickname", MEMBER_NICKNAME,
                 "imageUrl", MEMBER_PROFILE_IMG_URL
         );
-        List<PostImage> postImages = List.of(PostImageFixture.createBasicPostImage(mockPost));
+        List<PostImageUrls> images = List.of(new PostImageUrls(postId, POST_IMAGE_URL, null, null, null));
 
         given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
         given(memberService.getMemberInfo(MEMBER_ID)).willReturn(memberInfo);
         given(postLikeService.isLikedByMember(postId, MEMBER_ID)).willReturn(false);
-        given(postImageRepository.findByPostIdOrderBySortIndexAsc(postId)).willReturn(postImages);
+        given(postImageRepository.findImageUrlsByPostId(postId)).willReturn(images);
 
         // when
         PostResponseDto.PostDetailResponse result = postService.getPostDetail(postId, MEMBER_ID);
@@ -271,7 +352,7 @@ class PostServiceTest {
         given(postRepository.findById(postId)).willReturn(Optional.of(mockAdminPost));
         given(memberService.getMemberInfo(ADMIN_ID)).willReturn(memberInfo);
         given(postLikeService.isLikedByMember(postId, MEMBER_ID)).willReturn(false);
-        given(postImageRepository.findByPostIdOrderBySortIndexAsc(postId)).willReturn(List.of());
+        given(postImageRepository.findImageUrlsByPostId(postId)).willReturn(List.of());
 
         // when
         PostResponseDto.PostDetailResponse result = postService.getPostDetail(postId, MEMBER_ID);
@@ -297,7 +378,7 @@ class PostServiceTest {
 
         given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
         given(memberService.getMemberInfo(MEMBER_ID)).willReturn(memberInfo);
-        given(postImageRepository.findByPostIdOrderBySortIndexAsc(postId)).willReturn(List.of());
+        given(postImageRepository.findImageUrlsByPostId(postId)).willReturn(List.of());
 
         // when
         PostResponseDto.PostDetailResponse result = postService.getPostDetail(postId, null);
@@ -313,7 +394,7 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("이미지가 포함된 게시글 조회 - 이미지 정보가 포함되는지 확인")
+    @DisplayName("이미지가 포함된 게시글 조회 - 원본 URL과 변환본 URL이 함께 포함되는지 확인")
     void getPostDetail_WithImages_Success() {
         // given
         Long postId = POST_ID;
@@ -321,19 +402,33 @@ class PostServiceTest {
                 "nickname", MEMBER_NICKNAME,
                 "imageUrl", MEMBER_PROFILE_IMG_URL
         );
-        List<PostImage> postImages = PostImageFixture.createMultiplePostImages(mockPost);
+        List<String> imageUrls = PostImageFixture.createMultiplePostImages(mockPost).stream()
+                .map(PostImage::getImgUrl)
+                .toList();
+        // 첫 번째 이미지만 변환이 끝난 상태
+        List<PostImageUrls> images = imageUrls.stream()
+                .map(url -> url.equals(imageUrls.get(0))
+                        ? new PostImageUrls(postId, url, "thumb.jpg", "m.jpg", "l.jpg")
+                        : new PostImageUrls(postId, url, null, null, null))
+                .toList();
 
         given(postRepository.findById(postId)).willReturn(Optional.of(mockPost));
         given(memberService.getMemberInfo(MEMBER_ID)).willReturn(memberInfo);
         given(postLikeService.isLikedByMember(postId, MEMBER_ID)).willReturn(false);
-        given(postImageRepository.findByPostIdOrderBySortIndexAsc(postId)).willReturn(postImages);
+        given(postImageRepository.findImageUrlsByPostId(postId)).willReturn(images);
 
         // when
         PostResponseDto.PostDetailResponse result = postService.getPostDetail(postId, MEMBER_ID);
 
         // then
         assertThat(result).isNotNull();
-        verify(postImageRepository).findByPostIdOrderBySortIndexAsc(postId);
+        assertThat(result.data().imageUrls()).containsExactlyElementsOf(imageUrls);
+        assertThat(result.data().imageUrl()).isEqualTo(imageUrls.get(0));
+        assertThat(result.data().images()).hasSize(imageUrls.size());
+        assertThat(result.data().images().get(0))
+                .isEqualTo(new PostResponseDto.ImageVariants(imageUrls.get(0), "thumb.jpg", "m.jpg", "l.jpg"));
+        assertThat(result.data().images().get(1).mediumUrl()).isNull();
+        verify(postImageRepository).findImageUrlsByPostId(postId);
     }
 
     @Test
@@ -370,7 +465,7 @@ class PostServiceTest {
         given(postRepository.findTopNByBoardTypeOrderByCreatedAtDescIdDesc(PANGYO_1_BOARD_TYPE, DEFAULT_LIMIT))
                 .willReturn(mockPosts);
         given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
-        given(postImageRepository.findFirstImagesByPostIds(any())).willReturn(List.of());
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of());
         // currentMemberId가 null이므로 postLikeService 호출되지 않음
 
         // when
@@ -386,6 +481,32 @@ class PostServiceTest {
         verify(postLikeService, never()).findLikedPostIdsByMember(any(), any());
     }
 
+    @Test
+    @DisplayName("대표 이미지 변환본이 있으면 피드 URL은 중간 크기로, 나머지 변환본도 함께 반환되는지 확인")
+    void getPostList_WithImageVariants_ServesMediumAndExposesVariants() {
+        // given
+        String postType = "PANGYO_1";
+        Map<Long, Map<String, String>> memberInfoMap = Map.of(
+                MEMBER_ID, Map.of("nickname", MEMBER_NICKNAME, "imageUrl", MEMBER_PROFILE_IMG_URL)
+        );
+
+        given(postRepository.findTopNByBoardTypeOrderByCreatedAtDescIdDesc(PANGYO_1_BOARD_TYPE, DEFAULT_LIMIT))
+                .willReturn(List.of(mockPost));
+        given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of(
+                new PostImageUrls(POST_ID, VALID_IMAGE_URL_1, "thumb.jpg", "m.jpg", "l.jpg")));
+
+        // when
+        PostResponseDto.PostListResponse result =
+                postService.getPostList(postType, DEFAULT_LIMIT, null, null);
+
+        // then
+        PostResponseDto.PostListItem item = result.data().get(0);
+        assertThat(item.imageUrl()).isEqualTo("m.jpg");
+        assertThat(item.image())
+                .isEqualTo(new PostResponseDto.ImageVariants(VALID_IMAGE_URL_1, "thumb.jpg", "m.jpg", "l.jpg"));
+    }
+
     @Test
     @DisplayName("커서 기반 페이징 - 커서 이후 게시글들이 조회되는지 확인")
     void getPostList_WithCursor_Success() {
@@ -399,7 +520,7 @@ class PostServiceTest {
         given(postRepository.findByBoardTypeAndIdLessThanOrderByIdDesc(PANGYO_1_BOARD_TYPE, CURSOR_POST_ID, DEFAULT_LIMIT))
                 .willReturn(mockPosts);
         given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
-        given(postImageRepository.findFirstImagesByPostIds(any())).willReturn(List.of());
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of());
         // currentMemberId가 null이므로 postLikeService 호출되지 않음
 
         // when
@@ -427,7 +548,7 @@ class PostServiceTest {
         given(postRepository.findTopNByBoardTypeOrderByCreatedAtDescIdDesc(PANGYO_1_BOARD_TYPE, CUSTOM_LIMIT))
                 .willReturn(mockPosts);
         given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
-        given(postImageRepository.findFirstImagesByPostIds(any())).willReturn(List.of());
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of());
         // currentMemberId가 null이므로 postLikeService 호출되지 않음
 
         // when
@@ -456,7 +577,7 @@ class PostServiceTest {
         given(postRepository.findTopNByBoardTypeOrderByCreatedAtDescIdDesc(PANGYO_1_BOARD_TYPE, DEFAULT_LIMIT))
                 .willReturn(mockPosts);
         given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
-        given(postImageRepository.findFirstImagesByPostIds(any())).willReturn(List.of());
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of());
         given(postLikeService.findLikedPostIdsByMember(MEMBER_ID, mockPosts)).willReturn(likedPostIds);
 
         // when
@@ -485,7 +606,7 @@ class PostServiceTest {
         given(postRepository.findTopNByBoardTypeOrderByCreatedAtDescIdDesc(PANGYO_1_BOARD_TYPE, DEFAULT_LIMIT))
                 .willReturn(mockPosts);
         given(memberService.getMemberInfoMapByIds(any())).willReturn(memberInfoMap);
-        given(postImageRepository.findFirstImagesByPostIds(any())).willReturn(List.of());
+        given(postImageRepository.findThumbnailsByPostIds(any())).willReturn(List.of());
         given(postLikeService.findLikedPostIdsByMember(MEMBER_ID, mockPosts)).willReturn(likedPostIds);
 
         // when
@@ -516,6 +637,62 @@ class PostServiceTest {
                 });
     }
 
+    // ========== getLikedPostList() 메서드 테스트 ==========
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록 조회 - limit보다 많으면 다음 커서를 반환하는지 확인")
+    void getLikedPostList_HasNext_ReturnsNextCursor() {
+        // given
+        given(postRepository.findPostsLikedByMemberWithCursor(MEMBER_ID, null, 2))
+                .willReturn(List.of(mockAdminPost, mockPost));
+        given(memberService.getMemberInfoMapByIds(List.of(ADMIN_ID)))
+                .willReturn(Map.of(ADMIN_ID, Map.of("nickname", MEMBER_NICKNAME, "imageUrl", MEMBER_PROFILE_IMG_URL)));
+        given(postImageRepository.findThumbnailsByPostIds(List.of(ADMIN_POST_ID))).willReturn(List.of());
+
+        // when
+        PostResponseDto.LikedPostListResponse result = postService.getLikedPostList(MEMBER_ID, 1, null);
+
+        // then
+        assertThat(result.data()).hasSize(1);
+        assertThat(result.data().get(0).id()).isEqualTo(ADMIN_POST_ID);
+        assertThat(result.data().get(0).isLiked()).isTrue();
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(ADMIN_POST_ID);
+        verify(postLikeService, never()).findLikedPostIdsByMember(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록 조회 - 마지막 페이지는 다음 커서가 없는지 확인")
+    void getLikedPostList_LastPage_NoNextCursor() {
+        // given
+        given(postRepository.findPostsLikedByMemberWithCursor(MEMBER_ID, CURSOR_POST_ID, DEFAULT_LIMIT + 1))
+                .willReturn(List.of(mockPost));
+        given(memberService.getMemberInfoMapByIds(List.of(MEMBER_ID)))
+                .willReturn(Map.of(MEMBER_ID, Map.of("nickname", MEMBER_NICKNAME, "imageUrl", MEMBER_PROFILE_IMG_URL)));
+        given(postImageRepository.findThumbnailsByPostIds(List.of(POST_ID))).willReturn(List.of());
+
+        // when
+        PostResponseDto.LikedPostListResponse result =
+                postService.getLikedPostList(MEMBER_ID, DEFAULT_LIMIT, CURSOR_POST_ID);
+
+        // then
+        assertThat(result.data()).hasSize(1);
+        assertThat(result.data().get(0).isMine()).isTrue();
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록 조회 - limit가 1 미만이면 예외가 발생하는지 확인")
+    void getLikedPostList_InvalidLimit_ThrowsException() {
+        assertThatThrownBy(() -> postService.getLikedPostList(MEMBER_ID, 0, null))
+                .isInstanceOf(PostException.class)
+                .satisfies(exception -> assertThat(((PostException) exception).getErrorCode())
+                        .isEqualTo(GeneralErrorCode.INVALID_QUERY_PARAMETER));
+
+        verify(postRepository, never()).findPostsLikedByMemberWithCursor(any(), any(), anyInt());
+    }
+
     // ========== deletePost() 메서드 테스트 ==========
 
     @Test
@@ -647,4 +824,55 @@ class PostServiceTest {
         verify(postRepository).findById(nonExistentPostId);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("요약 실패 상태 - 상태에 맞는 PostException이 발생하는지 확인")
+    void summarizeYoutube_FailedStatus_ThrowsException() {
+        // given
+        Post postWithFailedSummary = PostFixture.createKbtPost();
+        postWithFailedSummary.updateYoutubeSummary(YoutubeSummaryStatus.YOUTUBE_VIDEO_PRIVATE.name());
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(postWithFailedSummary));
+
+        // when & then
+        assertThatThrownBy(() -> postService.summarizeYoutube(POST_ID, MEMBER_ID))
+                .isInstanceOf(PostException.class)
+                .satisfies(exception -> assertThat(((PostException) exception).getErrorCode())
+                        .isEqualTo(PostErrorCode.YOUTUBE_VIDEO_PRIVATE));
+    }
+
+    // ========== subscribeYoutubeSummary() 메서드 테스트 ==========
+
+    @Test
+    @DisplayName("요약 구독 - 커밋된 요약 값을 조회하는 구독을 등록하는지 확인")
+    @SuppressWarnings("unchecked")
+    void subscribeYoutubeSummary_Success() {
+        // given
+        SseEmitter emitter = new SseEmitter();
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(mockPost));
+        given(postRepository.findYoutubeSummaryById(POST_ID)).willReturn(Optional.of(POST_YOUTUBE_SUMMARY));
+        given(youtubeSummarySubscriptionRegistry.subscribe(eq(POST_ID), any(Supplier.class)))
+                .willAnswer(invocation -> {
+                    Supplier<String> currentSummary = invocation.getArgument(1);
+                    assertThat(currentSummary.get()).isEqualTo(POST_YOUTUBE_SUMMARY);
+                    return emitter;
+                });
+
+        // when
+        SseEmitter result = postService.subscribeYoutubeSummary(POST_ID);
+
+        // then
+        assertThat(result).isSameAs(emitter);
+        verify(postRepository).findYoutubeSummaryById(POST_ID);
+    }
+
+    @Test
+    @DisplayName("요약 구독 - YouTube 링크가 없는 게시글은 PostException이 발생하는지 확인")
+    void subscribeYoutubeSummary_NoYoutubeUrl_ThrowsException() {
+        // given
+        given(postRepository.findById(POST_ID)).willReturn(Optional.of(PostFixture.createNonKbtPost()));
+
+        // when & then
+        assertThatThrownBy(() -> postService.subscribeYoutubeSummary(POST_ID))
+                .isInstanceOf(PostException.class);
+        verifyNoInteractions(youtubeSummarySubscriptionRegistry);
+    }
+}
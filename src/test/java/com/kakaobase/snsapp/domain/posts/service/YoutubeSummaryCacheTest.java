@@ -0,0 +1,148 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("YoutubeSummaryCache 단위 테스트")
+class YoutubeSummaryCacheTest {
+
+    private static final String VIDEO_ID = "dQw4w9WgXcQ";
+
+    private YoutubeSummaryCache youtubeSummaryCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        youtubeSummaryCache = new YoutubeSummaryCache(
+                mock(ObjectProvider.class), mock(ObjectProvider.class),
+                100, Duration.ofHours(1), false, Duration.ofDays(7), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("같은 영상의 두 번째 요청은 AI를 호출하지 않고 캐시된 요약을 반환한다")
+    void getOrLoad_CachesSuccess() {
+        AtomicInteger calls = new AtomicInteger();
+
+        youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+            calls.incrementAndGet();
+            return YoutubeSummaryResult.success("요약");
+        });
+        YoutubeSummaryResult second = youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+            calls.incrementAndGet();
+            return YoutubeSummaryResult.success("다른 요약");
+        });
+
+        assertThat(second.summary()).isEqualTo("요약");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 실패는 캐싱하고, 일시적인 AI 서버 오류는 캐싱하지 않는다")
+    void getOrLoad_NegativeCaching() {
+        AtomicInteger calls = new AtomicInteger();
+
+        youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+            calls.incrementAndGet();
+            return YoutubeSummaryResult.failure(YoutubeSummaryStatus.YOUTUBE_SUBTITLE_NOT_FOUND);
+        });
+        YoutubeSummaryResult cached = youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+            calls.incrementAndGet();
+            return YoutubeSummaryResult.success("요약");
+        });
+
+        assertThat(cached.failure()).isEqualTo(YoutubeSummaryStatus.YOUTUBE_SUBTITLE_NOT_FOUND);
+        assertThat(calls).hasValue(1);
+
+        String otherVideoId = "aaaaaaaaaaa";
+        youtubeSummaryCache.getOrLoad(otherVideoId, () -> YoutubeSummaryResult.failure(YoutubeSummaryStatus.AI_SERVER_FAILED));
+        YoutubeSummaryResult retried = youtubeSummaryCache.getOrLoad(otherVideoId, () -> YoutubeSummaryResult.success("요약"));
+
+        assertThat(retried.isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 영상에 대한 동시 요청은 AI 호출 한 번의 결과를 공유한다")
+    void getOrLoad_SingleFlight() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        CompletableFuture<YoutubeSummaryResult> leader = CompletableFuture.supplyAsync(() ->
+                youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+                    calls.incrementAndGet();
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return YoutubeSummaryResult.success("요약");
+                }));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<YoutubeSummaryResult> follower = CompletableFuture.supplyAsync(() ->
+                youtubeSummaryCache.getOrLoad(VIDEO_ID, () -> {
+                    calls.incrementAndGet();
+                    return YoutubeSummaryResult.success("중복 요약");
+                }));
+        releaseLoader.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).summary()).isEqualTo("요약");
+        assertThat(follower.get(5, TimeUnit.SECONDS).summary()).isEqualTo("요약");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("캐시 확인 후 슬롯을 얻기 전에 다른 요청이 로드를 끝냈다면 AI를 다시 호출하지 않는다")
+    @SuppressWarnings("unchecked")
+    void getOrLoad_RechecksCacheAfterAcquiringSlot() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        ObjectProvider<StringRedisTemplate> redisTemplateProvider = mock(ObjectProvider.class);
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        YoutubeSummaryCache cache = new YoutubeSummaryCache(
+                redisTemplateProvider, mock(ObjectProvider.class),
+                100, Duration.ofHours(1), true, Duration.ofDays(7), Duration.ofMinutes(10));
+        AtomicInteger calls = new AtomicInteger();
+
+        // 첫 L2 조회가 미스로 끝나는 사이 다른 요청이 로드를 마치고 슬롯을 비운 상황을 재현
+        given(valueOperations.get("youtube:summary:" + VIDEO_ID))
+                .willAnswer(invocation -> {
+                    cache.getOrLoad(VIDEO_ID, () -> {
+                        calls.incrementAndGet();
+                        return YoutubeSummaryResult.success("요약");
+                    });
+                    return null;
+                })
+                .willReturn(null);
+
+        YoutubeSummaryResult result = cache.getOrLoad(VIDEO_ID, () -> {
+            calls.incrementAndGet();
+            return YoutubeSummaryResult.success("중복 요약");
+        });
+
+        assertThat(result.summary()).isEqualTo("요약");
+        assertThat(calls).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.domain.posts.dto.YoutubeSummaryResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("YoutubeSummarySubscriptionRegistry 단위 테스트")
+class YoutubeSummarySubscriptionRegistryTest {
+
+    private static final Long POST_ID = 1L;
+
+    private YoutubeSummarySubscriptionRegistry subscriptionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        subscriptionRegistry = new YoutubeSummarySubscriptionRegistry(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("요약이 아직 없으면 구독을 유지하고, 완료 전달 후 구독을 정리한다")
+    void subscribe_PendingThenDelivered() {
+        subscriptionRegistry.subscribe(POST_ID, () -> null);
+        subscriptionRegistry.subscribe(POST_ID, () -> null);
+
+        assertThat(subscriptionRegistry.getSubscriberCount()).isEqualTo(2);
+
+        subscriptionRegistry.deliver(POST_ID, YoutubeSummaryResult.success("요약"));
+
+        assertThat(subscriptionRegistry.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 요약이 저장되어 있으면 구독을 남기지 않고 즉시 응답한다")
+    void subscribe_AlreadyCompleted() {
+        subscriptionRegistry.subscribe(POST_ID, () -> "요약");
+
+        assertThat(subscriptionRegistry.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 완료는 구독에 영향을 주지 않는다")
+    void deliver_OtherPost() {
+        subscriptionRegistry.subscribe(POST_ID, () -> null);
+
+        subscriptionRegistry.deliver(2L, YoutubeSummaryResult.success("요약"));
+
+        assertThat(subscriptionRegistry.getSubscriberCount()).isEqualTo(1);
+    }
+}
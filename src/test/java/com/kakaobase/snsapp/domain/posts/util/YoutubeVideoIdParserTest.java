@@ -0,0 +1,44 @@
+package com.kakaobase.snsapp.domain.posts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("YoutubeVideoIdParser 단위 테스트")
+class YoutubeVideoIdParserTest {
+
+    private static final String VIDEO_ID = "dQw4w9WgXcQ";
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://youtube.com/watch?feature=share&v=dQw4w9WgXcQ&t=42",
+            "https://m.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ",
+            "https://youtu.be/dQw4w9WgXcQ?si=abcdef",
+            "https://www.youtube.com/shorts/dQw4w9WgXcQ",
+            "https://www.youtube.com/embed/dQw4w9WgXcQ",
+            "youtube.com/watch?v=dQw4w9WgXcQ"
+    })
+    @DisplayName("지원하는 URL 형태는 모두 같은 영상 ID로 정규화된다")
+    void parse_SupportedForms(String url) {
+        assertThat(YoutubeVideoIdParser.parse(url)).contains(VIDEO_ID);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            "https://www.youtube.com/",
+            "https://www.youtube.com/watch?v=short",
+            "https://vimeo.com/dQw4w9WgXcQ",
+            "https://www.youtube.com/channel/UC38IQsAvIsxxjztdMZQtwHA",
+            "not a url"
+    })
+    @DisplayName("영상 ID를 알 수 없는 URL은 빈 값을 반환한다")
+    void parse_Unsupported(String url) {
+        assertThat(YoutubeVideoIdParser.parse(url)).isEmpty();
+    }
+}
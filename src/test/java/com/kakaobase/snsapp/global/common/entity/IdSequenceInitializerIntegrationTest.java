@@ -0,0 +1,146 @@
+package com.kakaobase.snsapp.global.common.entity;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IdSequenceInitializer}가 MySQL에서 채번 값을 기존 ID보다 크게 맞추는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ID 채번 초기화 통합 테스트")
+class IdSequenceInitializerIntegrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpSchema() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername("root");
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(2);
+
+        JdbcTemplate schema = new JdbcTemplate(dataSource);
+        schema.execute("CREATE TABLE " + IdSequences.TABLE + " (" +
+                IdSequences.PK_COLUMN + " VARCHAR(255) PRIMARY KEY, " +
+                IdSequences.VALUE_COLUMN + " BIGINT)");
+        for (String table : IdSequences.TABLES) {
+            schema.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY)");
+        }
+    }
+
+    @AfterAll
+    static void closePool() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM " + IdSequences.TABLE);
+        for (String table : IdSequences.TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 최대 ID가 채번 값보다 크면 최대 ID + 블록 크기 이상으로 올린다")
+    void maxIdAboveNextVal_RaisesNextVal() {
+        jdbcTemplate.update("INSERT INTO posts (id) VALUES (500)");
+        insertSequence("posts", 10L);
+
+        new IdSequenceInitializer(jdbcTemplate).afterSingletonsInstantiated();
+
+        assertThat(nextVal("posts")).isEqualTo(500 + IdSequences.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("채번 값이 이미 충분히 크면 낮추지 않는다")
+    void nextValAlreadyHigher_KeepsNextVal() {
+        jdbcTemplate.update("INSERT INTO posts (id) VALUES (500)");
+        insertSequence("posts", 10_000L);
+
+        new IdSequenceInitializer(jdbcTemplate).afterSingletonsInstantiated();
+
+        assertThat(nextVal("posts")).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("채번 행이 없으면 기존 최대 ID 기준으로 새로 만든다")
+    void missingRow_InsertsRow() {
+        jdbcTemplate.update("INSERT INTO comments (id) VALUES (7)");
+
+        new IdSequenceInitializer(jdbcTemplate).afterSingletonsInstantiated();
+
+        assertThat(nextVal("comments")).isEqualTo(7 + IdSequences.ALLOCATION_SIZE + 1);
+        assertThat(nextVal("recomments")).isEqualTo(IdSequences.ALLOCATION_SIZE + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + IdSequences.TABLE, Integer.class))
+                .isEqualTo(IdSequences.TABLES.size());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 채번 행을 만들어 INSERT가 중복되면 해당 행을 올린다")
+    void concurrentInsert_DuplicateKey_RaisesExistingRow() {
+        jdbcTemplate.update("INSERT INTO posts (id) VALUES (500)");
+        JdbcTemplate racing = new RacingJdbcTemplate(new JdbcTemplate(dataSource), "posts", 20L);
+
+        new IdSequenceInitializer(racing).afterSingletonsInstantiated();
+
+        assertThat(nextVal("posts")).isEqualTo(500 + IdSequences.ALLOCATION_SIZE + 1);
+    }
+
+    private void insertSequence(String name, long nextVal) {
+        jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.PK_COLUMN + ", " +
+                IdSequences.VALUE_COLUMN + ") VALUES (?, ?)", name, nextVal);
+    }
+
+    private Long nextVal(String name) {
+        return jdbcTemplate.queryForObject("SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE +
+                " WHERE " + IdSequences.PK_COLUMN + " = ?", Long.class, name);
+    }
+
+    /**
+     * 채번 행 INSERT 직전에 다른 인스턴스가 같은 행을 먼저 만든 상황을 재현합니다.
+     */
+    private static final class RacingJdbcTemplate extends JdbcTemplate {
+
+        private final JdbcTemplate otherInstance;
+        private final String sequenceName;
+        private final long otherInstanceValue;
+        private final AtomicBoolean raced = new AtomicBoolean();
+
+        private RacingJdbcTemplate(JdbcTemplate otherInstance, String sequenceName, long otherInstanceValue) {
+            super(otherInstance.getDataSource());
+            this.otherInstance = otherInstance;
+            this.sequenceName = sequenceName;
+            this.otherInstanceValue = otherInstanceValue;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (sql.startsWith("INSERT INTO " + IdSequences.TABLE) && sequenceName.equals(args[0])
+                    && raced.compareAndSet(false, true)) {
+                otherInstance.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.PK_COLUMN + ", " +
+                        IdSequences.VALUE_COLUMN + ") VALUES (?, ?)", sequenceName, otherInstanceValue);
+            }
+            return super.update(sql, args);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.kakaobase.snsapp.global.common.outbox.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link OutboxEventRepository#findDispatchableForUpdate}의 네이티브 쿼리를 MySQL에서 그대로 실행해
+ * 두 디스패처가 동시에 가져갈 때 잠긴 이벤트를 건너뛰는지 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("아웃박스 이벤트 SKIP LOCKED 가져가기 통합 테스트")
+class OutboxEventClaimIntegrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static String claimSql;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUpSchema() throws NoSuchMethodException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername("root");
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(2);
+
+        new JdbcTemplate(dataSource).execute("CREATE TABLE outbox_events (" +
+                "id BIGINT PRIMARY KEY, " +
+                "status VARCHAR(20) NOT NULL, " +
+                "available_at DATETIME(6) NOT NULL, " +
+                "INDEX idx_outbox_status_available (status, available_at, id))");
+
+        claimSql = OutboxEventRepository.class
+                .getMethod("findDispatchableForUpdate", LocalDateTime.class, int.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":now", "?")
+                .replace(":limit", "?");
+    }
+
+    @AfterAll
+    static void closePool() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 이벤트는 건너뛰고 나머지만 가져간다")
+    void concurrentClaims_SkipLockedRows() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        insert(1L, "PENDING", now.minusSeconds(10));
+        insert(2L, "PENDING", now.minusSeconds(10));
+        insert(3L, "PENDING", now.minusSeconds(10));
+        insert(4L, "PENDING", now.plusMinutes(5));
+        insert(5L, "PROCESSED", now.minusSeconds(10));
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+
+            List<Long> claimedByFirst = claim(first, now, 2);
+            List<Long> claimedBySecond = claim(second, now, 10);
+
+            assertThat(claimedByFirst).containsExactly(1L, 2L);
+            assertThat(claimedBySecond).containsExactly(3L);
+
+            first.rollback();
+            second.rollback();
+        }
+    }
+
+    private List<Long> claim(Connection connection, LocalDateTime now, int limit) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(claimSql)) {
+            statement.setTimestamp(1, Timestamp.valueOf(now));
+            statement.setInt(2, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong("id"));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void insert(Long id, String status, LocalDateTime availableAt) {
+        jdbcTemplate.update("INSERT INTO outbox_events (id, status, available_at) VALUES (?, ?, ?)",
+                id, status, Timestamp.valueOf(availableAt));
+    }
+}
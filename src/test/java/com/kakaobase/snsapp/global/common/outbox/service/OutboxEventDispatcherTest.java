@@ -0,0 +1,248 @@
+package com.kakaobase.snsapp.global.common.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEvent;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventStatus;
+import com.kakaobase.snsapp.global.common.outbox.entity.OutboxEventType;
+import com.kakaobase.snsapp.global.common.outbox.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 트랜잭션 매니저는 목으로 두고, 이벤트를 가져가는 시점의 임대 설정과 처리 결과에 따른 상태 전이를 확인합니다.
+ */
+@DisplayName("아웃박스 이벤트 디스패처 단위 테스트")
+class OutboxEventDispatcherTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final long LEASE_SECONDS = 300L;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BASE_DELAY_SECONDS = 5L;
+
+    private OutboxEventRepository outboxEventRepository;
+    private MeterRegistry meterRegistry;
+    private RecordingHandler handler;
+    private List<Runnable> submittedTasks;
+    private int executorCapacity;
+    private OutboxEventDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new RecordingHandler();
+        submittedTasks = new ArrayList<>();
+        executorCapacity = Integer.MAX_VALUE;
+
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+
+        Executor executor = task -> {
+            if (submittedTasks.size() >= executorCapacity) {
+                throw new TaskRejectedException("queue full");
+            }
+            submittedTasks.add(task);
+        };
+
+        dispatcher = new OutboxEventDispatcher(outboxEventRepository, new ObjectMapper(),
+                mock(PlatformTransactionManager.class), executor, meterRegistryProvider, List.of(handler));
+        ReflectionTestUtils.setField(dispatcher, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", LEASE_SECONDS);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseDelaySeconds", RETRY_BASE_DELAY_SECONDS);
+    }
+
+    @Test
+    @DisplayName("가져간 이벤트는 시도 횟수가 늘고 임대 만료 시각까지 다시 전달되지 않는다")
+    void dispatch_ClaimsBatchWithLease() {
+        OutboxEvent first = event(1L, OutboxEventType.POST_CREATED);
+        OutboxEvent second = event(2L, OutboxEventType.POST_CREATED);
+        given(outboxEventRepository.findDispatchableForUpdate(any(), eq(BATCH_SIZE)))
+                .willReturn(List.of(first, second));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(submittedTasks).hasSize(2);
+        for (OutboxEvent event : List.of(first, second)) {
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getAvailableAt())
+                    .isAfterOrEqualTo(before.plusSeconds(LEASE_SECONDS))
+                    .isBeforeOrEqualTo(after.plusSeconds(LEASE_SECONDS));
+        }
+        verify(outboxEventRepository, never()).releaseLeases(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("가져갈 이벤트가 없으면 아무 작업도 제출하지 않는다")
+    void dispatch_NothingToClaim() {
+        given(outboxEventRepository.findDispatchableForUpdate(any(), eq(BATCH_SIZE))).willReturn(List.of());
+
+        dispatcher.dispatch();
+
+        assertThat(submittedTasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작업 큐가 가득 차면 제출하지 못한 이벤트의 임대를 즉시 반납한다")
+    void dispatch_ReleasesUnsubmittedLeasesOnRejection() {
+        executorCapacity = 1;
+        given(outboxEventRepository.findDispatchableForUpdate(any(), eq(BATCH_SIZE))).willReturn(List.of(
+                event(1L, OutboxEventType.POST_CREATED),
+                event(2L, OutboxEventType.POST_CREATED),
+                event(3L, OutboxEventType.POST_CREATED)));
+
+        dispatcher.dispatch();
+
+        assertThat(submittedTasks).hasSize(1);
+        verify(outboxEventRepository).releaseLeases(eq(List.of(2L, 3L)), any());
+    }
+
+    @Test
+    @DisplayName("핸들러 처리에 성공하면 처리 완료로 표시한다")
+    void process_Success() {
+        OutboxEvent event = claimed(event(1L, OutboxEventType.POST_CREATED), 1);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        dispatcher.process(1L);
+
+        assertThat(handler.received).containsExactly(new TestPayload(10L));
+        verify(outboxEventRepository).markProcessed(eq(1L), any());
+        assertThat(count(OutboxEventType.POST_CREATED, "processed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PENDING이 아닌 이벤트는 다시 처리하지 않는다")
+    void process_SkipsNonPending() {
+        OutboxEvent event = claimed(event(1L, OutboxEventType.POST_CREATED), MAX_ATTEMPTS);
+        event.markFailedAttempt("boom", MAX_ATTEMPTS, LocalDateTime.now());
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        dispatcher.process(1L);
+
+        assertThat(handler.received).isEmpty();
+        verify(outboxEventRepository, never()).markProcessed(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 시도 횟수에 따라 지수 백오프로 재시도 시각을 미룬다")
+    void process_FailureAppliesBackoff() {
+        handler.failure = new IllegalStateException("downstream unavailable");
+        OutboxEvent event = claimed(event(1L, OutboxEventType.POST_CREATED), 2);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.process(1L);
+        LocalDateTime after = LocalDateTime.now();
+
+        // 두 번째 시도 실패: 5초 << 1 = 10초 뒤 재시도
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getAvailableAt())
+                .isAfterOrEqualTo(before.plusSeconds(10))
+                .isBeforeOrEqualTo(after.plusSeconds(10));
+        assertThat(event.getLastError()).isEqualTo("downstream unavailable");
+        verify(outboxEventRepository, never()).markProcessed(anyLong(), any());
+        assertThat(count(OutboxEventType.POST_CREATED, "failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에서 실패하면 FAILED로 전환된다")
+    void process_FailureAtMaxAttemptsMarksFailed() {
+        handler.failure = new IllegalStateException("still broken");
+        OutboxEvent event = claimed(event(1L, OutboxEventType.POST_CREATED), MAX_ATTEMPTS);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        dispatcher.process(1L);
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+        assertThat(event.getLastError()).isEqualTo("still broken");
+    }
+
+    @Test
+    @DisplayName("등록된 핸들러가 없는 이벤트 타입은 실패로 기록한다")
+    void process_UnknownHandler() {
+        OutboxEvent event = claimed(event(1L, OutboxEventType.COMMENT_CREATED), 1);
+        given(outboxEventRepository.findById(1L)).willReturn(Optional.of(event));
+
+        dispatcher.process(1L);
+
+        assertThat(handler.received).isEmpty();
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(event.getLastError()).contains(OutboxEventType.COMMENT_CREATED.name());
+        verify(outboxEventRepository, never()).markProcessed(anyLong(), any());
+        assertThat(count(OutboxEventType.COMMENT_CREATED, "failed")).isEqualTo(1.0);
+    }
+
+    private OutboxEvent event(Long id, OutboxEventType eventType) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(10L)
+                .payload("{\"postId\":10}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private OutboxEvent claimed(OutboxEvent event, int times) {
+        for (int i = 0; i < times; i++) {
+            event.claim(LocalDateTime.now().plusSeconds(LEASE_SECONDS));
+        }
+        return event;
+    }
+
+    private double count(OutboxEventType eventType, String result) {
+        return meterRegistry.counter("outbox.events", "type", eventType.name(), "result", result).count();
+    }
+
+    record TestPayload(Long postId) {
+    }
+
+    static class RecordingHandler implements OutboxEventHandler<TestPayload> {
+
+        private final List<TestPayload> received = new ArrayList<>();
+        private RuntimeException failure;
+
+        @Override
+        public OutboxEventType getEventType() {
+            return OutboxEventType.POST_CREATED;
+        }
+
+        @Override
+        public Class<TestPayload> getPayloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(TestPayload payload) {
+            if (failure != null) {
+                throw failure;
+            }
+            received.add(payload);
+        }
+    }
+}
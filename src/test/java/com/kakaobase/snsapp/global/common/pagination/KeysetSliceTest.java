@@ -0,0 +1,67 @@
+package com.kakaobase.snsapp.global.common.pagination;
+
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("키셋 페이지네이션 단위 테스트")
+class KeysetSliceTest {
+
+    @Test
+    @DisplayName("limit + 1건을 조회하도록 제한을 만든다")
+    void probe_AddsOneRow() {
+        assertThat(KeysetSlice.probe(12)).isEqualTo(Limit.of(13));
+        assertThat(KeysetSlice.probeSize(12)).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("limit보다 많이 조회되면 잘라내고 마지막 항목으로 다음 커서를 만든다")
+    void of_MoreThanLimit_HasNext() {
+        KeysetSlice<Long> slice = KeysetSlice.of(List.of(30L, 20L, 10L), 2);
+
+        assertThat(slice.content()).containsExactly(30L, 20L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.nextCursor(id -> id)).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("limit 이하로 조회되면 마지막 페이지이고 다음 커서가 없다")
+    void of_WithinLimit_LastPage() {
+        KeysetSlice<Long> slice = KeysetSlice.of(List.of(30L, 20L), 2);
+
+        assertThat(slice.content()).containsExactly(30L, 20L);
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor(id -> id)).isNull();
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원한다")
+    void cursor_EncodeDecode_RoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 5, 1, 12, 0, 0, 123_000_000), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지로 해석한다")
+    void cursor_Blank_First() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+        assertThat(KeysetCursor.decode("")).isEqualTo(KeysetCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외를 던진다")
+    void cursor_Malformed_ThrowsException() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("%%%"))
+                .isInstanceOf(CustomException.class);
+    }
+}
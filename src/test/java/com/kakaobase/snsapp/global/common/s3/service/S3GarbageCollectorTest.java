@@ -0,0 +1,222 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcCandidate;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcStatus;
+import com.kakaobase.snsapp.global.common.s3.repository.S3GcCandidateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 트랜잭션 매니저는 목으로 두고, 후보 조회/참조 확인/DeleteObjects 응답에 따른 큐 처리 결과를 확인합니다.
+ */
+@DisplayName("S3 객체 정리기 단위 테스트")
+class S3GarbageCollectorTest {
+
+    private static final String URL_PREFIX = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private S3GcCandidateRepository candidateRepository;
+    private S3Client s3Client;
+    private S3ObjectReferenceChecker referenceChecker;
+    private PlatformTransactionManager transactionManager;
+    private MeterRegistry meterRegistry;
+    private S3GarbageCollector collector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        candidateRepository = mock(S3GcCandidateRepository.class);
+        s3Client = mock(S3Client.class);
+        referenceChecker = mock(S3ObjectReferenceChecker.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+
+        S3Service s3Service = new S3Service(s3Client, mock(S3Presigner.class), mock(S3GarbageQueue.class),
+                "kakaobase", "ap-northeast-2", 300, 10_485_760L);
+        collector = new S3GarbageCollector(candidateRepository, s3Service, List.of(referenceChecker),
+                transactionManager, meterRegistryProvider);
+        ReflectionTestUtils.setField(collector, "batchSize", 1000);
+        ReflectionTestUtils.setField(collector, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(collector, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(collector, "retryBaseDelaySeconds", 30L);
+    }
+
+    @Test
+    @DisplayName("참조 중인 후보는 지우지 않고 큐에서 빼며, 나머지는 한 번의 DeleteObjects로 삭제한다")
+    void collect_SkipsReferencedAndDeletesRest() {
+        S3GcCandidate referenced = candidate(1L, "profiles/used.png", S3GcReason.REPLACED_PROFILE_IMAGE);
+        S3GcCandidate orphan1 = candidate(2L, "post_image/orphan1.jpg", S3GcReason.ORPHANED_UPLOAD);
+        S3GcCandidate orphan2 = candidate(3L, "post_image/orphan2.jpg", S3GcReason.ORPHANED_UPLOAD);
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt()))
+                .willReturn(List.of(referenced, orphan1, orphan2));
+        given(referenceChecker.findReferencedUrls(anyCollection()))
+                .willReturn(List.of(URL_PREFIX + "profiles/used.png"));
+        given(s3Client.deleteObjects(any(Consumer.class)))
+                .willReturn(DeleteObjectsResponse.builder().build());
+
+        collector.collect();
+
+        assertThat(deletedKeys()).containsExactly("post_image/orphan1.jpg", "post_image/orphan2.jpg");
+        verify(candidateRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(candidateRepository).deleteAllByIdInBatch(List.of(2L, 3L));
+        assertThat(count(S3GcReason.REPLACED_PROFILE_IMAGE, "referenced")).isEqualTo(1);
+        assertThat(count(S3GcReason.ORPHANED_UPLOAD, "deleted")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참조 확인은 후보를 가져간 트랜잭션이 커밋된 뒤, S3 삭제 직전에 별도 트랜잭션에서 한다")
+    void collect_ChecksReferencesAfterClaimRightBeforeDelete() {
+        S3GcCandidate orphan = candidate(1L, "post_image/orphan.jpg", S3GcReason.ORPHANED_UPLOAD);
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt())).willReturn(List.of(orphan));
+        given(referenceChecker.findReferencedUrls(anyCollection())).willReturn(List.of());
+        given(s3Client.deleteObjects(any(Consumer.class)))
+                .willReturn(DeleteObjectsResponse.builder().build());
+
+        collector.collect();
+
+        InOrder inOrder = inOrder(transactionManager, candidateRepository, referenceChecker, s3Client);
+        inOrder.verify(candidateRepository).findCollectableForUpdate(any(), anyInt());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(referenceChecker).findReferencedUrls(anyCollection());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(s3Client).deleteObjects(any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("가져간 후보가 삭제 직전 확인에서 참조 중이면 S3를 호출하지 않고 큐에서 뺀다")
+    void collect_ReferencedAtDeleteTime_NoS3Call() {
+        S3GcCandidate candidate = candidate(1L, "post_image/used.jpg", S3GcReason.ORPHANED_UPLOAD);
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt())).willReturn(List.of(candidate));
+        given(referenceChecker.findReferencedUrls(anyCollection()))
+                .willReturn(List.of(URL_PREFIX + "post_image/used.jpg"));
+
+        collector.collect();
+
+        verify(candidateRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(s3Client, never()).deleteObjects(any(Consumer.class));
+        assertThat(count(S3GcReason.ORPHANED_UPLOAD, "referenced")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키별로 실패한 객체만 지수 백오프로 다시 시도한다")
+    void collect_PartialFailure_RetriesFailedKeyWithBackoff() {
+        S3GcCandidate deleted = candidate(1L, "post_image/a.jpg", S3GcReason.ORPHANED_UPLOAD);
+        S3GcCandidate failed = candidate(2L, "post_image/b.jpg", S3GcReason.ORPHANED_UPLOAD);
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt())).willReturn(List.of(deleted, failed));
+        given(referenceChecker.findReferencedUrls(anyCollection())).willReturn(List.of());
+        given(s3Client.deleteObjects(any(Consumer.class))).willReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("post_image/b.jpg").code("InternalError").message("retry").build())
+                .build());
+        given(candidateRepository.findAllById(List.of(2L))).willReturn(List.of(failed));
+
+        LocalDateTime before = LocalDateTime.now();
+        collector.collect();
+
+        verify(candidateRepository).deleteAllByIdInBatch(List.of(1L));
+        assertThat(failed.getStatus()).isEqualTo(S3GcStatus.PENDING);
+        assertThat(failed.getLastError()).isEqualTo("InternalError: retry");
+        // 첫 시도 실패: 기준 지연 30초
+        assertThat(failed.getAvailableAt()).isBetween(before.plusSeconds(30), LocalDateTime.now().plusSeconds(30));
+        assertThat(count(S3GcReason.ORPHANED_UPLOAD, "retry")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 자체가 실패하면 모든 후보를 실패로 기록하고, 최대 시도 횟수에 도달한 후보는 FAILED로 남긴다")
+    void collect_RequestFails_LastAttemptAbandoned() {
+        S3GcCandidate candidate = candidate(1L, "post_image/a.jpg", S3GcReason.ORPHANED_UPLOAD);
+        for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+            candidate.claim(LocalDateTime.now());
+        }
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt())).willReturn(List.of(candidate));
+        given(referenceChecker.findReferencedUrls(anyCollection())).willReturn(List.of());
+        given(s3Client.deleteObjects(any(Consumer.class))).willThrow(SdkClientException.create("timeout"));
+        given(candidateRepository.findAllById(List.of(1L))).willReturn(List.of(candidate));
+
+        collector.collect();
+
+        assertThat(candidate.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(candidate.getStatus()).isEqualTo(S3GcStatus.FAILED);
+        assertThat(candidate.getLastError()).contains("timeout");
+        verify(candidateRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(count(S3GcReason.ORPHANED_UPLOAD, "abandoned")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리할 후보가 없으면 S3를 호출하지 않는다")
+    void collect_NoCandidates_NoS3Call() {
+        given(candidateRepository.findCollectableForUpdate(any(), anyInt())).willReturn(List.of());
+
+        collector.collect();
+
+        verify(referenceChecker, never()).findReferencedUrls(anyCollection());
+        verify(s3Client, never()).deleteObjects(any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("참조 확인기가 하나도 없으면 기동하지 않는다")
+    @SuppressWarnings("unchecked")
+    void constructor_NoReferenceCheckers_Throws() {
+        assertThatThrownBy(() -> new S3GarbageCollector(candidateRepository, mock(S3Service.class), List.of(),
+                mock(PlatformTransactionManager.class), mock(ObjectProvider.class)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static S3GcCandidate candidate(Long id, String objectKey, S3GcReason reason) {
+        S3GcCandidate candidate = S3GcCandidate.builder()
+                .objectKey(objectKey)
+                .reason(reason)
+                .availableAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(candidate, "id", id);
+        return candidate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> deletedKeys() {
+        ArgumentCaptor<Consumer<DeleteObjectsRequest.Builder>> request = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client).deleteObjects(request.capture());
+
+        DeleteObjectsRequest.Builder builder = DeleteObjectsRequest.builder();
+        request.getValue().accept(builder);
+        return builder.build().delete().objects().stream().map(ObjectIdentifier::key).toList();
+    }
+
+    private double count(S3GcReason reason, String result) {
+        return meterRegistry.counter("s3.gc.objects", "reason", reason.name(), "result", result).count();
+    }
+}
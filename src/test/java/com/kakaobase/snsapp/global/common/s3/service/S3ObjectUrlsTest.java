@@ -0,0 +1,63 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("S3 객체 URL 변환/검증 단위 테스트")
+class S3ObjectUrlsTest {
+
+    private static final String PREFIX = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/";
+
+    private final S3ObjectUrls objectUrls = new S3ObjectUrls("kakaobase", "ap-northeast-2");
+
+    @Test
+    @DisplayName("객체 키와 URL을 서로 변환한다")
+    void toUrl_ToObjectKey_RoundTrip() {
+        String key = "post_image/0b5f6c1e-8a3e-4c55-9a63-2f1c6b7d9e10.jpg";
+
+        assertThat(objectUrls.toUrl(key)).isEqualTo(PREFIX + key);
+        assertThat(objectUrls.toObjectKey(objectUrls.toUrl(key))).isEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("호스트는 대소문자를 구분하지 않는다")
+    void toObjectKey_HostCaseInsensitive() {
+        assertThat(objectUrls.toObjectKey("HTTPS://KakaoBase.S3.ap-northeast-2.amazonaws.com/profiles/a.png"))
+                .isEqualTo("profiles/a.png");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/",
+            "http://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg",
+            "https://evil.com/?next=https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg",
+            "https://evil.com/kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com.evil.com/post_image/a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com@evil.com/post_image/a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com:8443/post_image/a.jpg",
+            "https://other.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg?X-Amz-Signature=abc",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/a.jpg#fragment",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/%2e%2e/a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/../a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image//a.jpg",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image/",
+            "https://kakaobase.s3.ap-northeast-2.amazonaws.com/post_image\\a.jpg"
+    })
+    @DisplayName("이 버킷의 객체 URL이 아니면 거부한다")
+    void isValid_Rejected(String url) {
+        assertThat(objectUrls.isValid(url)).isFalse();
+        assertThat(objectUrls.toObjectKey(url)).isNull();
+    }
+
+    @Test
+    @DisplayName("null은 거부한다")
+    void isValid_Null_Rejected() {
+        assertThat(objectUrls.isValid(null)).isFalse();
+    }
+}
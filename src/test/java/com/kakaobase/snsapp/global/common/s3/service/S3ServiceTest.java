@@ -0,0 +1,172 @@
+package com.kakaobase.snsapp.global.common.s3.service;
+
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlRequestDto;
+import com.kakaobase.snsapp.global.common.s3.dto.PresignedUrlResponseDto;
+import com.kakaobase.snsapp.global.common.s3.entity.S3GcReason;
+import com.kakaobase.snsapp.global.common.s3.exception.S3ErrorCode;
+import com.kakaobase.snsapp.global.common.s3.exception.S3Exception;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 서명은 네트워크 없이 계산되므로 정적 자격 증명으로 만든 실제 S3Presigner를 사용합니다.
+ */
+@DisplayName("S3Service Presigned URL 단위 테스트")
+class S3ServiceTest {
+
+    private static final String URL_PREFIX = "https://kakaobase.s3.ap-northeast-2.amazonaws.com/";
+
+    private S3Presigner s3Presigner;
+    private S3GarbageQueue garbageQueue;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Presigner = spy(S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("AKIATEST", "test-secret")))
+                .build());
+        garbageQueue = mock(S3GarbageQueue.class);
+        s3Service = new S3Service(null, s3Presigner, garbageQueue, "kakaobase", "ap-northeast-2", 300, 10_485_760L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Test
+    @DisplayName("확장자는 파일명이 아니라 MIME 타입으로 정한다")
+    void generatePresignedUrl_ExtensionFromMimeType() {
+        PresignedUrlResponseDto response = s3Service.generatePresignedUrl(
+                "내 사진 (1).JPEG", 1_000L, "image/jpeg", "post_image");
+
+        assertThat(response.getImage_url()).startsWith(URL_PREFIX + "post_image/").endsWith(".jpg");
+        assertThat(s3Service.isValidImageUrl(response.getImage_url())).isTrue();
+        assertThat(response.getPresigned_url()).startsWith(URL_PREFIX + "post_image/").contains("X-Amz-Signature=");
+    }
+
+    @Test
+    @DisplayName("일괄 요청은 요청 순서대로 서로 다른 객체 키를 발급한다")
+    void generatePresignedUrls_InRequestOrder() {
+        List<PresignedUrlResponseDto> responses = s3Service.generatePresignedUrls(List.of(
+                request("image/png", "post_image"),
+                request("image/gif", "post_image"),
+                request("image/jpeg", "profile_image")));
+
+        assertThat(responses).extracting(PresignedUrlResponseDto::getImage_url)
+                .satisfiesExactly(
+                        url -> assertThat(url).startsWith(URL_PREFIX + "post_image/").endsWith(".png"),
+                        url -> assertThat(url).startsWith(URL_PREFIX + "post_image/").endsWith(".gif"),
+                        url -> assertThat(url).startsWith(URL_PREFIX + "profiles/").endsWith(".jpg"))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("발급한 객체 키를 한 번에 정리 후보로 등록한다")
+    @SuppressWarnings("unchecked")
+    void generatePresignedUrls_EnqueuesOrphanCandidates() {
+        List<PresignedUrlResponseDto> responses = s3Service.generatePresignedUrls(List.of(
+                request("image/png", "post_image"),
+                request("image/jpeg", "post_image")));
+
+        ArgumentCaptor<Collection<String>> objectKeys = ArgumentCaptor.forClass(Collection.class);
+        verify(garbageQueue).enqueue(objectKeys.capture(), eq(S3GcReason.ORPHANED_UPLOAD));
+        assertThat(objectKeys.getValue()).containsExactlyElementsOf(responses.stream()
+                .map(response -> s3Service.extractObjectKeyFromUrl(response.getImage_url()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("일괄 요청 중 하나라도 잘못되면 URL을 하나도 발급하지 않는다")
+    void generatePresignedUrls_OneInvalid_NothingSigned() {
+        List<PresignedUrlRequestDto> files = List.of(
+                request("image/png", "post_image"),
+                request("image/webp", "post_image"));
+
+        assertThatThrownBy(() -> s3Service.generatePresignedUrls(files))
+                .isInstanceOfSatisfying(S3Exception.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(S3ErrorCode.UNSUPPORTED_IMAGE_FORMAT);
+                    assertThat(e.getEffectiveField()).isEqualTo("files[1].mimeType");
+                });
+        verify(s3Presigner, never()).presignPutObject(any(PutObjectPresignRequest.class));
+        verify(garbageQueue, never()).enqueue(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 요청의 파일 크기 초과는 해당 항목 필드로 알린다")
+    void generatePresignedUrls_FileTooLarge() {
+        List<PresignedUrlRequestDto> files = List.of(
+                new PresignedUrlRequestDto("a.jpg", 10_485_761L, "image/jpeg", "post_image"));
+
+        assertThatThrownBy(() -> s3Service.generatePresignedUrls(files))
+                .isInstanceOfSatisfying(S3Exception.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(S3ErrorCode.FILE_SIZE_EXCEEDED);
+                    assertThat(e.getEffectiveField()).isEqualTo("files[0].fileSize");
+                });
+    }
+
+    @Test
+    @DisplayName("DeleteObjects는 1000개씩 나눠 보내고 실패한 키만 모아 반환한다")
+    @SuppressWarnings("unchecked")
+    void deleteObjects_SplitsIntoBatches() {
+        S3Client s3Client = mock(S3Client.class);
+        given(s3Client.deleteObjects(any(Consumer.class)))
+                .willReturn(DeleteObjectsResponse.builder().build())
+                .willReturn(DeleteObjectsResponse.builder()
+                        .errors(S3Error.builder().key("k1500").code("AccessDenied").message("denied").build())
+                        .build())
+                .willReturn(DeleteObjectsResponse.builder().build());
+        S3Service service = new S3Service(s3Client, s3Presigner, garbageQueue, "kakaobase", "ap-northeast-2", 300, 10_485_760L);
+        List<String> objectKeys = IntStream.range(0, 2500).mapToObj(i -> "k" + i).toList();
+
+        Map<String, String> failures = service.deleteObjects(objectKeys);
+
+        ArgumentCaptor<Consumer<DeleteObjectsRequest.Builder>> requests = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client, times(3)).deleteObjects(requests.capture());
+        List<Integer> batchSizes = requests.getAllValues().stream()
+                .map(request -> {
+                    DeleteObjectsRequest.Builder builder = DeleteObjectsRequest.builder();
+                    request.accept(builder);
+                    return builder.build().delete().objects().size();
+                })
+                .toList();
+        assertThat(batchSizes).containsExactly(1000, 1000, 500);
+        assertThat(failures).containsExactly(entry("k1500", "AccessDenied: denied"));
+    }
+
+    private static PresignedUrlRequestDto request(String mimeType, String type) {
+        return new PresignedUrlRequestDto("photo", 1_000L, mimeType, type);
+    }
+}
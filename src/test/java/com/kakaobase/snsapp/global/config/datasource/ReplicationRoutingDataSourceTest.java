@@ -0,0 +1,162 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import com.kakaobase.snsapp.global.config.datasource.ReplicationRoutingDataSource.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReplicationRoutingDataSource 단위 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private static final Long WRITER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private AtomicReference<Long> currentMemberId;
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SQLException {
+        replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        currentMemberId = new AtomicReference<>();
+
+        DataSource primary = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(primaryConnection.createStatement()).willReturn(mock(Statement.class));
+
+        routingDataSource = new ReplicationRoutingDataSource(
+                primary,
+                mock(DataSource.class),
+                replicaLagMonitor,
+                readYourWritesTracker,
+                currentMemberId::get,
+                mock(ObjectProvider.class));
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 보낸다")
+    void readOnly_ReplicaAvailable_RoutesToReplica() {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 커넥션은 프라이머리로 보낸다")
+    void write_RoutesToPrimary() {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+
+        beginTransaction(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("레플리카 지연이 허용치를 넘으면 읽기도 프라이머리로 보낸다")
+    void readOnly_ReplicaLagging_FallsBackToPrimary() {
+        given(replicaLagMonitor.isAvailable()).willReturn(false);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 한 회원의 이후 읽기는 프라이머리로 고정되고 다른 회원은 영향을 받지 않는다")
+    void readOnly_AfterOwnWrite_StaysOnPrimary() throws SQLException {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        currentMemberId.set(WRITER_ID);
+        commitWriteTransaction(connection -> connection.prepareStatement("/* update Post */ UPDATE posts SET like_count = 1"));
+
+        beginTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+
+        currentMemberId.set(OTHER_MEMBER_ID);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("조회만 한 쓰기 트랜잭션은 프라이머리에 고정하지 않는다")
+    void readOnly_AfterWriteTransactionWithoutWrites_RoutesToReplica() throws SQLException {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        currentMemberId.set(WRITER_ID);
+        commitWriteTransaction(connection -> {
+            connection.prepareStatement("SELECT * FROM posts WHERE id = ? FOR UPDATE");
+            connection.createStatement().executeQuery("(SELECT 1)");
+        });
+
+        beginTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("일반 Statement로 실행한 쓰기도 감지한다")
+    void readOnly_AfterStatementWrite_StaysOnPrimary() throws SQLException {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        currentMemberId.set(WRITER_ID);
+        commitWriteTransaction(connection -> connection.createStatement().executeUpdate("DELETE FROM posts"));
+
+        beginTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 프라이머리에 고정하지 않는다")
+    void readOnly_AfterRolledBackWrite_RoutesToReplica() throws SQLException {
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        currentMemberId.set(WRITER_ID);
+        beginTransaction(false);
+        routingDataSource.getConnection().prepareStatement("INSERT INTO posts_likes VALUES (?, ?)");
+        TransactionSynchronizationManager.clear();
+
+        beginTransaction(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(Target.REPLICA);
+    }
+
+    /**
+     * 쓰기 트랜잭션에서 커넥션을 얻어 작업을 실행하고 커밋합니다.
+     */
+    private void commitWriteTransaction(ConnectionWork work) throws SQLException {
+        beginTransaction(false);
+        work.run(routingDataSource.getConnection());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionWork {
+        void run(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,183 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * GTID 복제로 연결한 MySQL 두 대(프라이머리/레플리카)에서 실제 커넥션이 어디로 가는지 확인합니다.
+ * 각 서버의 server_id로 라우팅 결과를 구분합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("프라이머리/레플리카 라우팅 통합 테스트")
+class ReplicationRoutingIntegrationTest {
+
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+    private static final String PRIMARY_ALIAS = "mysql-primary";
+    private static final int PRIMARY_SERVER_ID = 1;
+    private static final int REPLICA_SERVER_ID = 2;
+    private static final Long MEMBER_ID = 1L;
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>(MYSQL_IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases(PRIMARY_ALIAS)
+            .withCommand("--server-id=" + PRIMARY_SERVER_ID, "--log-bin=mysql-bin",
+                    "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>(MYSQL_IMAGE)
+            .withNetwork(NETWORK)
+            .withCommand("--server-id=" + REPLICA_SERVER_ID,
+                    "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private AtomicReference<Long> currentMemberId;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    static void startReplication() throws InterruptedException {
+        primaryPool = pool(PRIMARY, "primary");
+        replicaPool = pool(REPLICA, "replica");
+
+        JdbcTemplate replica = new JdbcTemplate(replicaPool);
+        replica.execute("CHANGE REPLICATION SOURCE TO SOURCE_HOST='" + PRIMARY_ALIAS + "', SOURCE_PORT=3306, " +
+                "SOURCE_USER='root', SOURCE_PASSWORD='" + PRIMARY.getPassword() + "', " +
+                "SOURCE_AUTO_POSITION=1, GET_SOURCE_PUBLIC_KEY=1");
+        replica.execute("START REPLICA");
+
+        new JdbcTemplate(primaryPool).execute("CREATE TABLE routing_probe (id INT PRIMARY KEY)");
+        awaitReplicated(replica);
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        replicaLagMonitor = new ReplicaLagMonitor(replicaPool, Duration.ofSeconds(2));
+        replicaLagMonitor.check();
+        currentMemberId = new AtomicReference<>();
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryPool,
+                replicaPool,
+                replicaLagMonitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)),
+                currentMemberId::get,
+                mock(ObjectProvider.class));
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리에서 실행된다")
+    void routesByTransactionReadOnly() {
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+
+        assertThat(readOnlyTransaction.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+        assertThat(writeTransaction.execute(status -> serverId())).isEqualTo(PRIMARY_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("쓰기를 한 회원의 직후 읽기는 프라이머리에서 자신의 변경을 읽는다")
+    void readYourWrites_AfterOwnWrite_ReadsPrimary() {
+        currentMemberId.set(MEMBER_ID);
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO routing_probe (id) VALUES (?)", 100));
+
+        Integer serverId = readOnlyTransaction.execute(status -> serverId());
+        Integer count = readOnlyTransaction.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routing_probe WHERE id = 100", Integer.class));
+
+        assertThat(serverId).isEqualTo(PRIMARY_SERVER_ID);
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회만 한 쓰기 트랜잭션 뒤의 읽기는 계속 레플리카에서 실행된다")
+    void writeTransactionWithoutWrites_KeepsReadingReplica() {
+        currentMemberId.set(MEMBER_ID);
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM routing_probe", Integer.class));
+
+        assertThat(readOnlyTransaction.execute(status -> serverId())).isEqualTo(REPLICA_SERVER_ID);
+    }
+
+    @Test
+    @DisplayName("복제가 멈추면 읽기 전용 트랜잭션도 프라이머리로 전환된다")
+    void replicationStopped_FallsBackToPrimary() {
+        JdbcTemplate replica = new JdbcTemplate(replicaPool);
+        replica.execute("STOP REPLICA SQL_THREAD");
+        try {
+            replicaLagMonitor.check();
+
+            assertThat(replicaLagMonitor.isAvailable()).isFalse();
+            assertThat(readOnlyTransaction.execute(status -> serverId())).isEqualTo(PRIMARY_SERVER_ID);
+        } finally {
+            replica.execute("START REPLICA SQL_THREAD");
+        }
+    }
+
+    private Integer serverId() {
+        return jdbcTemplate.queryForObject("SELECT @@server_id", Integer.class);
+    }
+
+    private static HikariDataSource pool(MySQLContainer<?> container, String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername("root");
+        dataSource.setPassword(container.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    private static void awaitReplicated(JdbcTemplate replica) throws InterruptedException {
+        String sql = "SELECT COUNT(*) FROM information_schema.tables " +
+                "WHERE table_schema = DATABASE() AND table_name = 'routing_probe'";
+        for (int attempt = 0; attempt < 60; attempt++) {
+            Integer tables = replica.queryForObject(sql, Integer.class);
+            if (tables != null && tables == 1) {
+                return;
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("레플리카에 복제되지 않았습니다.");
+    }
+}
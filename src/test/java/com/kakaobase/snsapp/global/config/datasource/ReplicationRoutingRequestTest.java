@@ -0,0 +1,202 @@
+package com.kakaobase.snsapp.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 한 요청 안에서 소유자 확인(읽기 전용 트랜잭션) 뒤에 쓰기를 할 때 쓰기가 어느 DB로 가는지 확인합니다.
+ * 프라이머리와 레플리카를 별도의 H2 DB로 두고, 쓰기 결과가 남은 DB로 라우팅 결과를 구분합니다.
+ */
+@DisplayName("요청 단위 프라이머리/레플리카 라우팅 테스트")
+class ReplicationRoutingRequestTest {
+
+    private static final Long OWNER_ID = 1L;
+    private static final Long PROBE_ID = 10L;
+    private static final Long REPLY_ID = 11L;
+
+    private HikariDataSource primaryPool;
+    private HikariDataSource replicaPool;
+    private EntityManagerFactory entityManagerFactory;
+    private ProbeController controller;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        primaryPool = pool("primary");
+        replicaPool = pool("replica");
+        for (HikariDataSource pool : new HikariDataSource[]{primaryPool, replicaPool}) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(pool);
+            jdbcTemplate.execute("CREATE TABLE routing_probe (id BIGINT PRIMARY KEY, member_id BIGINT NOT NULL)");
+            // 복제된 상태를 흉내 내어 두 DB에 같은 소유 데이터를 둠
+            jdbcTemplate.update("INSERT INTO routing_probe (id, member_id) VALUES (?, ?)", PROBE_ID, OWNER_ID);
+        }
+
+        ReplicaLagMonitor replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        given(replicaLagMonitor.isAvailable()).willReturn(true);
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+                primaryPool,
+                replicaPool,
+                replicaLagMonitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)),
+                () -> null,
+                mock(ObjectProvider.class));
+        routingDataSource.afterPropertiesSet();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setManagedTypes(PersistenceManagedTypes.of(RoutingProbe.class.getName()));
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                "hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        controller = new ProbeController(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @Test
+    @DisplayName("open-in-view가 꺼져 있으면 소유자 확인 뒤의 쓰기는 프라이머리로 간다")
+    void openInViewDisabled_WriteAfterOwnerCheck_ReachesPrimary() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        mockMvc.perform(post("/probes/{probeId}/replies", PROBE_ID))
+                .andExpect(status().isOk());
+
+        assertThat(countReply(primaryPool)).isEqualTo(1);
+        assertThat(countReply(replicaPool)).isZero();
+    }
+
+    @Test
+    @DisplayName("open-in-view가 켜져 있으면 소유자 확인에서 얻은 레플리카 커넥션으로 쓰기까지 실행된다")
+    void openInViewEnabled_WriteAfterOwnerCheck_StuckOnReplica() throws Exception {
+        OpenEntityManagerInViewInterceptor openInView = new OpenEntityManagerInViewInterceptor();
+        openInView.setEntityManagerFactory(entityManagerFactory);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new WebRequestHandlerInterceptorAdapter(openInView))
+                .build();
+
+        mockMvc.perform(post("/probes/{probeId}/replies", PROBE_ID))
+                .andExpect(status().isOk());
+
+        assertThat(countReply(primaryPool)).isZero();
+        assertThat(countReply(replicaPool)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("레플리카 라우팅을 켠 채 open-in-view가 켜져 있으면 시작하지 않는다")
+    void openInViewEnabled_ReplicaEnabled_FailsToStart() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(ReplicationDataSourceConfig.class)
+                .withPropertyValues("app.datasource.replica.enabled=true", "spring.jpa.open-in-view=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure()
+                        .hasRootCauseInstanceOf(IllegalStateException.class)
+                        .rootCause()
+                        .hasMessageContaining("spring.jpa.open-in-view=false"));
+    }
+
+    private static Integer countReply(HikariDataSource pool) {
+        return new JdbcTemplate(pool).queryForObject(
+                "SELECT COUNT(*) FROM routing_probe WHERE id = ?", Integer.class, REPLY_ID);
+    }
+
+    private static HikariDataSource pool(String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + poolName + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    /**
+     * {@code @CheckAccess}의 소유자 확인처럼 읽기 전용 트랜잭션에서 대상을 조회한 뒤, 별도의 쓰기 트랜잭션에서 저장합니다.
+     */
+    @RestController
+    static class ProbeController {
+
+        private final EntityManager entityManager;
+        private final TransactionTemplate readOnlyTransaction;
+        private final TransactionTemplate writeTransaction;
+
+        ProbeController(EntityManagerFactory entityManagerFactory) {
+            JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+            this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+            this.writeTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        @PostMapping("/probes/{probeId}/replies")
+        public void reply(@PathVariable("probeId") Long probeId) {
+            RoutingProbe probe = readOnlyTransaction.execute(status -> entityManager.find(RoutingProbe.class, probeId));
+            if (probe == null || !OWNER_ID.equals(probe.memberId)) {
+                throw new IllegalStateException("소유자가 아닙니다.");
+            }
+
+            writeTransaction.executeWithoutResult(status -> entityManager.persist(new RoutingProbe(REPLY_ID, OWNER_ID)));
+        }
+    }
+
+    @Entity
+    @Table(name = "routing_probe")
+    static class RoutingProbe {
+
+        @Id
+        private Long id;
+
+        @Column(name = "member_id")
+        private Long memberId;
+
+        protected RoutingProbe() {
+        }
+
+        RoutingProbe(Long id, Long memberId) {
+            this.id = id;
+            this.memberId = memberId;
+        }
+    }
+}
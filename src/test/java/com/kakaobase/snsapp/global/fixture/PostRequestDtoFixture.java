@@ -2,6 +2,8 @@ package com.kakaobase.snsapp.global.fixture;
 
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto.*;
 
+import java.util.List;
+
 import static com.kakaobase.snsapp.global.constants.PostFixtureConstants.*;
 import static com.kakaobase.snsapp.global.constants.PostImageFixtureConstants.*;
 
@@ -328,6 +330,18 @@ public class PostRequestDtoFixture {
         );
     }
 
+    /**
+     * 여러 장의 이미지가 있는 게시글 생성 요청 DTO를 생성합니다.
+     */
+    public static PostCreateRequestDto createMultiImageRequest() {
+        return new PostCreateRequestDto(
+                VALID_CONTENT,
+                null,
+                List.of(VALID_IMAGE_URL_1, VALID_IMAGE_URL_2, VALID_IMAGE_URL_3),
+                null
+        );
+    }
+
     private PostRequestDtoFixture() {
         // 유틸리티 클래스 - 인스턴스화 방지
     }
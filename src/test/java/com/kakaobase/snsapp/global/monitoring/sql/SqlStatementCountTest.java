@@ -0,0 +1,256 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.converter.CommentConverter;
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.dto.RecommentBotContext;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.comments.service.CommentLikeService;
+import com.kakaobase.snsapp.domain.comments.service.CommentService;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.entity.PostLike;
+import com.kakaobase.snsapp.domain.posts.service.LikedPostIndex;
+import com.kakaobase.snsapp.domain.posts.service.LocalLikedPostStore;
+import com.kakaobase.snsapp.domain.posts.service.PostLikeService;
+import com.kakaobase.snsapp.domain.posts.service.PostService;
+import com.kakaobase.snsapp.domain.posts.service.YoutubeSummarySubscriptionRegistry;
+import com.kakaobase.snsapp.global.common.outbox.service.OutboxEventPublisher;
+import com.kakaobase.snsapp.global.common.s3.service.S3Service;
+import com.kakaobase.snsapp.global.config.JpaConfig;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import com.kakaobase.snsapp.global.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.kakaobase.snsapp.global.constants.MemberFixtureConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 주요 조회 경로가 실행하는 SQL 문 수를 고정하는 테스트입니다.
+ * 댓글 수가 늘어나도 쿼리 수가 늘지 않는지(N+1이 없는지) 확인합니다.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import({
+        JpaConfig.class,
+        DataSourceProxyBeanPostProcessor.class,
+        AccessChecker.class,
+        PostService.class,
+        PostLikeService.class,
+        LikedPostIndex.class,
+        LocalLikedPostStore.class,
+        CommentService.class,
+        CommentLikeService.class,
+        CommentConverter.class
+})
+@DisplayName("요청 경로별 SQL 문 수 테스트")
+class SqlStatementCountTest {
+
+    private static final int COMMENT_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AccessChecker accessChecker;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private RecommentRepository recommentRepository;
+
+    @MockitoBean
+    private MemberService memberService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @MockitoBean
+    private YoutubeSummarySubscriptionRegistry youtubeSummarySubscriptionRegistry;
+
+    private Member author;
+    private Post post;
+    private CustomUserDetails authorDetails;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(createMember("author@kakao.com", "작성자"));
+        post = entityManager.persist(Post.builder()
+                .memberId(author.getId())
+                .boardType(Post.BoardType.PANGYO_1)
+                .content("SQL 계측 테스트 게시글")
+                .build());
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Member commenter = entityManager.persist(createMember("commenter" + i + "@kakao.com", "댓글러" + i));
+            entityManager.persist(Comment.builder()
+                    .post(post)
+                    .member(commenter)
+                    .content("댓글 " + i)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        authorDetails = new CustomUserDetails(
+                String.valueOf(author.getId()), MEMBER_ROLE.name(), KBT_MEMBER_CLASS_NAME.name(), true);
+    }
+
+    @Test
+    @DisplayName("게시판 접근 검사는 SQL을 실행하지 않는다")
+    void hasAccessToBoard_NoStatement() {
+        SqlStatementCounter.assertStatementCount(0,
+                () -> accessChecker.hasAccessToBoard("pangyo_1", authorDetails));
+    }
+
+    @Test
+    @DisplayName("게시글 소유자 검사는 SELECT 1회로 끝난다")
+    void isPostOwner_SingleSelect() {
+        SqlStatementCounter.assertSelectCount(1,
+                () -> accessChecker.isPostOwner(post.getId(), authorDetails));
+    }
+
+    @Test
+    @DisplayName("댓글 접근 검사는 SELECT 1회로 끝난다")
+    void canAccessOnComments_SingleSelect() {
+        SqlStatementCounter.assertSelectCount(1,
+                () -> accessChecker.canAccessOnComments(post.getId(), authorDetails));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회는 게시글, 좋아요 여부, 이미지 조회로 끝난다")
+    void getPostDetail_FixedSelects() {
+        given(memberService.getMemberInfo(anyLong()))
+                .willReturn(Map.of("nickname", "작성자", "imageUrl", ""));
+
+        SqlStatementCounter.assertSelectCount(3,
+                () -> postService.getPostDetail(post.getId(), author.getId()));
+    }
+
+    @Test
+    @DisplayName("게시글 상세 조회의 SELECT 수는 이미지 수와 무관하고, 이미지는 첨부 순서대로 반환된다")
+    void getPostDetail_MultipleImages_FixedSelects() {
+        Post managedPost = entityManager.find(Post.class, post.getId());
+        for (int i = COMMENT_COUNT - 1; i >= 0; i--) {
+            entityManager.persist(PostConverter.toPostImage(managedPost, i, "https://example.com/image" + i + ".jpg"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        given(memberService.getMemberInfo(anyLong()))
+                .willReturn(Map.of("nickname", "작성자", "imageUrl", ""));
+
+        SqlStatementCounter.Counted<PostResponseDto.PostDetailResponse> counted = SqlStatementCounter.countWithResult(
+                () -> postService.getPostDetail(post.getId(), author.getId()));
+
+        assertThat(counted.result().data().imageUrls())
+                .hasSize(COMMENT_COUNT)
+                .first().isEqualTo("https://example.com/image0.jpg");
+        assertThat(counted.stats().getSelectCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회의 SELECT 수는 댓글 수와 무관하다")
+    void getCommentsByPostId_NoNPlusOne() {
+        CommentRequestDto.CommentPageRequest pageRequest = new CommentRequestDto.CommentPageRequest(COMMENT_COUNT, null);
+
+        SqlStatementCounter.Counted<CommentResponseDto.CommentListResponse> counted = SqlStatementCounter.countWithResult(
+                () -> commentService.getCommentsByPostId(author.getId(), post.getId(), pageRequest));
+
+        assertThat(counted.result().comments()).hasSize(COMMENT_COUNT);
+        // 게시글 조회 + 댓글 목록 + 좋아요 여부 + 작성자 일괄 조회
+        assertThat(counted.stats().getSelectCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록 조회의 SELECT 수는 게시글 수와 무관하다")
+    void getLikedPostList_FixedSelects() {
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Post likedPost = entityManager.persist(Post.builder()
+                    .memberId(author.getId())
+                    .boardType(Post.BoardType.PANGYO_1)
+                    .content("좋아요한 게시글 " + i)
+                    .build());
+            entityManager.persist(new PostLike(author.getId(), likedPost.getId()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        given(memberService.getMemberInfoMapByIds(anyList()))
+                .willReturn(Map.of(author.getId(), Map.of("nickname", "작성자", "imageUrl", "")));
+
+        SqlStatementCounter.Counted<PostResponseDto.LikedPostListResponse> counted = SqlStatementCounter.countWithResult(
+                () -> postService.getLikedPostList(author.getId(), COMMENT_COUNT - 1, null));
+
+        assertThat(counted.result().data()).hasSize(COMMENT_COUNT - 1);
+        assertThat(counted.result().hasNext()).isTrue();
+        // 좋아요한 게시글 + 첫 번째 이미지 일괄 조회
+        assertThat(counted.stats().getSelectCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("봇 대댓글 컨텍스트 조회는 대댓글 수와 무관하게 SELECT 1회로 끝난다")
+    void findBotContextByCommentId_SingleSelect() {
+        Comment comment = entityManager.persist(Comment.builder()
+                .post(entityManager.find(Post.class, post.getId()))
+                .member(entityManager.find(Member.class, author.getId()))
+                .content("대댓글 컨텍스트 댓글")
+                .build());
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Member recommenter = entityManager.persist(createMember("recommenter" + i + "@kakao.com", "대댓글러" + i));
+            entityManager.persist(Recomment.builder()
+                    .comment(comment)
+                    .member(recommenter)
+                    .content("대댓글 " + i)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.Counted<List<RecommentBotContext>> counted = SqlStatementCounter.countWithResult(
+                () -> recommentRepository.findBotContextByCommentId(comment.getId(), Limit.of(3)));
+
+        assertThat(counted.result())
+                .extracting(RecommentBotContext::content)
+                .containsExactly("대댓글 4", "대댓글 3", "대댓글 2");
+        assertThat(counted.stats().getSelectCount()).isEqualTo(1);
+    }
+
+    private Member createMember(String email, String nickname) {
+        return Member.builder()
+                .email(email)
+                .name(MEMBER_NAME)
+                .nickname(nickname)
+                .password(MEMBER_PASSWORD)
+                .className(KBT_MEMBER_CLASS_NAME)
+                .githubUrl(MEMBER_GITHUB_URL)
+                .build();
+    }
+}
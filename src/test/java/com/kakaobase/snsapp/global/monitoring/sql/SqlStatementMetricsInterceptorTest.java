@@ -0,0 +1,73 @@
+package com.kakaobase.snsapp.global.monitoring.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SqlStatementMetricsInterceptor 단위 테스트")
+class SqlStatementMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/all");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private final SqlStatementMetricsInterceptor interceptor = createInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    @DisplayName("동기 요청이 끝나면 집계를 종료하고 메트릭을 기록한다")
+    void afterCompletion_RecordsAndClears() throws Exception {
+        HandlerMethod handler = handlerMethod();
+
+        interceptor.preHandle(request, response, handler);
+        assertThat(SqlStatementStats.isActive()).isTrue();
+
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(SqlStatementStats.isActive()).isFalse();
+        assertThat(meterRegistry.find("sql.statements.per.request")
+                .tag("handler", "SampleController.list").summary()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 시작되면 요청 스레드의 집계를 정리한다")
+    void afterConcurrentHandlingStarted_ClearsThreadLocal() throws Exception {
+        HandlerMethod handler = handlerMethod();
+
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(SqlStatementStats.isActive()).isFalse();
+        assertThat(meterRegistry.find("sql.statements.per.request").summary()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SqlStatementMetricsInterceptor createInterceptor() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(meterRegistry);
+        return new SqlStatementMetricsInterceptor(provider, 30, 1000);
+    }
+
+    private HandlerMethod handlerMethod() throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getDeclaredMethod("list"));
+    }
+
+    static class SampleController {
+        void list() {
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.kakaobase.snsapp.global.security.authorization;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.global.error.exception.CustomException;
+import com.kakaobase.snsapp.global.fixture.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.kakaobase.snsapp.global.constants.MemberFixtureConstants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccessRuleAuthorizationManager 단위 테스트")
+class AccessRuleAuthorizationManagerTest {
+
+    private static final Long POST_ID = 10L;
+    private static final Long COMMENT_ID = 20L;
+    private static final Long RECOMMENT_ID = 30L;
+    private static final Long OTHER_MEMBER_ID = 99L;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private RecommentRepository recommentRepository;
+
+    @Mock
+    private ObjectProvider<AccessChecker> accessCheckerProvider;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AnnotatedTarget target = new AnnotatedTarget();
+
+    private AccessRuleAuthorizationManager authorizationManager;
+
+    @BeforeEach
+    void setUp() {
+        AccessChecker accessChecker = new AccessChecker(postRepository, commentRepository, recommentRepository);
+        lenient().when(accessCheckerProvider.getObject()).thenReturn(accessChecker);
+        lenient().when(meterRegistryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        authorizationManager = new AccessRuleAuthorizationManager(accessCheckerProvider, meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("익명 사용자는 규칙 검사 없이 거부된다")
+    void check_Anonymous_Denied() {
+        Authentication anonymous = new AnonymousAuthenticationToken(
+                "key", "anonymous", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+        AuthorizationDecision decision = authorizationManager.check(
+                () -> anonymous, invocation("board", "pangyo_1"));
+
+        assertThat(decision.isGranted()).isFalse();
+        verify(accessCheckerProvider, never()).getObject();
+    }
+
+    @Test
+    @DisplayName("BOARD - 자신의 기수 게시판은 허용된다")
+    void board_OwnClass_Granted() {
+        AuthorizationDecision decision = authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("board", KBT_MEMBER_CLASS_NAME.name().toLowerCase()));
+
+        assertThat(decision.isGranted()).isTrue();
+        assertThat(meterRegistry.find("authorization.check")
+                .tag("rule", "BOARD").tag("outcome", "granted").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("BOARD - 전체 게시판은 기수와 무관하게 허용된다")
+    void board_All_Granted() {
+        AuthorizationDecision decision = authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createNonKbtCustomUserDetails()),
+                invocation("board", "all"));
+
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("BOARD - 다른 기수 게시판은 FORBIDDEN 예외로 거부된다")
+    void board_OtherClass_Forbidden() {
+        assertThatThrownBy(() -> authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("board", "jeju_1")))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(GeneralErrorCode.FORBIDDEN);
+
+        assertThat(meterRegistry.find("authorization.check")
+                .tag("rule", "BOARD").tag("outcome", "error").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("BOARD - 관리자는 다른 기수 게시판도 허용된다")
+    void board_Admin_Granted() {
+        AuthorizationDecision decision = authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createAdminCustomUserDetails()),
+                invocation("board", "jeju_1"));
+
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST_BOARD - 자신의 기수 게시글에는 접근할 수 있다")
+    void postBoard_OwnClass_Granted() {
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(post(OTHER_MEMBER_ID, Post.BoardType.PANGYO_1)));
+
+        AuthorizationDecision decision = authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("postBoard", POST_ID));
+
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST_BOARD - 다른 기수 게시판의 게시글은 FORBIDDEN 예외로 거부된다")
+    void postBoard_OtherClass_Forbidden() {
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(post(OTHER_MEMBER_ID, Post.BoardType.PANGYO_2)));
+
+        assertThatThrownBy(() -> authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("postBoard", POST_ID)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(GeneralErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("POST_OWNER - 작성자는 허용되고 다른 회원은 FORBIDDEN 예외로 거부된다")
+    void postOwner() {
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(post(MEMBER_ID, Post.BoardType.PANGYO_1)));
+
+        assertThat(authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("postOwner", POST_ID)).isGranted()).isTrue();
+
+        given(postRepository.findById(POST_ID))
+                .willReturn(Optional.of(post(OTHER_MEMBER_ID, Post.BoardType.PANGYO_1)));
+
+        assertThatThrownBy(() -> authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("postOwner", POST_ID)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(GeneralErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("COMMENT_OWNER - 작성자는 허용되고 다른 회원은 거부된다")
+    void commentOwner() {
+        given(commentRepository.findByIdAndMemberId(COMMENT_ID, MEMBER_ID))
+                .willReturn(Optional.of(mock(Comment.class)))
+                .willReturn(Optional.empty());
+
+        assertThat(authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("commentOwner", COMMENT_ID)).isGranted()).isTrue();
+        assertThat(authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("commentOwner", COMMENT_ID)).isGranted()).isFalse();
+        assertThat(meterRegistry.find("authorization.check")
+                .tag("rule", "COMMENT_OWNER").tag("outcome", "denied").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("RECOMMENT_OWNER - 작성자는 허용되고 다른 회원은 FORBIDDEN 예외로 거부된다")
+    void recommentOwner() {
+        Recomment recomment = mock(Recomment.class);
+        Member author = mock(Member.class);
+        given(recommentRepository.findById(RECOMMENT_ID)).willReturn(Optional.of(recomment));
+        given(recomment.getMember()).willReturn(author);
+        given(author.getId()).willReturn(MEMBER_ID, OTHER_MEMBER_ID);
+
+        assertThat(authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("recommentOwner", RECOMMENT_ID)).isGranted()).isTrue();
+
+        assertThatThrownBy(() -> authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("recommentOwner", RECOMMENT_ID)))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(GeneralErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("여러 규칙이 선언되면 앞선 규칙이 거부될 때 뒤 규칙은 검사하지 않는다")
+    void multipleRules_StopsAtFirstDenial() {
+        given(commentRepository.findByIdAndMemberId(COMMENT_ID, MEMBER_ID)).willReturn(Optional.empty());
+
+        AuthorizationDecision decision = authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("commentOwnerThenPostOwner", COMMENT_ID, POST_ID));
+
+        assertThat(decision.isGranted()).isFalse();
+        verify(postRepository, never()).findById(POST_ID);
+    }
+
+    @Test
+    @DisplayName("규칙이 요구하는 파라미터가 없으면 IllegalStateException이 발생한다")
+    void missingParameter_ThrowsIllegalState() {
+        assertThatThrownBy(() -> authorizationManager.check(
+                authenticated(CustomUserDetailsFixture.createKbtCustomUserDetails()),
+                invocation("missingParameter", POST_ID)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("postType");
+    }
+
+    private Supplier<Authentication> authenticated(CustomUserDetails userDetails) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+        return () -> authentication;
+    }
+
+    private SimpleMethodInvocation invocation(String methodName, Object... arguments) {
+        for (Method method : AnnotatedTarget.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new SimpleMethodInvocation(target, method, arguments);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+
+    private Post post(Long memberId, Post.BoardType boardType) {
+        return Post.builder()
+                .memberId(memberId)
+                .boardType(boardType)
+                .content("content")
+                .build();
+    }
+
+    /**
+     * 컨트롤러 메서드와 동일한 형태로 규칙을 선언한 검사 대상입니다.
+     */
+    static class AnnotatedTarget {
+
+        @CheckAccess(AccessRule.BOARD)
+        void board(String postType) {
+        }
+
+        @CheckAccess(AccessRule.POST_BOARD)
+        void postBoard(Long postId) {
+        }
+
+        @CheckAccess(AccessRule.POST_OWNER)
+        void postOwner(Long postId) {
+        }
+
+        @CheckAccess(AccessRule.COMMENT_OWNER)
+        void commentOwner(Long commentId) {
+        }
+
+        @CheckAccess(AccessRule.RECOMMENT_OWNER)
+        void recommentOwner(Long recommentId) {
+        }
+
+        @CheckAccess({AccessRule.COMMENT_OWNER, AccessRule.POST_OWNER})
+        void commentOwnerThenPostOwner(Long commentId, Long postId) {
+        }
+
+        @CheckAccess(AccessRule.BOARD)
+        void missingParameter(Long postId) {
+        }
+    }
+}
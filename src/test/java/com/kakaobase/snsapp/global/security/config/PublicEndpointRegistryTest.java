@@ -0,0 +1,47 @@
+package com.kakaobase.snsapp.global.security.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PublicEndpointRegistry 단위 테스트")
+class PublicEndpointRegistryTest {
+
+    private final PublicEndpointRegistry registry = new PublicEndpointRegistry();
+
+    @Test
+    @DisplayName("와일드카드가 없는 공개 경로는 모든 메서드에서 일치한다")
+    void matches_ExactPath() {
+        assertThat(registry.matches("POST", "/auth/tokens")).isTrue();
+        assertThat(registry.matches("DELETE", "/auth/tokens")).isTrue();
+        assertThat(registry.matches("POST", "/auth/tokens/refresh")).isTrue();
+        assertThat(registry.matches("GET", "/users/email/verification")).isTrue();
+    }
+
+    @Test
+    @DisplayName("와일드카드 패턴은 하위 경로까지 일치한다")
+    void matches_WildcardPattern() {
+        assertThat(registry.matches("GET", "/swagger-ui/index.html")).isTrue();
+        assertThat(registry.matches("GET", "/v3/api-docs")).isTrue();
+        assertThat(registry.matches("GET", "/v3/api-docs/swagger-config")).isTrue();
+        assertThat(registry.matches("GET", "/swagger-ui.html")).isTrue();
+    }
+
+    @Test
+    @DisplayName("메서드가 지정된 공개 경로는 해당 메서드에서만 일치한다")
+    void matches_MethodRestricted() {
+        assertThat(registry.matches("POST", "/users")).isTrue();
+        assertThat(registry.matches("DELETE", "/users")).isFalse();
+        assertThat(registry.matches("GET", "/users")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보호된 경로는 일치하지 않는다")
+    void matches_ProtectedPath() {
+        assertThat(registry.matches("GET", "/posts/all")).isFalse();
+        assertThat(registry.matches("POST", "/auth/tokens/other")).isFalse();
+        assertThat(registry.matches("GET", "/swagger")).isFalse();
+        assertThat(registry.matches("GET", "/")).isFalse();
+    }
+}
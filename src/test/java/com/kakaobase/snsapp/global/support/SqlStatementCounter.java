@@ -0,0 +1,74 @@
+package com.kakaobase.snsapp.global.support;
+
+import com.kakaobase.snsapp.global.monitoring.sql.SqlStatementStats;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 특정 코드 구간이 실행한 SQL 문 수를 검증하는 유틸리티입니다.
+ * DataSource가 datasource-proxy로 감싸져 있어야 합니다. (DataSourceProxyBeanPostProcessor)
+ *
+ * <pre>
+ * SqlStatementCounter.assertSelectCount(1, () -> accessChecker.isPostOwner(postId, userDetails));
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * 작업을 실행하고 그 동안 실행된 SQL 통계를 반환합니다.
+     */
+    public static SqlStatementStats count(Runnable action) {
+        return countWithResult(() -> {
+            action.run();
+            return null;
+        }).stats();
+    }
+
+    /**
+     * 작업을 실행하고 SQL 통계와 함께 결과를 반환합니다.
+     */
+    public static <T> Counted<T> countWithResult(Supplier<T> action) {
+        SqlStatementStats.begin();
+        try {
+            T result = action.get();
+            return new Counted<>(result, SqlStatementStats.end());
+        } finally {
+            if (SqlStatementStats.isActive()) {
+                SqlStatementStats.end();
+            }
+        }
+    }
+
+    /**
+     * 작업이 실행한 SELECT 문 수가 기대값과 같은지 검증합니다.
+     */
+    public static SqlStatementStats assertSelectCount(int expected, Runnable action) {
+        SqlStatementStats stats = count(action);
+        assertThat(stats.getSelectCount())
+                .as("SELECT 문 수 (%s)", stats)
+                .isEqualTo(expected);
+        return stats;
+    }
+
+    /**
+     * 작업이 실행한 전체 SQL 문 수가 기대값과 같은지 검증합니다.
+     */
+    public static SqlStatementStats assertStatementCount(int expected, Runnable action) {
+        SqlStatementStats stats = count(action);
+        assertThat(stats.getStatementCount())
+                .as("SQL 문 수 (%s)", stats)
+                .isEqualTo(expected);
+        return stats;
+    }
+
+    /**
+     * 작업 결과와 실행된 SQL 통계
+     */
+    public record Counted<T>(T result, SqlStatementStats stats) {
+    }
+}